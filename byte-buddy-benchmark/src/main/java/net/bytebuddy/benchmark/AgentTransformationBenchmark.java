@@ -0,0 +1,347 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.utility.StreamDrainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.IllegalClassFormatException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * A benchmark for the class-loading path of a Java agent that is built by an
+ * {@link net.bytebuddy.agent.builder.AgentBuilder}. The benchmark feeds the class files of a corpus of <i>jar</i>
+ * files, one class file per operation, through the {@link java.lang.instrument.ClassFileTransformer} of an agent
+ * builder. The corpus is defined by the system property {@code net.bytebuddy.benchmark.corpus} which lists <i>jar</i>
+ * files separated by the platform's path separator and defaults to all <i>jar</i> files on the class path. The
+ * benchmark is parameterized by the matchers that identify transformed types, by the percentage of types that are
+ * ignored before the matcher is applied and by the kind of transformation that is applied to a matched type.
+ * </p>
+ * <p>
+ * As every operation processes a single class file, the throughput of this benchmark reports the number of processed
+ * class files per second. When running the benchmark with JMH's GC profiler, the allocation per class file is the
+ * reported allocation rate divided by this throughput. The {@link net.bytebuddy.benchmark.runner.AgentRunner} runs
+ * this benchmark with the GC profiler.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AgentTransformationBenchmark {
+
+    /**
+     * The system property that defines the <i>jar</i> files of the corpus.
+     */
+    public static final String CORPUS_PROPERTY = "net.bytebuddy.benchmark.corpus";
+
+    /**
+     * The maximum number of class files that are read from the corpus.
+     */
+    public static final int MAXIMUM_CLASS_FILES = 5000;
+
+    /**
+     * The file name extension of Java class files.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The file name extension of <i>jar</i> files.
+     */
+    private static final String JAR_FILE_EXTENSION = ".jar";
+
+    /**
+     * The number of percent points that represent all types.
+     */
+    private static final int ALL = 100;
+
+    /**
+     * The name of a {@link net.bytebuddy.benchmark.AgentTransformationBenchmark.MatcherMix} that defines the
+     * matchers which identify transformed types.
+     */
+    @Param({"NAME", "MODIFIER", "HIERARCHY"})
+    public String matcherMix;
+
+    /**
+     * The percentage of types that are ignored before the matchers are applied.
+     */
+    @Param({"0", "50", "90"})
+    public int ignoredPercentage;
+
+    /**
+     * The name of a {@link net.bytebuddy.benchmark.AgentTransformationBenchmark.Transformation} that is applied to
+     * matched types.
+     */
+    @Param({"REBASE", "FIXED_VALUE", "SUPER_METHOD_CALL"})
+    public String transformation;
+
+    /**
+     * The class files of the corpus.
+     */
+    private List<ClassFile> classFiles;
+
+    /**
+     * The class loader that represents the corpus and that is reported as the loader of the transformed types.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * The class file transformer of the benchmarked agent.
+     */
+    private ClassFileTransformer classFileTransformer;
+
+    /**
+     * The index of the next class file to transform.
+     */
+    private int index;
+
+    /**
+     * Returns all <i>jar</i> files of the corpus.
+     *
+     * @return All <i>jar</i> files of the corpus.
+     */
+    protected static List<File> corpus() {
+        List<File> corpus = new ArrayList<File>();
+        for (String path : System.getProperty(CORPUS_PROPERTY, System.getProperty("java.class.path")).split(File.pathSeparator)) {
+            File file = new File(path);
+            if (file.isFile() && path.endsWith(JAR_FILE_EXTENSION)) {
+                corpus.add(file);
+            }
+        }
+        return corpus;
+    }
+
+    /**
+     * Reads the corpus and creates the benchmarked agent.
+     *
+     * @throws IOException If the corpus cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        List<File> corpus = corpus();
+        List<URL> urls = new ArrayList<URL>(corpus.size());
+        classFiles = new ArrayList<ClassFile>();
+        for (File file : corpus) {
+            urls.add(file.toURI().toURL());
+            JarFile jarFile = new JarFile(file);
+            try {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements() && classFiles.size() < MAXIMUM_CLASS_FILES) {
+                    JarEntry entry = entries.nextElement();
+                    if (entry.getName().endsWith(CLASS_FILE_EXTENSION) && !entry.isDirectory()) {
+                        InputStream inputStream = jarFile.getInputStream(entry);
+                        try {
+                            classFiles.add(new ClassFile(entry.getName().substring(0, entry.getName().length() - CLASS_FILE_EXTENSION.length()),
+                                    new StreamDrainer().drain(inputStream)));
+                        } finally {
+                            inputStream.close();
+                        }
+                    }
+                }
+            } finally {
+                jarFile.close();
+            }
+        }
+        if (classFiles.isEmpty()) {
+            throw new IllegalStateException("The corpus does not contain any class files: " + corpus);
+        }
+        classLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]), null);
+        classFileTransformer = new AgentBuilder.Default()
+                .disableSelfInitialization()
+                .rebase(new Ignoring(ignoredPercentage).and(MatcherMix.valueOf(matcherMix).getMatcher()))
+                .transform(Transformation.valueOf(transformation))
+                .makeRaw();
+        index = 0;
+    }
+
+    /**
+     * Performs a benchmark for transforming a single class file of the corpus.
+     *
+     * @return The transformed class file or {@code null} if the class file was not transformed, in order to avoid JIT removal.
+     * @throws IllegalClassFormatException If the class file cannot be transformed.
+     */
+    @Benchmark
+    public byte[] benchmarkTransformation() throws IllegalClassFormatException {
+        ClassFile classFile = classFiles.get(index);
+        index = (index + 1) % classFiles.size();
+        return classFileTransformer.transform(classLoader, classFile.internalName, null, null, classFile.binaryRepresentation);
+    }
+
+    /**
+     * A mix of matchers that identify transformed types.
+     */
+    public enum MatcherMix {
+
+        /**
+         * Matches types by their name only.
+         */
+        NAME(not(nameStartsWith("java.")).and(not(nameContains("$$")))),
+
+        /**
+         * Matches types by their modifiers only.
+         */
+        MODIFIER(not(isSynthetic()).and(isPublic())),
+
+        /**
+         * Matches types by their hierarchy which requires resolving the hierarchy of any type.
+         */
+        HIERARCHY(isSubTypeOf(Serializable.class).or(declaresMethod(isToString())));
+
+        /**
+         * The matcher of this mix.
+         */
+        private final ElementMatcher<? super TypeDescription> matcher;
+
+        /**
+         * Creates a new matcher mix.
+         *
+         * @param matcher The matcher of this mix.
+         */
+        MatcherMix(ElementMatcher<? super TypeDescription> matcher) {
+            this.matcher = matcher;
+        }
+
+        /**
+         * Returns the matcher of this mix.
+         *
+         * @return The matcher of this mix.
+         */
+        public ElementMatcher<? super TypeDescription> getMatcher() {
+            return matcher;
+        }
+
+        @Override
+        public String toString() {
+            return "AgentTransformationBenchmark.MatcherMix." + name();
+        }
+    }
+
+    /**
+     * A transformation that is applied to a matched type.
+     */
+    public enum Transformation implements AgentBuilder.Transformer {
+
+        /**
+         * Rebases a type without changing it.
+         */
+        REBASE {
+            @Override
+            public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+                return builder;
+            }
+        },
+
+        /**
+         * Overrides a type's {@link Object#toString()} method to return a fixed value.
+         */
+        FIXED_VALUE {
+            @Override
+            public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+                return builder.method(isToString()).intercept(FixedValue.value(typeDescription.getName()));
+            }
+        },
+
+        /**
+         * Overrides a type's {@link Object#toString()} method to invoke its super method.
+         */
+        SUPER_METHOD_CALL {
+            @Override
+            public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+                return builder.method(isToString()).intercept(SuperMethodCall.INSTANCE);
+            }
+        };
+
+        @Override
+        public String toString() {
+            return "AgentTransformationBenchmark.Transformation." + name();
+        }
+    }
+
+    /**
+     * A matcher that ignores a deterministic share of all types by their names' hash codes. Interfaces are always
+     * ignored as the benchmarked transformations override methods.
+     */
+    protected static class Ignoring extends ElementMatcher.Junction.AbstractBase<TypeDescription> {
+
+        /**
+         * The percentage of types that are ignored.
+         */
+        private final int ignoredPercentage;
+
+        /**
+         * Creates a new ignoring matcher.
+         *
+         * @param ignoredPercentage The percentage of types that are ignored.
+         */
+        protected Ignoring(int ignoredPercentage) {
+            this.ignoredPercentage = ignoredPercentage;
+        }
+
+        @Override
+        public boolean matches(TypeDescription target) {
+            return !target.isInterface() && (target.getName().hashCode() & Integer.MAX_VALUE) % ALL >= ignoredPercentage;
+        }
+
+        @Override
+        public String toString() {
+            return "ignoring(" + ignoredPercentage + "%)";
+        }
+    }
+
+    /**
+     * A class file of the corpus.
+     */
+    protected static class ClassFile {
+
+        /**
+         * The internal name of the type that is represented by this class file.
+         */
+        private final String internalName;
+
+        /**
+         * The binary representation of this class file.
+         */
+        private final byte[] binaryRepresentation;
+
+        /**
+         * Creates a new class file.
+         *
+         * @param internalName         The internal name of the type that is represented by this class file.
+         * @param binaryRepresentation The binary representation of this class file.
+         */
+        protected ClassFile(String internalName, byte[] binaryRepresentation) {
+            this.internalName = internalName;
+            this.binaryRepresentation = binaryRepresentation;
+        }
+
+        @Override
+        public String toString() {
+            return "AgentTransformationBenchmark.ClassFile{" +
+                    "internalName='" + internalName + '\'' +
+                    ", binaryRepresentation=<" + binaryRepresentation.length + " bytes>" +
+                    '}';
+        }
+    }
+}
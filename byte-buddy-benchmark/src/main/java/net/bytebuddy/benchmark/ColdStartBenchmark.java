@@ -0,0 +1,187 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.benchmark.specimen.ExampleInterface;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.implementation.SuperMethodCall;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.instrument.IllegalClassFormatException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * A benchmark for the first use of Byte Buddy within a fresh JVM. Other than the steady-state benchmarks, this
+ * benchmark measures a single invocation per fork such that the measured time includes loading and initializing the
+ * classes of Byte Buddy and ASM as well as running the involved code paths without any JIT compilation. The benchmark
+ * measures the creation of a first proxy of the {@link net.bytebuddy.benchmark.specimen.ExampleClass} and of the
+ * {@link net.bytebuddy.benchmark.specimen.ExampleInterface}, the first rebasing of the former class and the first
+ * transformation of its class file by a Java agent. The {@link net.bytebuddy.benchmark.runner.ColdStartRunner}
+ * additionally reports the number of classes that are loaded by each benchmark.
+ * </p>
+ * <p>
+ * In order to not initialize any classes of Byte Buddy before the measured invocation, the setup of this benchmark
+ * only uses classes of the Java class library.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(ColdStartBenchmark.FORKS)
+public class ColdStartBenchmark {
+
+    /**
+     * The number of forks, each of which contributes a single measurement of a first use.
+     */
+    public static final int FORKS = 20;
+
+    /**
+     * The class that is proxied, rebased and transformed by the benchmarks.
+     */
+    public static final Class<? extends ExampleClass> BASE_CLASS = ExampleClass.class;
+
+    /**
+     * The interface that is proxied by the benchmarks.
+     */
+    public static final Class<?> BASE_INTERFACE = ExampleInterface.class;
+
+    /**
+     * The file name extension of Java class files.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The class that is proxied, rebased and transformed by the benchmarks.
+     */
+    private Class<? extends ExampleClass> baseClass = BASE_CLASS;
+
+    /**
+     * The interface that is proxied by the benchmarks.
+     */
+    private Class<?> baseInterface = BASE_INTERFACE;
+
+    /**
+     * The zero-length of the class loader's URL.
+     */
+    private int urlLength = 0;
+
+    /**
+     * The binary representation of the class that is transformed by the agent benchmark.
+     */
+    private byte[] binaryRepresentation;
+
+    /**
+     * Reads the class file of the base class without using any class of Byte Buddy.
+     *
+     * @throws IOException If the class file cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        InputStream inputStream = baseClass.getClassLoader().getResourceAsStream(baseClass.getName().replace('.', '/') + CLASS_FILE_EXTENSION);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            binaryRepresentation = outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Creates a new class loader.
+     *
+     * @return A new class loader.
+     */
+    private ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[urlLength], baseClass.getClassLoader());
+    }
+
+    /**
+     * Performs a benchmark for the first creation of a subclass proxy.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Class<?> benchmarkFirstClassProxy() {
+        return new ByteBuddy()
+                .subclass(baseClass)
+                .method(isDeclaredBy(baseClass)).intercept(SuperMethodCall.INSTANCE)
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    /**
+     * Performs a benchmark for the first creation of an interface proxy.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Class<?> benchmarkFirstInterfaceProxy() {
+        return new ByteBuddy()
+                .subclass(baseInterface)
+                .method(isDeclaredBy(baseInterface)).intercept(StubMethod.INSTANCE)
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    /**
+     * Performs a benchmark for the first rebasing of a class.
+     *
+     * @return The rebased type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Class<?> benchmarkFirstRebase() {
+        return new ByteBuddy()
+                .rebase(baseClass)
+                .method(isDeclaredBy(baseClass)).intercept(SuperMethodCall.INSTANCE)
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+    }
+
+    /**
+     * Performs a benchmark for the first transformation of a class file by a Java agent.
+     *
+     * @return The transformed class file, in order to avoid JIT removal.
+     * @throws IllegalClassFormatException If the class file cannot be transformed.
+     */
+    @Benchmark
+    public byte[] benchmarkFirstAgentTransformation() throws IllegalClassFormatException {
+        return new AgentBuilder.Default()
+                .disableSelfInitialization()
+                .rebase(named(baseClass.getName()))
+                .transform(new AgentBuilder.Transformer() {
+                    @Override
+                    public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+                        return builder.method(isDeclaredBy(typeDescription)).intercept(SuperMethodCall.INSTANCE);
+                    }
+                })
+                .makeRaw()
+                .transform(newClassLoader(), baseClass.getName().replace('.', '/'), null, null, binaryRepresentation);
+    }
+}
@@ -0,0 +1,138 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.any;
+
+/**
+ * <p>
+ * A benchmark for creating and loading plain subclasses of {@link Object} by several threads at once. All threads
+ * share a single Byte Buddy instance and load all types into or as children of a single class loader such that any
+ * contention within the creation or the loading of a type shows in the throughput of this benchmark. The benchmark
+ * is meant to be run at an increasing number of threads where the
+ * {@link net.bytebuddy.benchmark.runner.ScalabilityRunner} reports the scaling efficiency of each thread count,
+ * relative to the throughput of a single thread. Additionally, the {@code mixed} group runs threads that only create
+ * types next to threads that also load these types.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentTypeCreationBenchmark {
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    public static final Class<?> BASE_CLASS = Object.class;
+
+    /**
+     * The name of a {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default} that is used for loading
+     * the created types.
+     */
+    @Param({"WRAPPER", "WRAPPER_PERSISTENT", "CHILD_FIRST", "CHILD_FIRST_PERSISTENT", "INJECTION"})
+    public String classLoadingStrategy;
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    private Class<?> baseClass = BASE_CLASS;
+
+    /**
+     * The Byte Buddy instance that is shared by all threads.
+     */
+    private ByteBuddy byteBuddy;
+
+    /**
+     * The class loading strategy for loading the created types.
+     */
+    private ClassLoadingStrategy resolvedClassLoadingStrategy;
+
+    /**
+     * The class loader that is shared by all threads.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * Creates the shared Byte Buddy instance and the shared class loader.
+     */
+    @Setup
+    public void setUp() {
+        byteBuddy = new ByteBuddy().withIgnoredMethods(any());
+        resolvedClassLoadingStrategy = ClassLoadingStrategy.Default.valueOf(classLoadingStrategy);
+        classLoader = new URLClassLoader(new URL[0]);
+    }
+
+    /**
+     * Creates a new unloaded type.
+     *
+     * @return The created type.
+     */
+    private DynamicType.Unloaded<?> make() {
+        return byteBuddy.subclass(baseClass).make();
+    }
+
+    /**
+     * Loads a created type.
+     *
+     * @param dynamicType The created type.
+     * @return The loaded type.
+     */
+    private Class<?> load(DynamicType.Unloaded<?> dynamicType) {
+        return dynamicType.load(classLoader, resolvedClassLoadingStrategy).getLoaded();
+    }
+
+    /**
+     * Performs a benchmark for creating a type without loading it.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public DynamicType.Unloaded<?> benchmarkMake() {
+        return make();
+    }
+
+    /**
+     * Performs a benchmark for creating and loading a type.
+     *
+     * @return The loaded type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Class<?> benchmarkMakeAndLoad() {
+        return load(make());
+    }
+
+    /**
+     * Performs a benchmark for creating a type without loading it while other threads create and load types.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public DynamicType.Unloaded<?> benchmarkMixedMake() {
+        return make();
+    }
+
+    /**
+     * Performs a benchmark for creating and loading a type while other threads only create types.
+     *
+     * @return The loaded type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Class<?> benchmarkMixedMakeAndLoad() {
+        return load(make());
+    }
+}
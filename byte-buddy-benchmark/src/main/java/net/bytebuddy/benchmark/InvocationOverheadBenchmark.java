@@ -0,0 +1,1092 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleSignatures;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.*;
+import net.bytebuddy.implementation.bind.annotation.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * A benchmark for the invocation overhead of every implementation that Byte Buddy offers for overriding a method. Each
+ * {@link net.bytebuddy.benchmark.InvocationOverheadBenchmark.Interception} overrides all methods of the
+ * {@link net.bytebuddy.benchmark.specimen.ExampleSignatures} specimen where every benchmark method invokes a single
+ * method of a primitive or reference signature of an arity of zero, one or three. The benchmark therefore yields a
+ * matrix of interceptions and signatures. When running the benchmark with JMH's GC profiler, the allocation rate of
+ * each cell reveals any boxing or any allocation of auxiliary instances by an interception.
+ * </p>
+ * <p>
+ * Some interceptions are only applicable to some signatures. The {@link net.bytebuddy.implementation.FieldAccessor}
+ * can only implement methods without parameters as a getter such that the other methods are not overridden by this
+ * interception and measure the invocation of the specimen's method as for the
+ * {@link net.bytebuddy.benchmark.InvocationOverheadBenchmark.Interception#NONE} baseline. The
+ * {@link net.bytebuddy.implementation.InvokeDynamic} interception requires a Java 7 VM and the
+ * {@link net.bytebuddy.implementation.DefaultMethodCall} interception requires a Java 8 VM as both rely on precompiled
+ * classes.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvocationOverheadBenchmark {
+
+    /**
+     * The name of the field that is read by interceptions of methods with a primitive return type.
+     */
+    public static final String PRIMITIVE_FIELD = "primitiveValue";
+
+    /**
+     * The name of the field that is read by interceptions of methods with a reference return type.
+     */
+    public static final String REFERENCE_FIELD = "referenceValue";
+
+    /**
+     * The name of the precompiled class that defines the bootstrap method for the dynamic method invocation.
+     */
+    private static final String INVOCATION_BOOTSTRAP = "net.bytebuddy.benchmark.precompiled.InvocationBootstrap";
+
+    /**
+     * The name of the bootstrap method for the dynamic method invocation.
+     */
+    private static final String BOOTSTRAP = "bootstrap";
+
+    /**
+     * The name of the precompiled interface that defines default methods for all signatures of the specimen.
+     */
+    private static final String DEFAULT_SIGNATURES = "net.bytebuddy.benchmark.precompiled.DefaultSignatures";
+
+    /**
+     * The name of the interception that is benchmarked.
+     */
+    @Param({"NONE",
+            "FIXED_VALUE",
+            "FIELD_ACCESSOR",
+            "METHOD_CALL",
+            "INVOKE_DYNAMIC",
+            "INVOCATION_HANDLER_ADAPTER",
+            "SUPER_METHOD_CALL",
+            "DEFAULT_METHOD_CALL",
+            "ARGUMENT",
+            "ALL_ARGUMENTS",
+            "SUPER_CALL",
+            "SUPER",
+            "PIPE",
+            "MORPH",
+            "FIELD_PROXY",
+            "ORIGIN",
+            "RUNTIME_TYPE"})
+    public String interception;
+
+    /**
+     * A generic {@code int} value.
+     */
+    private int intValue = 42;
+
+    /**
+     * A generic {@link Object} value.
+     */
+    private Object referenceValue = "foo";
+
+    /**
+     * The instance on which the intercepted methods are invoked.
+     */
+    private ExampleSignatures instance;
+
+    /**
+     * Creates the instance on which the intercepted methods are invoked.
+     *
+     * @throws Exception If the precompiled classes cannot be loaded or if the instance cannot be created.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        Interception interception = Interception.valueOf(this.interception);
+        DynamicType.Builder<ExampleSignatures> builder = interception.prepare(new ByteBuddy().subclass(ExampleSignatures.class));
+        for (Signature signature : Signature.values()) {
+            Implementation implementation = interception.implementation(signature);
+            if (implementation != null) {
+                builder = builder.method(named(signature.getName())).intercept(implementation);
+            }
+        }
+        instance = builder.make()
+                .load(InvocationOverheadBenchmark.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+    }
+
+    /**
+     * Performs a benchmark of invoking a method with a primitive return type and without parameters.
+     *
+     * @return The method's return value, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkPrimitiveNullary() {
+        return instance.primitiveNullary();
+    }
+
+    /**
+     * Performs a benchmark of invoking a method with a primitive return type and a primitive parameter.
+     *
+     * @return The method's return value, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkPrimitiveUnary() {
+        return instance.primitiveUnary(intValue);
+    }
+
+    /**
+     * Performs a benchmark of invoking a method with a primitive return type and three primitive parameters.
+     *
+     * @return The method's return value, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkPrimitiveTernary() {
+        return instance.primitiveTernary(intValue, intValue, intValue);
+    }
+
+    /**
+     * Performs a benchmark of invoking a method with a reference return type and without parameters.
+     *
+     * @return The method's return value, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Object benchmarkReferenceNullary() {
+        return instance.referenceNullary();
+    }
+
+    /**
+     * Performs a benchmark of invoking a method with a reference return type and a reference parameter.
+     *
+     * @return The method's return value, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Object benchmarkReferenceUnary() {
+        return instance.referenceUnary(referenceValue);
+    }
+
+    /**
+     * Performs a benchmark of invoking a method with a reference return type and three reference parameters.
+     *
+     * @return The method's return value, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Object benchmarkReferenceTernary() {
+        return instance.referenceTernary(referenceValue, referenceValue, referenceValue);
+    }
+
+    /**
+     * A signature of a method of the {@link net.bytebuddy.benchmark.specimen.ExampleSignatures} specimen.
+     */
+    public enum Signature {
+
+        /**
+         * A method with a primitive return type and without parameters.
+         */
+        PRIMITIVE_NULLARY("primitiveNullary", int.class, 0),
+
+        /**
+         * A method with a primitive return type and a primitive parameter.
+         */
+        PRIMITIVE_UNARY("primitiveUnary", int.class, 1),
+
+        /**
+         * A method with a primitive return type and three primitive parameters.
+         */
+        PRIMITIVE_TERNARY("primitiveTernary", int.class, 3),
+
+        /**
+         * A method with a reference return type and without parameters.
+         */
+        REFERENCE_NULLARY("referenceNullary", Object.class, 0),
+
+        /**
+         * A method with a reference return type and a reference parameter.
+         */
+        REFERENCE_UNARY("referenceUnary", Object.class, 1),
+
+        /**
+         * A method with a reference return type and three reference parameters.
+         */
+        REFERENCE_TERNARY("referenceTernary", Object.class, 3);
+
+        /**
+         * The name of the method.
+         */
+        private final String name;
+
+        /**
+         * The return type of the method which is also the type of all its parameters.
+         */
+        private final Class<?> type;
+
+        /**
+         * The number of the method's parameters.
+         */
+        private final int arity;
+
+        /**
+         * Creates a new signature.
+         *
+         * @param name  The name of the method.
+         * @param type  The return type of the method which is also the type of all its parameters.
+         * @param arity The number of the method's parameters.
+         */
+        Signature(String name, Class<?> type, int arity) {
+            this.name = name;
+            this.type = type;
+            this.arity = arity;
+        }
+
+        /**
+         * Returns the name of the method.
+         *
+         * @return The name of the method.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Determines if the method's return type and parameter types are primitive.
+         *
+         * @return {@code true} if the method's return type and parameter types are primitive.
+         */
+        public boolean isPrimitive() {
+            return type.isPrimitive();
+        }
+
+        /**
+         * Returns the number of the method's parameters.
+         *
+         * @return The number of the method's parameters.
+         */
+        public int getArity() {
+            return arity;
+        }
+
+        /**
+         * Returns the parameter types of the method.
+         *
+         * @return The parameter types of the method.
+         */
+        public Class<?>[] getParameterTypes() {
+            Class<?>[] parameterTypes = new Class<?>[arity];
+            for (int index = 0; index < arity; index++) {
+                parameterTypes[index] = type;
+            }
+            return parameterTypes;
+        }
+
+        /**
+         * Returns the indices of all of the method's parameters.
+         *
+         * @return The indices of all of the method's parameters.
+         */
+        public int[] getParameterIndices() {
+            int[] parameterIndices = new int[arity];
+            for (int index = 0; index < arity; index++) {
+                parameterIndices[index] = index;
+            }
+            return parameterIndices;
+        }
+
+        /**
+         * Returns the name of the method of an interceptor that distinguishes only primitive from reference signatures.
+         *
+         * @return The name of the method of an interceptor that distinguishes only primitive from reference signatures.
+         */
+        public String getSortName() {
+            return isPrimitive() ? "primitive" : "reference";
+        }
+
+        @Override
+        public String toString() {
+            return "InvocationOverheadBenchmark.Signature." + name();
+        }
+    }
+
+    /**
+     * An interception of the methods of the {@link net.bytebuddy.benchmark.specimen.ExampleSignatures} specimen.
+     */
+    public enum Interception {
+
+        /**
+         * Does not intercept any method which serves as a baseline.
+         */
+        NONE {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return null;
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.FixedValue}.
+         */
+        FIXED_VALUE {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return signature.isPrimitive()
+                        ? FixedValue.value(0)
+                        : FixedValue.value("foo");
+            }
+        },
+
+        /**
+         * Intercepts a method without parameters by a {@link net.bytebuddy.implementation.FieldAccessor}.
+         */
+        FIELD_ACCESSOR {
+            @Override
+            protected DynamicType.Builder<ExampleSignatures> prepare(DynamicType.Builder<ExampleSignatures> builder) {
+                return defineFields(builder);
+            }
+
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return signature.getArity() == 0
+                        ? FieldAccessor.ofField(signature.isPrimitive() ? PRIMITIVE_FIELD : REFERENCE_FIELD)
+                        : null;
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodCall} of a static method.
+         */
+        METHOD_CALL {
+            @Override
+            protected Implementation implementation(Signature signature) throws Exception {
+                return MethodCall.invoke(MethodCallTarget.class.getDeclaredMethod(signature.getName(), signature.getParameterTypes()))
+                        .withArgument(signature.getParameterIndices());
+            }
+        },
+
+        /**
+         * Intercepts a method by an {@link net.bytebuddy.implementation.InvokeDynamic} that is bound to a static method.
+         */
+        INVOKE_DYNAMIC {
+            @Override
+            protected Implementation implementation(Signature signature) throws Exception {
+                Method bootstrap = null;
+                for (Method method : InvocationOverheadBenchmark.class.getClassLoader().loadClass(INVOCATION_BOOTSTRAP).getDeclaredMethods()) {
+                    if (method.getName().equals(BOOTSTRAP)) {
+                        bootstrap = method;
+                    }
+                }
+                return InvokeDynamic.bootstrap(bootstrap).withoutArguments().withMethodArguments();
+            }
+        },
+
+        /**
+         * Intercepts a method by an {@link net.bytebuddy.implementation.InvocationHandlerAdapter}.
+         */
+        INVOCATION_HANDLER_ADAPTER {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return InvocationHandlerAdapter.of(Handler.INSTANCE);
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.SuperMethodCall}.
+         */
+        SUPER_METHOD_CALL {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return SuperMethodCall.INSTANCE;
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.DefaultMethodCall}.
+         */
+        DEFAULT_METHOD_CALL {
+            @Override
+            protected DynamicType.Builder<ExampleSignatures> prepare(DynamicType.Builder<ExampleSignatures> builder) throws Exception {
+                return builder.implement(InvocationOverheadBenchmark.class.getClassLoader().loadClass(DEFAULT_SIGNATURES));
+            }
+
+            @Override
+            protected Implementation implementation(Signature signature) throws Exception {
+                return DefaultMethodCall.prioritize(InvocationOverheadBenchmark.class.getClassLoader().loadClass(DEFAULT_SIGNATURES));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.Argument} annotation.
+         */
+        ARGUMENT {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(ArgumentInterceptor.class).filter(named(signature.getName()));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.AllArguments} annotation.
+         */
+        ALL_ARGUMENTS {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(AllArgumentsInterceptor.class).filter(named(signature.getSortName()));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.SuperCall} annotation.
+         */
+        SUPER_CALL {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(SuperCallInterceptor.class);
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.Super} annotation.
+         */
+        SUPER {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(SuperInterceptor.class).filter(named(signature.getName()));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.Pipe} annotation.
+         */
+        PIPE {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(PipeInterceptor.class).appendParameterBinder(Pipe.Binder.install(Forwarding.class));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.Morph} annotation.
+         */
+        MORPH {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(MorphInterceptor.class).appendParameterBinder(Morph.Binder.install(Morphing.class));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.FieldProxy} annotation.
+         */
+        FIELD_PROXY {
+            @Override
+            protected DynamicType.Builder<ExampleSignatures> prepare(DynamicType.Builder<ExampleSignatures> builder) {
+                return defineFields(builder);
+            }
+
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(FieldProxyInterceptor.class)
+                        .filter(named(signature.getSortName()))
+                        .appendParameterBinder(FieldProxy.Binder.install(Getter.class, Setter.class));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.Origin} annotation.
+         */
+        ORIGIN {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(OriginInterceptor.class).filter(named(signature.getSortName()));
+            }
+        },
+
+        /**
+         * Intercepts a method by a {@link net.bytebuddy.implementation.MethodDelegation} that binds the
+         * {@link net.bytebuddy.implementation.bind.annotation.RuntimeType} annotation.
+         */
+        RUNTIME_TYPE {
+            @Override
+            protected Implementation implementation(Signature signature) {
+                return MethodDelegation.to(RuntimeTypeInterceptor.class);
+            }
+        };
+
+        /**
+         * Defines the fields that are read by the field accessor and the field proxy interceptions.
+         *
+         * @param builder The builder to define the fields on.
+         * @return The builder with the defined fields.
+         */
+        private static DynamicType.Builder<ExampleSignatures> defineFields(DynamicType.Builder<ExampleSignatures> builder) {
+            return builder.defineField(PRIMITIVE_FIELD, int.class, Visibility.PUBLIC)
+                    .defineField(REFERENCE_FIELD, Object.class, Visibility.PUBLIC);
+        }
+
+        /**
+         * Prepares the builder of the intercepting type.
+         *
+         * @param builder The builder of the intercepting type.
+         * @return The prepared builder.
+         * @throws Exception If the builder cannot be prepared.
+         */
+        protected DynamicType.Builder<ExampleSignatures> prepare(DynamicType.Builder<ExampleSignatures> builder) throws Exception {
+            return builder;
+        }
+
+        /**
+         * Returns the implementation that intercepts a method of the given signature.
+         *
+         * @param signature The signature of the intercepted method.
+         * @return The implementation that intercepts the method or {@code null} if the method is not intercepted.
+         * @throws Exception If the implementation cannot be created.
+         */
+        protected abstract Implementation implementation(Signature signature) throws Exception;
+
+        @Override
+        public String toString() {
+            return "InvocationOverheadBenchmark.Interception." + name();
+        }
+    }
+
+    /**
+     * An invocation handler that returns the first argument or a fixed value for methods without parameters.
+     */
+    public enum Handler implements InvocationHandler {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        /**
+         * The value that is returned for methods with a primitive return type and without parameters.
+         */
+        private static final Integer PRIMITIVE_VALUE = 0;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            if (arguments == null || arguments.length == 0) {
+                return method.getReturnType().isPrimitive() ? PRIMITIVE_VALUE : null;
+            } else {
+                return arguments[0];
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "InvocationOverheadBenchmark.Handler." + name();
+        }
+    }
+
+    /**
+     * A forwarding type for the {@link net.bytebuddy.implementation.bind.annotation.Pipe} annotation.
+     */
+    public interface Forwarding {
+
+        /**
+         * Forwards the intercepted method invocation to the given target.
+         *
+         * @param target The target of the forwarding.
+         * @return The return value of the forwarded method invocation.
+         */
+        Object to(Object target);
+    }
+
+    /**
+     * A morphing type for the {@link net.bytebuddy.implementation.bind.annotation.Morph} annotation.
+     */
+    public interface Morphing {
+
+        /**
+         * Invokes the super method with the given arguments.
+         *
+         * @param arguments The arguments of the super method invocation.
+         * @return The return value of the super method invocation.
+         */
+        Object morph(Object... arguments);
+    }
+
+    /**
+     * A getter type for the {@link net.bytebuddy.implementation.bind.annotation.FieldProxy} annotation.
+     */
+    public interface Getter {
+
+        /**
+         * Reads the proxied field.
+         *
+         * @return The value of the proxied field.
+         */
+        Object get();
+    }
+
+    /**
+     * A setter type for the {@link net.bytebuddy.implementation.bind.annotation.FieldProxy} annotation.
+     */
+    public interface Setter {
+
+        /**
+         * Writes the proxied field.
+         *
+         * @param value The value to write to the proxied field.
+         */
+        void set(Object value);
+    }
+
+    /**
+     * The target of the {@link net.bytebuddy.implementation.MethodCall} interception.
+     */
+    public static class MethodCallTarget {
+
+        /**
+         * The target's constructor is not supposed to be invoked.
+         */
+        private MethodCallTarget() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * A target method.
+         *
+         * @return A fixed value.
+         */
+        public static int primitiveNullary() {
+            return 0;
+        }
+
+        /**
+         * A target method.
+         *
+         * @param arg An argument.
+         * @return The input argument.
+         */
+        public static int primitiveUnary(int arg) {
+            return arg;
+        }
+
+        /**
+         * A target method.
+         *
+         * @param arg1 An argument.
+         * @param arg2 An argument.
+         * @param arg3 An argument.
+         * @return The sum of all arguments.
+         */
+        public static int primitiveTernary(int arg1, int arg2, int arg3) {
+            return arg1 + arg2 + arg3;
+        }
+
+        /**
+         * A target method.
+         *
+         * @return A fixed value.
+         */
+        public static Object referenceNullary() {
+            return null;
+        }
+
+        /**
+         * A target method.
+         *
+         * @param arg An argument.
+         * @return The input argument.
+         */
+        public static Object referenceUnary(Object arg) {
+            return arg;
+        }
+
+        /**
+         * A target method.
+         *
+         * @param arg1 An argument.
+         * @param arg2 An argument.
+         * @param arg3 An argument.
+         * @return The first argument.
+         */
+        public static Object referenceTernary(Object arg1, Object arg2, Object arg3) {
+            return arg1;
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.Argument} annotation.
+     */
+    public static class ArgumentInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private ArgumentInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @return A fixed value.
+         */
+        public static int primitiveNullary() {
+            return 0;
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg An argument.
+         * @return The input argument.
+         */
+        public static int primitiveUnary(@Argument(0) int arg) {
+            return arg;
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg1 An argument.
+         * @param arg2 An argument.
+         * @param arg3 An argument.
+         * @return The sum of all arguments.
+         */
+        public static int primitiveTernary(@Argument(0) int arg1, @Argument(1) int arg2, @Argument(2) int arg3) {
+            return arg1 + arg2 + arg3;
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @return A fixed value.
+         */
+        public static Object referenceNullary() {
+            return null;
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg An argument.
+         * @return The input argument.
+         */
+        public static Object referenceUnary(@Argument(0) Object arg) {
+            return arg;
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg1 An argument.
+         * @param arg2 An argument.
+         * @param arg3 An argument.
+         * @return The first argument.
+         */
+        public static Object referenceTernary(@Argument(0) Object arg1, @Argument(1) Object arg2, @Argument(2) Object arg3) {
+            return arg1;
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.AllArguments} annotation.
+     */
+    public static class AllArgumentsInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private AllArgumentsInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method with a primitive signature.
+         *
+         * @param arguments All arguments of the intercepted method.
+         * @return The first argument or a fixed value if there are no arguments.
+         */
+        public static int primitive(@AllArguments int[] arguments) {
+            return arguments.length == 0 ? 0 : arguments[0];
+        }
+
+        /**
+         * Intercepts a method with a reference signature.
+         *
+         * @param arguments All arguments of the intercepted method.
+         * @return The first argument or a fixed value if there are no arguments.
+         */
+        public static Object reference(@AllArguments Object[] arguments) {
+            return arguments.length == 0 ? null : arguments[0];
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.SuperCall} annotation.
+     */
+    public static class SuperCallInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private SuperCallInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param zuper A proxy for invoking the super method.
+         * @return The return value of the super method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        @RuntimeType
+        public static Object intercept(@SuperCall Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.Super} annotation.
+     */
+    public static class SuperInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private SuperInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param zuper A proxy for invoking the super methods.
+         * @return The return value of the super method invocation.
+         */
+        public static int primitiveNullary(@Super ExampleSignatures zuper) {
+            return zuper.primitiveNullary();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg   An argument.
+         * @param zuper A proxy for invoking the super methods.
+         * @return The return value of the super method invocation.
+         */
+        public static int primitiveUnary(@Argument(0) int arg, @Super ExampleSignatures zuper) {
+            return zuper.primitiveUnary(arg);
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg1  An argument.
+         * @param arg2  An argument.
+         * @param arg3  An argument.
+         * @param zuper A proxy for invoking the super methods.
+         * @return The return value of the super method invocation.
+         */
+        public static int primitiveTernary(@Argument(0) int arg1, @Argument(1) int arg2, @Argument(2) int arg3, @Super ExampleSignatures zuper) {
+            return zuper.primitiveTernary(arg1, arg2, arg3);
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param zuper A proxy for invoking the super methods.
+         * @return The return value of the super method invocation.
+         */
+        public static Object referenceNullary(@Super ExampleSignatures zuper) {
+            return zuper.referenceNullary();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg   An argument.
+         * @param zuper A proxy for invoking the super methods.
+         * @return The return value of the super method invocation.
+         */
+        public static Object referenceUnary(@Argument(0) Object arg, @Super ExampleSignatures zuper) {
+            return zuper.referenceUnary(arg);
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arg1  An argument.
+         * @param arg2  An argument.
+         * @param arg3  An argument.
+         * @param zuper A proxy for invoking the super methods.
+         * @return The return value of the super method invocation.
+         */
+        public static Object referenceTernary(@Argument(0) Object arg1, @Argument(1) Object arg2, @Argument(2) Object arg3, @Super ExampleSignatures zuper) {
+            return zuper.referenceTernary(arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.Pipe} annotation.
+     */
+    public static class PipeInterceptor {
+
+        /**
+         * The instance to which all invocations are forwarded.
+         */
+        private static final ExampleSignatures TARGET = new ExampleSignatures();
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private PipeInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param forwarding A proxy for forwarding the intercepted invocation.
+         * @return The return value of the forwarded method invocation.
+         */
+        @RuntimeType
+        public static Object intercept(@Pipe Forwarding forwarding) {
+            return forwarding.to(TARGET);
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.Morph} annotation.
+     */
+    public static class MorphInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private MorphInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param morphing  A proxy for invoking the super method with altered arguments.
+         * @param arguments All arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        @RuntimeType
+        public static Object intercept(@Morph Morphing morphing, @AllArguments Object[] arguments) {
+            return morphing.morph(arguments);
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.FieldProxy} annotation.
+     */
+    public static class FieldProxyInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private FieldProxyInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method with a primitive signature.
+         *
+         * @param getter A proxy for reading a field of the intercepted instance.
+         * @return The value of the field.
+         */
+        @RuntimeType
+        public static Object primitive(@FieldProxy(PRIMITIVE_FIELD) Getter getter) {
+            return getter.get();
+        }
+
+        /**
+         * Intercepts a method with a reference signature.
+         *
+         * @param getter A proxy for reading a field of the intercepted instance.
+         * @return The value of the field.
+         */
+        public static Object reference(@FieldProxy(REFERENCE_FIELD) Getter getter) {
+            return getter.get();
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.Origin} annotation.
+     */
+    public static class OriginInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private OriginInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method with a primitive signature.
+         *
+         * @param method The intercepted method.
+         * @return The modifiers of the intercepted method.
+         */
+        public static int primitive(@Origin Method method) {
+            return method.getModifiers();
+        }
+
+        /**
+         * Intercepts a method with a reference signature.
+         *
+         * @param method The intercepted method.
+         * @return The intercepted method.
+         */
+        public static Object reference(@Origin Method method) {
+            return method;
+        }
+    }
+
+    /**
+     * An interceptor that binds the {@link net.bytebuddy.implementation.bind.annotation.RuntimeType} annotation.
+     */
+    public static class RuntimeTypeInterceptor {
+
+        /**
+         * The value that is returned for methods without parameters.
+         */
+        private static final Integer VALUE = 0;
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private RuntimeTypeInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arguments All arguments of the intercepted method.
+         * @return The first argument or a fixed value if there are no arguments.
+         */
+        @RuntimeType
+        public static Object intercept(@AllArguments Object[] arguments) {
+            return arguments.length == 0 ? VALUE : arguments[0];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A benchmark for computing the internal names and descriptors of a large generated type and of all its methods. The
+ * benchmark measures both the first computation of these strings for a freshly parsed type description and the
+ * repeated access to the strings of a type description that was already queried before.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LargeTypeDescriptorBenchmark {
+
+    /**
+     * The number of methods that are defined by the generated type.
+     */
+    public static final int METHOD_COUNT = 256;
+
+    /**
+     * The name of the generated type.
+     */
+    public static final String TYPE_NAME = "net.bytebuddy.benchmark.generated.LargeType";
+
+    /**
+     * The parameter types that are used in rotation by the methods of the generated type.
+     */
+    private static final List<Class<?>> PARAMETER_TYPES = Arrays.<Class<?>>asList(String.class,
+            int[].class,
+            Object[][].class,
+            long.class,
+            List.class,
+            LargeTypeDescriptorBenchmark.class);
+
+    /**
+     * The name of the generated type.
+     */
+    private String typeName = TYPE_NAME;
+
+    /**
+     * A class file locator that is capable of locating the generated type.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * A description of the generated type which was already queried for its names and descriptors.
+     */
+    private TypeDescription queriedTypeDescription;
+
+    /**
+     * Generates the large type that is used by the benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        DynamicType.Builder<?> builder = new ByteBuddy().subclass(Object.class).name(TYPE_NAME);
+        for (int index = 0; index < METHOD_COUNT; index++) {
+            List<Class<?>> parameterTypes = new ArrayList<Class<?>>(index % PARAMETER_TYPES.size() + 1);
+            for (int parameterIndex = 0; parameterIndex <= index % PARAMETER_TYPES.size(); parameterIndex++) {
+                parameterTypes.add(PARAMETER_TYPES.get((index + parameterIndex) % PARAMETER_TYPES.size()));
+            }
+            builder = builder.defineMethod("method" + index,
+                    PARAMETER_TYPES.get(index % PARAMETER_TYPES.size()),
+                    parameterTypes,
+                    Visibility.PUBLIC).intercept(StubMethod.INSTANCE);
+        }
+        classFileLocator = new ClassFileLocator.Compound(new ForGeneratedType(TYPE_NAME, builder.make().getBytes()),
+                ClassFileLocator.ForClassLoader.of(LargeTypeDescriptorBenchmark.class.getClassLoader()));
+        queriedTypeDescription = new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator).describe(typeName).resolve();
+        query(queriedTypeDescription);
+    }
+
+    /**
+     * Queries a type description for its internal name, its descriptor and the descriptors of all its declared methods.
+     *
+     * @param typeDescription The type description to query.
+     * @return The accumulated length of all queried strings.
+     */
+    private static int query(TypeDescription typeDescription) {
+        int length = typeDescription.getInternalName().length() + typeDescription.getDescriptor().length();
+        for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+            length += methodDescription.getDescriptor().length();
+            for (TypeDescription parameterType : methodDescription.getParameters().asTypeList().asRawTypes()) {
+                length += parameterType.getInternalName().length();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Performs a benchmark for parsing the large type with a fresh type pool and computing all of its names and descriptors
+     * for the first time.
+     *
+     * @return The accumulated length of all computed strings, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkFreshDescriptors() {
+        return query(new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator).describe(typeName).resolve());
+    }
+
+    /**
+     * Performs a benchmark for repeatedly accessing the names and descriptors of a large type that were already computed before.
+     *
+     * @return The accumulated length of all computed strings, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkQueriedDescriptors() {
+        return query(queriedTypeDescription);
+    }
+
+    /**
+     * A class file locator for the generated type.
+     */
+    protected static class ForGeneratedType implements ClassFileLocator {
+
+        /**
+         * The name of the generated type.
+         */
+        private final String typeName;
+
+        /**
+         * The binary representation of the generated type.
+         */
+        private final byte[] binaryRepresentation;
+
+        /**
+         * Creates a new class file locator for a generated type.
+         *
+         * @param typeName             The name of the generated type.
+         * @param binaryRepresentation The binary representation of the generated type.
+         */
+        protected ForGeneratedType(String typeName, byte[] binaryRepresentation) {
+            this.typeName = typeName;
+            this.binaryRepresentation = binaryRepresentation;
+        }
+
+        @Override
+        public Resolution locate(String typeName) throws IOException {
+            return this.typeName.equals(typeName)
+                    ? new Resolution.Explicit(binaryRepresentation)
+                    : Resolution.Illegal.INSTANCE;
+        }
+
+        @Override
+        public String toString() {
+            return "LargeTypeDescriptorBenchmark.ForGeneratedType{" +
+                    "typeName='" + typeName + '\'' +
+                    ", binaryRepresentation=<" + binaryRepresentation.length + " bytes>" +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.MethodDelegation;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.none;
+
+/**
+ * <p>
+ * A benchmark for the footprint of proxy classes within the metaspace, or the permanent generation on older VMs, and for
+ * the reclamation of this footprint. Every proxy subclasses the {@link net.bytebuddy.benchmark.specimen.ExampleClass}
+ * and delegates all its methods to an interceptor that invokes the super method such that every proxy also defines
+ * auxiliary types. Each proxy is loaded by a fresh class loader that is created for the proxy alone by one of the
+ * {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default} strategies or by a
+ * {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingReflection} that injects all types directly.
+ * </p>
+ * <p>
+ * The JMH benchmark only measures the time of generating a given number of proxies. The footprint is measured by
+ * {@link net.bytebuddy.benchmark.MetaspaceFootprintBenchmark#measure()} which generates the proxies, drops all
+ * references to them and forces garbage collections in order to determine if the proxies' classes and class loaders
+ * are unloaded. This measurement is reported by the {@link net.bytebuddy.benchmark.runner.FootprintRunner} for every
+ * loading strategy.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MetaspaceFootprintBenchmark {
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    public static final Class<? extends ExampleClass> BASE_CLASS = ExampleClass.class;
+
+    /**
+     * The maximum number of garbage collections that are triggered for unloading classes.
+     */
+    private static final int MAXIMUM_COLLECTIONS = 10;
+
+    /**
+     * The fragment of the name of memory pools that represent the metaspace.
+     */
+    private static final String METASPACE = "Metaspace";
+
+    /**
+     * The fragment of the name of memory pools that represent the permanent generation.
+     */
+    private static final String PERMANENT_GENERATION = "Perm Gen";
+
+    /**
+     * The number of proxies that are generated.
+     */
+    @Param({"1000"})
+    public int proxies;
+
+    /**
+     * The name of the {@link net.bytebuddy.benchmark.MetaspaceFootprintBenchmark.Loading} that loads the proxies.
+     */
+    @Param({"WRAPPER", "WRAPPER_PERSISTENT", "CHILD_FIRST", "CHILD_FIRST_PERSISTENT", "INJECTION", "REFLECTION_INJECTOR"})
+    public String loading;
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    private Class<? extends ExampleClass> baseClass = BASE_CLASS;
+
+    /**
+     * The zero-length of the class loader's URL.
+     */
+    private int urlLength = 0;
+
+    /**
+     * Returns the used and committed memory of all memory pools that represent the metaspace or the permanent generation.
+     *
+     * @return An array containing the used and the committed memory.
+     */
+    private static long[] metaspace() {
+        long[] metaspace = new long[2];
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.NON_HEAP
+                    && (memoryPool.getName().contains(METASPACE) || memoryPool.getName().contains(PERMANENT_GENERATION))) {
+                metaspace[0] += memoryPool.getUsage().getUsed();
+                metaspace[1] += memoryPool.getUsage().getCommitted();
+            }
+        }
+        return metaspace;
+    }
+
+    /**
+     * Triggers garbage collections until no further classes are unloaded.
+     *
+     * @param classLoading The class loading bean of the running VM.
+     */
+    private static void collect(ClassLoadingMXBean classLoading) {
+        long unloadedClasses = classLoading.getUnloadedClassCount();
+        for (int collection = 0; collection < MAXIMUM_COLLECTIONS; collection++) {
+            System.gc();
+            System.runFinalization();
+            long previousUnloadedClasses = unloadedClasses;
+            unloadedClasses = classLoading.getUnloadedClassCount();
+            if (collection > 0 && unloadedClasses == previousUnloadedClasses) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Generates and loads the configured number of proxies.
+     *
+     * @return The loaded proxy classes.
+     */
+    protected List<Class<?>> generate() {
+        Loading loading = Loading.valueOf(this.loading);
+        List<Class<?>> types = new ArrayList<Class<?>>(proxies);
+        for (int index = 0; index < proxies; index++) {
+            types.add(loading.load(new ByteBuddy()
+                    .withIgnoredMethods(none())
+                    .subclass(baseClass)
+                    .method(isDeclaredBy(baseClass)).intercept(MethodDelegation.to(ClassByExtensionBenchmark.ByteBuddyInterceptor.class))
+                    .make(), new URLClassLoader(new URL[urlLength], baseClass.getClassLoader())));
+        }
+        return types;
+    }
+
+    /**
+     * Performs a benchmark for generating and loading the configured number of proxies.
+     *
+     * @return The number of loaded proxies, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkGeneration() {
+        return generate().size();
+    }
+
+    /**
+     * Measures the footprint of the configured number of proxies and if this footprint is reclaimed after dropping
+     * all references to the proxies. The measurement is only an approximation as other classes might be loaded or
+     * unloaded concurrently.
+     *
+     * @return The measured footprint.
+     */
+    public Footprint measure() {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        collect(classLoading);
+        long loadedClasses = classLoading.getLoadedClassCount(), unloadedClasses = classLoading.getUnloadedClassCount();
+        long[] metaspace = metaspace();
+        List<Class<?>> types = generate();
+        List<WeakReference<ClassLoader>> classLoaders = new ArrayList<WeakReference<ClassLoader>>(types.size());
+        for (Class<?> type : types) {
+            classLoaders.add(new WeakReference<ClassLoader>(type.getClassLoader()));
+        }
+        collect(classLoading);
+        long[] generatedMetaspace = metaspace();
+        long generatedClasses = classLoading.getLoadedClassCount() - loadedClasses;
+        types = null;
+        collect(classLoading);
+        long[] remainingMetaspace = metaspace();
+        int leakedClassLoaders = 0;
+        for (WeakReference<ClassLoader> classLoader : classLoaders) {
+            if (classLoader.get() != null) {
+                leakedClassLoaders++;
+            }
+        }
+        return new Footprint(proxies,
+                generatedClasses,
+                classLoading.getUnloadedClassCount() - unloadedClasses,
+                generatedMetaspace[0] - metaspace[0],
+                generatedMetaspace[1] - metaspace[1],
+                remainingMetaspace[0] - metaspace[0],
+                leakedClassLoaders);
+    }
+
+    /**
+     * A strategy for loading a proxy.
+     */
+    public enum Loading {
+
+        /**
+         * Loads a proxy by {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default#WRAPPER}.
+         */
+        WRAPPER(ClassLoadingStrategy.Default.WRAPPER),
+
+        /**
+         * Loads a proxy by {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default#WRAPPER_PERSISTENT}.
+         */
+        WRAPPER_PERSISTENT(ClassLoadingStrategy.Default.WRAPPER_PERSISTENT),
+
+        /**
+         * Loads a proxy by {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default#CHILD_FIRST}.
+         */
+        CHILD_FIRST(ClassLoadingStrategy.Default.CHILD_FIRST),
+
+        /**
+         * Loads a proxy by {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default#CHILD_FIRST_PERSISTENT}.
+         */
+        CHILD_FIRST_PERSISTENT(ClassLoadingStrategy.Default.CHILD_FIRST_PERSISTENT),
+
+        /**
+         * Loads a proxy by {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default#INJECTION}.
+         */
+        INJECTION(ClassLoadingStrategy.Default.INJECTION),
+
+        /**
+         * Loads a proxy by injecting all its types by a {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingReflection}
+         * and by applying the loaded type initializers explicitly.
+         */
+        REFLECTION_INJECTOR(null) {
+            @Override
+            protected Class<?> load(DynamicType.Unloaded<?> dynamicType, ClassLoader classLoader) {
+                Map<TypeDescription, Class<?>> types = new ClassInjector.UsingReflection(classLoader).inject(dynamicType.getAllTypes());
+                for (Map.Entry<TypeDescription, LoadedTypeInitializer> entry : dynamicType.getLoadedTypeInitializers().entrySet()) {
+                    entry.getValue().onLoad(types.get(entry.getKey()));
+                }
+                return types.get(dynamicType.getTypeDescription());
+            }
+        };
+
+        /**
+         * The class loading strategy to apply or {@code null} if this loading does not apply a class loading strategy.
+         */
+        private final ClassLoadingStrategy classLoadingStrategy;
+
+        /**
+         * Creates a new loading.
+         *
+         * @param classLoadingStrategy The class loading strategy to apply or {@code null} if this loading does not
+         *                             apply a class loading strategy.
+         */
+        Loading(ClassLoadingStrategy classLoadingStrategy) {
+            this.classLoadingStrategy = classLoadingStrategy;
+        }
+
+        /**
+         * Loads a proxy.
+         *
+         * @param dynamicType The proxy to load.
+         * @param classLoader The class loader that is used as a parent or as a target for injection.
+         * @return The loaded proxy class.
+         */
+        protected Class<?> load(DynamicType.Unloaded<?> dynamicType, ClassLoader classLoader) {
+            return dynamicType.load(classLoader, classLoadingStrategy).getLoaded();
+        }
+
+        @Override
+        public String toString() {
+            return "MetaspaceFootprintBenchmark.Loading." + name();
+        }
+    }
+
+    /**
+     * A footprint of a number of generated proxies.
+     */
+    public static class Footprint {
+
+        /**
+         * The number of generated proxies.
+         */
+        private final int proxies;
+
+        /**
+         * The number of classes that were loaded for generating the proxies.
+         */
+        private final long loadedClasses;
+
+        /**
+         * The number of classes that were unloaded after dropping all references to the proxies.
+         */
+        private final long unloadedClasses;
+
+        /**
+         * The growth of the used metaspace after generating the proxies in bytes.
+         */
+        private final long metaspaceUsed;
+
+        /**
+         * The growth of the committed metaspace after generating the proxies in bytes.
+         */
+        private final long metaspaceCommitted;
+
+        /**
+         * The growth of the used metaspace that remains after dropping all references to the proxies in bytes.
+         */
+        private final long remainingMetaspaceUsed;
+
+        /**
+         * The number of class loaders of proxies that were not collected after dropping all references to the proxies.
+         */
+        private final int leakedClassLoaders;
+
+        /**
+         * Creates a new footprint.
+         *
+         * @param proxies                The number of generated proxies.
+         * @param loadedClasses          The number of classes that were loaded for generating the proxies.
+         * @param unloadedClasses        The number of classes that were unloaded after dropping all references to the proxies.
+         * @param metaspaceUsed          The growth of the used metaspace after generating the proxies in bytes.
+         * @param metaspaceCommitted     The growth of the committed metaspace after generating the proxies in bytes.
+         * @param remainingMetaspaceUsed The growth of the used metaspace that remains after dropping all references to the
+         *                               proxies in bytes.
+         * @param leakedClassLoaders     The number of class loaders of proxies that were not collected after dropping all
+         *                               references to the proxies.
+         */
+        protected Footprint(int proxies,
+                            long loadedClasses,
+                            long unloadedClasses,
+                            long metaspaceUsed,
+                            long metaspaceCommitted,
+                            long remainingMetaspaceUsed,
+                            int leakedClassLoaders) {
+            this.proxies = proxies;
+            this.loadedClasses = loadedClasses;
+            this.unloadedClasses = unloadedClasses;
+            this.metaspaceUsed = metaspaceUsed;
+            this.metaspaceCommitted = metaspaceCommitted;
+            this.remainingMetaspaceUsed = remainingMetaspaceUsed;
+            this.leakedClassLoaders = leakedClassLoaders;
+        }
+
+        /**
+         * Returns the number of classes that were loaded for generating the proxies.
+         *
+         * @return The number of classes that were loaded for generating the proxies.
+         */
+        public long getLoadedClasses() {
+            return loadedClasses;
+        }
+
+        /**
+         * Returns the number of classes that were unloaded after dropping all references to the proxies.
+         *
+         * @return The number of classes that were unloaded after dropping all references to the proxies.
+         */
+        public long getUnloadedClasses() {
+            return unloadedClasses;
+        }
+
+        /**
+         * Returns the growth of the used metaspace after generating the proxies in bytes.
+         *
+         * @return The growth of the used metaspace after generating the proxies in bytes.
+         */
+        public long getMetaspaceUsed() {
+            return metaspaceUsed;
+        }
+
+        /**
+         * Returns the growth of the committed metaspace after generating the proxies in bytes.
+         *
+         * @return The growth of the committed metaspace after generating the proxies in bytes.
+         */
+        public long getMetaspaceCommitted() {
+            return metaspaceCommitted;
+        }
+
+        /**
+         * Returns the growth of the used metaspace that remains after dropping all references to the proxies in bytes.
+         *
+         * @return The growth of the used metaspace that remains after dropping all references to the proxies in bytes.
+         */
+        public long getRemainingMetaspaceUsed() {
+            return remainingMetaspaceUsed;
+        }
+
+        /**
+         * Returns the number of class loaders of proxies that were not collected after dropping all references to the proxies.
+         *
+         * @return The number of class loaders of proxies that were not collected after dropping all references to the proxies.
+         */
+        public int getLeakedClassLoaders() {
+            return leakedClassLoaders;
+        }
+
+        /**
+         * Determines if all class loaders of the proxies were collected after dropping all references to the proxies.
+         *
+         * @return {@code true} if all class loaders of the proxies were collected.
+         */
+        public boolean isReclaimed() {
+            return leakedClassLoaders == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "MetaspaceFootprintBenchmark.Footprint{" +
+                    "proxies=" + proxies +
+                    ", loadedClasses=" + loadedClasses +
+                    ", unloadedClasses=" + unloadedClasses +
+                    ", metaspaceUsed=" + metaspaceUsed +
+                    ", metaspaceCommitted=" + metaspaceCommitted +
+                    ", remainingMetaspaceUsed=" + remainingMetaspaceUsed +
+                    ", leakedClassLoaders=" + leakedClassLoaders +
+                    '}';
+        }
+    }
+}
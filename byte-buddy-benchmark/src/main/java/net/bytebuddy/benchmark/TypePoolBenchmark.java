@@ -0,0 +1,374 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import net.bytebuddy.description.type.generic.GenericTypeList;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.utility.StreamDrainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * <p>
+ * A benchmark for resolving the types of a corpus of <i>jar</i> files by a {@link net.bytebuddy.pool.TypePool.Default}.
+ * The corpus is defined by the same system property as for the
+ * {@link net.bytebuddy.benchmark.AgentTransformationBenchmark}, i.e. {@code net.bytebuddy.benchmark.corpus}, and
+ * defaults to all <i>jar</i> files on the class path. All class files are read into memory before running the benchmark
+ * such that reading and inflating a <i>jar</i> file does not contribute to the measured time. Every operation resolves a
+ * single type of the corpus where the type pool is either cleared before the resolution, such that the class file must
+ * be parsed, or is warmed up, such that the type is resolved from the pool's cache if the cache provider retains it.
+ * Types that cannot be fully materialized as they reference types that are neither contained by the corpus nor by the
+ * class path are excluded from the benchmark.
+ * </p>
+ * <p>
+ * Additionally, this benchmark allows to measure the heap that is retained by every cached type description by
+ * {@link net.bytebuddy.benchmark.TypePoolBenchmark#retainedHeapPerType(boolean)}. This measurement is not a JMH
+ * benchmark but is reported by the {@link net.bytebuddy.benchmark.runner.TypePoolRunner} before running the benchmark.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypePoolBenchmark {
+
+    /**
+     * The maximum number of class files that are read from the corpus.
+     */
+    public static final int MAXIMUM_CLASS_FILES = 5000;
+
+    /**
+     * The file name extension of Java class files.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The maximum number of garbage collections that are triggered for stabilizing the used heap.
+     */
+    private static final int MAXIMUM_COLLECTIONS = 10;
+
+    /**
+     * The name of a {@link net.bytebuddy.benchmark.TypePoolBenchmark.CacheProviderFactory} that creates the cache
+     * provider of the benchmarked type pools.
+     */
+    @Param({"NO_OP", "SIMPLE"})
+    public String cacheProvider;
+
+    /**
+     * The names of all types of the corpus that are resolved by the benchmark.
+     */
+    private List<String> typeNames;
+
+    /**
+     * A class file locator for all types of the corpus and of the class path.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * A type pool that is cleared before every resolution.
+     */
+    private TypePool coldTypePool;
+
+    /**
+     * A type pool that has resolved all types of the corpus before.
+     */
+    private TypePool warmTypePool;
+
+    /**
+     * The type descriptions that are retained while measuring the retained heap.
+     */
+    private List<TypeDescription> retained;
+
+    /**
+     * The index of the next type to resolve.
+     */
+    private int index;
+
+    /**
+     * Fully materializes a type description by querying its generic super types, its type variables, its annotations
+     * and all of its declared fields and methods.
+     *
+     * @param typeDescription The type description to materialize.
+     * @return An accumulated value of all queried properties.
+     */
+    protected static int materialize(TypeDescription typeDescription) {
+        int value = typeDescription.getModifiers() + materialize(typeDescription.getTypeVariables())
+                + materialize(typeDescription.getInterfaces())
+                + materialize(typeDescription.getDeclaredAnnotations());
+        GenericTypeDescription superType = typeDescription.getSuperType();
+        if (superType != null) {
+            value += superType.getSort().ordinal();
+        }
+        for (FieldDescription fieldDescription : typeDescription.getDeclaredFields()) {
+            value += fieldDescription.getType().getSort().ordinal() + materialize(fieldDescription.getDeclaredAnnotations());
+        }
+        for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+            value += methodDescription.getReturnType().getSort().ordinal()
+                    + materialize(methodDescription.getTypeVariables())
+                    + materialize(methodDescription.getExceptionTypes())
+                    + materialize(methodDescription.getDeclaredAnnotations());
+            for (ParameterDescription parameterDescription : methodDescription.getParameters()) {
+                value += parameterDescription.getType().getSort().ordinal() + materialize(parameterDescription.getDeclaredAnnotations());
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Materializes a list of generic types.
+     *
+     * @param genericTypes The generic types to materialize.
+     * @return An accumulated value of all queried properties.
+     */
+    private static int materialize(GenericTypeList genericTypes) {
+        int value = 0;
+        for (GenericTypeDescription genericType : genericTypes) {
+            value += genericType.getSort().ordinal();
+        }
+        return value;
+    }
+
+    /**
+     * Materializes a list of annotations.
+     *
+     * @param annotationDescriptions The annotations to materialize.
+     * @return An accumulated value of all queried properties.
+     */
+    private static int materialize(List<? extends AnnotationDescription> annotationDescriptions) {
+        int value = 0;
+        for (AnnotationDescription annotationDescription : annotationDescriptions) {
+            value += annotationDescription.getAnnotationType().getModifiers();
+        }
+        return value;
+    }
+
+    /**
+     * Triggers garbage collections until the used heap is stable and returns the used heap.
+     *
+     * @return The used heap after garbage collection.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        for (int collection = 0; collection < MAXIMUM_COLLECTIONS; collection++) {
+            System.gc();
+            System.runFinalization();
+            long previousUsedHeap = usedHeap;
+            usedHeap = runtime.totalMemory() - runtime.freeMemory();
+            if (usedHeap >= previousUsedHeap) {
+                break;
+            }
+        }
+        return usedHeap;
+    }
+
+    /**
+     * Reads the corpus and creates the benchmarked type pools.
+     *
+     * @throws IOException If the corpus cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Map<String, byte[]> classFiles = new LinkedHashMap<String, byte[]>();
+        for (File file : AgentTransformationBenchmark.corpus()) {
+            JarFile jarFile = new JarFile(file);
+            try {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements() && classFiles.size() < MAXIMUM_CLASS_FILES) {
+                    JarEntry entry = entries.nextElement();
+                    if (entry.getName().endsWith(CLASS_FILE_EXTENSION) && !entry.isDirectory()) {
+                        InputStream inputStream = jarFile.getInputStream(entry);
+                        try {
+                            classFiles.put(entry.getName().substring(0, entry.getName().length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'),
+                                    new StreamDrainer().drain(inputStream));
+                        } finally {
+                            inputStream.close();
+                        }
+                    }
+                }
+            } finally {
+                jarFile.close();
+            }
+        }
+        classFileLocator = new ClassFileLocator.Compound(new ForClassFiles(classFiles),
+                ClassFileLocator.ForClassLoader.of(TypePoolBenchmark.class.getClassLoader()));
+        typeNames = new ArrayList<String>(classFiles.size());
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator);
+        for (String typeName : classFiles.keySet()) {
+            try {
+                materialize(typePool.describe(typeName).resolve());
+                typeNames.add(typeName);
+            } catch (RuntimeException ignored) {
+                /* do nothing */
+            }
+        }
+        if (typeNames.isEmpty()) {
+            throw new IllegalStateException("The corpus does not contain any resolvable class files: " + classFiles.keySet());
+        }
+        CacheProviderFactory cacheProviderFactory = CacheProviderFactory.valueOf(cacheProvider);
+        coldTypePool = new TypePool.Default(cacheProviderFactory.make(), classFileLocator);
+        warmTypePool = new TypePool.Default(cacheProviderFactory.make(), classFileLocator);
+        for (String typeName : typeNames) {
+            warmTypePool.describe(typeName).resolve();
+        }
+        index = 0;
+    }
+
+    /**
+     * Returns the name of the next type to resolve.
+     *
+     * @return The name of the next type to resolve.
+     */
+    private String next() {
+        String typeName = typeNames.get(index);
+        index = (index + 1) % typeNames.size();
+        return typeName;
+    }
+
+    /**
+     * Performs a benchmark for resolving a type by parsing its class file.
+     *
+     * @return The resolved type description, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public TypeDescription benchmarkColdResolution() {
+        coldTypePool.clear();
+        return coldTypePool.describe(next()).resolve();
+    }
+
+    /**
+     * Performs a benchmark for resolving a type by a type pool that has resolved this type before.
+     *
+     * @return The resolved type description, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public TypeDescription benchmarkWarmResolution() {
+        return warmTypePool.describe(next()).resolve();
+    }
+
+    /**
+     * Performs a benchmark for resolving a type by parsing its class file and for fully materializing its members,
+     * generic types and annotations.
+     *
+     * @return An accumulated value of all materialized properties, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkMaterialization() {
+        coldTypePool.clear();
+        return materialize(coldTypePool.describe(next()).resolve());
+    }
+
+    /**
+     * Measures the heap that is retained per type description when all types of the corpus are resolved by a type pool
+     * with a {@link net.bytebuddy.pool.TypePool.CacheProvider.Simple} cache. The used heap is measured after forcing
+     * garbage collections before and after the resolution such that the result is only an approximation.
+     *
+     * @param materialized {@code true} if the resolved type descriptions should be fully materialized.
+     * @return The approximate number of bytes that are retained per cached type description.
+     */
+    public long retainedHeapPerType(boolean materialized) {
+        long usedHeap = usedHeap();
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator);
+        retained = new ArrayList<TypeDescription>(typeNames.size());
+        for (String typeName : typeNames) {
+            TypeDescription typeDescription = typePool.describe(typeName).resolve();
+            if (materialized) {
+                materialize(typeDescription);
+            }
+            retained.add(typeDescription);
+        }
+        try {
+            return (usedHeap() - usedHeap) / retained.size();
+        } finally {
+            retained = null;
+        }
+    }
+
+    /**
+     * A factory for the cache provider of the benchmarked type pools.
+     */
+    public enum CacheProviderFactory {
+
+        /**
+         * Creates a cache provider that does not retain any resolved type.
+         */
+        NO_OP {
+            @Override
+            public TypePool.CacheProvider make() {
+                return TypePool.CacheProvider.NoOp.INSTANCE;
+            }
+        },
+
+        /**
+         * Creates a cache provider that retains all resolved types.
+         */
+        SIMPLE {
+            @Override
+            public TypePool.CacheProvider make() {
+                return new TypePool.CacheProvider.Simple();
+            }
+        };
+
+        /**
+         * Creates a new cache provider.
+         *
+         * @return A new cache provider.
+         */
+        public abstract TypePool.CacheProvider make();
+
+        @Override
+        public String toString() {
+            return "TypePoolBenchmark.CacheProviderFactory." + name();
+        }
+    }
+
+    /**
+     * A class file locator for the class files of the corpus that were read into memory.
+     */
+    protected static class ForClassFiles implements ClassFileLocator {
+
+        /**
+         * The binary representations of all class files by their types' names.
+         */
+        private final Map<String, byte[]> classFiles;
+
+        /**
+         * Creates a new class file locator for class files that were read into memory.
+         *
+         * @param classFiles The binary representations of all class files by their types' names.
+         */
+        protected ForClassFiles(Map<String, byte[]> classFiles) {
+            this.classFiles = classFiles;
+        }
+
+        @Override
+        public Resolution locate(String typeName) {
+            byte[] binaryRepresentation = classFiles.get(typeName);
+            return binaryRepresentation == null
+                    ? Resolution.Illegal.INSTANCE
+                    : new Resolution.Explicit(binaryRepresentation);
+        }
+
+        @Override
+        public String toString() {
+            return "TypePoolBenchmark.ForClassFiles{" +
+                    "classFiles=<" + classFiles.size() + " types>" +
+                    '}';
+        }
+    }
+}
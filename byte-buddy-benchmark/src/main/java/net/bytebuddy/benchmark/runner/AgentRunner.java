@@ -0,0 +1,47 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.AgentTransformationBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A runner for the benchmarks of an agent's class-loading path. The benchmarks are run with JMH's GC profiler such
+ * that the allocation per transformed class file can be derived from the reported allocation rate and throughput.
+ * The corpus of the benchmarked class files can be set by the system property that is named by
+ * {@link net.bytebuddy.benchmark.AgentTransformationBenchmark#CORPUS_PROPERTY} which is forwarded to the forked
+ * benchmark JVM.
+ */
+public class AgentRunner {
+
+    /**
+     * A wildcard for the identification of a benchmark by JMH.
+     */
+    private static final String WILDCARD = ".*";
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private AgentRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes the benchmark.
+     *
+     * @param args Unused arguments.
+     * @throws RunnerException If the benchmark causes an exception.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String corpus = System.getProperty(AgentTransformationBenchmark.CORPUS_PROPERTY);
+        new Runner(new OptionsBuilder()
+                .include(WILDCARD + AgentTransformationBenchmark.class.getSimpleName() + WILDCARD)
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend(corpus == null
+                        ? new String[0]
+                        : new String[]{"-D" + AgentTransformationBenchmark.CORPUS_PROPERTY + "=" + corpus})
+                .forks(1)
+                .build()).run();
+    }
+}
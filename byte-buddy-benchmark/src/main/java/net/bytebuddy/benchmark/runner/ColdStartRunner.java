@@ -0,0 +1,40 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.ColdStartBenchmark;
+import org.openjdk.jmh.profile.ClassloaderProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A runner for the benchmarks of Byte Buddy's first use within a fresh JVM. The benchmarks are run with JMH's class
+ * loader profiler such that the number of classes that are loaded by a first use is reported next to its duration.
+ * The number of forks is defined by the benchmark itself.
+ */
+public class ColdStartRunner {
+
+    /**
+     * A wildcard for the identification of a benchmark by JMH.
+     */
+    private static final String WILDCARD = ".*";
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private ColdStartRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes the benchmark.
+     *
+     * @param args Unused arguments.
+     * @throws RunnerException If the benchmark causes an exception.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WILDCARD + ColdStartBenchmark.class.getSimpleName() + WILDCARD)
+                .addProfiler(ClassloaderProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,51 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.MetaspaceFootprintBenchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A runner for the benchmarks of the metaspace footprint of proxies. Before running the benchmarks, this runner reports
+ * the footprint of the proxies of every loading strategy and if this footprint is reclaimed after all references to
+ * the proxies are dropped. As classes that are unloaded by a measurement can distort the subsequent measurement, the
+ * footprint of every loading strategy should ideally be compared to an isolated measurement.
+ */
+public class FootprintRunner {
+
+    /**
+     * A wildcard for the identification of a benchmark by JMH.
+     */
+    private static final String WILDCARD = ".*";
+
+    /**
+     * The number of proxies for the footprint measurement.
+     */
+    private static final int PROXIES = 1000;
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private FootprintRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes the benchmark.
+     *
+     * @param args Unused arguments.
+     * @throws RunnerException If the benchmark causes an exception.
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (MetaspaceFootprintBenchmark.Loading loading : MetaspaceFootprintBenchmark.Loading.values()) {
+            MetaspaceFootprintBenchmark metaspaceFootprintBenchmark = new MetaspaceFootprintBenchmark();
+            metaspaceFootprintBenchmark.proxies = PROXIES;
+            metaspaceFootprintBenchmark.loading = loading.name();
+            System.out.println(loading.name() + ": " + metaspaceFootprintBenchmark.measure());
+        }
+        new Runner(new OptionsBuilder()
+                .include(WILDCARD + MetaspaceFootprintBenchmark.class.getSimpleName() + WILDCARD)
+                .forks(1)
+                .build()).run();
+    }
+}
@@ -0,0 +1,40 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.InvocationOverheadBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A runner for the benchmarks of the invocation overhead of all interceptions. The benchmarks are run with JMH's GC
+ * profiler such that the allocation rate of every interception and signature is reported next to its latency.
+ */
+public class InvocationRunner {
+
+    /**
+     * A wildcard for the identification of a benchmark by JMH.
+     */
+    private static final String WILDCARD = ".*";
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private InvocationRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes the benchmark.
+     *
+     * @param args Unused arguments.
+     * @throws RunnerException If the benchmark causes an exception.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WILDCARD + InvocationOverheadBenchmark.class.getSimpleName() + WILDCARD)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build()).run();
+    }
+}
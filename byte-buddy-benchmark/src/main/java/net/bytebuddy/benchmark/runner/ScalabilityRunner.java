@@ -0,0 +1,98 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.ConcurrentTypeCreationBenchmark;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+
+/**
+ * A runner for the benchmarks of concurrent type creation. This runner executes the benchmarks at thread counts of
+ * increasing powers of two, up to the number of available processors, where each thread count is run in a separate
+ * fork. For benchmark groups, every method of the group is run by the given thread count. After running all thread
+ * counts, the runner reports the scaling efficiency of each benchmark, i.e. its throughput at a given thread count
+ * divided by the product of the thread count and the throughput of a single thread. A scaling efficiency of
+ * {@code 1} indicates a linear scaling while a lower value indicates contention.
+ */
+public class ScalabilityRunner {
+
+    /**
+     * A wildcard for the identification of a benchmark by JMH.
+     */
+    private static final String WILDCARD = ".*";
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private ScalabilityRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the thread counts at which the benchmarks are run.
+     *
+     * @return The thread counts at which the benchmarks are run.
+     */
+    private static List<Integer> threadCounts() {
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<Integer>();
+        for (int threadCount = 1; threadCount < availableProcessors; threadCount *= 2) {
+            threadCounts.add(threadCount);
+        }
+        threadCounts.add(availableProcessors);
+        return threadCounts;
+    }
+
+    /**
+     * Returns a key that identifies a benchmark and its parameters independently of the thread count.
+     *
+     * @param runResult The result of a benchmark run.
+     * @return A key that identifies the benchmark and its parameters.
+     */
+    private static String key(RunResult runResult) {
+        StringBuilder key = new StringBuilder(runResult.getParams().getBenchmark());
+        for (String name : runResult.getParams().getParamsKeys()) {
+            key.append(' ').append(name).append('=').append(runResult.getParams().getParam(name));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Executes the benchmark.
+     *
+     * @param args Unused arguments.
+     * @throws RunnerException If the benchmark causes an exception.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Map<String, SortedMap<Integer, Double>> scores = new TreeMap<String, SortedMap<Integer, Double>>();
+        for (int threadCount : threadCounts()) {
+            for (RunResult runResult : new Runner(new OptionsBuilder()
+                    .include(WILDCARD + ConcurrentTypeCreationBenchmark.class.getSimpleName() + WILDCARD)
+                    .threads(threadCount)
+                    .threadGroups(threadCount, threadCount)
+                    .forks(1)
+                    .build()).run()) {
+                String key = key(runResult);
+                SortedMap<Integer, Double> score = scores.get(key);
+                if (score == null) {
+                    score = new TreeMap<Integer, Double>();
+                    scores.put(key, score);
+                }
+                score.put(threadCount, runResult.getPrimaryResult().getScore());
+            }
+        }
+        System.out.println("Scaling efficiency:");
+        for (Map.Entry<String, SortedMap<Integer, Double>> entry : scores.entrySet()) {
+            double baseline = entry.getValue().get(entry.getValue().firstKey());
+            for (Map.Entry<Integer, Double> score : entry.getValue().entrySet()) {
+                System.out.println(String.format("%s threads=%d score=%.3f efficiency=%.3f",
+                        entry.getKey(),
+                        score.getKey(),
+                        score.getValue(),
+                        score.getValue() / (score.getKey() * baseline)));
+            }
+        }
+    }
+}
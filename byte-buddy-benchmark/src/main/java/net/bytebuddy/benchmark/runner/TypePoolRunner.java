@@ -0,0 +1,54 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.AgentTransformationBenchmark;
+import net.bytebuddy.benchmark.TypePoolBenchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * A runner for the benchmarks of a type pool. Before running the benchmarks, this runner reports the heap that is
+ * approximately retained per cached type description, both for type descriptions that were only resolved and for
+ * type descriptions that were fully materialized. The corpus of the benchmarked class files can be set by the system
+ * property that is named by {@link net.bytebuddy.benchmark.AgentTransformationBenchmark#CORPUS_PROPERTY} which is
+ * forwarded to the forked benchmark JVM.
+ */
+public class TypePoolRunner {
+
+    /**
+     * A wildcard for the identification of a benchmark by JMH.
+     */
+    private static final String WILDCARD = ".*";
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private TypePoolRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes the benchmark.
+     *
+     * @param args Unused arguments.
+     * @throws IOException     If the corpus cannot be read.
+     * @throws RunnerException If the benchmark causes an exception.
+     */
+    public static void main(String[] args) throws IOException, RunnerException {
+        TypePoolBenchmark typePoolBenchmark = new TypePoolBenchmark();
+        typePoolBenchmark.cacheProvider = TypePoolBenchmark.CacheProviderFactory.SIMPLE.name();
+        typePoolBenchmark.setUp();
+        System.out.println("Retained heap per resolved type: " + typePoolBenchmark.retainedHeapPerType(false) + " bytes");
+        System.out.println("Retained heap per materialized type: " + typePoolBenchmark.retainedHeapPerType(true) + " bytes");
+        String corpus = System.getProperty(AgentTransformationBenchmark.CORPUS_PROPERTY);
+        new Runner(new OptionsBuilder()
+                .include(WILDCARD + TypePoolBenchmark.class.getSimpleName() + WILDCARD)
+                .jvmArgsAppend(corpus == null
+                        ? new String[0]
+                        : new String[]{"-D" + AgentTransformationBenchmark.CORPUS_PROPERTY + "=" + corpus})
+                .forks(1)
+                .build()).run();
+    }
+}
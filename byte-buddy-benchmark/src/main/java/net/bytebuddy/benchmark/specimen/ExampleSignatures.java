@@ -0,0 +1,71 @@
+package net.bytebuddy.benchmark.specimen;
+
+/**
+ * An example class with methods of primitive and reference signatures of varying arity which is used as a specimen
+ * in benchmarks. None of the methods allocates an object such that any allocation of an overriding method can be
+ * attributed to its implementation.
+ */
+public class ExampleSignatures {
+
+    /**
+     * An example method.
+     *
+     * @return A fixed value.
+     */
+    public int primitiveNullary() {
+        return 0;
+    }
+
+    /**
+     * An example method.
+     *
+     * @param arg An argument.
+     * @return The input argument.
+     */
+    public int primitiveUnary(int arg) {
+        return arg;
+    }
+
+    /**
+     * An example method.
+     *
+     * @param arg1 An argument.
+     * @param arg2 An argument.
+     * @param arg3 An argument.
+     * @return The sum of all arguments.
+     */
+    public int primitiveTernary(int arg1, int arg2, int arg3) {
+        return arg1 + arg2 + arg3;
+    }
+
+    /**
+     * An example method.
+     *
+     * @return A fixed value.
+     */
+    public Object referenceNullary() {
+        return null;
+    }
+
+    /**
+     * An example method.
+     *
+     * @param arg An argument.
+     * @return The input argument.
+     */
+    public Object referenceUnary(Object arg) {
+        return arg;
+    }
+
+    /**
+     * An example method.
+     *
+     * @param arg1 An argument.
+     * @param arg2 An argument.
+     * @param arg3 An argument.
+     * @return The first argument.
+     */
+    public Object referenceTernary(Object arg1, Object arg2, Object arg3) {
+        return arg1;
+    }
+}
@@ -0,0 +1,28 @@
+package net.bytebuddy.benchmark.precompiled;
+
+public interface DefaultSignatures {
+
+    default int primitiveNullary() {
+        return 0;
+    }
+
+    default int primitiveUnary(int arg) {
+        return arg;
+    }
+
+    default int primitiveTernary(int arg1, int arg2, int arg3) {
+        return arg1 + arg2 + arg3;
+    }
+
+    default Object referenceNullary() {
+        return null;
+    }
+
+    default Object referenceUnary(Object arg) {
+        return arg;
+    }
+
+    default Object referenceTernary(Object arg1, Object arg2, Object arg3) {
+        return arg1;
+    }
+}
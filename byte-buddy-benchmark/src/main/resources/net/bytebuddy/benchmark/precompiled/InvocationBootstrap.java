@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark.precompiled;
+
+import java.lang.invoke.*;
+
+public class InvocationBootstrap {
+
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String methodName, MethodType methodType)
+            throws NoSuchMethodException, IllegalAccessException {
+        return new ConstantCallSite(lookup.findStatic(InvocationBootstrap.class, methodName, methodType));
+    }
+
+    public static int primitiveNullary() {
+        return 0;
+    }
+
+    public static int primitiveUnary(int arg) {
+        return arg;
+    }
+
+    public static int primitiveTernary(int arg1, int arg2, int arg3) {
+        return arg1 + arg2 + arg3;
+    }
+
+    public static Object referenceNullary() {
+        return null;
+    }
+
+    public static Object referenceUnary(Object arg) {
+        return arg;
+    }
+
+    public static Object referenceTernary(Object arg1, Object arg2, Object arg3) {
+        return arg1;
+    }
+}
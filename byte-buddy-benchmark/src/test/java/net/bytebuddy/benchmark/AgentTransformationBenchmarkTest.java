@@ -0,0 +1,81 @@
+package net.bytebuddy.benchmark;
+
+import net.sf.cglib.proxy.Enhancer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AgentTransformationBenchmarkTest {
+
+    private static final int SAMPLE_SIZE = 200;
+
+    private String corpus;
+
+    @Before
+    public void setUp() throws Exception {
+        corpus = System.getProperty(AgentTransformationBenchmark.CORPUS_PROPERTY);
+        System.setProperty(AgentTransformationBenchmark.CORPUS_PROPERTY,
+                new File(Enhancer.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (corpus == null) {
+            System.clearProperty(AgentTransformationBenchmark.CORPUS_PROPERTY);
+        } else {
+            System.setProperty(AgentTransformationBenchmark.CORPUS_PROPERTY, corpus);
+        }
+    }
+
+    private static int transform(String matcherMix, int ignoredPercentage, String transformation) throws Exception {
+        AgentTransformationBenchmark agentTransformationBenchmark = new AgentTransformationBenchmark();
+        agentTransformationBenchmark.matcherMix = matcherMix;
+        agentTransformationBenchmark.ignoredPercentage = ignoredPercentage;
+        agentTransformationBenchmark.transformation = transformation;
+        agentTransformationBenchmark.setUp();
+        int transformed = 0;
+        for (int index = 0; index < SAMPLE_SIZE; index++) {
+            if (agentTransformationBenchmark.benchmarkTransformation() != null) {
+                transformed++;
+            }
+        }
+        return transformed;
+    }
+
+    @Test
+    public void testCorpus() throws Exception {
+        assertEquals(1, AgentTransformationBenchmark.corpus().size());
+    }
+
+    @Test
+    public void testTransformations() throws Exception {
+        for (AgentTransformationBenchmark.Transformation transformation : AgentTransformationBenchmark.Transformation.values()) {
+            for (AgentTransformationBenchmark.MatcherMix matcherMix : AgentTransformationBenchmark.MatcherMix.values()) {
+                assertTrue(transform(matcherMix.name(), 0, transformation.name()) > 0);
+            }
+        }
+    }
+
+    @Test
+    public void testIgnoredTypes() throws Exception {
+        assertTrue(transform(AgentTransformationBenchmark.MatcherMix.MODIFIER.name(), 0, AgentTransformationBenchmark.Transformation.REBASE.name())
+                > transform(AgentTransformationBenchmark.MatcherMix.MODIFIER.name(), 90, AgentTransformationBenchmark.Transformation.REBASE.name()));
+        assertEquals(0, transform(AgentTransformationBenchmark.MatcherMix.MODIFIER.name(), 100, AgentTransformationBenchmark.Transformation.REBASE.name()));
+    }
+
+    @Test
+    public void testSingleTransformation() throws Exception {
+        AgentTransformationBenchmark agentTransformationBenchmark = new AgentTransformationBenchmark();
+        agentTransformationBenchmark.matcherMix = AgentTransformationBenchmark.MatcherMix.NAME.name();
+        agentTransformationBenchmark.ignoredPercentage = 100;
+        agentTransformationBenchmark.transformation = AgentTransformationBenchmark.Transformation.REBASE.name();
+        agentTransformationBenchmark.setUp();
+        assertNull(agentTransformationBenchmark.benchmarkTransformation());
+    }
+}
@@ -0,0 +1,46 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.benchmark.specimen.ExampleInterface;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class ColdStartBenchmarkTest {
+
+    private ColdStartBenchmark coldStartBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        coldStartBenchmark = new ColdStartBenchmark();
+        coldStartBenchmark.setUp();
+    }
+
+    @Test
+    public void testFirstClassProxy() throws Exception {
+        Class<?> type = coldStartBenchmark.benchmarkFirstClassProxy();
+        assertEquals(ExampleClass.class, type.getSuperclass());
+    }
+
+    @Test
+    public void testFirstInterfaceProxy() throws Exception {
+        Class<?> type = coldStartBenchmark.benchmarkFirstInterfaceProxy();
+        assertTrue(ExampleInterface.class.isAssignableFrom(type));
+    }
+
+    @Test
+    public void testFirstRebase() throws Exception {
+        Class<?> type = coldStartBenchmark.benchmarkFirstRebase();
+        assertEquals(ExampleClass.class.getName(), type.getName());
+        assertNotSame(ExampleClass.class, type);
+        assertEquals(1, type.getDeclaredMethod("method", int.class).invoke(type.newInstance(), 1));
+    }
+
+    @Test
+    public void testFirstAgentTransformation() throws Exception {
+        assertTrue(coldStartBenchmark.benchmarkFirstAgentTransformation().length > 0);
+    }
+}
@@ -0,0 +1,72 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class ConcurrentTypeCreationBenchmarkTest {
+
+    private static final int THREADS = 4, ITERATIONS = 25;
+
+    private static ConcurrentTypeCreationBenchmark make(ClassLoadingStrategy.Default classLoadingStrategy) {
+        ConcurrentTypeCreationBenchmark concurrentTypeCreationBenchmark = new ConcurrentTypeCreationBenchmark();
+        concurrentTypeCreationBenchmark.classLoadingStrategy = classLoadingStrategy.name();
+        concurrentTypeCreationBenchmark.setUp();
+        return concurrentTypeCreationBenchmark;
+    }
+
+    @Test
+    public void testMake() throws Exception {
+        ConcurrentTypeCreationBenchmark concurrentTypeCreationBenchmark = make(ClassLoadingStrategy.Default.WRAPPER);
+        assertEquals(ConcurrentTypeCreationBenchmark.BASE_CLASS.getName(),
+                concurrentTypeCreationBenchmark.benchmarkMake().getTypeDescription().getSuperType().asRawType().getName());
+        assertNotNull(concurrentTypeCreationBenchmark.benchmarkMixedMake());
+    }
+
+    @Test
+    public void testConcurrentMakeAndLoad() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (ClassLoadingStrategy.Default classLoadingStrategy : ClassLoadingStrategy.Default.values()) {
+                final ConcurrentTypeCreationBenchmark concurrentTypeCreationBenchmark = make(classLoadingStrategy);
+                List<Future<Class<?>>> futures = new ArrayList<Future<Class<?>>>();
+                for (int index = 0; index < THREADS * ITERATIONS; index++) {
+                    futures.add(executorService.submit(new Callable<Class<?>>() {
+                        @Override
+                        public Class<?> call() throws Exception {
+                            return concurrentTypeCreationBenchmark.benchmarkMakeAndLoad();
+                        }
+                    }));
+                }
+                futures.add(executorService.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        return concurrentTypeCreationBenchmark.benchmarkMixedMakeAndLoad();
+                    }
+                }));
+                Set<Class<?>> types = new HashSet<Class<?>>();
+                for (Future<Class<?>> future : futures) {
+                    Class<?> type = future.get();
+                    assertEquals(ConcurrentTypeCreationBenchmark.BASE_CLASS, type.getSuperclass());
+                    assertNotEquals(ConcurrentTypeCreationBenchmark.BASE_CLASS, type);
+                    types.add(type);
+                }
+                assertEquals(futures.size(), types.size());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
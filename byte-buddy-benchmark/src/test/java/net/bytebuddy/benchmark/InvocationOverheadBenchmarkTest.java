@@ -0,0 +1,83 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class InvocationOverheadBenchmarkTest {
+
+    private static final List<InvocationOverheadBenchmark.Interception> FORWARDING = Arrays.asList(InvocationOverheadBenchmark.Interception.NONE,
+            InvocationOverheadBenchmark.Interception.METHOD_CALL,
+            InvocationOverheadBenchmark.Interception.INVOKE_DYNAMIC,
+            InvocationOverheadBenchmark.Interception.SUPER_METHOD_CALL,
+            InvocationOverheadBenchmark.Interception.DEFAULT_METHOD_CALL,
+            InvocationOverheadBenchmark.Interception.ARGUMENT,
+            InvocationOverheadBenchmark.Interception.SUPER_CALL,
+            InvocationOverheadBenchmark.Interception.SUPER,
+            InvocationOverheadBenchmark.Interception.PIPE,
+            InvocationOverheadBenchmark.Interception.MORPH);
+
+    private static InvocationOverheadBenchmark make(InvocationOverheadBenchmark.Interception interception) throws Exception {
+        InvocationOverheadBenchmark invocationOverheadBenchmark = new InvocationOverheadBenchmark();
+        invocationOverheadBenchmark.interception = interception.name();
+        invocationOverheadBenchmark.setUp();
+        return invocationOverheadBenchmark;
+    }
+
+    @Test
+    public void testForwardingInterceptions() throws Exception {
+        for (InvocationOverheadBenchmark.Interception interception : FORWARDING) {
+            InvocationOverheadBenchmark invocationOverheadBenchmark = make(interception);
+            assertEquals(interception.name(), 0, invocationOverheadBenchmark.benchmarkPrimitiveNullary());
+            assertEquals(interception.name(), 42, invocationOverheadBenchmark.benchmarkPrimitiveUnary());
+            assertEquals(interception.name(), 42 * 3, invocationOverheadBenchmark.benchmarkPrimitiveTernary());
+            assertNull(interception.name(), invocationOverheadBenchmark.benchmarkReferenceNullary());
+            assertEquals(interception.name(), "foo", invocationOverheadBenchmark.benchmarkReferenceUnary());
+            assertEquals(interception.name(), "foo", invocationOverheadBenchmark.benchmarkReferenceTernary());
+        }
+    }
+
+    @Test
+    public void testFixedValue() throws Exception {
+        InvocationOverheadBenchmark invocationOverheadBenchmark = make(InvocationOverheadBenchmark.Interception.FIXED_VALUE);
+        assertEquals(0, invocationOverheadBenchmark.benchmarkPrimitiveUnary());
+        assertEquals("foo", invocationOverheadBenchmark.benchmarkReferenceNullary());
+    }
+
+    @Test
+    public void testFieldInterceptions() throws Exception {
+        for (InvocationOverheadBenchmark.Interception interception : Arrays.asList(InvocationOverheadBenchmark.Interception.FIELD_ACCESSOR,
+                InvocationOverheadBenchmark.Interception.FIELD_PROXY)) {
+            InvocationOverheadBenchmark invocationOverheadBenchmark = make(interception);
+            assertEquals(0, invocationOverheadBenchmark.benchmarkPrimitiveNullary());
+            assertEquals(0, invocationOverheadBenchmark.benchmarkPrimitiveTernary() % 42);
+            assertNull(invocationOverheadBenchmark.benchmarkReferenceNullary());
+        }
+    }
+
+    @Test
+    public void testArgumentInterceptions() throws Exception {
+        for (InvocationOverheadBenchmark.Interception interception : Arrays.asList(InvocationOverheadBenchmark.Interception.ALL_ARGUMENTS,
+                InvocationOverheadBenchmark.Interception.INVOCATION_HANDLER_ADAPTER,
+                InvocationOverheadBenchmark.Interception.RUNTIME_TYPE)) {
+            InvocationOverheadBenchmark invocationOverheadBenchmark = make(interception);
+            assertEquals(0, invocationOverheadBenchmark.benchmarkPrimitiveNullary());
+            assertEquals(42, invocationOverheadBenchmark.benchmarkPrimitiveUnary());
+            assertEquals(42, invocationOverheadBenchmark.benchmarkPrimitiveTernary());
+            assertEquals("foo", invocationOverheadBenchmark.benchmarkReferenceTernary());
+        }
+    }
+
+    @Test
+    public void testOrigin() throws Exception {
+        InvocationOverheadBenchmark invocationOverheadBenchmark = make(InvocationOverheadBenchmark.Interception.ORIGIN);
+        assertEquals(Modifier.PUBLIC, invocationOverheadBenchmark.benchmarkPrimitiveUnary());
+        assertEquals("referenceTernary", ((Method) invocationOverheadBenchmark.benchmarkReferenceTernary()).getName());
+    }
+}
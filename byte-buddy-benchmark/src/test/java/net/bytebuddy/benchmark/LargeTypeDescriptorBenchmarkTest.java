@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LargeTypeDescriptorBenchmarkTest {
+
+    private LargeTypeDescriptorBenchmark largeTypeDescriptorBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        largeTypeDescriptorBenchmark = new LargeTypeDescriptorBenchmark();
+        largeTypeDescriptorBenchmark.setUp();
+    }
+
+    @Test
+    public void testFreshAndQueriedDescriptorsAreEqual() throws Exception {
+        int length = largeTypeDescriptorBenchmark.benchmarkFreshDescriptors();
+        assertTrue(length > LargeTypeDescriptorBenchmark.METHOD_COUNT);
+        assertEquals(length, largeTypeDescriptorBenchmark.benchmarkQueriedDescriptors());
+        assertEquals(length, largeTypeDescriptorBenchmark.benchmarkFreshDescriptors());
+    }
+
+    @Test
+    public void testClassFileLocator() throws Exception {
+        ClassFileLocator classFileLocator = new LargeTypeDescriptorBenchmark.ForGeneratedType(LargeTypeDescriptorBenchmark.TYPE_NAME, new byte[]{1});
+        assertTrue(classFileLocator.locate(LargeTypeDescriptorBenchmark.TYPE_NAME).isResolved());
+        assertFalse(classFileLocator.locate(Object.class.getName()).isResolved());
+    }
+}
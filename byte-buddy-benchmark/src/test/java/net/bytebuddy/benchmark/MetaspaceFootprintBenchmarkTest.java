@@ -0,0 +1,47 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetaspaceFootprintBenchmarkTest {
+
+    private static final int PROXIES = 5;
+
+    private static MetaspaceFootprintBenchmark make(MetaspaceFootprintBenchmark.Loading loading) {
+        MetaspaceFootprintBenchmark metaspaceFootprintBenchmark = new MetaspaceFootprintBenchmark();
+        metaspaceFootprintBenchmark.proxies = PROXIES;
+        metaspaceFootprintBenchmark.loading = loading.name();
+        return metaspaceFootprintBenchmark;
+    }
+
+    @Test
+    public void testGeneration() throws Exception {
+        for (MetaspaceFootprintBenchmark.Loading loading : MetaspaceFootprintBenchmark.Loading.values()) {
+            MetaspaceFootprintBenchmark metaspaceFootprintBenchmark = make(loading);
+            List<Class<?>> types = metaspaceFootprintBenchmark.generate();
+            assertEquals(PROXIES, types.size());
+            for (Class<?> type : types) {
+                assertEquals(ExampleClass.class, type.getSuperclass());
+                assertEquals(1, ((ExampleClass) type.newInstance()).method(1));
+                assertNotSame(ExampleClass.class.getClassLoader(), type.getClassLoader());
+            }
+            assertEquals(PROXIES, metaspaceFootprintBenchmark.benchmarkGeneration());
+        }
+    }
+
+    @Test
+    public void testFootprint() throws Exception {
+        for (MetaspaceFootprintBenchmark.Loading loading : MetaspaceFootprintBenchmark.Loading.values()) {
+            MetaspaceFootprintBenchmark.Footprint footprint = make(loading).measure();
+            assertTrue(footprint.getLoadedClasses() >= PROXIES);
+            assertTrue(footprint.getLeakedClassLoaders() <= PROXIES);
+            assertEquals(footprint.getLeakedClassLoaders() == 0, footprint.isReclaimed());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.sf.cglib.proxy.Enhancer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class TypePoolBenchmarkTest {
+
+    private String corpus;
+
+    @Before
+    public void setUp() throws Exception {
+        corpus = System.getProperty(AgentTransformationBenchmark.CORPUS_PROPERTY);
+        System.setProperty(AgentTransformationBenchmark.CORPUS_PROPERTY,
+                new File(Enhancer.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (corpus == null) {
+            System.clearProperty(AgentTransformationBenchmark.CORPUS_PROPERTY);
+        } else {
+            System.setProperty(AgentTransformationBenchmark.CORPUS_PROPERTY, corpus);
+        }
+    }
+
+    private static TypePoolBenchmark make(TypePoolBenchmark.CacheProviderFactory cacheProviderFactory) throws Exception {
+        TypePoolBenchmark typePoolBenchmark = new TypePoolBenchmark();
+        typePoolBenchmark.cacheProvider = cacheProviderFactory.name();
+        typePoolBenchmark.setUp();
+        return typePoolBenchmark;
+    }
+
+    @Test
+    public void testColdResolution() throws Exception {
+        for (TypePoolBenchmark.CacheProviderFactory cacheProviderFactory : TypePoolBenchmark.CacheProviderFactory.values()) {
+            TypePoolBenchmark typePoolBenchmark = make(cacheProviderFactory);
+            TypeDescription typeDescription = typePoolBenchmark.benchmarkColdResolution();
+            typePoolBenchmark.setUp();
+            TypeDescription resolvedAgain = typePoolBenchmark.benchmarkColdResolution();
+            assertEquals(typeDescription, resolvedAgain);
+            assertNotSame(typeDescription, resolvedAgain);
+        }
+    }
+
+    @Test
+    public void testWarmResolution() throws Exception {
+        for (TypePoolBenchmark.CacheProviderFactory cacheProviderFactory : TypePoolBenchmark.CacheProviderFactory.values()) {
+            TypePoolBenchmark typePoolBenchmark = make(cacheProviderFactory);
+            TypeDescription typeDescription = typePoolBenchmark.benchmarkColdResolution();
+            typePoolBenchmark.setUp();
+            assertEquals(typeDescription, typePoolBenchmark.benchmarkWarmResolution());
+        }
+    }
+
+    @Test
+    public void testMaterialization() throws Exception {
+        for (TypePoolBenchmark.CacheProviderFactory cacheProviderFactory : TypePoolBenchmark.CacheProviderFactory.values()) {
+            TypePoolBenchmark typePoolBenchmark = make(cacheProviderFactory);
+            for (int index = 0; index < 100; index++) {
+                assertTrue(typePoolBenchmark.benchmarkMaterialization() >= 0);
+            }
+        }
+    }
+
+    @Test
+    public void testRetainedHeap() throws Exception {
+        TypePoolBenchmark typePoolBenchmark = make(TypePoolBenchmark.CacheProviderFactory.SIMPLE);
+        typePoolBenchmark.retainedHeapPerType(false);
+        typePoolBenchmark.retainedHeapPerType(true);
+    }
+}
@@ -48,6 +48,7 @@ import org.objectweb.asm.Opcodes;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static net.bytebuddy.utility.ByteBuddyCommons.*;
@@ -141,6 +142,11 @@ public class ByteBuddy {
      */
     protected final MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory;
 
+    /**
+     * The executor for creating auxiliary types concurrently or {@code null} if auxiliary types are created sequentially.
+     */
+    protected final Executor executor;
+
     /**
      * Defines a new {@code ByteBuddy} default configuration for the current Java virtual machine's
      * class file version.
@@ -167,7 +173,8 @@ public class ByteBuddy {
                 TypeAttributeAppender.NoOp.INSTANCE,
                 MethodLookupEngine.Default.Factory.INSTANCE,
                 FieldAttributeAppender.NoOp.INSTANCE,
-                MethodAttributeAppender.NoOp.INSTANCE);
+                MethodAttributeAppender.NoOp.INSTANCE,
+                null);
     }
 
     /**
@@ -191,6 +198,8 @@ public class ByteBuddy {
      *                                              definition.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
      *                                              method definition or implementation.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null}
+     *                                              if auxiliary types are created sequentially.
      */
     protected ByteBuddy(ClassFileVersion classFileVersion,
                         NamingStrategy.Unbound namingStrategy,
@@ -204,7 +213,8 @@ public class ByteBuddy {
                         TypeAttributeAppender typeAttributeAppender,
                         MethodLookupEngine.Factory methodLookupEngineFactory,
                         FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
-                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory) {
+                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                        Executor executor) {
         this.classFileVersion = classFileVersion;
         this.namingStrategy = namingStrategy;
         this.auxiliaryTypeNamingStrategy = auxiliaryTypeNamingStrategy;
@@ -218,6 +228,7 @@ public class ByteBuddy {
         this.methodLookupEngineFactory = methodLookupEngineFactory;
         this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
         this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
+        this.executor = executor;
     }
 
     /**
@@ -332,6 +343,16 @@ public class ByteBuddy {
         return defaultMethodAttributeAppenderFactory;
     }
 
+    /**
+     * Returns the executor that is used for creating auxiliary types concurrently.
+     *
+     * @return The executor for creating auxiliary types concurrently or {@code null} if auxiliary types are created
+     * sequentially.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
     /**
      * Returns the used naming strategy for auxiliary types.
      *
@@ -409,6 +430,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 nonNull(constructorStrategy));
     }
 
@@ -490,6 +512,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS);
     }
 
@@ -516,6 +539,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS);
     }
 
@@ -565,6 +589,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS);
     }
 
@@ -604,6 +629,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS)
                 .defineConstructor(Arrays.<Class<?>>asList(String.class, int.class), Visibility.PRIVATE)
                 .intercept(MethodCall.invoke(TypeDescription.ENUM.getDeclaredMethods()
@@ -695,6 +721,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 nonNull(classFileLocator));
     }
 
@@ -823,6 +850,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 nonNull(classFileLocator),
                 nonNull(methodNameTransformer));
     }
@@ -846,7 +874,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -868,7 +897,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -900,7 +930,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -923,7 +954,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -946,7 +978,8 @@ public class ByteBuddy {
                 nonNull(typeAttributeAppender),
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1006,7 +1039,8 @@ public class ByteBuddy {
                 new TypeAttributeAppender.ForAnnotation(new ArrayList<AnnotationDescription>(nonNull(annotations)), AnnotationAppender.ValueFilter.AppendDefaults.INSTANCE),
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1063,6 +1097,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 new LatentMethodMatcher.Resolved(isDeclaredBy(anyOf(new GenericTypeList.Explicit(toList(types)).asRawTypes()))));
     }
 
@@ -1090,7 +1125,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1117,7 +1153,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1141,7 +1178,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1167,7 +1205,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 nonNull(methodLookupEngineFactory),
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1192,7 +1231,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 nonNull(attributeAppenderFactory),
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                executor);
     }
 
     /**
@@ -1217,7 +1257,33 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                nonNull(attributeAppenderFactory));
+                nonNull(attributeAppenderFactory),
+                executor);
+    }
+
+    /**
+     * Defines an executor that creates the auxiliary types of any dynamic type that is created with this configuration
+     * concurrently to the creation of the instrumented type. Auxiliary types are still created by the current thread
+     * if the executor does not run a creation before its result is required.
+     *
+     * @param executor The executor to submit the creation of auxiliary types to.
+     * @return The same configuration where auxiliary types are created concurrently using the given executor.
+     */
+    public ByteBuddy withExecutor(Executor executor) {
+        return new ByteBuddy(classFileVersion,
+                namingStrategy,
+                auxiliaryTypeNamingStrategy,
+                interfaceTypes,
+                ignoredMethods,
+                bridgeMethodResolverFactory,
+                classVisitorWrapperChain,
+                methodRegistry,
+                modifiers,
+                typeAttributeAppender,
+                methodLookupEngineFactory,
+                defaultFieldAttributeAppenderFactory,
+                defaultMethodAttributeAppenderFactory,
+                nonNull(executor));
     }
 
     /**
@@ -1272,6 +1338,7 @@ public class ByteBuddy {
                 && classVisitorWrapperChain.equals(byteBuddy.classVisitorWrapperChain)
                 && defaultFieldAttributeAppenderFactory.equals(byteBuddy.defaultFieldAttributeAppenderFactory)
                 && defaultMethodAttributeAppenderFactory.equals(byteBuddy.defaultMethodAttributeAppenderFactory)
+                && (executor == null ? byteBuddy.executor == null : executor.equals(byteBuddy.executor))
                 && ignoredMethods.equals(byteBuddy.ignoredMethods)
                 && interfaceTypes.equals(byteBuddy.interfaceTypes)
                 && methodLookupEngineFactory.equals(byteBuddy.methodLookupEngineFactory)
@@ -1297,6 +1364,7 @@ public class ByteBuddy {
         result = 31 * result + typeAttributeAppender.hashCode();
         result = 31 * result + defaultFieldAttributeAppenderFactory.hashCode();
         result = 31 * result + defaultMethodAttributeAppenderFactory.hashCode();
+        result = 31 * result + (executor == null ? 0 : executor.hashCode());
         return result;
     }
 
@@ -1316,6 +1384,7 @@ public class ByteBuddy {
                 ", typeAttributeAppender=" + typeAttributeAppender +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
+                ", executor=" + executor +
                 '}';
     }
 
@@ -1512,6 +1581,8 @@ public class ByteBuddy {
          *                                              definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
          *                                              method definition or implementation.
+         * @param executor                              The executor for creating auxiliary types concurrently or {@code null}
+         *                                              if auxiliary types are created sequentially.
          * @param methodMatcher                         The method matcher representing the current method selection.
          * @param handler                               The handler for the entry that is to be registered.
          * @param attributeAppenderFactory              The method attribute appender factory that was defined for the current method selection.
@@ -1529,6 +1600,7 @@ public class ByteBuddy {
                                          MethodLookupEngine.Factory methodLookupEngineFactory,
                                          FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                         Executor executor,
                                          LatentMethodMatcher methodMatcher,
                                          MethodRegistry.Handler handler,
                                          MethodAttributeAppender.Factory attributeAppenderFactory) {
@@ -1544,7 +1616,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory);
+                    defaultMethodAttributeAppenderFactory,
+                    executor);
             this.methodMatcher = methodMatcher;
             this.handler = handler;
             this.attributeAppenderFactory = attributeAppenderFactory;
@@ -1572,6 +1645,7 @@ public class ByteBuddy {
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    executor,
                     methodMatcher,
                     handler,
                     new MethodAttributeAppender.Factory.Compound(this.attributeAppenderFactory, nonNull(attributeAppenderFactory)));
@@ -1668,7 +1742,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory
+                    defaultMethodAttributeAppenderFactory,
+                    executor
             );
         }
 
@@ -1749,6 +1824,8 @@ public class ByteBuddy {
          *                                              definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
          *                                              method definition or implementation.
+         * @param executor                              The executor for creating auxiliary types concurrently or {@code null}
+         *                                              if auxiliary types are created sequentially.
          * @param methodMatcher                         The method matcher representing the current method selection.
          */
         protected OptionalMethodInterception(ClassFileVersion classFileVersion,
@@ -1764,6 +1841,7 @@ public class ByteBuddy {
                                              MethodLookupEngine.Factory methodLookupEngineFactory,
                                              FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                              MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                             Executor executor,
                                              LatentMethodMatcher methodMatcher) {
             super(classFileVersion,
                     namingStrategy,
@@ -1777,7 +1855,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory);
+                    defaultMethodAttributeAppenderFactory,
+                    executor);
             this.methodMatcher = methodMatcher;
         }
 
@@ -1861,6 +1940,8 @@ public class ByteBuddy {
          *                                              field definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
          *                                              method definition or implementation.
+         * @param executor                              The executor for creating auxiliary types concurrently or {@code null}
+         *                                              if auxiliary types are created sequentially.
          */
         protected Proxy(ClassFileVersion classFileVersion,
                         NamingStrategy.Unbound namingStrategy,
@@ -1874,7 +1955,8 @@ public class ByteBuddy {
                         TypeAttributeAppender typeAttributeAppender,
                         MethodLookupEngine.Factory methodLookupEngineFactory,
                         FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
-                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory) {
+                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                        Executor executor) {
             super(classFileVersion,
                     namingStrategy,
                     auxiliaryTypeNamingStrategy,
@@ -1887,7 +1969,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory);
+                    defaultMethodAttributeAppenderFactory,
+                    executor);
         }
 
         @Override
@@ -1950,6 +2033,11 @@ public class ByteBuddy {
             return materialize().getDefaultMethodAttributeAppenderFactory();
         }
 
+        @Override
+        public Executor getExecutor() {
+            return materialize().getExecutor();
+        }
+
         @Override
         public AuxiliaryType.NamingStrategy getAuxiliaryTypeNamingStrategy() {
             return materialize().getAuxiliaryTypeNamingStrategy();
@@ -2119,6 +2207,11 @@ public class ByteBuddy {
             return materialize().withDefaultMethodAttributeAppender(attributeAppenderFactory);
         }
 
+        @Override
+        public ByteBuddy withExecutor(Executor executor) {
+            return materialize().withExecutor(executor);
+        }
+
         @Override
         public MatchedMethodInterception invokable(ElementMatcher<? super MethodDescription> methodMatcher) {
             return materialize().invokable(methodMatcher);
@@ -2456,6 +2549,7 @@ public class ByteBuddy {
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    executor,
                     methodMatcher,
                     new MethodRegistry.Handler.ForImplementation(nonNull(implementation), ModifierResolver.Simple.INSTANCE),
                     MethodAttributeAppender.NoOp.INSTANCE);
@@ -2476,6 +2570,7 @@ public class ByteBuddy {
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    executor,
                     methodMatcher,
                     new MethodRegistry.Handler.ForAbstractMethod(ModifierResolver.Simple.INSTANCE),
                     MethodAttributeAppender.NoOp.INSTANCE);
@@ -2501,6 +2596,7 @@ public class ByteBuddy {
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    executor,
                     methodMatcher,
                     MethodRegistry.Handler.ForAnnotationValue.of(value, ModifierResolver.Simple.INSTANCE),
                     MethodAttributeAppender.NoOp.INSTANCE);
@@ -11,31 +11,20 @@ import net.bytebuddy.dynamic.scaffold.inline.MethodRebaseResolver;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
-import net.bytebuddy.implementation.bytecode.Removal;
-import net.bytebuddy.implementation.bytecode.StackManipulation;
-import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
-import net.bytebuddy.implementation.bytecode.constant.ClassConstant;
-import net.bytebuddy.implementation.bytecode.constant.NullConstant;
-import net.bytebuddy.implementation.bytecode.constant.TextConstant;
-import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.matcher.CompiledMatcher;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.pool.TypePool;
-import net.bytebuddy.utility.StreamDrainer;
 import org.objectweb.asm.MethodVisitor;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.security.ProtectionDomain;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static net.bytebuddy.utility.ByteBuddyCommons.join;
@@ -848,7 +837,8 @@ public interface AgentBuilder {
         @Override
         public Identified rebase(ElementMatcher<? super TypeDescription> typeMatcher,
                                  ElementMatcher<? super ClassLoader> classLoaderMatcher) {
-            return rebase(new RawMatcher.ForElementMatcherPair(nonNull(typeMatcher), nonNull(classLoaderMatcher)));
+            return rebase(new RawMatcher.ForElementMatcherPair(CompiledMatcher.compile(nonNull(typeMatcher)),
+                    CompiledMatcher.compile(nonNull(classLoaderMatcher))));
         }
 
         @Override
@@ -1079,16 +1069,21 @@ public interface AgentBuilder {
             class SelfInjection implements InitializationStrategy, Implementation, ByteCodeAppender {
 
                 /**
-                 * An accessor for the initialization nexus that makes sure that the Nexus is loaded by the
+                 * The identification of a loaded type initializer that is registered with the nexus.
+                 */
+                private static final String IDENTIFICATION = LoadedTypeInitializer.class.getName();
+
+                /**
+                 * An accessor for the initialization nexus that makes sure that the nexus is loaded by the
                  * system class loader is accessed.
                  */
-                private final Nexus.Accessor accessor;
+                private final net.bytebuddy.dynamic.Nexus.Accessor accessor;
 
                 /**
                  * Creates a new self injection strategy.
                  */
                 public SelfInjection() {
-                    accessor = Nexus.Accessor.INSTANCE;
+                    accessor = net.bytebuddy.dynamic.Nexus.Accessor.SYSTEM_CLASS_LOADER;
                 }
 
                 @Override
@@ -1103,7 +1098,7 @@ public interface AgentBuilder {
 
                 @Override
                 public InstrumentedType prepare(InstrumentedType instrumentedType) {
-                    return instrumentedType.withInitializer(accessor.initializerFor(instrumentedType));
+                    return instrumentedType.withInitializer(new ByteCodeAppender.Simple(accessor.initialize(instrumentedType, IDENTIFICATION)));
                 }
 
                 @Override
@@ -1119,7 +1114,7 @@ public interface AgentBuilder {
                 @Override
                 public void register(String name, ClassLoader classLoader, LoadedTypeInitializer loadedTypeInitializer) {
                     if (loadedTypeInitializer.isAlive()) {
-                        accessor.register(name, classLoader, loadedTypeInitializer);
+                        accessor.register(name, classLoader, IDENTIFICATION, loadedTypeInitializer);
                     }
                 }
 
@@ -1142,30 +1137,16 @@ public interface AgentBuilder {
                 }
 
                 /**
-                 * <p>
-                 * This nexus is a global dispatcher for initializing classes with
-                 * {@link net.bytebuddy.implementation.LoadedTypeInitializer}s. To do so, this class is to be loaded
-                 * by the system class loader in an explicit manner. Any instrumented class is then injected a code
-                 * block into its static type initializer that makes a call to this very same nexus which had the
-                 * loaded type initializer registered before hand.
-                 * </p>
-                 * <p>
-                 * <b>Important</b>: The nexus must never be accessed directly but only by its
-                 * {@link net.bytebuddy.agent.builder.AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus.Accessor}
-                 * which makes sure that the nexus is loaded by the system class loader. Otherwise, a class might not
-                 * be able to initialize itself if it is loaded by different class loader that does not have the
-                 * system class loader in its hierarchy.
-                 * </p>
+                 * A global dispatcher for initializing classes with
+                 * {@link net.bytebuddy.implementation.LoadedTypeInitializer}s. This nexus delegates to the
+                 * {@link net.bytebuddy.dynamic.Nexus} that is loaded by this class's class loader.
+                 *
+                 * @deprecated Use {@link net.bytebuddy.dynamic.Nexus} which is injected by its
+                 * {@link net.bytebuddy.dynamic.Nexus.Accessor}.
                  */
+                @Deprecated
                 public static class Nexus {
 
-                    /**
-                     * A map of keys identifying a loaded type by its name and class loader mapping their
-                     * potential {@link net.bytebuddy.implementation.LoadedTypeInitializer} where the class
-                     * loader of these initializers is however irrelevant.
-                     */
-                    private static final ConcurrentMap<Nexus, Object> TYPE_INITIALIZERS = new ConcurrentHashMap<Nexus, Object>();
-
                     /**
                      * The name of a type for which a loaded type initializer is registered.
                      */
@@ -1203,24 +1184,21 @@ public interface AgentBuilder {
                      * @param type The loaded type to initialize.
                      * @throws Exception If an exception occurs.
                      */
-                    @SuppressWarnings("unused")
                     public static void initialize(Class<?> type) throws Exception {
-                        Object typeInitializer = TYPE_INITIALIZERS.remove(new Nexus(type));
-                        if (typeInitializer != null) {
-                            typeInitializer.getClass().getMethod("onLoad", Class.class).invoke(typeInitializer, type);
-                        }
+                        net.bytebuddy.dynamic.Nexus.initialize(type, IDENTIFICATION);
                     }
 
                     /**
+                     * Registers a loaded type initializer.
+                     *
                      * @param name            The name of the type for the loaded type initializer.
                      * @param classLoader     The class loader of the type for the loaded type initializer.
                      * @param typeInitializer The type initializer to register. The initializer must be an instance
                      *                        of {@link net.bytebuddy.implementation.LoadedTypeInitializer} where
                      *                        it does however not matter which class loader loaded this latter type.
                      */
-                    @SuppressWarnings("unused")
                     public static void register(String name, ClassLoader classLoader, Object typeInitializer) {
-                        TYPE_INITIALIZERS.put(new Nexus(name, classLoader), typeInitializer);
+                        net.bytebuddy.dynamic.Nexus.register(name, classLoader, IDENTIFICATION, typeInitializer);
                     }
 
                     @Override
@@ -1248,10 +1226,11 @@ public interface AgentBuilder {
                     }
 
                     /**
-                     * An accessor for making sure that the accessed
-                     * {@link net.bytebuddy.agent.builder.AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus}
-                     * is loaded by the system class loader.
+                     * An accessor for the nexus that is loaded by the system class loader.
+                     *
+                     * @deprecated Use {@link net.bytebuddy.dynamic.Nexus.Accessor#SYSTEM_CLASS_LOADER}.
                      */
+                    @Deprecated
                     protected enum Accessor {
 
                         /**
@@ -1260,100 +1239,25 @@ public interface AgentBuilder {
                         INSTANCE;
 
                         /**
-                         * Indicates that a static method is invoked by reflection.
-                         */
-                        private static final Object STATIC_METHOD = null;
-
-                        /**
-                         * The method for registering a type initializer in the system class loader's
-                         * {@link net.bytebuddy.agent.builder.AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus}.
-                         */
-                        private final Method registration;
-
-                        /**
-                         * The {@link ClassLoader#getSystemClassLoader()} method.
-                         */
-                        private final MethodDescription systemClassLoader;
-
-                        /**
-                         * The {@link java.lang.ClassLoader#loadClass(String)} method.
-                         */
-                        private final MethodDescription loadClass;
-
-                        /**
-                         * The {@link java.lang.Class#getDeclaredMethod(String, Class[])} method.
-                         */
-                        private final MethodDescription getDeclaredMethod;
-
-                        /**
-                         * The {@link java.lang.reflect.Method#invoke(Object, Object...)} method.
-                         */
-                        private final MethodDescription invokeMethod;
-
-                        /**
-                         * Creates the singleton accessor.
-                         */
-                        Accessor() {
-                            try {
-                                ClassLoader classLoader = ClassLoader.getSystemClassLoader();
-                                TypeDescription nexusType = new TypeDescription.ForLoadedType(Nexus.class);
-                                Class<?> nexus = new ClassInjector.UsingReflection(classLoader)
-                                        .inject(Collections.singletonMap(nexusType,
-                                                new StreamDrainer().drain(classLoader.getResourceAsStream(Nexus.class.getName().replace('.', '/') + ".class"))))
-                                        .get(nexusType);
-                                registration = nexus.getDeclaredMethod("register", String.class, ClassLoader.class, Object.class);
-                                systemClassLoader = new TypeDescription.ForLoadedType(ClassLoader.class).getDeclaredMethods()
-                                        .filter(named("getSystemClassLoader")).getOnly();
-                                loadClass = new TypeDescription.ForLoadedType(ClassLoader.class).getDeclaredMethods()
-                                        .filter(named("loadClass").and(takesArguments(String.class))).getOnly();
-                                getDeclaredMethod = new TypeDescription.ForLoadedType(Class.class).getDeclaredMethods()
-                                        .filter(named("getDeclaredMethod").and(takesArguments(String.class, Class[].class))).getOnly();
-                                invokeMethod = new TypeDescription.ForLoadedType(Method.class).getDeclaredMethods()
-                                        .filter(named("invoke").and(takesArguments(Object.class, Object[].class))).getOnly();
-                            } catch (Exception e) {
-                                throw new IllegalStateException("Cannot create type initialization accessor", e);
-                            }
-                        }
-
-                        /**
-                         * Registers a type initializer with the class loader's nexus.
+                         * Registers a type initializer with the system class loader's nexus.
                          *
                          * @param name            The name of a type for which a loaded type initializer is registered.
                          * @param classLoader     The class loader for which a loaded type initializer is registered.
                          * @param typeInitializer The loaded type initializer to be registered.
                          */
                         public void register(String name, ClassLoader classLoader, Object typeInitializer) {
-                            try {
-                                registration.invoke(STATIC_METHOD, name, classLoader, typeInitializer);
-                            } catch (IllegalAccessException e) {
-                                throw new IllegalStateException("Cannot register type initializer for " + name, e);
-                            } catch (InvocationTargetException e) {
-                                throw new IllegalStateException("Cannot register type initializer for " + name, e.getCause());
-                            }
+                            net.bytebuddy.dynamic.Nexus.Accessor.SYSTEM_CLASS_LOADER.register(name, classLoader, IDENTIFICATION, typeInitializer);
                         }
 
                         /**
-                         * Creates a stack manipulation for a given instrumented type that injects a code block for
-                         * calling the system class loader's nexus in order to apply a self-initialization.
+                         * Creates a byte code appender for a given instrumented type that calls the system class
+                         * loader's nexus in order to apply a self-initialization.
                          *
                          * @param instrumentedType The instrumented type for which the code block is to be injected.
                          * @return A byte code appender that implements the self-initialization.
                          */
                         public ByteCodeAppender initializerFor(TypeDescription instrumentedType) {
-                            return new ByteCodeAppender.Simple(new StackManipulation.Compound(
-                                    MethodInvocation.invoke(systemClassLoader),
-                                    new TextConstant(Nexus.class.getName()),
-                                    MethodInvocation.invoke(loadClass),
-                                    new TextConstant("initialize"),
-                                    ArrayFactory.forType(TypeDescription.CLASS)
-                                            .withValues(Collections.singletonList(ClassConstant.of(TypeDescription.CLASS))),
-                                    MethodInvocation.invoke(getDeclaredMethod),
-                                    NullConstant.INSTANCE,
-                                    ArrayFactory.forType(TypeDescription.OBJECT)
-                                            .withValues(Collections.singletonList(ClassConstant.of(instrumentedType))),
-                                    MethodInvocation.invoke(invokeMethod),
-                                    Removal.SINGLE
-                            ));
+                            return new ByteCodeAppender.Simple(net.bytebuddy.dynamic.Nexus.Accessor.SYSTEM_CLASS_LOADER.initialize(instrumentedType, IDENTIFICATION));
                         }
 
                         @Override
@@ -1,6 +1,10 @@
 package net.bytebuddy.asm;
 
-import org.objectweb.asm.ClassVisitor;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import net.bytebuddy.pool.TypePool;
+import org.objectweb.asm.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -103,4 +107,322 @@ public interface ClassVisitorWrapper {
             return "ClassVisitorWrapper.Chain{classVisitorWrappers=" + classVisitorWrappers + '}';
         }
     }
+
+    /**
+     * <p>
+     * A class visitor wrapper that computes the stack map frames of any method that passes the wrapped class visitor.
+     * Byte Buddy's own byte code is free of branches such that a generated method never requires any frames. Frames are
+     * however required when another class visitor wrapper adds branching byte code to a class file of version 6 or newer.
+     * In this case, this wrapper needs to be registered <b>before</b> the wrapper that adds the branching code such that
+     * this wrapper receives the branching code. Frames are only written at branch targets and a class file of a version
+     * prior to Java 6 is not altered.
+     * </p>
+     * <p>
+     * The frames of each method are computed by a separate {@link org.objectweb.asm.ClassWriter} that describes the
+     * types that are merged at a branch target by the supplied type pool instead of loading these types. For this reason,
+     * the type pool must be able to describe any type that the branching code references, typically by querying the
+     * same class file locator as the instrumented type.
+     * </p>
+     */
+    class ForFrameComputation implements ClassVisitorWrapper {
+
+        /**
+         * The type pool to use for describing types when merging frames.
+         */
+        private final TypePool typePool;
+
+        /**
+         * Creates a new class visitor wrapper for computing stack map frames.
+         *
+         * @param typePool The type pool to use for describing types when merging frames.
+         */
+        public ForFrameComputation(TypePool typePool) {
+            this.typePool = typePool;
+        }
+
+        @Override
+        public ClassVisitor wrap(ClassVisitor classVisitor) {
+            return new FrameComputingClassVisitor(classVisitor, typePool);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && typePool.equals(((ForFrameComputation) other).typePool);
+        }
+
+        @Override
+        public int hashCode() {
+            return typePool.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassVisitorWrapper.ForFrameComputation{typePool=" + typePool + '}';
+        }
+
+        /**
+         * A class visitor that writes each method to a class writer that computes the method's frames before the method
+         * is forwarded to the delegate class visitor.
+         */
+        protected static class FrameComputingClassVisitor extends ClassVisitor {
+
+            /**
+             * Indicates that no flags are provided to a class reader.
+             */
+            private static final int NO_FLAGS = 0;
+
+            /**
+             * The type pool to use for describing types when merging frames.
+             */
+            private final TypePool typePool;
+
+            /**
+             * The class file version of the visited type.
+             */
+            private int version;
+
+            /**
+             * The modifiers of the visited type.
+             */
+            private int modifiers;
+
+            /**
+             * The internal name of the visited type.
+             */
+            private String internalName;
+
+            /**
+             * The internal name of the visited type's super class or {@code null} if the visited type has no super class.
+             */
+            private String superName;
+
+            /**
+             * The internal names of the visited type's interfaces or {@code null} if the type does not implement interfaces.
+             */
+            private String[] interfaces;
+
+            /**
+             * Creates a new frame computing class visitor.
+             *
+             * @param classVisitor The class visitor to which the visited type is forwarded.
+             * @param typePool     The type pool to use for describing types when merging frames.
+             */
+            protected FrameComputingClassVisitor(ClassVisitor classVisitor, TypePool typePool) {
+                super(Opcodes.ASM5, classVisitor);
+                this.typePool = typePool;
+            }
+
+            @Override
+            public void visit(int version, int modifiers, String internalName, String signature, String superName, String[] interfaces) {
+                this.version = version;
+                this.modifiers = modifiers;
+                this.internalName = internalName;
+                this.superName = superName;
+                this.interfaces = interfaces;
+                super.visit(version, modifiers, internalName, signature, superName, interfaces);
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exceptions) {
+                if (new ClassFileVersion(version).compareTo(ClassFileVersion.JAVA_V6) < 0) {
+                    return super.visitMethod(modifiers, internalName, descriptor, signature, exceptions);
+                }
+                ClassWriter classWriter = new FrameComputingClassWriter();
+                classWriter.visit(version, this.modifiers, this.internalName, null, superName, interfaces);
+                return new ShortcutExpandingMethodVisitor(classWriter.visitMethod(modifiers, internalName, descriptor, signature, exceptions), classWriter);
+            }
+
+            /**
+             * Returns the internal names of a type and of all of its super classes.
+             *
+             * @param internalName The internal name of the type.
+             * @return The internal names of the type and of all of its super classes beginning with the type itself.
+             */
+            protected List<String> superClassesOf(String internalName) {
+                List<String> superClasses = new ArrayList<String>();
+                if (internalName.equals(this.internalName)) {
+                    superClasses.add(internalName);
+                    if (superName == null) {
+                        return superClasses;
+                    }
+                    internalName = superName;
+                }
+                GenericTypeDescription superType = describe(internalName);
+                do {
+                    TypeDescription typeDescription = superType.asRawType();
+                    superClasses.add(typeDescription.getInternalName());
+                    superType = typeDescription.getSuperType();
+                } while (superType != null);
+                return superClasses;
+            }
+
+            /**
+             * Checks if a type is an interface.
+             *
+             * @param internalName The internal name of the type.
+             * @return {@code true} if the type is an interface.
+             */
+            protected boolean isInterface(String internalName) {
+                return internalName.equals(this.internalName)
+                        ? (modifiers & Opcodes.ACC_INTERFACE) != 0
+                        : describe(internalName).isInterface();
+            }
+
+            /**
+             * Describes a type that is not the visited type by this visitor's type pool.
+             *
+             * @param internalName The internal name of the type.
+             * @return A description of the type.
+             */
+            private TypeDescription describe(String internalName) {
+                return typePool.describe(internalName.replace('/', '.')).resolve();
+            }
+
+            @Override
+            public String toString() {
+                return "ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor{" +
+                        "classVisitor=" + cv +
+                        ", typePool=" + typePool +
+                        ", version=" + version +
+                        ", modifiers=" + modifiers +
+                        ", internalName='" + internalName + '\'' +
+                        ", superName='" + superName + '\'' +
+                        '}';
+            }
+
+            /**
+             * A class writer that computes the frames of a single method where the common super class of two types is
+             * resolved by the visitor's type pool.
+             */
+            protected class FrameComputingClassWriter extends ClassWriter {
+
+                /**
+                 * Creates a new frame computing class writer.
+                 */
+                protected FrameComputingClassWriter() {
+                    super(COMPUTE_FRAMES);
+                }
+
+                @Override
+                protected String getCommonSuperClass(String leftTypeName, String rightTypeName) {
+                    if (isInterface(leftTypeName) || isInterface(rightTypeName)) {
+                        return TypeDescription.OBJECT.getInternalName();
+                    }
+                    List<String> leftSuperClasses = superClassesOf(leftTypeName);
+                    for (String superClass : superClassesOf(rightTypeName)) {
+                        if (leftSuperClasses.contains(superClass)) {
+                            return superClass;
+                        }
+                    }
+                    return TypeDescription.OBJECT.getInternalName();
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor.FrameComputingClassWriter{" +
+                            "classVisitor=" + FrameComputingClassVisitor.this +
+                            '}';
+                }
+            }
+
+            /**
+             * A method visitor that expands any shortcut opcode for accessing a local variable, such as {@code ALOAD_0},
+             * which ASM's frame computation cannot interpret. ASM still writes the shortcut encoding. After the method is
+             * visited completely, the method is read from the class writer with the computed frames and is forwarded to
+             * the delegate class visitor.
+             */
+            protected class ShortcutExpandingMethodVisitor extends MethodVisitor {
+
+                /**
+                 * The first shortcut opcode for loading a local variable, {@code ILOAD_0}.
+                 */
+                private static final int LOAD_SHORTCUT = 26;
+
+                /**
+                 * The first shortcut opcode for storing a local variable, {@code ISTORE_0}.
+                 */
+                private static final int STORE_SHORTCUT = 59;
+
+                /**
+                 * The number of shortcut opcodes per type of local variable.
+                 */
+                private static final int SHORTCUTS_PER_TYPE = 4;
+
+                /**
+                 * The number of shortcut opcodes for all types of local variables.
+                 */
+                private static final int SHORTCUTS = 5 * SHORTCUTS_PER_TYPE;
+
+                /**
+                 * The class writer to which the method is written.
+                 */
+                private final ClassWriter classWriter;
+
+                /**
+                 * Creates a new shortcut expanding method visitor.
+                 *
+                 * @param methodVisitor The method visitor of the class writer that computes the frames.
+                 * @param classWriter   The class writer to which the method is written.
+                 */
+                protected ShortcutExpandingMethodVisitor(MethodVisitor methodVisitor, ClassWriter classWriter) {
+                    super(Opcodes.ASM5, methodVisitor);
+                    this.classWriter = classWriter;
+                }
+
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode >= LOAD_SHORTCUT && opcode < LOAD_SHORTCUT + SHORTCUTS) {
+                        super.visitVarInsn(Opcodes.ILOAD + (opcode - LOAD_SHORTCUT) / SHORTCUTS_PER_TYPE, (opcode - LOAD_SHORTCUT) % SHORTCUTS_PER_TYPE);
+                    } else if (opcode >= STORE_SHORTCUT && opcode < STORE_SHORTCUT + SHORTCUTS) {
+                        super.visitVarInsn(Opcodes.ISTORE + (opcode - STORE_SHORTCUT) / SHORTCUTS_PER_TYPE, (opcode - STORE_SHORTCUT) % SHORTCUTS_PER_TYPE);
+                    } else {
+                        super.visitInsn(opcode);
+                    }
+                }
+
+                @Override
+                public void visitEnd() {
+                    super.visitEnd();
+                    classWriter.visitEnd();
+                    new ClassReader(classWriter.toByteArray()).accept(new MethodExtractor(), NO_FLAGS);
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor.ShortcutExpandingMethodVisitor{" +
+                            "classVisitor=" + FrameComputingClassVisitor.this +
+                            ", classWriter=" + classWriter +
+                            '}';
+                }
+            }
+
+            /**
+             * A class visitor that forwards the single method of a class file that is written by a
+             * {@link net.bytebuddy.asm.ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor.FrameComputingClassWriter}
+             * to the delegate class visitor, including the method's computed frames.
+             */
+            protected class MethodExtractor extends ClassVisitor {
+
+                /**
+                 * Creates a new method extractor.
+                 */
+                protected MethodExtractor() {
+                    super(Opcodes.ASM5);
+                }
+
+                @Override
+                public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exceptions) {
+                    return FrameComputingClassVisitor.this.cv.visitMethod(modifiers, internalName, descriptor, signature, exceptions);
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor.MethodExtractor{" +
+                            "classVisitor=" + FrameComputingClassVisitor.this +
+                            '}';
+                }
+            }
+        }
+    }
 }
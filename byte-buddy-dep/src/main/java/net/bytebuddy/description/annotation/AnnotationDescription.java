@@ -5,11 +5,24 @@ import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.utility.PropertyDispatcher;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import java.lang.annotation.*;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
+import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
@@ -1411,6 +1424,814 @@ public interface AnnotationDescription {
         }
     }
 
+    /**
+     * <p>
+     * Creates loaded annotation instances that are represented by a generated implementation class instead of a
+     * {@link java.lang.reflect.Proxy}. A generated class stores the annotation's property values in fields and
+     * implements direct accessors for them, such that reading an annotation property neither requires a reflective
+     * invocation nor a lookup of the property value. An annotation's hash code and string representation are
+     * computed once when the annotation is created. A generated class only references the annotation type and types
+     * of the Java core library and is defined by a class loader of Byte Buddy that is a child of the annotation type's
+     * class loader such that the latter is never altered. Implementation classes are cached per annotation type for as
+     * long as any instance of an implementation class is reachable, such that the cache never retains an annotation type.
+     * </p>
+     * <p>
+     * If an annotation defines a property value that is not resolvable or that is of a wrong type, or if an annotation
+     * type or any of its property types is not public or is loaded by the bootstrap class loader, an annotation is
+     * represented by a {@link java.lang.reflect.Proxy} that is backed by an {@link AnnotationInvocationHandler}.
+     * </p>
+     */
+    enum AnnotationImplementation {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        /**
+         * The suffix that is appended to the name of an annotation type for naming its implementation class.
+         */
+        public static final String SUFFIX = "$ByteBuddy$AnnotationImplementation";
+
+        /**
+         * The prefix of the names of the fields that store an annotation's precomputed properties.
+         */
+        private static final String PRECOMPUTED_FIELD_PREFIX = "$";
+
+        /**
+         * The name of the {@link Object#hashCode()} method.
+         */
+        private static final String HASH_CODE = "hashCode";
+
+        /**
+         * The name of the {@link Object#equals(Object)} method.
+         */
+        private static final String EQUALS = "equals";
+
+        /**
+         * The name of the {@link Object#toString()} method.
+         */
+        private static final String TO_STRING = "toString";
+
+        /**
+         * The name of the {@link Annotation#annotationType()} method.
+         */
+        private static final String ANNOTATION_TYPE = "annotationType";
+
+        /**
+         * The name of a constructor.
+         */
+        private static final String CONSTRUCTOR = "<init>";
+
+        /**
+         * Indicates that no generic signature is defined.
+         */
+        private static final String NO_SIGNATURE = null;
+
+        /**
+         * Indicates that a field does not define a constant value.
+         */
+        private static final Object NO_VALUE = null;
+
+        /**
+         * Indicates that a method does not declare any exceptions.
+         */
+        private static final String[] NO_EXCEPTIONS = null;
+
+        /**
+         * Indicates that the default protection domain should be used for an implementation class.
+         */
+        private static final ProtectionDomain DEFAULT_PROTECTION_DOMAIN = null;
+
+        /**
+         * A cache of factories for creating annotation instances by their annotation type. The cache can be read without
+         * locking. An annotation type is only weakly referenced by its key. As a factory strongly references its annotation
+         * type, it is softly referenced such that it survives ordinary garbage collections without preventing the annotation
+         * type's class loader from being collected.
+         */
+        private final ConcurrentMap<FactoryKey, Reference<Factory>> factories;
+
+        /**
+         * A reference queue that is notified of annotation types that were garbage collected.
+         */
+        private final ReferenceQueue<Class<?>> collectedTypes;
+
+        /**
+         * Creates the singleton instance.
+         */
+        AnnotationImplementation() {
+            factories = new ConcurrentHashMap<FactoryKey, Reference<Factory>>();
+            collectedTypes = new ReferenceQueue<Class<?>>();
+        }
+
+        /**
+         * Creates an instance of the given annotation type.
+         *
+         * @param classLoader    The class loader that should be used for loading the annotation's values.
+         * @param annotationType The annotation's type.
+         * @param values         The values that the annotation contains.
+         * @param <S>            The type of the created annotation.
+         * @return An instance of the given annotation type that represents the given values.
+         * @throws ClassNotFoundException If the class of an instance that is contained by this annotation could not be found.
+         */
+        @SuppressWarnings("unchecked")
+        public <S extends Annotation> S make(ClassLoader classLoader,
+                                             Class<S> annotationType,
+                                             Map<String, AnnotationDescription.AnnotationValue<?, ?>> values)
+                throws ClassNotFoundException {
+            if (classLoader == null) {
+                classLoader = ClassLoader.getSystemClassLoader();
+            }
+            Annotation annotation = factoryOf(annotationType).make(classLoader, values);
+            return annotation == null
+                    ? (S) Proxy.newProxyInstance(classLoader, new Class<?>[]{annotationType}, AnnotationInvocationHandler.of(classLoader, annotationType, values))
+                    : (S) annotation;
+        }
+
+        /**
+         * Locates or creates a factory for the given annotation type. Looking up a previously created factory does not
+         * require a lock. If two threads create a factory for the same annotation type concurrently, only one of them
+         * is retained.
+         *
+         * @param annotationType The annotation type.
+         * @return A factory for creating instances of the given annotation type.
+         */
+        protected Factory factoryOf(Class<? extends Annotation> annotationType) {
+            Reference<Factory> reference = factories.get(new FactoryKey(annotationType));
+            Factory factory = reference == null
+                    ? null
+                    : reference.get();
+            if (factory == null) {
+                Reference<?> collectedType;
+                while ((collectedType = collectedTypes.poll()) != null) {
+                    factories.remove(collectedType);
+                }
+                factory = Factory.ForImplementationClass.of(annotationType);
+                factories.put(new FactoryKey(annotationType, collectedTypes), new SoftReference<Factory>(factory));
+            }
+            return factory;
+        }
+
+        @Override
+        public String toString() {
+            return "AnnotationDescription.AnnotationImplementation." + name();
+        }
+
+        /**
+         * A key of the factory cache that weakly references an annotation type and compares annotation types by identity.
+         */
+        protected static class FactoryKey extends WeakReference<Class<?>> {
+
+            /**
+             * The identity hash code of the referenced annotation type.
+             */
+            private final int hashCode;
+
+            /**
+             * Creates a key for looking up a factory.
+             *
+             * @param annotationType The annotation type to look up.
+             */
+            protected FactoryKey(Class<?> annotationType) {
+                super(annotationType);
+                hashCode = System.identityHashCode(annotationType);
+            }
+
+            /**
+             * Creates a key for registering a factory.
+             *
+             * @param annotationType The annotation type to register.
+             * @param referenceQueue The reference queue to notify when the annotation type is garbage collected.
+             */
+            protected FactoryKey(Class<?> annotationType, ReferenceQueue<? super Class<?>> referenceQueue) {
+                super(annotationType, referenceQueue);
+                hashCode = System.identityHashCode(annotationType);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) {
+                    return true;
+                } else if (other == null || getClass() != other.getClass()) {
+                    return false;
+                }
+                Class<?> annotationType = get();
+                return annotationType != null && annotationType == ((FactoryKey) other).get();
+            }
+
+            @Override
+            public int hashCode() {
+                return hashCode;
+            }
+
+            @Override
+            public String toString() {
+                return "AnnotationDescription.AnnotationImplementation.FactoryKey{" +
+                        "annotationType=" + get() +
+                        '}';
+            }
+        }
+
+        /**
+         * A factory for annotation instances of a given annotation type.
+         */
+        protected interface Factory {
+
+            /**
+             * Creates an annotation instance that represents the given values.
+             *
+             * @param classLoader The class loader that should be used for loading the annotation's values.
+             * @param values      The values that the annotation contains.
+             * @return An annotation instance or {@code null} if the values cannot be represented by this factory.
+             * @throws ClassNotFoundException If the class of an instance that is contained by this annotation could not be found.
+             */
+            Annotation make(ClassLoader classLoader, Map<String, AnnotationDescription.AnnotationValue<?, ?>> values) throws ClassNotFoundException;
+
+            /**
+             * A factory that cannot create annotation instances.
+             */
+            enum Unavailable implements Factory {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public Annotation make(ClassLoader classLoader, Map<String, AnnotationDescription.AnnotationValue<?, ?>> values) {
+                    return null;
+                }
+
+                @Override
+                public String toString() {
+                    return "AnnotationDescription.AnnotationImplementation.Factory.Unavailable." + name();
+                }
+            }
+
+            /**
+             * A factory that creates annotation instances by invoking the constructor of a generated implementation class.
+             */
+            class ForImplementationClass implements Factory {
+
+                /**
+                 * The annotation type.
+                 */
+                private final Class<? extends Annotation> annotationType;
+
+                /**
+                 * The constructor of the implementation class.
+                 */
+                private final Constructor<?> constructor;
+
+                /**
+                 * The properties of the annotation type in the order of the constructor's parameters.
+                 */
+                private final Method[] properties;
+
+                /**
+                 * Creates a new factory for an implementation class.
+                 *
+                 * @param annotationType The annotation type.
+                 * @param constructor    The constructor of the implementation class.
+                 * @param properties     The properties of the annotation type in the order of the constructor's parameters.
+                 */
+                protected ForImplementationClass(Class<? extends Annotation> annotationType, Constructor<?> constructor, Method[] properties) {
+                    this.annotationType = annotationType;
+                    this.constructor = constructor;
+                    this.properties = properties;
+                }
+
+                /**
+                 * Creates a factory for the given annotation type. If the annotation type is not eligible for an
+                 * implementation class, a factory is returned that cannot create annotation instances.
+                 *
+                 * @param annotationType The annotation type.
+                 * @return A factory for instances of the given annotation type.
+                 */
+                protected static Factory of(Class<? extends Annotation> annotationType) {
+                    if (annotationType.getClassLoader() == null || !isVisible(annotationType)) {
+                        return Unavailable.INSTANCE;
+                    }
+                    Method[] properties = annotationType.getDeclaredMethods();
+                    Arrays.sort(properties, PropertyComparator.INSTANCE);
+                    Class<?>[] parameterTypes = new Class<?>[properties.length + 2];
+                    for (int index = 0; index < properties.length; index++) {
+                        parameterTypes[index] = properties[index].getReturnType();
+                        if (!isVisible(parameterTypes[index])) {
+                            return Unavailable.INSTANCE;
+                        }
+                    }
+                    parameterTypes[properties.length] = int.class;
+                    parameterTypes[properties.length + 1] = String.class;
+                    TypeDescription implementationType = new TypeDescription.Latent(annotationType.getName() + SUFFIX,
+                            Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC,
+                            TypeDescription.OBJECT,
+                            Collections.singletonList(new TypeDescription.ForLoadedType(annotationType)));
+                    ImplementationClassLoader classLoader = new ImplementationClassLoader(annotationType.getClassLoader(),
+                            implementationType,
+                            ImplementationClass.INSTANCE.make(implementationType, annotationType, properties));
+                    try {
+                        return classLoader.retain(new ForImplementationClass(annotationType,
+                                classLoader.loadClass(implementationType.getName()).getConstructor(parameterTypes),
+                                properties));
+                    } catch (ClassNotFoundException e) {
+                        throw new IllegalStateException("Cannot load implementation class of " + annotationType, e);
+                    } catch (NoSuchMethodException e) {
+                        throw new IllegalStateException("Cannot find constructor of implementation class of " + annotationType, e);
+                    }
+                }
+
+                /**
+                 * Checks if a type is visible to an implementation class that is defined by a child of the type's
+                 * class loader.
+                 *
+                 * @param type The type to check.
+                 * @return {@code true} if the given type is visible to the implementation class.
+                 */
+                private static boolean isVisible(Class<?> type) {
+                    while (type.isArray()) {
+                        type = type.getComponentType();
+                    }
+                    return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+                }
+
+                /**
+                 * Resolves any primitive type to its wrapper type.
+                 *
+                 * @param type The type to resolve.
+                 * @return The resolved type.
+                 */
+                private static Class<?> asWrapper(Class<?> type) {
+                    return AnnotationInvocationHandler.asWrapper(type);
+                }
+
+                @Override
+                public Annotation make(ClassLoader classLoader, Map<String, AnnotationDescription.AnnotationValue<?, ?>> values) throws ClassNotFoundException {
+                    Object[] arguments = new Object[properties.length + 2];
+                    int hashCode = 0;
+                    StringBuilder toString = new StringBuilder().append('@').append(annotationType.getName()).append('(');
+                    for (int index = 0; index < properties.length; index++) {
+                        AnnotationDescription.AnnotationValue<?, ?> annotationValue = values.get(properties[index].getName());
+                        AnnotationValue.Loaded<?> value = annotationValue == null
+                                ? AnnotationInvocationHandler.DefaultValue.of(properties[index])
+                                : annotationValue.load(classLoader);
+                        if (!value.getState().isResolved()) {
+                            return null;
+                        }
+                        arguments[index] = value.resolve();
+                        if (arguments[index] == null || !asWrapper(properties[index].getReturnType()).isInstance(arguments[index])) {
+                            return null;
+                        }
+                        hashCode += (127 * properties[index].getName().hashCode()) ^ value.hashCode();
+                        if (index > 0) {
+                            toString.append(", ");
+                        }
+                        toString.append(properties[index].getName()).append('=').append(value.toString());
+                    }
+                    arguments[properties.length] = hashCode;
+                    arguments[properties.length + 1] = toString.append(')').toString();
+                    try {
+                        return (Annotation) constructor.newInstance(arguments);
+                    } catch (IllegalArgumentException ignored) {
+                        return null; // Values of a type that is loaded by another class loader than the annotation type's property type.
+                    } catch (InstantiationException e) {
+                        throw new IllegalStateException("Cannot instantiate " + constructor.getDeclaringClass(), e);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Cannot access " + constructor, e);
+                    } catch (InvocationTargetException e) {
+                        throw new IllegalStateException("Cannot invoke " + constructor, e.getCause());
+                    }
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && annotationType.equals(((ForImplementationClass) other).annotationType)
+                            && constructor.equals(((ForImplementationClass) other).constructor)
+                            && Arrays.equals(properties, ((ForImplementationClass) other).properties);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = annotationType.hashCode();
+                    result = 31 * result + constructor.hashCode();
+                    return 31 * result + Arrays.hashCode(properties);
+                }
+
+                @Override
+                public String toString() {
+                    return "AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass{" +
+                            "annotationType=" + annotationType +
+                            ", constructor=" + constructor +
+                            ", properties=" + Arrays.toString(properties) +
+                            '}';
+                }
+
+                /**
+                 * A comparator that orders the properties of an annotation type by their names.
+                 */
+                protected enum PropertyComparator implements Comparator<Method> {
+
+                    /**
+                     * The singleton instance.
+                     */
+                    INSTANCE;
+
+                    @Override
+                    public int compare(Method left, Method right) {
+                        return left.getName().compareTo(right.getName());
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass.PropertyComparator." + name();
+                    }
+                }
+            }
+        }
+
+        /**
+         * A class loader that defines an annotation implementation class as a child of the annotation type's class loader.
+         * The class loader retains the factory of its implementation class such that the factory remains reachable for as
+         * long as any instance of the implementation class is reachable.
+         */
+        protected static class ImplementationClassLoader extends ByteArrayClassLoader {
+
+            /**
+             * The factory for the implementation class of this class loader or {@code null} if no factory was retained.
+             */
+            private Factory factory;
+
+            /**
+             * Creates a new class loader for an implementation class.
+             *
+             * @param parent               The class loader of the implemented annotation type.
+             * @param implementationType   A description of the implementation class.
+             * @param binaryRepresentation The class file of the implementation class.
+             */
+            protected ImplementationClassLoader(ClassLoader parent, TypeDescription implementationType, byte[] binaryRepresentation) {
+                super(parent,
+                        Collections.singletonMap(implementationType.getName(), binaryRepresentation),
+                        DEFAULT_PROTECTION_DOMAIN,
+                        PersistenceHandler.LATENT);
+            }
+
+            /**
+             * Retains the given factory for as long as this class loader is reachable.
+             *
+             * @param factory The factory for this class loader's implementation class.
+             * @return The given factory.
+             */
+            protected Factory retain(Factory factory) {
+                this.factory = factory;
+                return factory;
+            }
+
+            @Override
+            public String toString() {
+                return "AnnotationDescription.AnnotationImplementation.ImplementationClassLoader{" +
+                        "parent=" + getParent() +
+                        ", typeDefinitions=" + typeDefinitions +
+                        ", factory=" + factory +
+                        '}';
+            }
+        }
+
+        /**
+         * Writes the class file of an annotation implementation class. Such a class defines a field for each annotation
+         * property and a constructor that takes all property values in the order of the given properties, followed by
+         * the annotation's hash code and its string representation.
+         */
+        protected enum ImplementationClass {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * Creates the class file of an implementation class for the given annotation type.
+             *
+             * @param implementationType A description of the implementation class.
+             * @param annotationType     The implemented annotation type.
+             * @param properties         The annotation type's properties in the order of the constructor's parameters.
+             * @return The class file of the implementation class.
+             */
+            protected byte[] make(TypeDescription implementationType, Class<? extends Annotation> annotationType, Method[] properties) {
+                String internalName = implementationType.getInternalName(), annotationName = Type.getInternalName(annotationType);
+                ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+                classWriter.visit(Opcodes.V1_5,
+                        implementationType.getModifiers() | Opcodes.ACC_SUPER,
+                        internalName,
+                        NO_SIGNATURE,
+                        Type.getInternalName(Object.class),
+                        new String[]{annotationName});
+                Type[] parameterTypes = new Type[properties.length + 2];
+                for (int index = 0; index < properties.length; index++) {
+                    parameterTypes[index] = Type.getType(properties[index].getReturnType());
+                    classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL,
+                            properties[index].getName(),
+                            parameterTypes[index].getDescriptor(),
+                            NO_SIGNATURE,
+                            NO_VALUE).visitEnd();
+                }
+                parameterTypes[properties.length] = Type.INT_TYPE;
+                parameterTypes[properties.length + 1] = Type.getType(String.class);
+                classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL,
+                        PRECOMPUTED_FIELD_PREFIX + HASH_CODE,
+                        Type.INT_TYPE.getDescriptor(),
+                        NO_SIGNATURE,
+                        NO_VALUE).visitEnd();
+                classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL,
+                        PRECOMPUTED_FIELD_PREFIX + TO_STRING,
+                        Type.getDescriptor(String.class),
+                        NO_SIGNATURE,
+                        NO_VALUE).visitEnd();
+                MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC,
+                        CONSTRUCTOR,
+                        Type.getMethodDescriptor(Type.VOID_TYPE, parameterTypes),
+                        NO_SIGNATURE,
+                        NO_EXCEPTIONS);
+                methodVisitor.visitCode();
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), CONSTRUCTOR, "()V", false);
+                int offset = 1;
+                for (int index = 0; index < parameterTypes.length; index++) {
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                    methodVisitor.visitVarInsn(parameterTypes[index].getOpcode(Opcodes.ILOAD), offset);
+                    methodVisitor.visitFieldInsn(Opcodes.PUTFIELD,
+                            internalName,
+                            index < properties.length
+                                    ? properties[index].getName()
+                                    : PRECOMPUTED_FIELD_PREFIX + (index == properties.length ? HASH_CODE : TO_STRING),
+                            parameterTypes[index].getDescriptor());
+                    offset += parameterTypes[index].getSize();
+                }
+                methodVisitor.visitInsn(Opcodes.RETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+                for (int index = 0; index < properties.length; index++) {
+                    methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC,
+                            properties[index].getName(),
+                            Type.getMethodDescriptor(parameterTypes[index]),
+                            NO_SIGNATURE,
+                            NO_EXCEPTIONS);
+                    methodVisitor.visitCode();
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                    methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalName, properties[index].getName(), parameterTypes[index].getDescriptor());
+                    if (parameterTypes[index].getSort() == Type.ARRAY) {
+                        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                                parameterTypes[index].getDescriptor(),
+                                "clone",
+                                Type.getMethodDescriptor(Type.getType(Object.class)),
+                                false);
+                        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, parameterTypes[index].getDescriptor());
+                    }
+                    methodVisitor.visitInsn(parameterTypes[index].getOpcode(Opcodes.IRETURN));
+                    methodVisitor.visitMaxs(0, 0);
+                    methodVisitor.visitEnd();
+                }
+                methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC,
+                        ANNOTATION_TYPE,
+                        Type.getMethodDescriptor(Type.getType(Class.class)),
+                        NO_SIGNATURE,
+                        NO_EXCEPTIONS);
+                methodVisitor.visitCode();
+                methodVisitor.visitLdcInsn(Type.getType(annotationType));
+                methodVisitor.visitInsn(Opcodes.ARETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+                methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC,
+                        HASH_CODE,
+                        Type.getMethodDescriptor(Type.INT_TYPE),
+                        NO_SIGNATURE,
+                        NO_EXCEPTIONS);
+                methodVisitor.visitCode();
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalName, PRECOMPUTED_FIELD_PREFIX + HASH_CODE, Type.INT_TYPE.getDescriptor());
+                methodVisitor.visitInsn(Opcodes.IRETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+                methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC,
+                        TO_STRING,
+                        Type.getMethodDescriptor(Type.getType(String.class)),
+                        NO_SIGNATURE,
+                        NO_EXCEPTIONS);
+                methodVisitor.visitCode();
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalName, PRECOMPUTED_FIELD_PREFIX + TO_STRING, Type.getDescriptor(String.class));
+                methodVisitor.visitInsn(Opcodes.ARETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+                methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC,
+                        EQUALS,
+                        Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)),
+                        NO_SIGNATURE,
+                        NO_EXCEPTIONS);
+                methodVisitor.visitCode();
+                Label notIdentical = new Label(), compatible = new Label(), start = new Label(), end = new Label(), handler = new Label(), unequal = new Label();
+                methodVisitor.visitTryCatchBlock(start, end, handler, Type.getInternalName(RuntimeException.class));
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+                methodVisitor.visitJumpInsn(Opcodes.IF_ACMPNE, notIdentical);
+                methodVisitor.visitInsn(Opcodes.ICONST_1);
+                methodVisitor.visitInsn(Opcodes.IRETURN);
+                methodVisitor.visitLabel(notIdentical);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+                methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, annotationName);
+                methodVisitor.visitJumpInsn(Opcodes.IFNE, compatible);
+                methodVisitor.visitInsn(Opcodes.ICONST_0);
+                methodVisitor.visitInsn(Opcodes.IRETURN);
+                methodVisitor.visitLabel(compatible);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, annotationName);
+                methodVisitor.visitVarInsn(Opcodes.ASTORE, 2);
+                methodVisitor.visitLabel(start);
+                for (int index = 0; index < properties.length; index++) {
+                    PropertyComparison propertyComparison = PropertyComparison.of(parameterTypes[index]);
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                    methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalName, properties[index].getName(), parameterTypes[index].getDescriptor());
+                    propertyComparison.onValue(methodVisitor);
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+                            annotationName,
+                            properties[index].getName(),
+                            Type.getMethodDescriptor(parameterTypes[index]),
+                            true);
+                    propertyComparison.onValue(methodVisitor);
+                    propertyComparison.onComparison(methodVisitor, parameterTypes[index], unequal);
+                }
+                methodVisitor.visitLabel(end);
+                methodVisitor.visitInsn(Opcodes.ICONST_1);
+                methodVisitor.visitInsn(Opcodes.IRETURN);
+                methodVisitor.visitLabel(handler);
+                methodVisitor.visitInsn(Opcodes.POP); // Incomplete annotations are not equal to one another.
+                methodVisitor.visitLabel(unequal);
+                methodVisitor.visitInsn(Opcodes.ICONST_0);
+                methodVisitor.visitInsn(Opcodes.IRETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+                classWriter.visitEnd();
+                return classWriter.toByteArray();
+            }
+
+            @Override
+            public String toString() {
+                return "AnnotationDescription.AnnotationImplementation.ImplementationClass." + name();
+            }
+        }
+
+        /**
+         * Implements the comparison of two property values of an annotation according to the contract of
+         * {@link Annotation#equals(Object)}.
+         */
+        protected enum PropertyComparison {
+
+            /**
+             * Compares two values that are represented as {@code int} values on the operand stack.
+             */
+            INTEGER {
+                @Override
+                protected void onComparison(MethodVisitor methodVisitor, Type type, Label unequal) {
+                    methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, unequal);
+                }
+            },
+
+            /**
+             * Compares two {@code long} values.
+             */
+            LONG {
+                @Override
+                protected void onComparison(MethodVisitor methodVisitor, Type type, Label unequal) {
+                    methodVisitor.visitInsn(Opcodes.LCMP);
+                    methodVisitor.visitJumpInsn(Opcodes.IFNE, unequal);
+                }
+            },
+
+            /**
+             * Compares two {@code float} values by their bit representation as done by {@link Float#equals(Object)}.
+             */
+            FLOAT {
+                @Override
+                protected void onValue(MethodVisitor methodVisitor) {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC,
+                            Type.getInternalName(Float.class),
+                            "floatToIntBits",
+                            Type.getMethodDescriptor(Type.INT_TYPE, Type.FLOAT_TYPE),
+                            false);
+                }
+
+                @Override
+                protected void onComparison(MethodVisitor methodVisitor, Type type, Label unequal) {
+                    methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, unequal);
+                }
+            },
+
+            /**
+             * Compares two {@code double} values by their bit representation as done by {@link Double#equals(Object)}.
+             */
+            DOUBLE {
+                @Override
+                protected void onValue(MethodVisitor methodVisitor) {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC,
+                            Type.getInternalName(Double.class),
+                            "doubleToLongBits",
+                            Type.getMethodDescriptor(Type.LONG_TYPE, Type.DOUBLE_TYPE),
+                            false);
+                }
+
+                @Override
+                protected void onComparison(MethodVisitor methodVisitor, Type type, Label unequal) {
+                    methodVisitor.visitInsn(Opcodes.LCMP);
+                    methodVisitor.visitJumpInsn(Opcodes.IFNE, unequal);
+                }
+            },
+
+            /**
+             * Compares two arrays by {@link Arrays}{@code .equals} for the array's component type.
+             */
+            ARRAY {
+                @Override
+                protected void onComparison(MethodVisitor methodVisitor, Type type, Label unequal) {
+                    Type arrayType = type.getElementType().getSort() == Type.OBJECT || type.getDimensions() > 1
+                            ? Type.getType(Object[].class)
+                            : type;
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC,
+                            Type.getInternalName(Arrays.class),
+                            EQUALS,
+                            Type.getMethodDescriptor(Type.BOOLEAN_TYPE, arrayType, arrayType),
+                            false);
+                    methodVisitor.visitJumpInsn(Opcodes.IFEQ, unequal);
+                }
+            },
+
+            /**
+             * Compares two objects by {@link Object#equals(Object)}.
+             */
+            REFERENCE {
+                @Override
+                protected void onComparison(MethodVisitor methodVisitor, Type type, Label unequal) {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                            Type.getInternalName(Object.class),
+                            EQUALS,
+                            Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)),
+                            false);
+                    methodVisitor.visitJumpInsn(Opcodes.IFEQ, unequal);
+                }
+            };
+
+            /**
+             * Resolves the comparison for a property of the given type.
+             *
+             * @param type The type of the property.
+             * @return A comparison for values of the given type.
+             */
+            protected static PropertyComparison of(Type type) {
+                switch (type.getSort()) {
+                    case Type.BOOLEAN:
+                    case Type.BYTE:
+                    case Type.SHORT:
+                    case Type.CHAR:
+                    case Type.INT:
+                        return INTEGER;
+                    case Type.LONG:
+                        return LONG;
+                    case Type.FLOAT:
+                        return FLOAT;
+                    case Type.DOUBLE:
+                        return DOUBLE;
+                    case Type.ARRAY:
+                        return ARRAY;
+                    default:
+                        return REFERENCE;
+                }
+            }
+
+            /**
+             * Applied after a property value was loaded onto the operand stack.
+             *
+             * @param methodVisitor The method visitor to write any instructions to.
+             */
+            protected void onValue(MethodVisitor methodVisitor) {
+                /* do nothing */
+            }
+
+            /**
+             * Compares the two values on top of the operand stack and jumps to the given label if they are not equal.
+             *
+             * @param methodVisitor The method visitor to write any instructions to.
+             * @param type          The type of the property.
+             * @param unequal       The label to jump to if the values are not equal.
+             */
+            protected abstract void onComparison(MethodVisitor methodVisitor, Type type, Label unequal);
+
+            @Override
+            public String toString() {
+                return "AnnotationDescription.AnnotationImplementation.PropertyComparison." + name();
+            }
+        }
+    }
+
     /**
      * An adapter implementation of an annotation.
      */
@@ -1728,9 +2549,7 @@ public interface AnnotationDescription {
             @Override
             @SuppressWarnings("unchecked")
             public S load(ClassLoader classLoader) throws ClassNotFoundException {
-                return (S) Proxy.newProxyInstance(classLoader,
-                        new Class<?>[]{annotationType},
-                        AnnotationDescription.AnnotationInvocationHandler.of(classLoader, annotationType, annotationValues));
+                return AnnotationImplementation.INSTANCE.make(classLoader, annotationType, annotationValues);
             }
 
             @Override
@@ -53,6 +53,32 @@ public interface FieldDescription extends ByteCodeElement, NamedElement.WithGene
      */
     abstract class AbstractFieldDescription extends AbstractModifierReviewable implements FieldDescription {
 
+        /**
+         * A key that uniquely identifies this field by its declaring type and its name or {@code null} if this
+         * key was not yet computed. The key is used for comparing this field to other fields.
+         */
+        private String signatureKey;
+
+        /**
+         * This field's hash code or {@code 0} if the hash code was not yet computed.
+         */
+        private int hashCode;
+
+        /**
+         * Returns a key that uniquely identifies this field by its raw declaring type and its name. Once computed,
+         * this key is retained for the lifetime of this description.
+         *
+         * @return A key that uniquely identifies this field.
+         */
+        protected String getSignatureKey() {
+            String signatureKey = this.signatureKey;
+            if (signatureKey == null) {
+                signatureKey = getDeclaringType().asRawType().getInternalName() + '.' + getName();
+                this.signatureKey = signatureKey;
+            }
+            return signatureKey;
+        }
+
         @Override
         public String getInternalName() {
             return getName();
@@ -105,14 +131,24 @@ public interface FieldDescription extends ByteCodeElement, NamedElement.WithGene
 
         @Override
         public boolean equals(Object other) {
-            return other == this || other instanceof FieldDescription
+            if (other == this) {
+                return true;
+            } else if (other instanceof AbstractFieldDescription) {
+                return hashCode() == other.hashCode() && getSignatureKey().equals(((AbstractFieldDescription) other).getSignatureKey());
+            }
+            return other instanceof FieldDescription
                     && getName().equals(((FieldDescription) other).getName())
                     && getDeclaringType().asRawType().equals(((FieldDescription) other).getDeclaringType().asRawType());
         }
 
         @Override
         public int hashCode() {
-            return getDeclaringType().asRawType().hashCode() + 31 * getName().hashCode();
+            int hashCode = this.hashCode;
+            if (hashCode == 0) {
+                hashCode = getDeclaringType().asRawType().hashCode() + 31 * getName().hashCode();
+                this.hashCode = hashCode;
+            }
+            return hashCode;
         }
 
         @Override
@@ -219,6 +255,11 @@ public interface FieldDescription extends ByteCodeElement, NamedElement.WithGene
          */
         private final List<? extends AnnotationDescription> declaredAnnotations;
 
+        /**
+         * The field type after it was attached to this field or {@code null} if the field type was not yet attached.
+         */
+        private GenericTypeDescription attachedFieldType;
+
         /**
          * Creates a new latent field description. All provided types are attached to this instance before they are returned.
          *
@@ -256,7 +297,12 @@ public interface FieldDescription extends ByteCodeElement, NamedElement.WithGene
 
         @Override
         public GenericTypeDescription getType() {
-            return fieldType.accept(GenericTypeDescription.Visitor.Substitutor.ForAttachment.of(this));
+            GenericTypeDescription attachedFieldType = this.attachedFieldType;
+            if (attachedFieldType == null) {
+                attachedFieldType = fieldType.accept(GenericTypeDescription.Visitor.Substitutor.ForAttachment.of(this));
+                this.attachedFieldType = attachedFieldType;
+            }
+            return attachedFieldType;
         }
 
         @Override
@@ -61,7 +61,8 @@ public interface FieldList extends FilterableList<FieldDescription, FieldList> {
     }
 
     /**
-     * An implementation of a field list for an array of loaded fields.
+     * An implementation of a field list for an array of loaded fields. Field descriptions are created on demand and
+     * are retained by this list instance only.
      */
     class ForLoadedField extends AbstractBase {
 
@@ -70,6 +71,11 @@ public interface FieldList extends FilterableList<FieldDescription, FieldList> {
          */
         private final List<? extends Field> fields;
 
+        /**
+         * The field descriptions of this list which are created on demand and retained after their creation.
+         */
+        private final FieldDescription[] fieldDescriptions;
+
         /**
          * Creates a new immutable field list that representedBy an array of loaded field.
          *
@@ -86,11 +92,17 @@ public interface FieldList extends FilterableList<FieldDescription, FieldList> {
          */
         public ForLoadedField(List<? extends Field> fields) {
             this.fields = fields;
+            fieldDescriptions = new FieldDescription[fields.size()];
         }
 
         @Override
         public FieldDescription get(int index) {
-            return new FieldDescription.ForLoadedField(fields.get(index));
+            FieldDescription fieldDescription = fieldDescriptions[index];
+            if (fieldDescription == null) {
+                fieldDescription = new FieldDescription.ForLoadedField(fields.get(index));
+                fieldDescriptions[index] = fieldDescription;
+            }
+            return fieldDescription;
         }
 
         @Override
@@ -258,6 +258,23 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
                 | Modifier.SYNCHRONIZED
                 | Modifier.NATIVE;
 
+        /**
+         * A key that uniquely identifies this method by its declaring type, its internal name and its descriptor
+         * or {@code null} if this key was not yet computed. The key is used for comparing this method to other
+         * methods.
+         */
+        private String signatureKey;
+
+        /**
+         * This method's hash code or {@code 0} if the hash code was not yet computed.
+         */
+        private int hashCode;
+
+        /**
+         * This method's descriptor or {@code null} if the descriptor was not yet computed.
+         */
+        private String descriptor;
+
         @Override
         public int getStackSize() {
             return getParameters().asTypeList().getStackSize() + (isStatic() ? 0 : 1);
@@ -304,11 +321,26 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
 
         @Override
         public String getDescriptor() {
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = makeDescriptor();
+                this.descriptor = descriptor;
+            }
+            return descriptor;
+        }
+
+        /**
+         * Computes this method's descriptor. This method is only invoked once per method description as the descriptor is
+         * cached after its first computation.
+         *
+         * @return This method's descriptor.
+         */
+        protected String makeDescriptor() {
             StringBuilder descriptor = new StringBuilder("(");
             for (TypeDescription parameterType : getParameters().asTypeList().asRawTypes()) {
                 descriptor.append(parameterType.getDescriptor());
             }
-            return descriptor.append(")").append(getReturnType().asRawType().getDescriptor()).toString();
+            return descriptor.append(')').append(getReturnType().asRawType().getDescriptor()).toString();
         }
 
         @Override
@@ -552,9 +584,29 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
                     getDefaultValue());
         }
 
+        /**
+         * Returns a key that uniquely identifies this method by its raw declaring type, its internal name and
+         * its descriptor. Once computed, this key is retained for the lifetime of this description.
+         *
+         * @return A key that uniquely identifies this method.
+         */
+        protected String getSignatureKey() {
+            String signatureKey = this.signatureKey;
+            if (signatureKey == null) {
+                signatureKey = getDeclaringType().asRawType().getInternalName() + '.' + getInternalName() + getDescriptor();
+                this.signatureKey = signatureKey;
+            }
+            return signatureKey;
+        }
+
         @Override
         public boolean equals(Object other) {
-            return other == this || other instanceof MethodDescription
+            if (other == this) {
+                return true;
+            } else if (other instanceof AbstractMethodDescription) {
+                return hashCode() == other.hashCode() && getSignatureKey().equals(((AbstractMethodDescription) other).getSignatureKey());
+            }
+            return other instanceof MethodDescription
                     && getInternalName().equals(((MethodDescription) other).getInternalName())
                     && getDeclaringType().asRawType().equals(((MethodDescription) other).getDeclaringType().asRawType())
                     && getReturnType().asRawType().equals(((MethodDescription) other).getReturnType().asRawType())
@@ -563,10 +615,15 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
 
         @Override
         public int hashCode() {
-            int hashCode = getDeclaringType().asRawType().hashCode();
-            hashCode = 31 * hashCode + getInternalName().hashCode();
-            hashCode = 31 * hashCode + getReturnType().asRawType().hashCode();
-            return 31 * hashCode + getParameters().asTypeList().asRawTypes().hashCode();
+            int hashCode = this.hashCode;
+            if (hashCode == 0) {
+                hashCode = getDeclaringType().asRawType().hashCode();
+                hashCode = 31 * hashCode + getInternalName().hashCode();
+                hashCode = 31 * hashCode + getReturnType().asRawType().hashCode();
+                hashCode = 31 * hashCode + getParameters().asTypeList().asRawTypes().hashCode();
+                this.hashCode = hashCode;
+            }
+            return hashCode;
         }
 
         @Override
@@ -726,7 +783,7 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
         }
 
         @Override
-        public String getDescriptor() {
+        protected String makeDescriptor() {
             return Type.getConstructorDescriptor(constructor);
         }
 
@@ -831,7 +888,7 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
         }
 
         @Override
-        public String getDescriptor() {
+        protected String makeDescriptor() {
             return Type.getMethodDescriptor(method);
         }
 
@@ -914,6 +971,11 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
          */
         private final Object defaultValue;
 
+        /**
+         * The return type after it was attached to this method or {@code null} if the return type was not yet attached.
+         */
+        private GenericTypeDescription attachedReturnType;
+
         /**
          * Creates a new latent method description. All provided types are attached to this instance before they are returned.
          *
@@ -972,7 +1034,12 @@ public interface MethodDescription extends TypeVariableSource, NamedElement.With
 
         @Override
         public GenericTypeDescription getReturnType() {
-            return returnType.accept(GenericTypeDescription.Visitor.Substitutor.ForAttachment.of(this));
+            GenericTypeDescription attachedReturnType = this.attachedReturnType;
+            if (attachedReturnType == null) {
+                attachedReturnType = returnType.accept(GenericTypeDescription.Visitor.Substitutor.ForAttachment.of(this));
+                this.attachedReturnType = attachedReturnType;
+            }
+            return attachedReturnType;
         }
 
         @Override
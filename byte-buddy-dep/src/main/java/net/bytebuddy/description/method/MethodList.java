@@ -63,7 +63,8 @@ public interface MethodList extends FilterableList<MethodDescription, MethodList
 
     /**
      * A method list implementation that returns all loaded byte code methods (methods and constructors) that
-     * are declared for a given type.
+     * are declared for a given type. Method descriptions are created on demand and are retained by this list
+     * instance only.
      */
     class ForLoadedType extends AbstractBase {
 
@@ -77,6 +78,11 @@ public interface MethodList extends FilterableList<MethodDescription, MethodList
          */
         private final List<? extends Constructor<?>> constructors;
 
+        /**
+         * The method descriptions of this list which are created on demand and retained after their creation.
+         */
+        private final MethodDescription[] methodDescriptions;
+
         /**
          * Creates a new list for a loaded type. Method descriptions are created on demand.
          *
@@ -107,14 +113,19 @@ public interface MethodList extends FilterableList<MethodDescription, MethodList
         public ForLoadedType(List<? extends Constructor<?>> constructors, List<? extends Method> methods) {
             this.constructors = constructors;
             this.methods = methods;
+            methodDescriptions = new MethodDescription[constructors.size() + methods.size()];
         }
 
         @Override
         public MethodDescription get(int index) {
-            return index < constructors.size()
-                    ? new MethodDescription.ForLoadedConstructor(constructors.get(index))
-                    : new MethodDescription.ForLoadedMethod(methods.get(index - constructors.size()));
-
+            MethodDescription methodDescription = methodDescriptions[index];
+            if (methodDescription == null) {
+                methodDescription = index < constructors.size()
+                        ? new MethodDescription.ForLoadedConstructor(constructors.get(index))
+                        : new MethodDescription.ForLoadedMethod(methods.get(index - constructors.size()));
+                methodDescriptions[index] = methodDescription;
+            }
+            return methodDescription;
         }
 
         @Override
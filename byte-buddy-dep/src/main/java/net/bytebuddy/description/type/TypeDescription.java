@@ -290,6 +290,35 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
      */
     abstract class AbstractTypeDescription extends AbstractModifierReviewable implements TypeDescription {
 
+        /**
+         * This type's internal name or {@code null} if the internal name was not yet computed.
+         */
+        private String internalName;
+
+        /**
+         * Converts a binary name into an internal name, optionally wrapping it as a descriptor, by copying the name's
+         * characters only once and without creating any intermediate strings.
+         *
+         * @param name       The binary name of a type.
+         * @param descriptor {@code true} if the internal name should be wrapped as a descriptor.
+         * @return The internal name or the descriptor of the given name.
+         */
+        protected static String toInternalName(String name, boolean descriptor) {
+            int offset = descriptor ? 1 : 0, length = name.length();
+            char[] internalName = new char[length + 2 * offset];
+            name.getChars(0, length, internalName, offset);
+            for (int index = offset; index < length + offset; index++) {
+                if (internalName[index] == '.') {
+                    internalName[index] = '/';
+                }
+            }
+            if (descriptor) {
+                internalName[0] = 'L';
+                internalName[length + 1] = ';';
+            }
+            return new String(internalName);
+        }
+
         @Override
         public GenericTypeDescription getSuperType() {
             return LazyProjection.OfPotentiallyRawType.of(getDeclaredSuperType(), GenericTypeDescription.Visitor.NoOp.INSTANCE);
@@ -414,7 +443,12 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public String getInternalName() {
-            return getName().replace('.', '/');
+            String internalName = this.internalName;
+            if (internalName == null) {
+                internalName = toInternalName(getName(), false);
+                this.internalName = internalName;
+            }
+            return internalName;
         }
 
         @Override
@@ -673,6 +707,11 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
          */
         public abstract static class OfSimpleType extends AbstractTypeDescription {
 
+            /**
+             * This type's descriptor or {@code null} if the descriptor was not yet computed.
+             */
+            private String descriptor;
+
             /**
              * Checks if a specific type is assignable to another type where the source type must be a super
              * type of the target type.
@@ -755,7 +794,12 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
             @Override
             public String getDescriptor() {
-                return "L" + getInternalName() + ";";
+                String descriptor = this.descriptor;
+                if (descriptor == null) {
+                    descriptor = toInternalName(getName(), true);
+                    this.descriptor = descriptor;
+                }
+                return descriptor;
             }
 
             @Override
@@ -778,7 +822,10 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
     }
 
     /**
-     * A type description implementation that representedBy a loaded type.
+     * A type description implementation that representedBy a loaded type. The type's declared fields, methods and
+     * annotations are resolved when they are first requested and are retained by this instance. They are not shared
+     * between several instances that represent the same type as any static cache would reference the represented type
+     * and thereby prevent its class loader from being garbage collected.
      */
     class ForLoadedType extends AbstractTypeDescription {
 
@@ -787,6 +834,31 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
          */
         private final Class<?> type;
 
+        /**
+         * The declared fields of this type or {@code null} if they were not yet resolved.
+         */
+        private FieldList declaredFields;
+
+        /**
+         * The declared methods and constructors of this type or {@code null} if they were not yet resolved.
+         */
+        private MethodList declaredMethods;
+
+        /**
+         * The declared annotations of this type or {@code null} if they were not yet resolved.
+         */
+        private AnnotationList declaredAnnotations;
+
+        /**
+         * The annotations of this type including inherited annotations or {@code null} if they were not yet resolved.
+         */
+        private AnnotationList inheritedAnnotations;
+
+        /**
+         * This type's descriptor or {@code null} if the descriptor was not yet computed.
+         */
+        private String descriptor;
+
         /**
          * Creates a new immutable type description for a loaded type.
          *
@@ -966,12 +1038,22 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public FieldList getDeclaredFields() {
-            return new FieldList.ForLoadedField(type.getDeclaredFields());
+            FieldList declaredFields = this.declaredFields;
+            if (declaredFields == null) {
+                declaredFields = new FieldList.ForLoadedField(type.getDeclaredFields());
+                this.declaredFields = declaredFields;
+            }
+            return declaredFields;
         }
 
         @Override
         public MethodList getDeclaredMethods() {
-            return new MethodList.ForLoadedType(type);
+            MethodList declaredMethods = this.declaredMethods;
+            if (declaredMethods == null) {
+                declaredMethods = new MethodList.ForLoadedType(type);
+                this.declaredMethods = declaredMethods;
+            }
+            return declaredMethods;
         }
 
         @Override
@@ -994,7 +1076,12 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public String getDescriptor() {
-            return Type.getDescriptor(type);
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = Type.getDescriptor(type);
+                this.descriptor = descriptor;
+            }
+            return descriptor;
         }
 
         @Override
@@ -1009,12 +1096,22 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public AnnotationList getDeclaredAnnotations() {
-            return new AnnotationList.ForLoadedAnnotation(type.getDeclaredAnnotations());
+            AnnotationList declaredAnnotations = this.declaredAnnotations;
+            if (declaredAnnotations == null) {
+                declaredAnnotations = new AnnotationList.ForLoadedAnnotation(type.getDeclaredAnnotations());
+                this.declaredAnnotations = declaredAnnotations;
+            }
+            return declaredAnnotations;
         }
 
         @Override
         public AnnotationList getInheritedAnnotations() {
-            return new AnnotationList.ForLoadedAnnotation(type.getAnnotations());
+            AnnotationList inheritedAnnotations = this.inheritedAnnotations;
+            if (inheritedAnnotations == null) {
+                inheritedAnnotations = new AnnotationList.ForLoadedAnnotation(type.getAnnotations());
+                this.inheritedAnnotations = inheritedAnnotations;
+            }
+            return inheritedAnnotations;
         }
     }
 
@@ -1033,6 +1130,11 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
          */
         private final int arity;
 
+        /**
+         * This array's descriptor or {@code null} if the descriptor was not yet computed.
+         */
+        private String descriptor;
+
         /**
          * Crrates a new array projection.
          *
@@ -1219,20 +1321,21 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public String getName() {
-            StringBuilder stringBuilder = new StringBuilder();
-            for (int i = 0; i < arity; i++) {
-                stringBuilder.append('[');
-            }
-            return stringBuilder.append(componentType.getDescriptor().replace('/', '.')).toString();
+            return getDescriptor().replace('/', '.');
         }
 
         @Override
         public String getDescriptor() {
-            StringBuilder stringBuilder = new StringBuilder();
-            for (int i = 0; i < arity; i++) {
-                stringBuilder.append('[');
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                String componentDescriptor = componentType.getDescriptor();
+                char[] arrayDescriptor = new char[arity + componentDescriptor.length()];
+                Arrays.fill(arrayDescriptor, 0, arity, '[');
+                componentDescriptor.getChars(0, componentDescriptor.length(), arrayDescriptor, arity);
+                descriptor = new String(arrayDescriptor);
+                this.descriptor = descriptor;
             }
-            return stringBuilder.append(componentType.getDescriptor()).toString();
+            return descriptor;
         }
 
         @Override
@@ -1459,24 +1459,45 @@ public interface GenericTypeDescription extends NamedElement {
             return Sort.PARAMETERIZED;
         }
 
+        /**
+         * The visitor that binds this type's type variables to its parameters or {@code null} if this visitor was
+         * not yet created.
+         */
+        private Visitor<GenericTypeDescription> typeVariableBinding;
+
+        /**
+         * Returns a visitor that binds the type variables of this parameterized type to its parameters. The visitor
+         * is only created once for each parameterized type.
+         *
+         * @return A visitor that binds the type variables of this parameterized type to its parameters.
+         */
+        protected Visitor<GenericTypeDescription> getTypeVariableBinding() {
+            Visitor<GenericTypeDescription> typeVariableBinding = this.typeVariableBinding;
+            if (typeVariableBinding == null) {
+                typeVariableBinding = Visitor.Substitutor.ForTypeVariableBinding.bind(this);
+                this.typeVariableBinding = typeVariableBinding;
+            }
+            return typeVariableBinding;
+        }
+
         @Override
         public GenericTypeDescription getSuperType() {
-            return LazyProjection.OfPotentiallyRawType.of(asRawType().getSuperType(), Visitor.Substitutor.ForTypeVariableBinding.bind(this));
+            return LazyProjection.OfPotentiallyRawType.of(asRawType().getSuperType(), getTypeVariableBinding());
         }
 
         @Override
         public GenericTypeList getInterfaces() {
-            return new GenericTypeList.OfPotentiallyRawType(asRawType().getInterfaces(), Visitor.Substitutor.ForTypeVariableBinding.bind(this));
+            return new GenericTypeList.OfPotentiallyRawType(asRawType().getInterfaces(), getTypeVariableBinding());
         }
 
         @Override
         public FieldList getDeclaredFields() {
-            return new FieldList.TypeSubstituting(this, asRawType().getDeclaredFields(), Visitor.Substitutor.ForTypeVariableBinding.bind(this));
+            return new FieldList.TypeSubstituting(this, asRawType().getDeclaredFields(), getTypeVariableBinding());
         }
 
         @Override
         public MethodList getDeclaredMethods() {
-            return new MethodList.TypeSubstituting(this, asRawType().getDeclaredMethods(), Visitor.Substitutor.ForTypeVariableBinding.bind(this));
+            return new MethodList.TypeSubstituting(this, asRawType().getDeclaredMethods(), getTypeVariableBinding());
         }
 
         @Override
@@ -1995,6 +2016,11 @@ public interface GenericTypeDescription extends NamedElement {
      */
     abstract class LazyProjection implements GenericTypeDescription {
 
+        /**
+         * The resolved generic type or {@code null} if the generic type was not yet resolved.
+         */
+        private GenericTypeDescription resolved;
+
         /**
          * Resolves the actual generic type.
          *
@@ -2002,79 +2028,94 @@ public interface GenericTypeDescription extends NamedElement {
          */
         protected abstract GenericTypeDescription resolve();
 
+        /**
+         * Returns the actual generic type which is only resolved once. Resolving a type more than once by concurrent
+         * threads is harmless as any resolution yields an equal type description.
+         *
+         * @return An actual description of the represented generic type.
+         */
+        protected GenericTypeDescription resolved() {
+            GenericTypeDescription resolved = this.resolved;
+            if (resolved == null) {
+                resolved = resolve();
+                this.resolved = resolved;
+            }
+            return resolved;
+        }
+
         @Override
         public Sort getSort() {
-            return resolve().getSort();
+            return resolved().getSort();
         }
 
         @Override
         public GenericTypeList getInterfaces() {
-            return resolve().getInterfaces();
+            return resolved().getInterfaces();
         }
 
         @Override
         public GenericTypeDescription getSuperType() {
-            return resolve().getSuperType();
+            return resolved().getSuperType();
         }
 
         @Override
         public FieldList getDeclaredFields() {
-            return resolve().getDeclaredFields();
+            return resolved().getDeclaredFields();
         }
 
         @Override
         public MethodList getDeclaredMethods() {
-            return resolve().getDeclaredMethods();
+            return resolved().getDeclaredMethods();
         }
 
         @Override
         public GenericTypeList getUpperBounds() {
-            return resolve().getUpperBounds();
+            return resolved().getUpperBounds();
         }
 
         @Override
         public GenericTypeList getLowerBounds() {
-            return resolve().getLowerBounds();
+            return resolved().getLowerBounds();
         }
 
         @Override
         public GenericTypeDescription getComponentType() {
-            return resolve().getComponentType();
+            return resolved().getComponentType();
         }
 
         @Override
         public GenericTypeList getParameters() {
-            return resolve().getParameters();
+            return resolved().getParameters();
         }
 
         @Override
         public TypeVariableSource getVariableSource() {
-            return resolve().getVariableSource();
+            return resolved().getVariableSource();
         }
 
         @Override
         public GenericTypeDescription getOwnerType() {
-            return resolve().getOwnerType();
+            return resolved().getOwnerType();
         }
 
         @Override
         public String getTypeName() {
-            return resolve().getTypeName();
+            return resolved().getTypeName();
         }
 
         @Override
         public String getSymbol() {
-            return resolve().getSymbol();
+            return resolved().getSymbol();
         }
 
         @Override
         public String getSourceCodeName() {
-            return resolve().getSourceCodeName();
+            return resolved().getSourceCodeName();
         }
 
         @Override
         public <T> T accept(Visitor<T> visitor) {
-            return resolve().accept(visitor);
+            return resolved().accept(visitor);
         }
 
         @Override
@@ -2084,17 +2125,17 @@ public interface GenericTypeDescription extends NamedElement {
 
         @Override
         public int hashCode() {
-            return resolve().hashCode();
+            return resolved().hashCode();
         }
 
         @Override
         public boolean equals(Object other) {
-            return resolve().equals(other);
+            return resolved().equals(other);
         }
 
         @Override
         public String toString() {
-            return resolve().toString();
+            return resolved().toString();
         }
 
         /**
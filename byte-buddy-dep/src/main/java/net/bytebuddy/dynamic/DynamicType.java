@@ -34,11 +34,10 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
-import java.util.logging.Logger;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static net.bytebuddy.utility.ByteBuddyCommons.*;
@@ -680,6 +679,33 @@ public interface DynamicType {
          */
         Unloaded<T> make();
 
+        /**
+         * A builder that is capable of creating the auxiliary types of a dynamic type concurrently. This capability is not
+         * declared by {@link net.bytebuddy.dynamic.DynamicType.Builder} itself such that any existing implementation of
+         * this interface remains valid. Any builder that is created by Byte Buddy implements this interface. Alternatively,
+         * an executor can be set by {@link net.bytebuddy.ByteBuddy#withExecutor(Executor)} such that any builder that is
+         * created by this configuration applies it when invoking {@link net.bytebuddy.dynamic.DynamicType.Builder#make()}.
+         *
+         * @param <S> The most specific known loaded type that is implemented by the created dynamic type, usually the
+         *            type itself, an interface or the direct super class.
+         */
+        interface Concurrent<S> {
+
+            /**
+             * Creates the dynamic type without loading it where the auxiliary types that are required by the implemented
+             * methods, such as the proxies of a {@link net.bytebuddy.implementation.bind.annotation.SuperCall} or a
+             * {@link net.bytebuddy.implementation.bind.annotation.Pipe} annotation, are discovered before the dynamic type
+             * is written and are then created by the supplied executor. This way, independent auxiliary types can be created
+             * concurrently. Any method implementation is still only applied by the calling thread and the auxiliary types
+             * are added to the dynamic type in the same order as when creating the dynamic type by
+             * {@link net.bytebuddy.dynamic.DynamicType.Builder#make()}.
+             *
+             * @param executor The executor to use for creating auxiliary types.
+             * @return An unloaded representation of the dynamic type.
+             */
+            Unloaded<S> make(Executor executor);
+        }
+
         /**
          * Defines an implementation for a method that was added to this instrumentation or a to method selection
          * of existing methods.
@@ -1174,7 +1200,7 @@ public interface DynamicType {
          * @param <S> The most specific known loaded type that is implemented by the created dynamic type, usually the
          *            type itself, an interface or the direct super class.
          */
-        abstract class AbstractBase<S> implements Builder<S> {
+        abstract class AbstractBase<S> implements Builder<S>, Builder.Concurrent<S> {
 
             /**
              * The class file version specified for this builder.
@@ -1253,6 +1279,11 @@ public interface DynamicType {
              */
             protected final MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory;
 
+            /**
+             * The executor for creating auxiliary types concurrently or {@code null} if auxiliary types are created sequentially.
+             */
+            protected final Executor executor;
+
             /**
              * This builder's currently registered field tokens.
              */
@@ -1283,6 +1314,8 @@ public interface DynamicType {
              *                                              no specific appender was specified for a given field.
              * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
              *                                              if no specific appender was specified for a given method.
+             * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+             *                                              auxiliary types are created sequentially.
              * @param fieldTokens                           A list of field representations that were added explicitly to this
              *                                              dynamic type.
              * @param methodTokens                          A list of method representations that were added explicitly to this
@@ -1303,6 +1336,7 @@ public interface DynamicType {
                                    MethodLookupEngine.Factory methodLookupEngineFactory,
                                    FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                    MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                   Executor executor,
                                    List<FieldDescription.Token> fieldTokens,
                                    List<MethodDescription.Token> methodTokens) {
                 this.classFileVersion = classFileVersion;
@@ -1320,6 +1354,7 @@ public interface DynamicType {
                 this.methodLookupEngineFactory = methodLookupEngineFactory;
                 this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
                 this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
+                this.executor = executor;
                 this.fieldTokens = fieldTokens;
                 this.methodTokens = methodTokens;
             }
@@ -1838,6 +1873,7 @@ public interface DynamicType {
                         && classVisitorWrapperChain.equals(that.classVisitorWrapperChain)
                         && defaultFieldAttributeAppenderFactory.equals(that.defaultFieldAttributeAppenderFactory)
                         && defaultMethodAttributeAppenderFactory.equals(that.defaultMethodAttributeAppenderFactory)
+                        && (executor == null ? that.executor == null : executor.equals(that.executor))
                         && fieldRegistry.equals(that.fieldRegistry)
                         && fieldTokens.equals(that.fieldTokens)
                         && ignoredMethods.equals(that.ignoredMethods)
@@ -1867,11 +1903,25 @@ public interface DynamicType {
                 result = 31 * result + methodLookupEngineFactory.hashCode();
                 result = 31 * result + defaultFieldAttributeAppenderFactory.hashCode();
                 result = 31 * result + defaultMethodAttributeAppenderFactory.hashCode();
+                result = 31 * result + (executor == null ? 0 : executor.hashCode());
                 result = 31 * result + fieldTokens.hashCode();
                 result = 31 * result + methodTokens.hashCode();
                 return result;
             }
 
+            /**
+             * Creates the dynamic type without loading it. By default, the auxiliary types are created sequentially as if
+             * the type was created by {@link net.bytebuddy.dynamic.DynamicType.Builder#make()}. Builders that are able to
+             * discover their auxiliary types ahead of writing a type override this method.
+             *
+             * @param executor The executor to use for creating auxiliary types.
+             * @return An unloaded representation of the dynamic type.
+             */
+            @Override
+            public Unloaded<S> make(Executor executor) {
+                return make();
+            }
+
             /**
              * A base implementation of a builder that is capable of manifesting a change that was not yet applied to
              * the builder.
@@ -1879,7 +1929,7 @@ public interface DynamicType {
              * @param <U> The most specific known loaded type that is implemented by the created dynamic type, usually the
              *            type itself, an interface or the direct super class.
              */
-            protected abstract class AbstractDelegatingBuilder<U> implements Builder<U> {
+            protected abstract class AbstractDelegatingBuilder<U> implements Builder<U>, Builder.Concurrent<U> {
 
                 @Override
                 public Builder<U> classFileVersion(ClassFileVersion classFileVersion) {
@@ -2116,6 +2166,15 @@ public interface DynamicType {
                     return materialize().make();
                 }
 
+                @Override
+                @SuppressWarnings("unchecked")
+                public Unloaded<U> make(Executor executor) {
+                    Builder<U> builder = materialize();
+                    return builder instanceof Builder.Concurrent
+                            ? ((Builder.Concurrent<U>) builder).make(executor)
+                            : builder.make();
+                }
+
                 /**
                  * Materializes the current state of the build before applying another modification.
                  *
@@ -2906,26 +2965,6 @@ public interface DynamicType {
          */
         private static final String CLASS_FILE_EXTENSION = ".class";
 
-        /**
-         * The size of a writing buffer.
-         */
-        private static final int BUFFER_SIZE = 1024;
-
-        /**
-         * A convenience index for the beginning of an array to improve the readability of the code.
-         */
-        private static final int FROM_BEGINNING = 0;
-
-        /**
-         * A convenience representative of an {@link java.io.InputStream}'s end to improve the readability of the code.
-         */
-        private static final int END_OF_FILE = -1;
-
-        /**
-         * A suffix for temporary files.
-         */
-        private static final String TEMP_SUFFIX = "tmp";
-
         /**
          * A type description of this dynamic type.
          */
@@ -3037,72 +3076,12 @@ public interface DynamicType {
 
         @Override
         public File inject(File sourceJar, File targetJar) throws IOException {
-            JarInputStream jarInputStream = new JarInputStream(new BufferedInputStream(new FileInputStream(sourceJar)));
-            try {
-                targetJar.createNewFile();
-                JarOutputStream jarOutputStream = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(targetJar)), jarInputStream.getManifest());
-                try {
-                    Map<TypeDescription, byte[]> rawAuxiliaryTypes = getRawAuxiliaryTypes();
-                    Map<String, byte[]> files = new HashMap<String, byte[]>(rawAuxiliaryTypes.size() + 1);
-                    for (Map.Entry<TypeDescription, byte[]> entry : rawAuxiliaryTypes.entrySet()) {
-                        files.put(entry.getKey().getInternalName() + CLASS_FILE_EXTENSION, entry.getValue());
-                    }
-                    files.put(typeDescription.getInternalName() + CLASS_FILE_EXTENSION, binaryRepresentation);
-                    JarEntry jarEntry;
-                    while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
-                        jarOutputStream.putNextEntry(jarEntry);
-                        byte[] replacement = files.remove(jarEntry.getName());
-                        if (replacement == null) {
-                            byte[] buffer = new byte[BUFFER_SIZE];
-                            int index;
-                            while ((index = jarInputStream.read(buffer)) != END_OF_FILE) {
-                                jarOutputStream.write(buffer, FROM_BEGINNING, index);
-                            }
-                        } else {
-                            jarOutputStream.write(replacement);
-                        }
-                        jarInputStream.closeEntry();
-                        jarOutputStream.closeEntry();
-                    }
-                    for (Map.Entry<String, byte[]> entry : files.entrySet()) {
-                        jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
-                        jarOutputStream.write(entry.getValue());
-                        jarOutputStream.closeEntry();
-                    }
-                } finally {
-                    jarOutputStream.close();
-                }
-            } finally {
-                jarInputStream.close();
-            }
-            return targetJar;
+            return new JarInjector(this).inject(sourceJar, targetJar);
         }
 
         @Override
         public File inject(File jar) throws IOException {
-            File temporary = inject(jar, File.createTempFile(jar.getName(), TEMP_SUFFIX));
-            try {
-                InputStream jarInputStream = new BufferedInputStream(new FileInputStream(temporary));
-                try {
-                    OutputStream jarOutputStream = new BufferedOutputStream(new FileOutputStream(jar));
-                    try {
-                        byte[] buffer = new byte[BUFFER_SIZE];
-                        int index;
-                        while ((index = jarInputStream.read(buffer)) != END_OF_FILE) {
-                            jarOutputStream.write(buffer, FROM_BEGINNING, index);
-                        }
-                    } finally {
-                        jarOutputStream.close();
-                    }
-                } finally {
-                    jarInputStream.close();
-                }
-            } finally {
-                if (!temporary.delete()) {
-                    Logger.getAnonymousLogger().warning("Cannot delete " + temporary);
-                }
-            }
-            return jar;
+            return new JarInjector(this).inject(jar);
         }
 
         @Override
@@ -0,0 +1,435 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.objectweb.asm.ClassReader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * An inlining budget analyzes the byte code size of the methods of a {@link net.bytebuddy.dynamic.DynamicType} and
+ * classifies them by their eligibility for being inlined by a just-in-time compiler. This allows to detect generated
+ * methods that grow beyond the inlining thresholds of a virtual machine, for example due to long delegation chains,
+ * boxing or array creation. The analysis is applied to the binary representation of a dynamic type such that the
+ * actual size of each method's code is reported, including the methods of any auxiliary type.
+ */
+public class InliningBudget {
+
+    /**
+     * The default value of HotSpot's {@code -XX:MaxInlineSize} option.
+     */
+    public static final int DEFAULT_MAX_INLINE_SIZE = 35;
+
+    /**
+     * The default value of HotSpot's {@code -XX:FreqInlineSize} option.
+     */
+    public static final int DEFAULT_FREQ_INLINE_SIZE = 325;
+
+    /**
+     * The name of the code attribute of a method.
+     */
+    private static final String CODE_ATTRIBUTE = "Code";
+
+    /**
+     * The maximum byte code size of a method that is inlined regardless of its invocation frequency.
+     */
+    private final int maxInlineSize;
+
+    /**
+     * The maximum byte code size of a frequently invoked method that is inlined.
+     */
+    private final int freqInlineSize;
+
+    /**
+     * Creates an inlining budget that applies the default thresholds of the HotSpot virtual machine.
+     */
+    public InliningBudget() {
+        this(DEFAULT_MAX_INLINE_SIZE, DEFAULT_FREQ_INLINE_SIZE);
+    }
+
+    /**
+     * Creates an inlining budget for the given thresholds.
+     *
+     * @param maxInlineSize  The maximum byte code size of a method that is inlined regardless of its invocation frequency.
+     * @param freqInlineSize The maximum byte code size of a frequently invoked method that is inlined.
+     */
+    public InliningBudget(int maxInlineSize, int freqInlineSize) {
+        if (maxInlineSize < 0 || freqInlineSize < maxInlineSize) {
+            throw new IllegalArgumentException("Illegal inlining thresholds: " + maxInlineSize + ", " + freqInlineSize);
+        }
+        this.maxInlineSize = maxInlineSize;
+        this.freqInlineSize = freqInlineSize;
+    }
+
+    /**
+     * Analyzes the methods of the given dynamic type and of all its auxiliary types.
+     *
+     * @param dynamicType The dynamic type to analyze.
+     * @return A report of the analyzed methods.
+     */
+    public Report analyze(DynamicType dynamicType) {
+        List<MethodSize> methodSizes = new ArrayList<MethodSize>();
+        for (Map.Entry<TypeDescription, byte[]> entry : nonNull(dynamicType).getAllTypes().entrySet()) {
+            methodSizes.addAll(analyze(entry.getKey().getName(), entry.getValue()));
+        }
+        return new Report(methodSizes);
+    }
+
+    /**
+     * Analyzes the methods of a single class file.
+     *
+     * @param typeName             The name of the analyzed type.
+     * @param binaryRepresentation The binary representation of the analyzed type.
+     * @return A list of all methods that define byte code.
+     */
+    public List<MethodSize> analyze(String typeName, byte[] binaryRepresentation) {
+        ClassReader classReader = new ClassReader(binaryRepresentation);
+        char[] buffer = new char[classReader.getMaxStringLength()];
+        int offset = classReader.header + 6;
+        offset += 2 + 2 * classReader.readUnsignedShort(offset);
+        int fieldCount = classReader.readUnsignedShort(offset);
+        offset += 2;
+        for (int index = 0; index < fieldCount; index++) {
+            int attributeCount = classReader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int attribute = 0; attribute < attributeCount; attribute++) {
+                offset += 6 + classReader.readInt(offset + 2);
+            }
+        }
+        int methodCount = classReader.readUnsignedShort(offset);
+        offset += 2;
+        List<MethodSize> methodSizes = new ArrayList<MethodSize>(methodCount);
+        for (int index = 0; index < methodCount; index++) {
+            String internalName = classReader.readUTF8(offset + 2, buffer), descriptor = classReader.readUTF8(offset + 4, buffer);
+            int attributeCount = classReader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int attribute = 0; attribute < attributeCount; attribute++) {
+                if (classReader.readUTF8(offset, buffer).equals(CODE_ATTRIBUTE)) {
+                    methodSizes.add(new MethodSize(typeName,
+                            internalName,
+                            descriptor,
+                            classReader.readInt(offset + 10),
+                            classReader.readUnsignedShort(offset + 6),
+                            classReader.readUnsignedShort(offset + 8),
+                            this));
+                }
+                offset += 6 + classReader.readInt(offset + 2);
+            }
+        }
+        return methodSizes;
+    }
+
+    /**
+     * Classifies a method by the size of its byte code.
+     *
+     * @param codeSize The size of a method's byte code.
+     * @return The classification of the method.
+     */
+    protected Classification classify(int codeSize) {
+        if (codeSize <= maxInlineSize) {
+            return Classification.INLINEABLE;
+        } else if (codeSize <= freqInlineSize) {
+            return Classification.INLINEABLE_IF_FREQUENT;
+        } else {
+            return Classification.NOT_INLINEABLE;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && maxInlineSize == ((InliningBudget) other).maxInlineSize
+                && freqInlineSize == ((InliningBudget) other).freqInlineSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * maxInlineSize + freqInlineSize;
+    }
+
+    @Override
+    public String toString() {
+        return "InliningBudget{" +
+                "maxInlineSize=" + maxInlineSize +
+                ", freqInlineSize=" + freqInlineSize +
+                '}';
+    }
+
+    /**
+     * A classification of a method with regards to the inlining thresholds of an inlining budget.
+     */
+    public enum Classification {
+
+        /**
+         * Describes a method that is small enough to be inlined regardless of its invocation frequency.
+         */
+        INLINEABLE,
+
+        /**
+         * Describes a method that is only inlined if it is invoked frequently.
+         */
+        INLINEABLE_IF_FREQUENT,
+
+        /**
+         * Describes a method that is too large for being inlined.
+         */
+        NOT_INLINEABLE;
+
+        @Override
+        public String toString() {
+            return "InliningBudget.Classification." + name();
+        }
+    }
+
+    /**
+     * A description of the size of a method's byte code.
+     */
+    public static class MethodSize {
+
+        /**
+         * The name of the type that declares the method.
+         */
+        private final String typeName;
+
+        /**
+         * The internal name of the method.
+         */
+        private final String internalName;
+
+        /**
+         * The descriptor of the method.
+         */
+        private final String descriptor;
+
+        /**
+         * The size of the method's byte code.
+         */
+        private final int codeSize;
+
+        /**
+         * The maximum size of the method's operand stack.
+         */
+        private final int maximumStackSize;
+
+        /**
+         * The maximum size of the method's local variable array.
+         */
+        private final int maximumLocalVariables;
+
+        /**
+         * The classification of this method.
+         */
+        private final Classification classification;
+
+        /**
+         * Creates a new method size.
+         *
+         * @param typeName              The name of the type that declares the method.
+         * @param internalName          The internal name of the method.
+         * @param descriptor            The descriptor of the method.
+         * @param codeSize              The size of the method's byte code.
+         * @param maximumStackSize      The maximum size of the method's operand stack.
+         * @param maximumLocalVariables The maximum size of the method's local variable array.
+         * @param inliningBudget        The inlining budget that is used for classifying the method.
+         */
+        protected MethodSize(String typeName,
+                             String internalName,
+                             String descriptor,
+                             int codeSize,
+                             int maximumStackSize,
+                             int maximumLocalVariables,
+                             InliningBudget inliningBudget) {
+            this.typeName = typeName;
+            this.internalName = internalName;
+            this.descriptor = descriptor;
+            this.codeSize = codeSize;
+            this.maximumStackSize = maximumStackSize;
+            this.maximumLocalVariables = maximumLocalVariables;
+            classification = inliningBudget.classify(codeSize);
+        }
+
+        /**
+         * Returns the name of the type that declares the method.
+         *
+         * @return The name of the type that declares the method.
+         */
+        public String getTypeName() {
+            return typeName;
+        }
+
+        /**
+         * Returns the internal name of the method.
+         *
+         * @return The internal name of the method.
+         */
+        public String getInternalName() {
+            return internalName;
+        }
+
+        /**
+         * Returns the descriptor of the method.
+         *
+         * @return The descriptor of the method.
+         */
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Returns the size of the method's byte code.
+         *
+         * @return The size of the method's byte code.
+         */
+        public int getCodeSize() {
+            return codeSize;
+        }
+
+        /**
+         * Returns the maximum size of the method's operand stack.
+         *
+         * @return The maximum size of the method's operand stack.
+         */
+        public int getMaximumStackSize() {
+            return maximumStackSize;
+        }
+
+        /**
+         * Returns the maximum size of the method's local variable array.
+         *
+         * @return The maximum size of the method's local variable array.
+         */
+        public int getMaximumLocalVariables() {
+            return maximumLocalVariables;
+        }
+
+        /**
+         * Returns the classification of this method.
+         *
+         * @return The classification of this method.
+         */
+        public Classification getClassification() {
+            return classification;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            MethodSize that = (MethodSize) other;
+            return codeSize == that.codeSize
+                    && maximumStackSize == that.maximumStackSize
+                    && maximumLocalVariables == that.maximumLocalVariables
+                    && classification == that.classification
+                    && typeName.equals(that.typeName)
+                    && internalName.equals(that.internalName)
+                    && descriptor.equals(that.descriptor);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = typeName.hashCode();
+            result = 31 * result + internalName.hashCode();
+            result = 31 * result + descriptor.hashCode();
+            result = 31 * result + codeSize;
+            result = 31 * result + maximumStackSize;
+            result = 31 * result + maximumLocalVariables;
+            result = 31 * result + classification.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "InliningBudget.MethodSize{" +
+                    "typeName='" + typeName + '\'' +
+                    ", internalName='" + internalName + '\'' +
+                    ", descriptor='" + descriptor + '\'' +
+                    ", codeSize=" + codeSize +
+                    ", maximumStackSize=" + maximumStackSize +
+                    ", maximumLocalVariables=" + maximumLocalVariables +
+                    ", classification=" + classification +
+                    '}';
+        }
+    }
+
+    /**
+     * A report of all methods of a dynamic type and its auxiliary types.
+     */
+    public static class Report {
+
+        /**
+         * The sizes of all analyzed methods.
+         */
+        private final List<MethodSize> methodSizes;
+
+        /**
+         * Creates a new report.
+         *
+         * @param methodSizes The sizes of all analyzed methods.
+         */
+        protected Report(List<MethodSize> methodSizes) {
+            this.methodSizes = methodSizes;
+        }
+
+        /**
+         * Returns the sizes of all analyzed methods.
+         *
+         * @return The sizes of all analyzed methods.
+         */
+        public List<MethodSize> getMethodSizes() {
+            return Collections.unmodifiableList(methodSizes);
+        }
+
+        /**
+         * Returns the sizes of all methods of the given classification.
+         *
+         * @param classification The classification of the methods to return.
+         * @return All methods of the given classification.
+         */
+        public List<MethodSize> getMethodSizes(Classification classification) {
+            List<MethodSize> methodSizes = new ArrayList<MethodSize>();
+            for (MethodSize methodSize : this.methodSizes) {
+                if (methodSize.getClassification() == classification) {
+                    methodSizes.add(methodSize);
+                }
+            }
+            return methodSizes;
+        }
+
+        /**
+         * Checks if all analyzed methods are at most of the given classification.
+         *
+         * @param classification The least eligible classification that is accepted.
+         * @return {@code true} if no analyzed method is classified as less eligible than the given classification.
+         */
+        public boolean isWithin(Classification classification) {
+            for (MethodSize methodSize : methodSizes) {
+                if (methodSize.getClassification().compareTo(classification) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && methodSizes.equals(((Report) other).methodSizes);
+        }
+
+        @Override
+        public int hashCode() {
+            return methodSizes.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "InliningBudget.Report{" +
+                    "methodSizes=" + methodSizes +
+                    '}';
+        }
+    }
+}
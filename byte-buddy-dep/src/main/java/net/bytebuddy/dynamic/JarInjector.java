@@ -0,0 +1,764 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.io.*;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * Injects the types of any number of dynamic types into a <i>jar</i> file within a single pass over the file. Any
+ * pre-existent type with the same name as an injected type is overridden during injection while any other entry of
+ * the original jar file is copied as is, i.e. its compressed binary representation is transferred to the target file
+ * without inflating and deflating it again.
+ * </p>
+ * <p>
+ * <b>Note</b>: Entries can only be copied without recompression for archives that do not use the <i>Zip64</i> format.
+ * For such archives, the entries are copied by reading and writing the archive as a stream.
+ * </p>
+ */
+public class JarInjector {
+
+    /**
+     * The file name extension for Java class files.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * A suffix for temporary files.
+     */
+    private static final String TEMP_SUFFIX = "tmp";
+
+    /**
+     * The size of a writing buffer.
+     */
+    private static final int BUFFER_SIZE = 1024 * 8;
+
+    /**
+     * A convenience index for the beginning of an array to improve the readability of the code.
+     */
+    private static final int FROM_BEGINNING = 0;
+
+    /**
+     * A convenience representative of an {@link java.io.InputStream}'s end to improve the readability of the code.
+     */
+    private static final int END_OF_FILE = -1;
+
+    /**
+     * The dynamic types to inject.
+     */
+    private final List<? extends DynamicType> dynamicTypes;
+
+    /**
+     * Creates a new jar injector.
+     *
+     * @param dynamicType The dynamic types to inject.
+     */
+    public JarInjector(DynamicType... dynamicType) {
+        this(Arrays.asList(dynamicType));
+    }
+
+    /**
+     * Creates a new jar injector.
+     *
+     * @param dynamicTypes The dynamic types to inject.
+     */
+    public JarInjector(List<? extends DynamicType> dynamicTypes) {
+        this.dynamicTypes = dynamicTypes;
+    }
+
+    /**
+     * Copies all remaining bytes of an input stream to an output stream.
+     *
+     * @param inputStream  The input stream to read from.
+     * @param outputStream The output stream to write to.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static void copy(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int index;
+        while ((index = inputStream.read(buffer)) != END_OF_FILE) {
+            outputStream.write(buffer, FROM_BEGINNING, index);
+        }
+    }
+
+    /**
+     * Returns the class files of all injected types mapped by their entry names. If several dynamic types define a
+     * type of the same name, the type of the latter dynamic type is injected.
+     *
+     * @return The class files of all injected types mapped by their entry names.
+     */
+    protected Map<String, byte[]> getClassFiles() {
+        Map<String, byte[]> classFiles = new LinkedHashMap<String, byte[]>();
+        for (DynamicType dynamicType : dynamicTypes) {
+            for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getRawAuxiliaryTypes().entrySet()) {
+                classFiles.put(entry.getKey().getInternalName() + CLASS_FILE_EXTENSION, entry.getValue());
+            }
+            classFiles.put(dynamicType.getTypeDescription().getInternalName() + CLASS_FILE_EXTENSION, dynamicType.getBytes());
+        }
+        return classFiles;
+    }
+
+    /**
+     * Injects the types of all dynamic types into a given <i>jar</i> file. Any pre-existent type with the same name
+     * is overridden during injection. The {@code target} file's folder must exist prior to calling this method. The
+     * file itself is overwritten or created depending on its prior existence.
+     *
+     * @param sourceJar The original jar file.
+     * @param targetJar The {@code source} jar file with the injected contents.
+     * @return The {@code target} jar file.
+     * @throws IOException If an IO exception occurs while injecting from the source into the target.
+     */
+    public File inject(File sourceJar, File targetJar) throws IOException {
+        Map<String, byte[]> classFiles = getClassFiles();
+        RandomAccessFile source = new RandomAccessFile(sourceJar, "r");
+        try {
+            List<ArchiveEntry> archiveEntries = ArchiveEntry.of(source);
+            if (archiveEntries == null) {
+                injectByStream(sourceJar, targetJar, classFiles);
+            } else {
+                targetJar.createNewFile();
+                ArchiveWriter archiveWriter = new ArchiveWriter(new BufferedOutputStream(new FileOutputStream(targetJar), BUFFER_SIZE));
+                try {
+                    for (ArchiveEntry archiveEntry : archiveEntries) {
+                        byte[] replacement = classFiles.remove(archiveEntry.getName());
+                        if (replacement == null) {
+                            archiveWriter.copy(archiveEntry, source);
+                        } else {
+                            archiveWriter.add(archiveEntry.getName(), replacement);
+                        }
+                    }
+                    for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+                        archiveWriter.add(entry.getKey(), entry.getValue());
+                    }
+                    archiveWriter.finish();
+                } finally {
+                    archiveWriter.close();
+                }
+            }
+        } finally {
+            source.close();
+        }
+        return targetJar;
+    }
+
+    /**
+     * Injects the given class files into a jar file by inflating and deflating all of the source file's entries. This
+     * strategy is applied for archives that cannot be copied without recompression.
+     *
+     * @param sourceJar  The original jar file.
+     * @param targetJar  The {@code source} jar file with the injected contents.
+     * @param classFiles The class files to inject mapped by their entry names.
+     * @throws IOException If an IO exception occurs while injecting from the source into the target.
+     */
+    private static void injectByStream(File sourceJar, File targetJar, Map<String, byte[]> classFiles) throws IOException {
+        JarInputStream jarInputStream = new JarInputStream(new BufferedInputStream(new FileInputStream(sourceJar)));
+        try {
+            targetJar.createNewFile();
+            JarOutputStream jarOutputStream = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(targetJar)), jarInputStream.getManifest());
+            try {
+                JarEntry jarEntry;
+                while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+                    byte[] replacement = classFiles.remove(jarEntry.getName());
+                    if (replacement == null) {
+                        jarOutputStream.putNextEntry(jarEntry);
+                        copy(jarInputStream, jarOutputStream);
+                    } else {
+                        jarOutputStream.putNextEntry(new JarEntry(jarEntry.getName()));
+                        jarOutputStream.write(replacement);
+                    }
+                    jarInputStream.closeEntry();
+                    jarOutputStream.closeEntry();
+                }
+                for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+                    jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+                    jarOutputStream.write(entry.getValue());
+                    jarOutputStream.closeEntry();
+                }
+            } finally {
+                jarOutputStream.close();
+            }
+        } finally {
+            jarInputStream.close();
+        }
+    }
+
+    /**
+     * Injects the types of all dynamic types into a given <i>jar</i> file. Any pre-existent type with the same name
+     * is overridden during injection. The injected archive is first written to a temporary file. If the given file is
+     * a writable plain file within a writable folder, the temporary file is created next to it and replaces the given file
+     * after its access flags were mirrored. Otherwise, for example if the given file is a symbolic link, or if the
+     * temporary file cannot be renamed, its content is copied into the given file such that the file's identity,
+     * ownership and permissions are retained.
+     *
+     * @param jar The jar file to replace with an injected version.
+     * @return The {@code jar} file.
+     * @throws IOException If an IO exception occurs while injecting into the jar.
+     */
+    public File inject(File jar) throws IOException {
+        File absoluteJar = jar.getAbsoluteFile(), folder = absoluteJar.getParentFile();
+        boolean renamable = folder != null
+                && folder.canWrite()
+                && absoluteJar.canWrite()
+                && absoluteJar.getCanonicalFile().equals(absoluteJar);
+        File temporary = renamable
+                ? File.createTempFile(jar.getName(), TEMP_SUFFIX, folder)
+                : File.createTempFile(jar.getName(), TEMP_SUFFIX);
+        try {
+            inject(jar, temporary);
+            if (!renamable || !mirrorAccess(jar, temporary) || !temporary.renameTo(jar)) {
+                InputStream inputStream = new BufferedInputStream(new FileInputStream(temporary));
+                try {
+                    OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(jar));
+                    try {
+                        copy(inputStream, outputStream);
+                    } finally {
+                        outputStream.close();
+                    }
+                } finally {
+                    inputStream.close();
+                }
+            }
+        } finally {
+            if (temporary.exists() && !temporary.delete()) {
+                Logger.getAnonymousLogger().warning("Cannot delete " + temporary);
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * Applies the access flags of a file to its replacement.
+     *
+     * @param file        The file that is to be replaced.
+     * @param replacement The replacement of the file.
+     * @return {@code true} if the replacement grants the same access as the file.
+     */
+    private static boolean mirrorAccess(File file, File replacement) {
+        return replacement.setReadable(file.canRead())
+                && replacement.setWritable(file.canWrite())
+                && replacement.setExecutable(file.canExecute())
+                && replacement.canRead() == file.canRead()
+                && replacement.canWrite() == file.canWrite()
+                && replacement.canExecute() == file.canExecute();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && dynamicTypes.equals(((JarInjector) other).dynamicTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return dynamicTypes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "JarInjector{" +
+                "dynamicTypes=" + dynamicTypes +
+                '}';
+    }
+
+    /**
+     * An entry of an archive's central directory.
+     */
+    protected static class ArchiveEntry {
+
+        /**
+         * The signature of the end of an archive's central directory.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+        /**
+         * The signature of a central directory entry.
+         */
+        private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+
+        /**
+         * The length of the end of an archive's central directory, excluding the archive comment.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+
+        /**
+         * The length of a central directory entry, excluding its name, extra field and comment.
+         */
+        private static final int CENTRAL_DIRECTORY_ENTRY_LENGTH = 46;
+
+        /**
+         * The length of a local file header, excluding its name and extra field.
+         */
+        private static final int LOCAL_HEADER_LENGTH = 30;
+
+        /**
+         * The maximum length of an archive comment.
+         */
+        private static final int MAXIMUM_COMMENT_LENGTH = 0xFFFF;
+
+        /**
+         * A value that indicates that a value of two bytes is stored in a <i>Zip64</i> extra field.
+         */
+        private static final int ZIP64_SHORT = 0xFFFF;
+
+        /**
+         * A value that indicates that a value of four bytes is stored in a <i>Zip64</i> extra field.
+         */
+        private static final long ZIP64_INT = 0xFFFFFFFFL;
+
+        /**
+         * The charset of an entry's name.
+         */
+        private static final String CHARSET = "UTF-8";
+
+        /**
+         * The raw central directory entry, including the entry's name, extra field and comment.
+         */
+        private final byte[] centralDirectoryEntry;
+
+        /**
+         * The name of this entry.
+         */
+        private final String name;
+
+        /**
+         * Creates a new archive entry.
+         *
+         * @param centralDirectoryEntry The raw central directory entry, including the entry's name, extra field and comment.
+         * @param name                  The name of this entry.
+         */
+        protected ArchiveEntry(byte[] centralDirectoryEntry, String name) {
+            this.centralDirectoryEntry = centralDirectoryEntry;
+            this.name = name;
+        }
+
+        /**
+         * Reads all entries of an archive's central directory.
+         *
+         * @param archive The archive to read.
+         * @return A list of all entries of the archive's central directory in their order or {@code null} if the
+         * archive cannot be copied without recompression.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected static List<ArchiveEntry> of(RandomAccessFile archive) throws IOException {
+            long length = archive.length();
+            if (length < END_OF_CENTRAL_DIRECTORY_LENGTH) {
+                return null;
+            }
+            byte[] tail = new byte[(int) Math.min(length, END_OF_CENTRAL_DIRECTORY_LENGTH + MAXIMUM_COMMENT_LENGTH)];
+            archive.seek(length - tail.length);
+            archive.readFully(tail);
+            int end = tail.length - END_OF_CENTRAL_DIRECTORY_LENGTH;
+            while (end >= 0 && (readInt(tail, end) != END_OF_CENTRAL_DIRECTORY
+                    || end + END_OF_CENTRAL_DIRECTORY_LENGTH + readShort(tail, end + 20) != tail.length)) {
+                end--;
+            }
+            if (end < 0) {
+                return null;
+            }
+            int entries = readShort(tail, end + 10);
+            long size = readUnsignedInt(tail, end + 12), offset = readUnsignedInt(tail, end + 16);
+            if (entries == ZIP64_SHORT || size == ZIP64_INT || offset == ZIP64_INT || offset + size > length) {
+                return null;
+            }
+            byte[] centralDirectory = new byte[(int) size];
+            archive.seek(offset);
+            archive.readFully(centralDirectory);
+            List<ArchiveEntry> archiveEntries = new ArrayList<ArchiveEntry>(entries);
+            int position = 0;
+            for (int index = 0; index < entries; index++) {
+                if (position + CENTRAL_DIRECTORY_ENTRY_LENGTH > centralDirectory.length
+                        || readInt(centralDirectory, position) != CENTRAL_DIRECTORY_ENTRY
+                        || readUnsignedInt(centralDirectory, position + 20) == ZIP64_INT
+                        || readUnsignedInt(centralDirectory, position + 24) == ZIP64_INT
+                        || readUnsignedInt(centralDirectory, position + 42) == ZIP64_INT) {
+                    return null;
+                }
+                int nameLength = readShort(centralDirectory, position + 28), entryLength = CENTRAL_DIRECTORY_ENTRY_LENGTH
+                        + nameLength
+                        + readShort(centralDirectory, position + 30)
+                        + readShort(centralDirectory, position + 32);
+                if (position + entryLength > centralDirectory.length) {
+                    return null;
+                }
+                byte[] centralDirectoryEntry = new byte[entryLength];
+                System.arraycopy(centralDirectory, position, centralDirectoryEntry, FROM_BEGINNING, entryLength);
+                archiveEntries.add(new ArchiveEntry(centralDirectoryEntry, new String(centralDirectoryEntry,
+                        CENTRAL_DIRECTORY_ENTRY_LENGTH,
+                        nameLength,
+                        CHARSET)));
+                position += entryLength;
+            }
+            return archiveEntries;
+        }
+
+        /**
+         * Reads an unsigned value of two bytes in little endian order.
+         *
+         * @param buffer The buffer to read from.
+         * @param index  The index of the value.
+         * @return The read value.
+         */
+        protected static int readShort(byte[] buffer, int index) {
+            return (buffer[index] & 0xFF) | (buffer[index + 1] & 0xFF) << 8;
+        }
+
+        /**
+         * Reads a value of four bytes in little endian order.
+         *
+         * @param buffer The buffer to read from.
+         * @param index  The index of the value.
+         * @return The read value.
+         */
+        protected static int readInt(byte[] buffer, int index) {
+            return readShort(buffer, index) | readShort(buffer, index + 2) << 16;
+        }
+
+        /**
+         * Reads an unsigned value of four bytes in little endian order.
+         *
+         * @param buffer The buffer to read from.
+         * @param index  The index of the value.
+         * @return The read value.
+         */
+        protected static long readUnsignedInt(byte[] buffer, int index) {
+            return readInt(buffer, index) & 0xFFFFFFFFL;
+        }
+
+        /**
+         * Returns the name of this entry.
+         *
+         * @return The name of this entry.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns a copy of the raw central directory entry, including the entry's name, extra field and comment.
+         *
+         * @return A copy of the raw central directory entry.
+         */
+        protected byte[] getCentralDirectoryEntry() {
+            return centralDirectoryEntry.clone();
+        }
+
+        /**
+         * Returns the offset of this entry's local file header within the archive.
+         *
+         * @return The offset of this entry's local file header.
+         */
+        protected long getLocalHeaderOffset() {
+            return readUnsignedInt(centralDirectoryEntry, 42);
+        }
+
+        /**
+         * Returns the size of this entry's compressed data.
+         *
+         * @return The size of this entry's compressed data.
+         */
+        protected long getCompressedSize() {
+            return readUnsignedInt(centralDirectoryEntry, 20);
+        }
+
+        /**
+         * Returns the offset of this entry's compressed data within the archive.
+         *
+         * @param archive The archive of this entry.
+         * @return The offset of this entry's compressed data.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected long getDataOffset(RandomAccessFile archive) throws IOException {
+            byte[] localHeader = new byte[LOCAL_HEADER_LENGTH];
+            archive.seek(getLocalHeaderOffset());
+            archive.readFully(localHeader);
+            return getLocalHeaderOffset() + LOCAL_HEADER_LENGTH + readShort(localHeader, 26) + readShort(localHeader, 28);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && Arrays.equals(centralDirectoryEntry, ((ArchiveEntry) other).centralDirectoryEntry);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(centralDirectoryEntry);
+        }
+
+        @Override
+        public String toString() {
+            return "JarInjector.ArchiveEntry{" +
+                    "name='" + name + '\'' +
+                    ", centralDirectoryEntry=<" + centralDirectoryEntry.length + " bytes>" +
+                    '}';
+        }
+    }
+
+    /**
+     * A writer for an archive that tracks the entries that were written for creating the archive's central directory.
+     */
+    protected static class ArchiveWriter implements Closeable {
+
+        /**
+         * The signature of a local file header.
+         */
+        private static final int LOCAL_HEADER = 0x04034b50;
+
+        /**
+         * The signature of a central directory entry.
+         */
+        private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+
+        /**
+         * The signature of the end of an archive's central directory.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+        /**
+         * The general purpose flag that indicates the use of a data descriptor.
+         */
+        private static final int DATA_DESCRIPTOR_FLAG = 1 << 3;
+
+        /**
+         * The general purpose flag that indicates an entry name that is encoded in UTF-8.
+         */
+        private static final int UTF_8_FLAG = 1 << 11;
+
+        /**
+         * The version of the archive format that is required for extracting deflated entries.
+         */
+        private static final int DEFLATED_VERSION = 20;
+
+        /**
+         * The compression method of deflated entries.
+         */
+        private static final int DEFLATED = 8;
+
+        /**
+         * The maximum number of entries and the maximum size of an archive that can be written without <i>Zip64</i>.
+         */
+        private static final long MAXIMUM_SIZE = 0xFFFFFFFFL, MAXIMUM_ENTRIES = 0xFFFF;
+
+        /**
+         * The output stream to write the archive to.
+         */
+        private final OutputStream outputStream;
+
+        /**
+         * The central directory of the written archive.
+         */
+        private final ByteArrayOutputStream centralDirectory;
+
+        /**
+         * The modification time of added entries in the archive format's representation.
+         */
+        private final int modificationTime;
+
+        /**
+         * The number of bytes that were written to the output stream.
+         */
+        private long position;
+
+        /**
+         * The number of entries that were written.
+         */
+        private int entries;
+
+        /**
+         * Creates a new archive writer.
+         *
+         * @param outputStream The output stream to write the archive to.
+         */
+        protected ArchiveWriter(OutputStream outputStream) {
+            this.outputStream = outputStream;
+            centralDirectory = new ByteArrayOutputStream();
+            modificationTime = toModificationTime(System.currentTimeMillis());
+        }
+
+        /**
+         * Converts a time stamp into the time format of an archive.
+         *
+         * @param time The time stamp in milliseconds.
+         * @return The time in the archive format's representation.
+         */
+        protected static int toModificationTime(long time) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(time);
+            return (calendar.get(Calendar.YEAR) - 1980) << 25
+                    | (calendar.get(Calendar.MONTH) + 1) << 21
+                    | calendar.get(Calendar.DAY_OF_MONTH) << 16
+                    | calendar.get(Calendar.HOUR_OF_DAY) << 11
+                    | calendar.get(Calendar.MINUTE) << 5
+                    | calendar.get(Calendar.SECOND) >> 1;
+        }
+
+        /**
+         * Writes a value of two bytes in little endian order.
+         *
+         * @param buffer The buffer to write to.
+         * @param index  The index of the value.
+         * @param value  The value to write.
+         */
+        protected static void writeShort(byte[] buffer, int index, int value) {
+            buffer[index] = (byte) value;
+            buffer[index + 1] = (byte) (value >>> 8);
+        }
+
+        /**
+         * Writes a value of four bytes in little endian order.
+         *
+         * @param buffer The buffer to write to.
+         * @param index  The index of the value.
+         * @param value  The value to write.
+         */
+        protected static void writeInt(byte[] buffer, int index, long value) {
+            writeShort(buffer, index, (int) value);
+            writeShort(buffer, index + 2, (int) (value >>> 16));
+        }
+
+        /**
+         * Copies an entry of another archive without inflating its content.
+         *
+         * @param archiveEntry The archive entry to copy.
+         * @param archive      The archive that contains the entry.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected void copy(ArchiveEntry archiveEntry, RandomAccessFile archive) throws IOException {
+            long dataOffset = archiveEntry.getDataOffset(archive);
+            byte[] centralDirectoryEntry = archiveEntry.getCentralDirectoryEntry();
+            writeShort(centralDirectoryEntry, 8, ArchiveEntry.readShort(centralDirectoryEntry, 8) & ~DATA_DESCRIPTOR_FLAG);
+            int nameLength = ArchiveEntry.readShort(centralDirectoryEntry, 28);
+            byte[] localExtra = new byte[(int) (dataOffset - archiveEntry.getLocalHeaderOffset() - ArchiveEntry.LOCAL_HEADER_LENGTH - nameLength)];
+            archive.seek(archiveEntry.getLocalHeaderOffset() + ArchiveEntry.LOCAL_HEADER_LENGTH + nameLength);
+            archive.readFully(localExtra);
+            writeLocalHeader(centralDirectoryEntry, localExtra);
+            archive.seek(dataOffset);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = archiveEntry.getCompressedSize();
+            while (remaining > 0) {
+                int length = (int) Math.min(buffer.length, remaining);
+                archive.readFully(buffer, FROM_BEGINNING, length);
+                outputStream.write(buffer, FROM_BEGINNING, length);
+                remaining -= length;
+            }
+            position += archiveEntry.getCompressedSize();
+        }
+
+        /**
+         * Adds a new deflated entry to the archive.
+         *
+         * @param name                 The name of the entry.
+         * @param binaryRepresentation The uncompressed content of the entry.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected void add(String name, byte[] binaryRepresentation) throws IOException {
+            byte[] compressed = deflate(binaryRepresentation), encodedName = name.getBytes(ArchiveEntry.CHARSET);
+            CRC32 crc32 = new CRC32();
+            crc32.update(binaryRepresentation);
+            byte[] centralDirectoryEntry = new byte[ArchiveEntry.CENTRAL_DIRECTORY_ENTRY_LENGTH + encodedName.length];
+            writeInt(centralDirectoryEntry, 0, CENTRAL_DIRECTORY_ENTRY);
+            writeShort(centralDirectoryEntry, 4, DEFLATED_VERSION);
+            writeShort(centralDirectoryEntry, 6, DEFLATED_VERSION);
+            writeShort(centralDirectoryEntry, 8, UTF_8_FLAG);
+            writeShort(centralDirectoryEntry, 10, DEFLATED);
+            writeInt(centralDirectoryEntry, 12, modificationTime);
+            writeInt(centralDirectoryEntry, 16, crc32.getValue());
+            writeInt(centralDirectoryEntry, 20, compressed.length);
+            writeInt(centralDirectoryEntry, 24, binaryRepresentation.length);
+            writeShort(centralDirectoryEntry, 28, encodedName.length);
+            System.arraycopy(encodedName, FROM_BEGINNING, centralDirectoryEntry, ArchiveEntry.CENTRAL_DIRECTORY_ENTRY_LENGTH, encodedName.length);
+            writeLocalHeader(centralDirectoryEntry, new byte[0]);
+            outputStream.write(compressed);
+            position += compressed.length;
+        }
+
+        /**
+         * Deflates the given binary data.
+         *
+         * @param binaryRepresentation The data to deflate.
+         * @return The deflated data.
+         */
+        private static byte[] deflate(byte[] binaryRepresentation) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                deflater.setInput(binaryRepresentation);
+                deflater.finish();
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(binaryRepresentation.length);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                while (!deflater.finished()) {
+                    outputStream.write(buffer, FROM_BEGINNING, deflater.deflate(buffer));
+                }
+                return outputStream.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        /**
+         * Writes a local file header for the given central directory entry and registers the entry with the
+         * central directory after updating its local header offset.
+         *
+         * @param centralDirectoryEntry The central directory entry to write a local header for.
+         * @param localExtra            The extra field of the local header.
+         * @throws IOException If an I/O exception occurs.
+         */
+        private void writeLocalHeader(byte[] centralDirectoryEntry, byte[] localExtra) throws IOException {
+            if (position > MAXIMUM_SIZE || ++entries > MAXIMUM_ENTRIES) {
+                throw new IOException("Cannot write archive that requires the Zip64 format");
+            }
+            int nameLength = ArchiveEntry.readShort(centralDirectoryEntry, 28);
+            byte[] localHeader = new byte[ArchiveEntry.LOCAL_HEADER_LENGTH + nameLength];
+            writeInt(localHeader, 0, LOCAL_HEADER);
+            System.arraycopy(centralDirectoryEntry, 6, localHeader, 4, 22);
+            writeShort(localHeader, 26, nameLength);
+            writeShort(localHeader, 28, localExtra.length);
+            System.arraycopy(centralDirectoryEntry, ArchiveEntry.CENTRAL_DIRECTORY_ENTRY_LENGTH, localHeader, ArchiveEntry.LOCAL_HEADER_LENGTH, nameLength);
+            writeInt(centralDirectoryEntry, 42, position);
+            centralDirectory.write(centralDirectoryEntry);
+            outputStream.write(localHeader);
+            outputStream.write(localExtra);
+            position += localHeader.length + localExtra.length;
+        }
+
+        /**
+         * Writes the central directory of all written entries.
+         *
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected void finish() throws IOException {
+            if (position > MAXIMUM_SIZE) {
+                throw new IOException("Cannot write archive that requires the Zip64 format");
+            }
+            byte[] endOfCentralDirectory = new byte[ArchiveEntry.END_OF_CENTRAL_DIRECTORY_LENGTH];
+            writeInt(endOfCentralDirectory, 0, END_OF_CENTRAL_DIRECTORY);
+            writeShort(endOfCentralDirectory, 8, entries);
+            writeShort(endOfCentralDirectory, 10, entries);
+            writeInt(endOfCentralDirectory, 12, centralDirectory.size());
+            writeInt(endOfCentralDirectory, 16, position);
+            centralDirectory.writeTo(outputStream);
+            outputStream.write(endOfCentralDirectory);
+            position += centralDirectory.size() + endOfCentralDirectory.length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+
+        @Override
+        public String toString() {
+            return "JarInjector.ArchiveWriter{" +
+                    "outputStream=" + outputStream +
+                    ", position=" + position +
+                    ", entries=" + entries +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.ClassConstant;
+import net.bytebuddy.implementation.bytecode.constant.NullConstant;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * <p>
+ * This nexus is a global registry for objects that are handed over to the type initializer of an instrumented type.
+ * An object is registered for a type by the type's name, its class loader and an identification before the type is
+ * initialized. The type's initializer then resolves the object from the nexus which removes the registration. For
+ * doing so, the nexus must be reachable from the type initializer by a class loader that is known to the type
+ * initializer.
+ * </p>
+ * <p>
+ * <b>Important</b>: The nexus must never be accessed directly but only by its {@link net.bytebuddy.dynamic.Nexus.Accessor}
+ * which makes sure that the nexus is loaded by the class loader that is queried by an instrumented type's initializer.
+ * Otherwise, a class might not be able to initialize itself if it is loaded by a class loader that is unable to
+ * locate the nexus. The nexus itself must therefore not reference any other type of Byte Buddy.
+ * </p>
+ */
+public class Nexus {
+
+    /**
+     * A map of keys identifying a registration by the name and the class loader of a type and an identification
+     * mapped to the registered objects.
+     */
+    private static final ConcurrentMap<Nexus, Object> REGISTRY = new ConcurrentHashMap<Nexus, Object>();
+
+    /**
+     * The name of a type for which an object is registered.
+     */
+    private final String name;
+
+    /**
+     * The class loader of a type for which an object is registered.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * The identification of the registered object.
+     */
+    private final String identification;
+
+    /**
+     * Creates a key for identifying a registration.
+     *
+     * @param type           The loaded type for which an object is registered.
+     * @param identification The identification of the registered object.
+     */
+    private Nexus(Class<?> type, String identification) {
+        this(type.getName(), type.getClassLoader(), identification);
+    }
+
+    /**
+     * Creates a key for identifying a registration.
+     *
+     * @param name           The name of a type for which an object is registered.
+     * @param classLoader    The class loader of a type for which an object is registered.
+     * @param identification The identification of the registered object.
+     */
+    private Nexus(String name, ClassLoader classLoader, String identification) {
+        this.name = name;
+        this.classLoader = classLoader;
+        this.identification = identification;
+    }
+
+    /**
+     * Registers an object for a type.
+     *
+     * @param name           The name of the type for which an object is registered.
+     * @param classLoader    The class loader of the type for which an object is registered.
+     * @param identification The identification of the registered object.
+     * @param value          The object to register.
+     */
+    @SuppressWarnings("unused")
+    public static void register(String name, ClassLoader classLoader, String identification, Object value) {
+        REGISTRY.put(new Nexus(name, classLoader, identification), value);
+    }
+
+    /**
+     * Resolves and removes an object that was registered for the given type.
+     *
+     * @param type           The type for which an object was registered.
+     * @param identification The identification of the registered object.
+     * @return The registered object.
+     */
+    @SuppressWarnings("unused")
+    public static Object resolve(Class<?> type, String identification) {
+        Object value = REGISTRY.remove(new Nexus(type, identification));
+        if (value == null) {
+            throw new IllegalStateException("No value registered for " + identification + " of " + type);
+        }
+        return value;
+    }
+
+    /**
+     * Removes a {@link net.bytebuddy.implementation.LoadedTypeInitializer} that was registered for the given type and
+     * applies it to the type if such an initializer was registered. The initializer might be an instance of a type
+     * that is loaded by any class loader.
+     *
+     * @param type           The loaded type to initialize.
+     * @param identification The identification of the registered initializer.
+     * @throws Exception If an exception occurs.
+     */
+    @SuppressWarnings("unused")
+    public static void initialize(Class<?> type, String identification) throws Exception {
+        Object typeInitializer = REGISTRY.remove(new Nexus(type, identification));
+        if (typeInitializer != null) {
+            typeInitializer.getClass().getMethod("onLoad", Class.class).invoke(typeInitializer, type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        Nexus nexus = (Nexus) other;
+        return !(classLoader != null ? !classLoader.equals(nexus.classLoader) : nexus.classLoader != null)
+                && name.equals(nexus.name)
+                && identification.equals(nexus.identification);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = name.hashCode();
+        result = 31 * result + (classLoader != null ? classLoader.hashCode() : 0);
+        result = 31 * result + identification.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Nexus{" +
+                "name='" + name + '\'' +
+                ", classLoader=" + classLoader +
+                ", identification='" + identification + '\'' +
+                '}';
+    }
+
+    /**
+     * An accessor for making sure that the accessed {@link net.bytebuddy.dynamic.Nexus} is loaded by a specific
+     * class loader. The nexus is only injected into this class loader when an object is registered for the first
+     * time. The nexus's class file is only read once and the nexus type of any class loader is remembered for as
+     * long as this class loader is alive such that subsequent registrations do not inject the nexus again.
+     */
+    public enum Accessor {
+
+        /**
+         * An accessor for a nexus that is loaded by the system class loader.
+         */
+        SYSTEM_CLASS_LOADER {
+            @Override
+            protected ClassLoader locate(ClassLoader classLoader) {
+                return ClassLoader.getSystemClassLoader();
+            }
+
+            @Override
+            protected StackManipulation classLoader(TypeDescription instrumentedType) {
+                return MethodInvocation.invoke(new TypeDescription.ForLoadedType(ClassLoader.class).getDeclaredMethods()
+                        .filter(named("getSystemClassLoader")).getOnly());
+            }
+        },
+
+        /**
+         * An accessor for a nexus that is loaded by the class loader of an instrumented type. Such a nexus only
+         * retains objects that are registered for types of its own class loader. This accessor cannot be used for
+         * types that are loaded by the bootstrap class loader.
+         */
+        INSTRUMENTED_TYPE_CLASS_LOADER {
+            @Override
+            protected ClassLoader locate(ClassLoader classLoader) {
+                if (classLoader == null) {
+                    throw new IllegalArgumentException("Cannot inject a nexus into the bootstrap class loader");
+                }
+                return classLoader;
+            }
+
+            @Override
+            protected StackManipulation classLoader(TypeDescription instrumentedType) {
+                return new StackManipulation.Compound(ClassConstant.of(instrumentedType),
+                        MethodInvocation.invoke(TypeDescription.CLASS.getDeclaredMethods().filter(named("getClassLoader")).getOnly()));
+            }
+        };
+
+        /**
+         * Indicates that a static method is invoked by reflection.
+         */
+        private static final Object STATIC_METHOD = null;
+
+        /**
+         * The name of the nexus's registration method.
+         */
+        private static final String REGISTER = "register";
+
+        /**
+         * The name of the nexus's resolution method.
+         */
+        private static final String RESOLVE = "resolve";
+
+        /**
+         * The name of the nexus's initialization method.
+         */
+        private static final String INITIALIZE = "initialize";
+
+        /**
+         * A description of the nexus type.
+         */
+        private static final TypeDescription NEXUS_TYPE = new TypeDescription.ForLoadedType(Nexus.class);
+
+        /**
+         * The class file of the nexus or {@code null} if the class file was not yet read.
+         */
+        private static volatile byte[] binaryRepresentation;
+
+        /**
+         * A map of class loaders to the nexus types that they define. A nexus type is only referenced weakly as it is
+         * strongly reachable from its class loader for as long as the class loader is alive. Any access to this
+         * map must be synchronized on the map.
+         */
+        private final Map<ClassLoader, Reference<Class<?>>> nexusTypes = new WeakHashMap<ClassLoader, Reference<Class<?>>>();
+
+        /**
+         * Locates the class loader that loads the nexus for a type of the given class loader.
+         *
+         * @param classLoader The class loader of a type for which an object is registered.
+         * @return The class loader that is to load the nexus.
+         */
+        protected abstract ClassLoader locate(ClassLoader classLoader);
+
+        /**
+         * Creates a stack manipulation that loads the class loader that loads the nexus onto the operand stack.
+         *
+         * @param instrumentedType The instrumented type.
+         * @return A stack manipulation that loads the class loader that loads the nexus.
+         */
+        protected abstract StackManipulation classLoader(TypeDescription instrumentedType);
+
+        /**
+         * Registers an object with the nexus that is responsible for types of the given class loader.
+         *
+         * @param name           The name of the type for which an object is registered.
+         * @param classLoader    The class loader of the type for which an object is registered.
+         * @param identification The identification of the registered object.
+         * @param value          The object to register.
+         */
+        public void register(String name, ClassLoader classLoader, String identification, Object value) {
+            try {
+                nexus(locate(classLoader))
+                        .getDeclaredMethod(REGISTER, String.class, ClassLoader.class, String.class, Object.class)
+                        .invoke(STATIC_METHOD, name, classLoader, identification, value);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Cannot locate registration method of nexus", e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot register " + identification + " for " + name, e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Cannot register " + identification + " for " + name, e.getCause());
+            }
+        }
+
+        /**
+         * Returns the nexus that is loaded by the given class loader and injects it if the class loader did not yet
+         * define the nexus.
+         *
+         * @param classLoader The class loader that is to load the nexus.
+         * @return The nexus that is loaded by the given class loader.
+         */
+        protected Class<?> nexus(ClassLoader classLoader) {
+            synchronized (nexusTypes) {
+                Reference<Class<?>> reference = nexusTypes.get(classLoader);
+                Class<?> nexus = reference == null
+                        ? null
+                        : reference.get();
+                if (nexus == null) {
+                    nexus = new ClassInjector.UsingReflection(classLoader)
+                            .inject(Collections.singletonMap(NEXUS_TYPE, binaryRepresentation()))
+                            .get(NEXUS_TYPE);
+                    nexusTypes.put(classLoader, new WeakReference<Class<?>>(nexus));
+                }
+                return nexus;
+            }
+        }
+
+        /**
+         * Returns the class file of the nexus which is only read on the first invocation of this method.
+         *
+         * @return The class file of the nexus.
+         */
+        private static byte[] binaryRepresentation() {
+            byte[] binaryRepresentation = Accessor.binaryRepresentation;
+            if (binaryRepresentation == null) {
+                ClassFileLocator.Resolution resolution;
+                try {
+                    resolution = ClassFileLocator.ForClassLoader.of(Nexus.class.getClassLoader()).locate(Nexus.class.getName());
+                } catch (IOException e) {
+                    throw new IllegalStateException("Cannot read class file of " + Nexus.class, e);
+                }
+                if (!resolution.isResolved()) {
+                    throw new IllegalStateException("Cannot locate class file of " + Nexus.class);
+                }
+                binaryRepresentation = resolution.resolve();
+                Accessor.binaryRepresentation = binaryRepresentation;
+            }
+            return binaryRepresentation;
+        }
+
+        /**
+         * Creates a stack manipulation that resolves an object that was registered for the instrumented type and
+         * that pushes it onto the operand stack.
+         *
+         * @param instrumentedType The instrumented type.
+         * @param identification   The identification of the registered object.
+         * @return A stack manipulation that loads the registered object onto the operand stack.
+         */
+        public StackManipulation resolve(TypeDescription instrumentedType, String identification) {
+            return invoke(RESOLVE, instrumentedType, identification);
+        }
+
+        /**
+         * Creates a stack manipulation that applies a {@link net.bytebuddy.implementation.LoadedTypeInitializer}
+         * that was registered for the instrumented type if such an initializer was registered.
+         *
+         * @param instrumentedType The instrumented type.
+         * @param identification   The identification of the registered initializer.
+         * @return A stack manipulation that applies the registered initializer.
+         */
+        public StackManipulation initialize(TypeDescription instrumentedType, String identification) {
+            return new StackManipulation.Compound(invoke(INITIALIZE, instrumentedType, identification), Removal.SINGLE);
+        }
+
+        /**
+         * Creates a stack manipulation that reflectively invokes a method of the nexus with the instrumented type and
+         * the given identification as its arguments.
+         *
+         * @param methodName       The name of the nexus method to invoke.
+         * @param instrumentedType The instrumented type.
+         * @param identification   The identification of the registered object.
+         * @return A stack manipulation that invokes the given method and that leaves its return value on the operand stack.
+         */
+        private StackManipulation invoke(String methodName, TypeDescription instrumentedType, String identification) {
+            return new StackManipulation.Compound(
+                    classLoader(instrumentedType),
+                    new TextConstant(Nexus.class.getName()),
+                    MethodInvocation.invoke(new TypeDescription.ForLoadedType(ClassLoader.class).getDeclaredMethods()
+                            .filter(named("loadClass").and(takesArguments(String.class))).getOnly()),
+                    new TextConstant(methodName),
+                    ArrayFactory.forType(TypeDescription.CLASS).withValues(Arrays.<StackManipulation>asList(
+                            ClassConstant.of(TypeDescription.CLASS),
+                            ClassConstant.of(TypeDescription.STRING))),
+                    MethodInvocation.invoke(TypeDescription.CLASS.getDeclaredMethods()
+                            .filter(named("getDeclaredMethod").and(takesArguments(String.class, Class[].class))).getOnly()),
+                    NullConstant.INSTANCE,
+                    ArrayFactory.forType(TypeDescription.OBJECT).withValues(Arrays.<StackManipulation>asList(
+                            ClassConstant.of(instrumentedType),
+                            new TextConstant(identification))),
+                    MethodInvocation.invoke(new TypeDescription.ForLoadedType(Method.class).getDeclaredMethods()
+                            .filter(named("invoke").and(takesArguments(Object.class, Object[].class))).getOnly()));
+        }
+
+        @Override
+        public String toString() {
+            return "Nexus.Accessor." + name();
+        }
+    }
+}
@@ -0,0 +1,887 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.pool.TypeScanner;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.join;
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * A transformation engine rebases all types of a {@link net.bytebuddy.pool.TypeScanner.Source}, such as a <i>jar</i>
+ * file or a folder, that are matched by any of the engine's rules and writes the transformed types, including their
+ * auxiliary types, to a {@link net.bytebuddy.dynamic.TransformationEngine.Target}. This way, types can be transformed
+ * at build time similarly to an {@link net.bytebuddy.agent.builder.AgentBuilder} that transforms types at load time.
+ * Only the first rule that matches a type is applied. Types that are not matched by any rule are not written to the
+ * target.
+ * </p>
+ * <p>
+ * Class files are read from the source by the transforming thread but are transformed by the engine's
+ * {@link java.util.concurrent.Executor} such that types can be transformed in parallel, for example by a work-stealing
+ * thread pool. Independently of the executor, transformed types are written to the target by the transforming thread
+ * in the order in which the source supplies its class files. The number of class files that are read but whose
+ * transformation is not yet written is bounded such that the memory that is required does not depend on the size of
+ * the source. Each class file is described by parsing the read class file such that a transformation never depends
+ * on another copy of the same type and such that scanned types are not retained by the type pool. The type pool is
+ * only queried for types that are referenced by a class file. When an executor is used that transforms types
+ * concurrently, the type pool must be thread-safe.
+ * </p>
+ * <p>
+ * A target is only completed if all types of the source were transformed successfully. Any
+ * {@link net.bytebuddy.implementation.LoadedTypeInitializer} of a transformed type would not be applied when the type
+ * is loaded from the target. A transformation that requires live initialization is therefore rejected.
+ * </p>
+ */
+public class TransformationEngine {
+
+    /**
+     * The Byte Buddy instance that is used for rebasing matched types.
+     */
+    private final ByteBuddy byteBuddy;
+
+    /**
+     * The type pool that is used for describing the types of the source.
+     */
+    private final TypePool.Default typePool;
+
+    /**
+     * The rules of this engine in their order of application.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The executor that transforms matched types.
+     */
+    private final Executor executor;
+
+    /**
+     * The maximum number of class files that are read but whose transformation is not yet written.
+     */
+    private final int maximumPending;
+
+    /**
+     * Creates a new transformation engine without any rules that transforms types on the transforming thread.
+     *
+     * @param byteBuddy The Byte Buddy instance that is used for rebasing matched types.
+     * @param typePool  The type pool that is used for parsing the class files of the source and for describing any
+     *                  referenced types.
+     */
+    public TransformationEngine(ByteBuddy byteBuddy, TypePool.Default typePool) {
+        this(byteBuddy, typePool, Collections.<Rule>emptyList(), DirectExecutor.INSTANCE, 1);
+    }
+
+    /**
+     * Creates a new transformation engine.
+     *
+     * @param byteBuddy      The Byte Buddy instance that is used for rebasing matched types.
+     * @param typePool       The type pool that is used for parsing the class files of the source and for describing
+     *                       any referenced types.
+     * @param rules          The rules of this engine in their order of application.
+     * @param executor       The executor that transforms matched types.
+     * @param maximumPending The maximum number of class files that are read but whose transformation is not yet written.
+     */
+    protected TransformationEngine(ByteBuddy byteBuddy, TypePool.Default typePool, List<Rule> rules, Executor executor, int maximumPending) {
+        this.byteBuddy = nonNull(byteBuddy);
+        this.typePool = nonNull(typePool);
+        this.rules = rules;
+        this.executor = nonNull(executor);
+        this.maximumPending = maximumPending;
+    }
+
+    /**
+     * Registers a rule that transforms any type that is matched by the given matcher and that is not matched by any
+     * previously registered rule.
+     *
+     * @param matcher     The matcher that identifies the types to transform.
+     * @param transformer The transformer to apply to the matched types.
+     * @return A new transformation engine that additionally applies the given rule.
+     */
+    public TransformationEngine type(ElementMatcher<? super TypeDescription> matcher, AgentBuilder.Transformer transformer) {
+        return new TransformationEngine(byteBuddy, typePool, join(rules, new Rule(nonNull(matcher), nonNull(transformer))), executor, maximumPending);
+    }
+
+    /**
+     * Defines an executor that transforms types, potentially in parallel.
+     *
+     * @param executor       The executor that transforms matched types.
+     * @param maximumPending The maximum number of class files that are read but whose transformation is not yet written.
+     * @return A new transformation engine that uses the given executor.
+     */
+    public TransformationEngine withExecutor(Executor executor, int maximumPending) {
+        if (maximumPending < 1) {
+            throw new IllegalArgumentException("The maximum number of pending class files must be positive: " + maximumPending);
+        }
+        return new TransformationEngine(byteBuddy, typePool, rules, executor, maximumPending);
+    }
+
+    /**
+     * Transforms all matched types of the given source and writes them to the given target. The target is only
+     * completed if all types were transformed and written successfully.
+     *
+     * @param source The source of the types to transform.
+     * @param target The target to write the transformed types to.
+     * @return A list of descriptions of all types that were transformed in the order in which they were written.
+     * @throws IOException If the source cannot be read or if the target cannot be written.
+     */
+    public List<TypeDescription> apply(TypeScanner.Source source, Target target) throws IOException {
+        Target.Sink sink = target.open();
+        try {
+            Dispatcher dispatcher = new Dispatcher(sink);
+            source.apply(dispatcher);
+            List<TypeDescription> transformed = dispatcher.complete();
+            sink.complete();
+            return transformed;
+        } finally {
+            sink.close();
+        }
+    }
+
+    /**
+     * Transforms a single class file.
+     *
+     * @param typeName             The binary name of the type that is represented by the class file.
+     * @param binaryRepresentation The class file.
+     * @return The transformed type or {@code null} if the type is not matched by any rule.
+     */
+    protected DynamicType transform(String typeName, byte[] binaryRepresentation) {
+        TypeDescription typeDescription = typePool.parse(binaryRepresentation);
+        for (Rule rule : rules) {
+            if (rule.matches(typeDescription)) {
+                DynamicType dynamicType = rule.apply(byteBuddy.rebase(typeDescription, new ForClassFile(typeName, binaryRepresentation)), typeDescription).make();
+                if (dynamicType.hasAliveLoadedTypeInitializers()) {
+                    throw new IllegalStateException("Cannot write " + typeDescription + " as it requires live initialization");
+                }
+                return dynamicType;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        TransformationEngine that = (TransformationEngine) other;
+        return maximumPending == that.maximumPending
+                && byteBuddy.equals(that.byteBuddy)
+                && typePool.equals(that.typePool)
+                && rules.equals(that.rules)
+                && executor.equals(that.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = byteBuddy.hashCode();
+        result = 31 * result + typePool.hashCode();
+        result = 31 * result + rules.hashCode();
+        result = 31 * result + executor.hashCode();
+        result = 31 * result + maximumPending;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TransformationEngine{" +
+                "byteBuddy=" + byteBuddy +
+                ", typePool=" + typePool +
+                ", rules=" + rules +
+                ", executor=" + executor +
+                ", maximumPending=" + maximumPending +
+                '}';
+    }
+
+    /**
+     * A target to which transformed types are written.
+     */
+    public interface Target {
+
+        /**
+         * Opens this target for writing.
+         *
+         * @return A sink for writing transformed types to this target.
+         * @throws IOException If the target cannot be opened.
+         */
+        Sink open() throws IOException;
+
+        /**
+         * A sink for writing transformed types to a target. A sink is only accessed by a single thread. A sink is
+         * always closed, but it is only completed before it is closed if all types were transformed successfully.
+         */
+        interface Sink extends Closeable {
+
+            /**
+             * Writes a transformed type and its auxiliary types.
+             *
+             * @param dynamicType The transformed type to write.
+             * @throws IOException If the type cannot be written.
+             */
+            void write(DynamicType dynamicType) throws IOException;
+
+            /**
+             * Completes the target after all transformed types were written successfully.
+             *
+             * @throws IOException If the target cannot be completed.
+             */
+            void complete() throws IOException;
+        }
+
+        /**
+         * A target that saves transformed types in a folder structure where folders denote packages. Any class file of
+         * an existing type with the same name is overwritten such that a folder can be transformed in place. As each
+         * type is saved when it is written, any type that was written before a failing transformation remains saved.
+         */
+        class ForFolder implements Target, Sink {
+
+            /**
+             * The base folder of the package structure.
+             */
+            private final File folder;
+
+            /**
+             * Creates a new target for a folder structure.
+             *
+             * @param folder The base folder of the package structure.
+             */
+            public ForFolder(File folder) {
+                this.folder = nonNull(folder);
+            }
+
+            @Override
+            public Sink open() {
+                return this;
+            }
+
+            @Override
+            public void write(DynamicType dynamicType) throws IOException {
+                dynamicType.saveIn(folder);
+            }
+
+            @Override
+            public void complete() {
+                /* do nothing */
+            }
+
+            @Override
+            public void close() {
+                /* do nothing */
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && folder.equals(((ForFolder) other).folder);
+            }
+
+            @Override
+            public int hashCode() {
+                return folder.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TransformationEngine.Target.ForFolder{" +
+                        "folder=" + folder +
+                        '}';
+            }
+        }
+
+        /**
+         * A target that writes transformed types to a new <i>jar</i> file. Each transformed type is written before its
+         * auxiliary types which are written in the order of their names. If the target is not completed, the incomplete
+         * <i>jar</i> file is deleted.
+         */
+        class ForJarFile implements Target {
+
+            /**
+             * The <i>jar</i> file to write.
+             */
+            private final File file;
+
+            /**
+             * The manifest of the written <i>jar</i> file.
+             */
+            private final Manifest manifest;
+
+            /**
+             * Creates a new target for a <i>jar</i> file.
+             *
+             * @param file     The <i>jar</i> file to write.
+             * @param manifest The manifest of the written <i>jar</i> file.
+             */
+            public ForJarFile(File file, Manifest manifest) {
+                this.file = nonNull(file);
+                this.manifest = nonNull(manifest);
+            }
+
+            @Override
+            public Sink open() throws IOException {
+                return new ForJarFile.Writing(new JarOutputStream(new BufferedOutputStream(new FileOutputStream(file)), manifest), file);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && file.equals(((ForJarFile) other).file)
+                        && manifest.equals(((ForJarFile) other).manifest);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * file.hashCode() + manifest.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TransformationEngine.Target.ForJarFile{" +
+                        "file=" + file +
+                        ", manifest=" + manifest +
+                        '}';
+            }
+
+            /**
+             * A sink that writes transformed types to a <i>jar</i> output stream.
+             */
+            protected static class Writing implements Sink {
+
+                /**
+                 * The output stream to write to.
+                 */
+                private final JarOutputStream outputStream;
+
+                /**
+                 * The <i>jar</i> file that is written.
+                 */
+                private final File file;
+
+                /**
+                 * {@code true} if this sink was completed.
+                 */
+                private boolean completed;
+
+                /**
+                 * Creates a new writing sink.
+                 *
+                 * @param outputStream The output stream to write to.
+                 * @param file         The <i>jar</i> file that is written.
+                 */
+                protected Writing(JarOutputStream outputStream, File file) {
+                    this.outputStream = outputStream;
+                    this.file = file;
+                }
+
+                @Override
+                public void write(DynamicType dynamicType) throws IOException {
+                    write(dynamicType.getTypeDescription(), dynamicType.getBytes());
+                    Map<TypeDescription, byte[]> auxiliaryTypes = new TreeMap<TypeDescription, byte[]>(NameComparator.INSTANCE);
+                    auxiliaryTypes.putAll(dynamicType.getRawAuxiliaryTypes());
+                    for (Map.Entry<TypeDescription, byte[]> entry : auxiliaryTypes.entrySet()) {
+                        write(entry.getKey(), entry.getValue());
+                    }
+                }
+
+                /**
+                 * Writes a single class file.
+                 *
+                 * @param typeDescription      The type that is represented by the class file.
+                 * @param binaryRepresentation The class file.
+                 * @throws IOException If the class file cannot be written.
+                 */
+                private void write(TypeDescription typeDescription, byte[] binaryRepresentation) throws IOException {
+                    outputStream.putNextEntry(new JarEntry(typeDescription.getInternalName() + ClassFileLocator.CLASS_FILE_EXTENSION));
+                    outputStream.write(binaryRepresentation);
+                    outputStream.closeEntry();
+                }
+
+                @Override
+                public void complete() throws IOException {
+                    outputStream.close();
+                    completed = true;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (!completed) {
+                        try {
+                            outputStream.close();
+                        } finally {
+                            file.delete();
+                        }
+                    }
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && outputStream.equals(((Writing) other).outputStream)
+                            && file.equals(((Writing) other).file);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * outputStream.hashCode() + file.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "TransformationEngine.Target.ForJarFile.Writing{" +
+                            "outputStream=" + outputStream +
+                            ", file=" + file +
+                            ", completed=" + completed +
+                            '}';
+                }
+            }
+        }
+
+        /**
+         * A target that injects transformed types into a copy of a <i>jar</i> file using a
+         * {@link net.bytebuddy.dynamic.JarInjector}. All transformed types are retained until the sink is completed when
+         * they are injected within a single pass over the source <i>jar</i> file. If the sink is not completed, no type
+         * is injected such that the target file is not altered. The source and the target file might be the same in order
+         * to transform a <i>jar</i> file in place.
+         */
+        class ForInjection implements Target {
+
+            /**
+             * The original <i>jar</i> file.
+             */
+            private final File sourceJar;
+
+            /**
+             * The <i>jar</i> file to write.
+             */
+            private final File targetJar;
+
+            /**
+             * Creates a new target for injecting transformed types into a <i>jar</i> file.
+             *
+             * @param sourceJar The original <i>jar</i> file.
+             * @param targetJar The <i>jar</i> file to write.
+             */
+            public ForInjection(File sourceJar, File targetJar) {
+                this.sourceJar = nonNull(sourceJar);
+                this.targetJar = nonNull(targetJar);
+            }
+
+            @Override
+            public Sink open() {
+                return new Collecting();
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && sourceJar.equals(((ForInjection) other).sourceJar)
+                        && targetJar.equals(((ForInjection) other).targetJar);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * sourceJar.hashCode() + targetJar.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TransformationEngine.Target.ForInjection{" +
+                        "sourceJar=" + sourceJar +
+                        ", targetJar=" + targetJar +
+                        '}';
+            }
+
+            /**
+             * A sink that collects all transformed types and injects them when it is completed.
+             */
+            protected class Collecting implements Sink {
+
+                /**
+                 * The transformed types in the order in which they were written.
+                 */
+                private final List<DynamicType> dynamicTypes;
+
+                /**
+                 * Creates a new collecting sink.
+                 */
+                protected Collecting() {
+                    dynamicTypes = new ArrayList<DynamicType>();
+                }
+
+                @Override
+                public void write(DynamicType dynamicType) {
+                    dynamicTypes.add(dynamicType);
+                }
+
+                @Override
+                public void close() {
+                    dynamicTypes.clear();
+                }
+
+                @Override
+                public void complete() throws IOException {
+                    JarInjector jarInjector = new JarInjector(dynamicTypes);
+                    if (sourceJar.getAbsoluteFile().equals(targetJar.getAbsoluteFile())) {
+                        jarInjector.inject(targetJar);
+                    } else {
+                        jarInjector.inject(sourceJar, targetJar);
+                    }
+                }
+
+                /**
+                 * Returns the outer instance.
+                 *
+                 * @return The outer instance.
+                 */
+                private ForInjection getForInjection() {
+                    return ForInjection.this;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && dynamicTypes.equals(((Collecting) other).dynamicTypes)
+                            && ForInjection.this.equals(((Collecting) other).getForInjection());
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * dynamicTypes.hashCode() + ForInjection.this.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "TransformationEngine.Target.ForInjection.Collecting{" +
+                            "forInjection=" + ForInjection.this +
+                            ", dynamicTypes=" + dynamicTypes +
+                            '}';
+                }
+            }
+        }
+    }
+
+    /**
+     * A rule that applies a transformer to all matched types.
+     */
+    protected static class Rule {
+
+        /**
+         * The matcher that identifies the types to transform.
+         */
+        private final ElementMatcher<? super TypeDescription> matcher;
+
+        /**
+         * The transformer to apply to the matched types.
+         */
+        private final AgentBuilder.Transformer transformer;
+
+        /**
+         * Creates a new rule.
+         *
+         * @param matcher     The matcher that identifies the types to transform.
+         * @param transformer The transformer to apply to the matched types.
+         */
+        protected Rule(ElementMatcher<? super TypeDescription> matcher, AgentBuilder.Transformer transformer) {
+            this.matcher = matcher;
+            this.transformer = transformer;
+        }
+
+        /**
+         * Checks if this rule applies to the given type.
+         *
+         * @param typeDescription The type to check.
+         * @return {@code true} if this rule applies to the given type.
+         */
+        protected boolean matches(TypeDescription typeDescription) {
+            return matcher.matches(typeDescription);
+        }
+
+        /**
+         * Applies this rule's transformer.
+         *
+         * @param builder         The builder for the transformed type.
+         * @param typeDescription The transformed type.
+         * @return The transformed builder.
+         */
+        protected DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+            return transformer.transform(builder, typeDescription);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && matcher.equals(((Rule) other).matcher)
+                    && transformer.equals(((Rule) other).transformer);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * matcher.hashCode() + transformer.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TransformationEngine.Rule{" +
+                    "matcher=" + matcher +
+                    ", transformer=" + transformer +
+                    '}';
+        }
+    }
+
+    /**
+     * A class file locator that locates a single class file.
+     */
+    protected static class ForClassFile implements ClassFileLocator {
+
+        /**
+         * The binary name of the type that is represented by the class file.
+         */
+        private final String typeName;
+
+        /**
+         * The class file.
+         */
+        private final byte[] binaryRepresentation;
+
+        /**
+         * Creates a new class file locator for a single class file.
+         *
+         * @param typeName             The binary name of the type that is represented by the class file.
+         * @param binaryRepresentation The class file.
+         */
+        protected ForClassFile(String typeName, byte[] binaryRepresentation) {
+            this.typeName = typeName;
+            this.binaryRepresentation = binaryRepresentation;
+        }
+
+        @Override
+        public Resolution locate(String typeName) {
+            return this.typeName.equals(typeName)
+                    ? new Resolution.Explicit(binaryRepresentation)
+                    : Resolution.Illegal.INSTANCE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && typeName.equals(((ForClassFile) other).typeName)
+                    && Arrays.equals(binaryRepresentation, ((ForClassFile) other).binaryRepresentation);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * typeName.hashCode() + Arrays.hashCode(binaryRepresentation);
+        }
+
+        @Override
+        public String toString() {
+            return "TransformationEngine.ForClassFile{" +
+                    "typeName='" + typeName + '\'' +
+                    ", binaryRepresentation=<" + binaryRepresentation.length + " bytes>" +
+                    '}';
+        }
+    }
+
+    /**
+     * A comparator that orders type descriptions by their names.
+     */
+    protected enum NameComparator implements Comparator<TypeDescription> {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public int compare(TypeDescription left, TypeDescription right) {
+            return left.getName().compareTo(right.getName());
+        }
+
+        @Override
+        public String toString() {
+            return "TransformationEngine.NameComparator." + name();
+        }
+    }
+
+    /**
+     * An executor that runs any command on the calling thread.
+     */
+    protected enum DirectExecutor implements Executor {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public String toString() {
+            return "TransformationEngine.DirectExecutor." + name();
+        }
+    }
+
+    /**
+     * A processor that dispatches class files to the engine's executor and that writes the transformed types to a
+     * sink in the order in which the class files were supplied.
+     */
+    protected class Dispatcher implements TypeScanner.Source.Processor {
+
+        /**
+         * The sink to write transformed types to.
+         */
+        private final Target.Sink sink;
+
+        /**
+         * The transformations that are not yet written in the order in which their class files were supplied.
+         */
+        private final Queue<Transformation> pending;
+
+        /**
+         * The descriptions of all types that were written.
+         */
+        private final List<TypeDescription> transformed;
+
+        /**
+         * Creates a new dispatcher.
+         *
+         * @param sink The sink to write transformed types to.
+         */
+        protected Dispatcher(Target.Sink sink) {
+            this.sink = sink;
+            pending = new LinkedList<Transformation>();
+            transformed = new ArrayList<TypeDescription>();
+        }
+
+        @Override
+        public void process(String typeName, byte[] binaryRepresentation) throws IOException {
+            while (pending.size() >= maximumPending) {
+                write(pending.remove());
+            }
+            Transformation transformation = new Transformation(typeName, binaryRepresentation);
+            pending.add(transformation);
+            executor.execute(transformation);
+        }
+
+        /**
+         * Writes all pending transformations.
+         *
+         * @return The descriptions of all types that were written.
+         * @throws IOException If a type cannot be written.
+         */
+        protected List<TypeDescription> complete() throws IOException {
+            while (!pending.isEmpty()) {
+                write(pending.remove());
+            }
+            return transformed;
+        }
+
+        /**
+         * Awaits the completion of a transformation and writes its result.
+         *
+         * @param transformation The transformation to write.
+         * @throws IOException If the type cannot be written.
+         */
+        private void write(Transformation transformation) throws IOException {
+            DynamicType dynamicType = transformation.resolve();
+            if (dynamicType != null) {
+                sink.write(dynamicType);
+                transformed.add(dynamicType.getTypeDescription());
+            }
+        }
+
+        /**
+         * Returns the outer instance.
+         *
+         * @return The outer instance.
+         */
+        private TransformationEngine getTransformationEngine() {
+            return TransformationEngine.this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && sink.equals(((Dispatcher) other).sink)
+                    && TransformationEngine.this.equals(((Dispatcher) other).getTransformationEngine());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sink.hashCode() + TransformationEngine.this.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TransformationEngine.Dispatcher{" +
+                    "transformationEngine=" + TransformationEngine.this +
+                    ", sink=" + sink +
+                    ", pending=" + pending.size() +
+                    '}';
+        }
+
+        /**
+         * The transformation of a single class file.
+         */
+        protected class Transformation extends FutureTask<DynamicType> {
+
+            /**
+             * The binary name of the type that is represented by the class file.
+             */
+            private final String typeName;
+
+            /**
+             * Creates a new transformation.
+             *
+             * @param typeName             The binary name of the type that is represented by the class file.
+             * @param binaryRepresentation The class file.
+             */
+            protected Transformation(final String typeName, final byte[] binaryRepresentation) {
+                super(new Callable<DynamicType>() {
+                    @Override
+                    public DynamicType call() {
+                        return transform(typeName, binaryRepresentation);
+                    }
+                });
+                this.typeName = typeName;
+            }
+
+            /**
+             * Awaits and returns the transformed type.
+             *
+             * @return The transformed type or {@code null} if the type is not matched by any rule.
+             */
+            protected DynamicType resolve() {
+                try {
+                    return get();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while transforming " + typeName, exception);
+                } catch (ExecutionException exception) {
+                    throw new IllegalStateException("Cannot transform " + typeName, exception.getCause());
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "TransformationEngine.Dispatcher.Transformation{" +
+                        "typeName='" + typeName + '\'' +
+                        ", done=" + isDone() +
+                        '}';
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.commons.RemappingClassAdapter;
+import org.objectweb.asm.commons.SimpleRemapper;
+
+import java.util.*;
+
+import static net.bytebuddy.matcher.ElementMatchers.is;
+import static net.bytebuddy.utility.ByteBuddyCommons.isValidTypeName;
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * A type template allows to repeatedly create a dynamic type of an identical shape under different names without
+ * preparing, compiling and writing the type's methods and fields again. For this, the template holds on to the
+ * class files of a previously created dynamic type and of its auxiliary types and only renames these types when
+ * creating a new dynamic type. The names of auxiliary types are derived from the new name of the instrumented type.
+ * </p>
+ * <p>
+ * A template's {@link net.bytebuddy.implementation.LoadedTypeInitializer}s are applied to every type that is created
+ * from it. Such initializers resolve the fields they assign or the values they register from the loaded type they are
+ * applied to such that they are bound to the renamed type. The values of these initializers are however shared by all
+ * copies of a template, for example the delegate of a {@link net.bytebuddy.implementation.MethodDelegation} or the
+ * value of a {@link net.bytebuddy.implementation.FixedValue}. Per-copy values can be assigned by an additional
+ * initializer when creating a copy. Furthermore, names of the template's types that are stored as string constants
+ * within a class file are not renamed.
+ * </p>
+ *
+ * @param <T> The most specific known loaded type that is implemented by the template's dynamic type.
+ */
+public class TypeTemplate<T> {
+
+    /**
+     * A separator for the name of an inner type.
+     */
+    private static final char INNER_TYPE_SEPARATOR = '$';
+
+    /**
+     * Indicates that ASM should not compute any stack map frames or stack sizes.
+     */
+    private static final int ASM_MANUAL_FLAG = 0;
+
+    /**
+     * Indicates that ASM should not skip any information when reading a class file.
+     */
+    private static final int ASM_NO_FLAGS = 0;
+
+    /**
+     * A blueprint of the template's instrumented type.
+     */
+    private final Blueprint instrumentedType;
+
+    /**
+     * Blueprints of the template's auxiliary types.
+     */
+    private final List<Blueprint> auxiliaryTypes;
+
+    /**
+     * Creates a new type template.
+     *
+     * @param dynamicType The dynamic type that serves as a template.
+     */
+    public TypeTemplate(DynamicType.Unloaded<T> dynamicType) {
+        nonNull(dynamicType);
+        Map<TypeDescription, LoadedTypeInitializer> loadedTypeInitializers = dynamicType.getLoadedTypeInitializers();
+        instrumentedType = new Blueprint(dynamicType.getTypeDescription(),
+                dynamicType.getBytes(),
+                loadedTypeInitializers.get(dynamicType.getTypeDescription()));
+        Map<TypeDescription, byte[]> rawAuxiliaryTypes = dynamicType.getRawAuxiliaryTypes();
+        auxiliaryTypes = new ArrayList<Blueprint>(rawAuxiliaryTypes.size());
+        for (Map.Entry<TypeDescription, byte[]> entry : rawAuxiliaryTypes.entrySet()) {
+            auxiliaryTypes.add(new Blueprint(entry.getKey(), entry.getValue(), loadedTypeInitializers.get(entry.getKey())));
+        }
+    }
+
+    /**
+     * Returns the name of the template's instrumented type.
+     *
+     * @return The name of the template's instrumented type.
+     */
+    public String getName() {
+        return instrumentedType.getName();
+    }
+
+    /**
+     * Creates a new dynamic type of this template's shape with the given name.
+     *
+     * @param name The name of the new dynamic type.
+     * @return A dynamic type of this template's shape with the given name.
+     */
+    public DynamicType.Unloaded<T> make(String name) {
+        return make(name, LoadedTypeInitializer.NoOp.INSTANCE);
+    }
+
+    /**
+     * Creates a new dynamic type of this template's shape with the given name. The given loaded type initializer is
+     * applied to the new type after the template's own loaded type initializer which allows to assign values to the
+     * new type's static fields that differ from those of other copies of this template.
+     *
+     * @param name                  The name of the new dynamic type.
+     * @param loadedTypeInitializer An additional loaded type initializer to apply to the new dynamic type.
+     * @return A dynamic type of this template's shape with the given name.
+     */
+    public DynamicType.Unloaded<T> make(String name, LoadedTypeInitializer loadedTypeInitializer) {
+        name = isValidTypeName(name);
+        loadedTypeInitializer = new LoadedTypeInitializer.Compound(instrumentedType.getLoadedTypeInitializer(), nonNull(loadedTypeInitializer));
+        Map<String, String> internalNames = new HashMap<String, String>(auxiliaryTypes.size() + 1);
+        internalNames.put(instrumentedType.getInternalName(), toInternalName(name));
+        for (Blueprint auxiliaryType : auxiliaryTypes) {
+            internalNames.put(auxiliaryType.getInternalName(), toInternalName(auxiliaryName(auxiliaryType.getName(), name)));
+        }
+        SimpleRemapper remapper = new SimpleRemapper(internalNames);
+        List<DynamicType> auxiliaryTypes = new ArrayList<DynamicType>(this.auxiliaryTypes.size());
+        for (Blueprint auxiliaryType : this.auxiliaryTypes) {
+            String auxiliaryName = toExternalName(internalNames.get(auxiliaryType.getInternalName()));
+            auxiliaryTypes.add(new DynamicType.Default(auxiliaryType.describe(auxiliaryName, auxiliaryType.getLoadedTypeInitializer()),
+                    auxiliaryType.rename(remapper),
+                    auxiliaryType.getLoadedTypeInitializer(),
+                    Collections.<DynamicType>emptyList()));
+        }
+        return new DynamicType.Default.Unloaded<T>(instrumentedType.describe(name, loadedTypeInitializer),
+                instrumentedType.rename(remapper),
+                loadedTypeInitializer,
+                auxiliaryTypes);
+    }
+
+    /**
+     * Derives the name of an auxiliary type for a new name of the instrumented type. If the auxiliary type's name
+     * is prefixed by the template's instrumented type's name, this prefix is replaced. Otherwise, the auxiliary
+     * type's simple name is appended to the new name as if it was an inner type.
+     *
+     * @param auxiliaryName The name of the auxiliary type.
+     * @param name          The new name of the instrumented type.
+     * @return The auxiliary type's name for the new name of the instrumented type.
+     */
+    private String auxiliaryName(String auxiliaryName, String name) {
+        return auxiliaryName.startsWith(instrumentedType.getName() + INNER_TYPE_SEPARATOR)
+                ? name + auxiliaryName.substring(instrumentedType.getName().length())
+                : name + INNER_TYPE_SEPARATOR + auxiliaryName.substring(auxiliaryName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Converts a binary name into an internal name.
+     *
+     * @param name The binary name.
+     * @return The corresponding internal name.
+     */
+    private static String toInternalName(String name) {
+        return name.replace('.', '/');
+    }
+
+    /**
+     * Converts an internal name into a binary name.
+     *
+     * @param internalName The internal name.
+     * @return The corresponding binary name.
+     */
+    private static String toExternalName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && instrumentedType.equals(((TypeTemplate<?>) other).instrumentedType)
+                && auxiliaryTypes.equals(((TypeTemplate<?>) other).auxiliaryTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * instrumentedType.hashCode() + auxiliaryTypes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeTemplate{" +
+                "instrumentedType=" + instrumentedType +
+                ", auxiliaryTypes=" + auxiliaryTypes +
+                '}';
+    }
+
+    /**
+     * A blueprint of a single type of a template which retains a parsed representation of the type's class file.
+     */
+    protected static class Blueprint {
+
+        /**
+         * A description of the original type.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * A class reader for the original type's class file.
+         */
+        private final ClassReader classReader;
+
+        /**
+         * The loaded type initializer of the original type.
+         */
+        private final LoadedTypeInitializer loadedTypeInitializer;
+
+        /**
+         * The original type's type variables in their detached state.
+         */
+        private final List<? extends GenericTypeDescription> typeVariables;
+
+        /**
+         * Tokens of the original type's declared fields in their detached state.
+         */
+        private final List<? extends FieldDescription.Token> fieldTokens;
+
+        /**
+         * Tokens of the original type's declared methods in their detached state.
+         */
+        private final List<? extends MethodDescription.Token> methodTokens;
+
+        /**
+         * Creates a new blueprint.
+         *
+         * @param typeDescription       A description of the original type.
+         * @param binaryRepresentation  The original type's class file.
+         * @param loadedTypeInitializer The loaded type initializer of the original type.
+         */
+        protected Blueprint(TypeDescription typeDescription, byte[] binaryRepresentation, LoadedTypeInitializer loadedTypeInitializer) {
+            this.typeDescription = typeDescription;
+            classReader = new ClassReader(binaryRepresentation);
+            this.loadedTypeInitializer = loadedTypeInitializer;
+            typeVariables = typeDescription.getTypeVariables().accept(new GenericTypeDescription.Visitor.Substitutor.ForDetachment(is(typeDescription)));
+            fieldTokens = typeDescription.getDeclaredFields().asTokenList(is(typeDescription));
+            methodTokens = typeDescription.getDeclaredMethods().asTokenList(is(typeDescription));
+        }
+
+        /**
+         * Returns the name of the original type.
+         *
+         * @return The name of the original type.
+         */
+        protected String getName() {
+            return typeDescription.getName();
+        }
+
+        /**
+         * Returns the internal name of the original type.
+         *
+         * @return The internal name of the original type.
+         */
+        protected String getInternalName() {
+            return typeDescription.getInternalName();
+        }
+
+        /**
+         * Returns the loaded type initializer of the original type.
+         *
+         * @return The loaded type initializer of the original type.
+         */
+        protected LoadedTypeInitializer getLoadedTypeInitializer() {
+            return loadedTypeInitializer;
+        }
+
+        /**
+         * Describes this blueprint's type under a new name including the type's fields, methods and annotations.
+         *
+         * @param name                  The new name of the type.
+         * @param loadedTypeInitializer The loaded type initializer of the renamed type.
+         * @return A description of the renamed type.
+         */
+        protected TypeDescription describe(String name, LoadedTypeInitializer loadedTypeInitializer) {
+            return new InstrumentedType.Default(name,
+                    typeDescription.getModifiers(),
+                    typeVariables,
+                    typeDescription.getSuperType(),
+                    typeDescription.getInterfaces(),
+                    fieldTokens,
+                    methodTokens,
+                    typeDescription.getDeclaredAnnotations(),
+                    InstrumentedType.TypeInitializer.None.INSTANCE,
+                    loadedTypeInitializer,
+                    typeDescription.getDeclaringType(),
+                    typeDescription.getEnclosingMethod(),
+                    typeDescription.getEnclosingType(),
+                    typeDescription.isMemberClass(),
+                    typeDescription.isAnonymousClass(),
+                    typeDescription.isLocalClass());
+        }
+
+        /**
+         * Writes this blueprint's class file where all type names are substituted by the given remapper.
+         *
+         * @param remapper The remapper to apply.
+         * @return The renamed class file.
+         */
+        protected byte[] rename(SimpleRemapper remapper) {
+            ClassWriter classWriter = new ClassWriter(ASM_MANUAL_FLAG);
+            classReader.accept(new RemappingClassAdapter(classWriter, remapper), ASM_NO_FLAGS);
+            return classWriter.toByteArray();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Blueprint blueprint = (Blueprint) other;
+            return typeDescription.equals(blueprint.typeDescription)
+                    && Arrays.equals(classReader.b, blueprint.classReader.b)
+                    && loadedTypeInitializer.equals(blueprint.loadedTypeInitializer);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = typeDescription.hashCode();
+            result = 31 * result + Arrays.hashCode(classReader.b);
+            result = 31 * result + loadedTypeInitializer.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeTemplate.Blueprint{" +
+                    "typeDescription=" + typeDescription +
+                    ", binaryRepresentation=<" + classReader.b.length + " bytes>" +
+                    ", loadedTypeInitializer=" + loadedTypeInitializer +
+                    '}';
+        }
+    }
+}
@@ -8,6 +8,7 @@ import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.attribute.MethodAttributeAppender;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.matcher.CompiledMatcher;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.LatentMethodMatcher;
 
@@ -467,10 +468,14 @@ public interface MethodRegistry {
             }
             MethodLookupEngine.Finding finding = methodLookupEngine.process(instrumentedType);
             List<MethodDescription> relevant = finding.getInvokableMethods().filter(not(anyOf(implementations.keySet())).and(methodFilter.resolve(instrumentedType)));
+            Map<Entry, ElementMatcher<? super MethodDescription>> matchers = new LinkedHashMap<Entry, ElementMatcher<? super MethodDescription>>(entries.size());
+            for (Entry entry : entries) {
+                matchers.put(entry, CompiledMatcher.compile(entry.resolve(instrumentedType)));
+            }
             for (MethodDescription methodDescription : join(new MethodDescription.Latent.TypeInitializer(instrumentedType), relevant)) {
-                for (Entry entry : entries) {
-                    if (entry.resolve(instrumentedType).matches(methodDescription)) {
-                        implementations.put(methodDescription, entry);
+                for (Map.Entry<Entry, ElementMatcher<? super MethodDescription>> matcher : matchers.entrySet()) {
+                    if (matcher.getValue().matches(methodDescription)) {
+                        implementations.put(methodDescription, matcher.getKey());
                         break;
                     }
                 }
@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static net.bytebuddy.utility.ByteBuddyCommons.join;
 
@@ -819,12 +820,12 @@ public interface TypeWriter<T> {
          * @param <U>                         The best known loaded type for the dynamically created type.
          * @return An appropriate type writer.
          */
-        public static <U> TypeWriter<U> forCreation(MethodRegistry.Compiled methodRegistry,
-                                                    FieldPool fieldPool,
-                                                    AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
-                                                    ClassVisitorWrapper classVisitorWrapper,
-                                                    TypeAttributeAppender attributeAppender,
-                                                    ClassFileVersion classFileVersion) {
+        public static <U> Default<U> forCreation(MethodRegistry.Compiled methodRegistry,
+                                                 FieldPool fieldPool,
+                                                 AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                                                 ClassVisitorWrapper classVisitorWrapper,
+                                                 TypeAttributeAppender attributeAppender,
+                                                 ClassFileVersion classFileVersion) {
             return new ForCreation<U>(methodRegistry.getInstrumentedType(),
                     methodRegistry.getLoadedTypeInitializer(),
                     methodRegistry.getTypeInitializer(),
@@ -853,15 +854,15 @@ public interface TypeWriter<T> {
          * @param <U>                         The best known loaded type for the dynamically created type.
          * @return An appropriate type writer.
          */
-        public static <U> TypeWriter<U> forRebasing(MethodRegistry.Compiled methodRegistry,
-                                                    FieldPool fieldPool,
-                                                    AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
-                                                    ClassVisitorWrapper classVisitorWrapper,
-                                                    TypeAttributeAppender attributeAppender,
-                                                    ClassFileVersion classFileVersion,
-                                                    ClassFileLocator classFileLocator,
-                                                    TypeDescription targetType,
-                                                    MethodRebaseResolver methodRebaseResolver) {
+        public static <U> Default<U> forRebasing(MethodRegistry.Compiled methodRegistry,
+                                                 FieldPool fieldPool,
+                                                 AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                                                 ClassVisitorWrapper classVisitorWrapper,
+                                                 TypeAttributeAppender attributeAppender,
+                                                 ClassFileVersion classFileVersion,
+                                                 ClassFileLocator classFileLocator,
+                                                 TypeDescription targetType,
+                                                 MethodRebaseResolver methodRebaseResolver) {
             return new ForInlining<U>(methodRegistry.getInstrumentedType(),
                     methodRegistry.getLoadedTypeInitializer(),
                     methodRegistry.getTypeInitializer(),
@@ -892,14 +893,14 @@ public interface TypeWriter<T> {
          * @param <U>                         The best known loaded type for the dynamically created type.
          * @return An appropriate type writer.
          */
-        public static <U> TypeWriter<U> forRedefinition(MethodRegistry.Compiled methodRegistry,
-                                                        FieldPool fieldPool,
-                                                        AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
-                                                        ClassVisitorWrapper classVisitorWrapper,
-                                                        TypeAttributeAppender attributeAppender,
-                                                        ClassFileVersion classFileVersion,
-                                                        ClassFileLocator classFileLocator,
-                                                        TypeDescription targetType) {
+        public static <U> Default<U> forRedefinition(MethodRegistry.Compiled methodRegistry,
+                                                     FieldPool fieldPool,
+                                                     AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                                                     ClassVisitorWrapper classVisitorWrapper,
+                                                     TypeAttributeAppender attributeAppender,
+                                                     ClassFileVersion classFileVersion,
+                                                     ClassFileLocator classFileLocator,
+                                                     TypeDescription targetType) {
             return new ForInlining<U>(methodRegistry.getInstrumentedType(),
                     methodRegistry.getLoadedTypeInitializer(),
                     methodRegistry.getTypeInitializer(),
@@ -918,10 +919,36 @@ public interface TypeWriter<T> {
 
         @Override
         public DynamicType.Unloaded<S> make() {
-            Implementation.Context.ExtractableView implementationContext = new Implementation.Context.Default(instrumentedType,
+            return doMake(new Implementation.Context.Default(instrumentedType,
+                    auxiliaryTypeNamingStrategy,
+                    typeInitializer,
+                    classFileVersion));
+        }
+
+        /**
+         * Creates the dynamic type that is described by this type writer where the auxiliary types that are required by the
+         * instrumented methods are discovered before the type is written. The discovered auxiliary types are then created by
+         * the supplied executor while the type is written such that independent auxiliary types are created concurrently.
+         *
+         * @param executor The executor to use for creating auxiliary types.
+         * @return An unloaded dynamic type that describes the created type.
+         */
+        public DynamicType.Unloaded<S> make(Executor executor) {
+            Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
                     auxiliaryTypeNamingStrategy,
                     typeInitializer,
                     classFileVersion);
+            implementationContext.prepare(instrumentedMethods, methodPool, executor);
+            return doMake(implementationContext);
+        }
+
+        /**
+         * Creates the dynamic type that is described by this type writer.
+         *
+         * @param implementationContext The implementation context to use.
+         * @return An unloaded dynamic type that describes the created type.
+         */
+        private DynamicType.Unloaded<S> doMake(Implementation.Context.ExtractableView implementationContext) {
             return new DynamicType.Default.Unloaded<S>(instrumentedType,
                     create(implementationContext),
                     loadedTypeInitializer,
@@ -18,6 +18,7 @@ import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
 import net.bytebuddy.matcher.ElementMatcher;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 import static net.bytebuddy.utility.ByteBuddyCommons.joinUniqueRaw;
@@ -60,6 +61,8 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+     *                                              auxiliary types are created sequentially.
      * @param classFileLocator                      A locator for finding a class file to a given type.
      * @param methodNameTransformer                 A name transformer that transforms names of any rebased method.
      */
@@ -78,6 +81,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                                     MethodLookupEngine.Factory methodLookupEngineFactory,
                                     FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                     MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                    Executor executor,
                                     ClassFileLocator classFileLocator,
                                     MethodRebaseResolver.MethodNameTransformer methodNameTransformer) {
         this(classFileVersion,
@@ -95,6 +99,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 levelType.getDeclaredFields().asTokenList(is(levelType)),
                 levelType.getDeclaredMethods().asTokenList(is(levelType)),
                 classFileLocator,
@@ -121,6 +126,8 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+     *                                              auxiliary types are created sequentially.
      * @param fieldTokens                           A list of field representations that were added explicitly to this
      *                                              dynamic type.
      * @param methodTokens                          A list of method representations that were added explicitly to this
@@ -143,6 +150,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                                        MethodLookupEngine.Factory methodLookupEngineFactory,
                                        FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                       Executor executor,
                                        List<FieldDescription.Token> fieldTokens,
                                        List<MethodDescription.Token> methodTokens,
                                        ClassFileLocator classFileLocator,
@@ -162,6 +170,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 fieldTokens,
                 methodTokens);
         this.classFileLocator = classFileLocator;
@@ -201,6 +210,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 fieldTokens,
                 methodTokens,
                 classFileLocator,
@@ -209,6 +219,22 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
 
     @Override
     public DynamicType.Unloaded<T> make() {
+        return executor == null
+                ? toTypeWriter().make()
+                : toTypeWriter().make(executor);
+    }
+
+    @Override
+    public DynamicType.Unloaded<T> make(Executor executor) {
+        return toTypeWriter().make(executor);
+    }
+
+    /**
+     * Creates a type writer for the type that is described by this builder.
+     *
+     * @return A type writer for the type that is described by this builder.
+     */
+    protected TypeWriter.Default<T> toTypeWriter() {
         MethodRegistry.Prepared preparedMethodRegistry = methodRegistry.prepare(new InstrumentedType.Default(namingStrategy.name(new NamingStrategy
                         .UnnamedType.Default(targetType.getSuperType(), interfaceTypes, modifiers, classFileVersion)),
                         modifiers,
@@ -243,7 +269,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 classFileVersion,
                 classFileLocator,
                 targetType,
-                methodRebaseResolver).make();
+                methodRebaseResolver);
     }
 
     @Override
@@ -280,6 +306,7 @@ public class RebaseDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
+                ", executor=" + executor +
                 ", fieldTokens=" + fieldTokens +
                 ", methodTokens=" + methodTokens +
                 ", classFileLocator=" + classFileLocator +
@@ -19,6 +19,7 @@ import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
 import net.bytebuddy.matcher.ElementMatcher;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 import static net.bytebuddy.utility.ByteBuddyCommons.joinUniqueRaw;
@@ -55,6 +56,8 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+     *                                              auxiliary types are created sequentially.
      * @param classFileLocator                      A locator for finding a class file to a given type.
      */
     public RedefinitionDynamicTypeBuilder(ClassFileVersion classFileVersion,
@@ -72,6 +75,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                                           MethodLookupEngine.Factory methodLookupEngineFactory,
                                           FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                           MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                          Executor executor,
                                           ClassFileLocator classFileLocator) {
         this(classFileVersion,
                 namingStrategy,
@@ -88,6 +92,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 levelType.getDeclaredFields().asTokenList(is(levelType)),
                 levelType.getDeclaredMethods().asTokenList(is(levelType)),
                 classFileLocator);
@@ -113,6 +118,8 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+     *                                              auxiliary types are created sequentially.
      * @param fieldTokens                           A list of field representations that were added explicitly to this
      *                                              dynamic type.
      * @param methodTokens                          A list of method representations that were added explicitly to this
@@ -134,6 +141,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                                              MethodLookupEngine.Factory methodLookupEngineFactory,
                                              FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                              MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                             Executor executor,
                                              List<FieldDescription.Token> fieldTokens,
                                              List<MethodDescription.Token> methodTokens,
                                              ClassFileLocator classFileLocator) {
@@ -152,6 +160,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 fieldTokens,
                 methodTokens);
         this.classFileLocator = classFileLocator;
@@ -190,6 +199,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 fieldTokens,
                 methodTokens,
                 classFileLocator);
@@ -197,6 +207,22 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
 
     @Override
     public DynamicType.Unloaded<T> make() {
+        return executor == null
+                ? toTypeWriter().make()
+                : toTypeWriter().make(executor);
+    }
+
+    @Override
+    public DynamicType.Unloaded<T> make(Executor executor) {
+        return toTypeWriter().make(executor);
+    }
+
+    /**
+     * Creates a type writer for the type that is described by this builder.
+     *
+     * @return A type writer for the type that is described by this builder.
+     */
+    protected TypeWriter.Default<T> toTypeWriter() {
         MethodRegistry.Compiled compiledMethodRegistry = methodRegistry.prepare(new InstrumentedType.Default(namingStrategy.name(new NamingStrategy
                         .UnnamedType.Default(targetType.getSuperType(), interfaceTypes, modifiers, classFileVersion)),
                         modifiers,
@@ -224,7 +250,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                 attributeAppender,
                 classFileVersion,
                 classFileLocator,
-                targetType).make();
+                targetType);
     }
 
     @Override
@@ -257,6 +283,7 @@ public class RedefinitionDynamicTypeBuilder<T> extends DynamicType.Builder.Abstr
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
+                ", executor=" + executor +
                 ", fieldTokens=" + fieldTokens +
                 ", methodTokens=" + methodTokens +
                 ", classFileLocator=" + classFileLocator +
@@ -21,6 +21,7 @@ import net.bytebuddy.matcher.LatentMethodMatcher;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -56,6 +57,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+     *                                              auxiliary types are created sequentially.
      * @param constructorStrategy                   The strategy for creating constructors during the final definition
      *                                              phase of this dynamic type.
      */
@@ -74,6 +77,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                       MethodLookupEngine.Factory methodLookupEngineFactory,
                                       FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                       MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                      Executor executor,
                                       ConstructorStrategy constructorStrategy) {
         this(classFileVersion,
                 namingStrategy,
@@ -90,6 +94,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 Collections.<FieldDescription.Token>emptyList(),
                 Collections.<MethodDescription.Token>emptyList(),
                 constructorStrategy);
@@ -115,6 +120,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param executor                              The executor for creating auxiliary types concurrently or {@code null} if
+     *                                              auxiliary types are created sequentially.
      * @param fieldTokens                           A list of field representations that were added explicitly to this
      *                                              dynamic type.
      * @param methodTokens                          A list of method representations that were added explicitly to this
@@ -137,6 +144,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                          MethodLookupEngine.Factory methodLookupEngineFactory,
                                          FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                         Executor executor,
                                          List<FieldDescription.Token> fieldTokens,
                                          List<MethodDescription.Token> methodTokens,
                                          ConstructorStrategy constructorStrategy) {
@@ -155,6 +163,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 fieldTokens,
                 methodTokens);
         this.constructorStrategy = constructorStrategy;
@@ -193,6 +202,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                executor,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -200,6 +210,22 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
 
     @Override
     public DynamicType.Unloaded<T> make() {
+        return executor == null
+                ? toTypeWriter().make()
+                : toTypeWriter().make(executor);
+    }
+
+    @Override
+    public DynamicType.Unloaded<T> make(Executor executor) {
+        return toTypeWriter().make(executor);
+    }
+
+    /**
+     * Creates a type writer for the type that is described by this builder.
+     *
+     * @return A type writer for the type that is described by this builder.
+     */
+    protected TypeWriter.Default<T> toTypeWriter() {
         MethodRegistry.Compiled compiledMethodRegistry = constructorStrategy
                 .inject(methodRegistry, defaultMethodAttributeAppenderFactory)
                 .prepare(applyConstructorStrategy(new InstrumentedType.Default(namingStrategy.name(new NamingStrategy.UnnamedType.Default(targetType,
@@ -223,7 +249,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 auxiliaryTypeNamingStrategy,
                 classVisitorWrapperChain,
                 attributeAppender,
-                classFileVersion).make();
+                classFileVersion);
     }
 
 
@@ -270,6 +296,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
+                ", executor=" + executor +
                 ", fieldTokens=" + fieldTokens +
                 ", methodTokens=" + methodTokens +
                 ", constructorStrategy=" + constructorStrategy +
@@ -3,10 +3,12 @@ package net.bytebuddy.implementation;
 import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.Nexus;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
 import net.bytebuddy.implementation.bytecode.constant.*;
 import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
@@ -194,6 +196,47 @@ public abstract class FixedValue implements Implementation {
         return new ForStaticField(isValidIdentifier(fieldName), fixedValue, Assigner.DEFAULT, Assigner.STATICALLY_TYPED);
     }
 
+    /**
+     * Other than {@link net.bytebuddy.implementation.FixedValue#reference(Object)}, this function stores the fixed value
+     * in a {@code static final} field of the instrumented class. The field is assigned by the instrumented type's type
+     * initializer which queries the value from a registry where the value is registered when the instrumented
+     * type is loaded. As a result, a just-in-time compiler can treat the returned value as a true constant. The
+     * registry is injected into the class loader of the instrumented type which must therefore not be the bootstrap class
+     * loader. The instrumented type must be loaded by a
+     * {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy} that does not initialize the type before its
+     * {@link net.bytebuddy.implementation.LoadedTypeInitializer}s are applied.
+     * <p>&nbsp;</p>
+     * As an exception, the {@code null} value is always presented by a constant value and is never stored in a static
+     * field.
+     *
+     * @param fixedValue The fixed value to be returned by methods that are instrumented by this implementation.
+     * @return An implementation for the given {@code fixedValue}.
+     */
+    public static AssignerConfigurable finalReference(Object fixedValue) {
+        return fixedValue == null
+                ? new ForPoolValue(NullConstant.INSTANCE, TypeDescription.OBJECT, Assigner.DEFAULT, Assigner.DYNAMICALLY_TYPED)
+                : new ForStaticFinalField(fixedValue, Assigner.DEFAULT, Assigner.STATICALLY_TYPED);
+    }
+
+    /**
+     * Other than {@link net.bytebuddy.implementation.FixedValue#reference(Object, String)}, this function stores the fixed
+     * value in a {@code static final} field of the instrumented class such that a just-in-time compiler can treat the
+     * returned value as a true constant. See {@link net.bytebuddy.implementation.FixedValue#finalReference(Object)} for
+     * further details.
+     * <p>&nbsp;</p>
+     * As an exception, the {@code null} value cannot be used for this implementation but will cause an exception.
+     *
+     * @param fixedValue The fixed value to be returned by methods that are instrumented by this implementation.
+     * @param fieldName  The name of the field for storing the fixed value.
+     * @return An implementation for the given {@code fixedValue}.
+     */
+    public static AssignerConfigurable finalReference(Object fixedValue, String fieldName) {
+        if (fixedValue == null) {
+            throw new IllegalArgumentException("The fixed value must not be null");
+        }
+        return new ForStaticFinalField(isValidIdentifier(fieldName), fixedValue, Assigner.DEFAULT, Assigner.STATICALLY_TYPED);
+    }
+
     /**
      * Returns the given type in form of a loaded type. The value is loaded from the written class's constant pool.
      *
@@ -375,17 +418,17 @@ public abstract class FixedValue implements Implementation {
         /**
          * The name of the field in which the fixed value is stored.
          */
-        private final String fieldName;
+        protected final String fieldName;
 
         /**
          * The value that is to be stored in the static field.
          */
-        private final Object fixedValue;
+        protected final Object fixedValue;
 
         /**
          * The type if the field for storing the fixed value.
          */
-        private final TypeDescription fieldType;
+        protected final TypeDescription fieldType;
 
         /**
          * Creates a new static field fixed value implementation with a random name for the field containing the fixed
@@ -500,4 +543,145 @@ public abstract class FixedValue implements Implementation {
             }
         }
     }
+
+    /**
+     * A fixed value implementation that represents its fixed value as a {@code static final} field of the instrumented
+     * class. The field is assigned by the instrumented type's type initializer which resolves the value from a
+     * {@link net.bytebuddy.dynamic.Nexus} where the value is registered by a
+     * {@link net.bytebuddy.implementation.LoadedTypeInitializer} when the instrumented type is loaded.
+     */
+    protected static class ForStaticFinalField extends ForStaticField {
+
+        /**
+         * An accessor for the nexus that is loaded by the class loader of the instrumented type.
+         */
+        private final Nexus.Accessor accessor;
+
+        /**
+         * Creates a new static final field fixed value implementation with a random name for the field containing the
+         * fixed value.
+         *
+         * @param fixedValue       The fixed value to be returned.
+         * @param assigner         The assigner to use for assigning the fixed value to the return type of the
+         *                         instrumented value.
+         * @param dynamicallyTyped If {@code true}, the runtime type of the given value will be considered for
+         *                         assigning the return type.
+         */
+        protected ForStaticFinalField(Object fixedValue, Assigner assigner, boolean dynamicallyTyped) {
+            super(fixedValue, assigner, dynamicallyTyped);
+            accessor = Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER;
+        }
+
+        /**
+         * Creates a new static final field fixed value implementation.
+         *
+         * @param fieldName        The name of the field for storing the fixed value.
+         * @param fixedValue       The fixed value to be returned.
+         * @param assigner         The assigner to use for assigning the fixed value to the return type of the
+         *                         instrumented value.
+         * @param dynamicallyTyped If {@code true}, the runtime type of the given value will be considered for
+         *                         assigning the return type.
+         */
+        protected ForStaticFinalField(String fieldName, Object fixedValue, Assigner assigner, boolean dynamicallyTyped) {
+            super(fieldName, fixedValue, assigner, dynamicallyTyped);
+            accessor = Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER;
+        }
+
+        @Override
+        public Implementation withAssigner(Assigner assigner, boolean dynamicallyTyped) {
+            return new ForStaticFinalField(fieldName, fixedValue, nonNull(assigner), dynamicallyTyped);
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            instrumentedType = instrumentedType.withField(new FieldDescription.Token(fieldName,
+                    Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC,
+                    fieldType));
+            return instrumentedType
+                    .withInitializer(new ByteCodeAppender.Simple(
+                            accessor.resolve(instrumentedType, fieldName),
+                            TypeCasting.to(fieldType),
+                            FieldAccess.forField(instrumentedType.getDeclaredFields().filter(named(fieldName)).getOnly()).putter()))
+                    .withInitializer(new Registration(fieldName, fixedValue, accessor));
+        }
+
+        @Override
+        public String toString() {
+            return "FixedValue.ForStaticFinalField{" +
+                    "fieldName='" + fieldName + '\'' +
+                    ", fieldType=" + fieldType +
+                    ", fixedValue=" + fixedValue +
+                    ", assigner=" + assigner +
+                    ", dynamicallyTyped=" + dynamicallyTyped +
+                    '}';
+        }
+
+        /**
+         * A loaded type initializer that registers a fixed value with the nexus before the instrumented type is initialized.
+         */
+        protected static class Registration implements LoadedTypeInitializer {
+
+            /**
+             * The name of the field to which the value is assigned.
+             */
+            private final String fieldName;
+
+            /**
+             * The value to register.
+             */
+            private final Object value;
+
+            /**
+             * The accessor for the nexus with which the value is registered.
+             */
+            private final Nexus.Accessor accessor;
+
+            /**
+             * Creates a new registration.
+             *
+             * @param fieldName The name of the field to which the value is assigned.
+             * @param value     The value to register.
+             * @param accessor  The accessor for the nexus with which the value is registered.
+             */
+            protected Registration(String fieldName, Object value, Nexus.Accessor accessor) {
+                this.fieldName = fieldName;
+                this.value = value;
+                this.accessor = accessor;
+            }
+
+            @Override
+            public void onLoad(Class<?> type) {
+                accessor.register(type.getName(), type.getClassLoader(), fieldName, value);
+            }
+
+            @Override
+            public boolean isAlive() {
+                return true;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && fieldName.equals(((Registration) other).fieldName)
+                        && value.equals(((Registration) other).value)
+                        && accessor == ((Registration) other).accessor;
+            }
+
+            @Override
+            public int hashCode() {
+                int result = fieldName.hashCode();
+                result = 31 * result + value.hashCode();
+                return 31 * result + accessor.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "FixedValue.ForStaticFinalField.Registration{" +
+                        "fieldName='" + fieldName + '\'' +
+                        ", value=" + value +
+                        ", accessor=" + accessor +
+                        '}';
+            }
+        }
+    }
 }
@@ -3,8 +3,11 @@ package net.bytebuddy.implementation;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.annotation.AnnotationList;
 import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldList;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.method.ParameterList;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeList;
@@ -23,10 +26,12 @@ import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
 import net.bytebuddy.utility.RandomString;
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * An implementation is responsible for implementing methods of a dynamically created type as byte code. An
@@ -563,8 +568,17 @@ public interface Implementation {
         }
 
         /**
+         * <p>
          * A default implementation of an {@link Implementation.Context.ExtractableView}
          * which serves as its own {@link net.bytebuddy.implementation.auxiliary.AuxiliaryType.MethodAccessorFactory}.
+         * </p>
+         * <p>
+         * Auxiliary types are listed in the order of their registration. Optionally, the auxiliary types that are required
+         * by the instrumented methods can be discovered ahead of writing the instrumented type by
+         * {@link Implementation.Context.Default#prepare(List, TypeWriter.MethodPool, Executor)} such that independent
+         * auxiliary types are created concurrently by an executor. As an auxiliary type might register accessor methods
+         * while it is created, any such registration is synchronized.
+         * </p>
          */
         class Default implements Implementation.Context.ExtractableView, AuxiliaryType.MethodAccessorFactory {
 
@@ -583,6 +597,11 @@ public interface Implementation {
              */
             private static final Object NO_DEFAULT_VALUE = null;
 
+            /**
+             * A flag for ASM not to compute any information when writing a discarded class file during a discovery.
+             */
+            private static final int ASM_MANUAL_FLAG = 0;
+
             /**
              * The instrumented type that this instance representedBy.
              */
@@ -624,10 +643,15 @@ public interface Implementation {
             private final Map<MethodDescription, TypeWriter.MethodPool.Entry> accessorMethodEntries;
 
             /**
-             * A map of registered auxiliary types to their dynamic type representation.
+             * A map of registered auxiliary types to their dynamic type representation in the order of their registration.
              */
             private final Map<AuxiliaryType, DynamicType> auxiliaryTypes;
 
+            /**
+             * A map of auxiliary types that were discovered ahead of their registration to their pending or completed creation.
+             */
+            private final Map<AuxiliaryType, AuxiliaryTypeCreation> preparedAuxiliaryTypes;
+
             /**
              * A map of already registered field caches to their field representation.
              */
@@ -665,14 +689,15 @@ public interface Implementation {
                 registeredGetters = new HashMap<FieldDescription, MethodDescription>();
                 registeredSetters = new HashMap<FieldDescription, MethodDescription>();
                 accessorMethodEntries = new HashMap<MethodDescription, TypeWriter.MethodPool.Entry>();
-                auxiliaryTypes = new HashMap<AuxiliaryType, DynamicType>();
+                auxiliaryTypes = new LinkedHashMap<AuxiliaryType, DynamicType>();
+                preparedAuxiliaryTypes = new HashMap<AuxiliaryType, AuxiliaryTypeCreation>();
                 registeredFieldCacheEntries = new HashMap<FieldCacheEntry, FieldDescription>();
                 randomString = new RandomString();
                 canRegisterFieldCache = true;
             }
 
             @Override
-            public MethodDescription registerAccessorFor(Implementation.SpecialMethodInvocation specialMethodInvocation) {
+            public synchronized MethodDescription registerAccessorFor(Implementation.SpecialMethodInvocation specialMethodInvocation) {
                 MethodDescription accessorMethod = registeredAccessorMethods.get(specialMethodInvocation);
                 if (accessorMethod == null) {
                     accessorMethod = new AccessorMethod(instrumentedType, specialMethodInvocation.getMethodDescription(), randomString.nextString());
@@ -683,7 +708,7 @@ public interface Implementation {
             }
 
             @Override
-            public MethodDescription registerGetterFor(FieldDescription fieldDescription) {
+            public synchronized MethodDescription registerGetterFor(FieldDescription fieldDescription) {
                 MethodDescription accessorMethod = registeredGetters.get(fieldDescription);
                 if (accessorMethod == null) {
                     accessorMethod = new FieldGetter(instrumentedType, fieldDescription, randomString.nextString());
@@ -694,7 +719,7 @@ public interface Implementation {
             }
 
             @Override
-            public MethodDescription registerSetterFor(FieldDescription fieldDescription) {
+            public synchronized MethodDescription registerSetterFor(FieldDescription fieldDescription) {
                 MethodDescription accessorMethod = registeredSetters.get(fieldDescription);
                 if (accessorMethod == null) {
                     accessorMethod = new FieldSetter(instrumentedType, fieldDescription, randomString.nextString());
@@ -708,14 +733,74 @@ public interface Implementation {
             public TypeDescription register(AuxiliaryType auxiliaryType) {
                 DynamicType dynamicType = auxiliaryTypes.get(auxiliaryType);
                 if (dynamicType == null) {
-                    dynamicType = auxiliaryType.make(auxiliaryTypeNamingStrategy.name(auxiliaryType, instrumentedType),
-                            classFileVersion,
-                            this);
+                    AuxiliaryTypeCreation auxiliaryTypeCreation = preparedAuxiliaryTypes.get(auxiliaryType);
+                    dynamicType = auxiliaryTypeCreation == null
+                            ? make(auxiliaryType)
+                            : auxiliaryTypeCreation.resolve();
                     auxiliaryTypes.put(auxiliaryType, dynamicType);
                 }
                 return dynamicType.getTypeDescription();
             }
 
+            /**
+             * Creates an auxiliary type.
+             *
+             * @param auxiliaryType The auxiliary type to create.
+             * @return A dynamic type representing the auxiliary type.
+             */
+            private DynamicType make(AuxiliaryType auxiliaryType) {
+                return auxiliaryType.make(auxiliaryTypeNamingStrategy.name(auxiliaryType, instrumentedType), classFileVersion, this);
+            }
+
+            /**
+             * <p>
+             * Discovers the auxiliary types that are required by the supplied methods before the instrumented type is written
+             * and creates these types by the supplied executor while the instrumented type is written. For this purpose, the
+             * method pool entry of each method is applied to a discarded class writer on the calling thread. When a method
+             * registers an auxiliary type, the type's name is computed and its creation is submitted to the executor. The
+             * discovery is conducted in two passes. In the first pass, a method is aborted once it registers its first auxiliary
+             * type such that the first auxiliary type of every method is submitted without awaiting any other type. In the
+             * second pass, any aborted method is applied until its end where a registration returns a description of the
+             * discovered type that carries its precomputed name and that only awaits the type's creation when any other
+             * property of the type is queried. This way, any auxiliary type of a method is discovered. When the instrumented type
+             * is written, a discovered auxiliary type is awaited once it is registered and is otherwise created like any other
+             * auxiliary type. If the executor did not yet start to create a discovered type, the registering thread creates the
+             * type itself.
+             * </p>
+             * <p>
+             * Any method pool entry is applied only by the calling thread such that no implementation is required to be thread-safe.
+             * An auxiliary type is however only added to the created type if it is registered when writing the instrumented type
+             * such that the registration order remains deterministic. Any exception that is thrown during the discovery is
+             * discarded as it is thrown again when the instrumented type is written.
+             * </p>
+             *
+             * @param methodDescriptions The methods that are written for the instrumented type.
+             * @param methodPool         The method pool for looking up the implementations of the methods.
+             * @param executor           The executor to use for creating the discovered auxiliary types.
+             */
+            public void prepare(List<? extends MethodDescription> methodDescriptions, TypeWriter.MethodPool methodPool, Executor executor) {
+                Implementation.Context discoveringContext = new DiscoveringContext(executor, false);
+                Map<MethodDescription, TypeWriter.MethodPool.Entry> abortedEntries = new LinkedHashMap<MethodDescription, TypeWriter.MethodPool.Entry>();
+                for (MethodDescription methodDescription : methodDescriptions) {
+                    TypeWriter.MethodPool.Entry entry = methodPool.target(methodDescription);
+                    if (entry.getSort().isImplemented()) {
+                        try {
+                            entry.apply(new ClassWriter(ASM_MANUAL_FLAG), discoveringContext, methodDescription);
+                        } catch (RuntimeException ignored) {
+                            abortedEntries.put(methodDescription, entry);
+                        }
+                    }
+                }
+                discoveringContext = new DiscoveringContext(executor, true);
+                for (Map.Entry<MethodDescription, TypeWriter.MethodPool.Entry> abortedEntry : abortedEntries.entrySet()) {
+                    try {
+                        abortedEntry.getValue().apply(new ClassWriter(ASM_MANUAL_FLAG), discoveringContext, abortedEntry.getKey());
+                    } catch (RuntimeException ignored) {
+                        /* do nothing */
+                    }
+                }
+            }
+
             @Override
             public List<DynamicType> getRegisteredAuxiliaryTypes() {
                 return new ArrayList<DynamicType>(auxiliaryTypes.values());
@@ -750,6 +835,9 @@ public interface Implementation {
 
             @Override
             public void drain(ClassVisitor classVisitor, TypeWriter.MethodPool methodPool, InjectedCode injectedCode) {
+                for (AuxiliaryTypeCreation auxiliaryTypeCreation : preparedAuxiliaryTypes.values()) {
+                    auxiliaryTypeCreation.complete();
+                }
                 canRegisterFieldCache = false;
                 InstrumentedType.TypeInitializer typeInitializer = this.typeInitializer;
                 for (Map.Entry<FieldCacheEntry, FieldDescription> entry : registeredFieldCacheEntries.entrySet()) {
@@ -788,12 +876,299 @@ public interface Implementation {
                         ", registeredSetters=" + registeredSetters +
                         ", accessorMethodEntries=" + accessorMethodEntries +
                         ", auxiliaryTypes=" + auxiliaryTypes +
+                        ", preparedAuxiliaryTypes=" + preparedAuxiliaryTypes +
                         ", registeredFieldCacheEntries=" + registeredFieldCacheEntries +
                         ", randomString=" + randomString +
                         ", canRegisterFieldCache=" + canRegisterFieldCache +
                         '}';
             }
 
+            /**
+             * The creation of a discovered auxiliary type which is either executed by an executor or by the thread that
+             * registers the auxiliary type, whichever starts the creation first.
+             */
+            protected class AuxiliaryTypeCreation extends FutureTask<DynamicType> {
+
+                /**
+                 * The auxiliary type that is created.
+                 */
+                private final AuxiliaryType auxiliaryType;
+
+                /**
+                 * The precomputed name of the auxiliary type.
+                 */
+                private final String name;
+
+                /**
+                 * Creates a new creation of an auxiliary type.
+                 *
+                 * @param auxiliaryType The auxiliary type that is created.
+                 * @param name          The precomputed name of the auxiliary type.
+                 */
+                protected AuxiliaryTypeCreation(final AuxiliaryType auxiliaryType, final String name) {
+                    super(new Callable<DynamicType>() {
+                        @Override
+                        public DynamicType call() {
+                            return auxiliaryType.make(name, classFileVersion, Default.this);
+                        }
+                    });
+                    this.auxiliaryType = auxiliaryType;
+                    this.name = name;
+                }
+
+                /**
+                 * Returns the precomputed name of the auxiliary type.
+                 *
+                 * @return The precomputed name of the auxiliary type.
+                 */
+                protected String getName() {
+                    return name;
+                }
+
+                /**
+                 * Returns the created auxiliary type. If the creation was not yet started, the calling thread creates the
+                 * type. Otherwise, the creation is awaited. Any unchecked exception that was thrown during the creation is
+                 * rethrown.
+                 *
+                 * @return The created auxiliary type.
+                 */
+                protected DynamicType resolve() {
+                    run();
+                    try {
+                        return get();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while creating " + auxiliaryType, exception);
+                    } catch (ExecutionException exception) {
+                        if (exception.getCause() instanceof RuntimeException) {
+                            throw (RuntimeException) exception.getCause();
+                        } else if (exception.getCause() instanceof Error) {
+                            throw (Error) exception.getCause();
+                        } else {
+                            throw new IllegalStateException("Cannot create " + auxiliaryType, exception.getCause());
+                        }
+                    }
+                }
+
+                /**
+                 * Completes the creation of the auxiliary type such that it does no longer register any accessor methods.
+                 * Any exception that is thrown during the creation is discarded.
+                 */
+                protected void complete() {
+                    try {
+                        resolve();
+                    } catch (RuntimeException ignored) {
+                        /* do nothing */
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return "Implementation.Context.Default.AuxiliaryTypeCreation{" +
+                            "auxiliaryType=" + auxiliaryType +
+                            ", name='" + name + '\'' +
+                            ", done=" + isDone() +
+                            '}';
+                }
+            }
+
+            /**
+             * An implementation context that is used while discovering auxiliary types. When an auxiliary type is registered
+             * for the first time, its creation is submitted to an executor. Thereafter, the discovery of the currently applied
+             * method is either aborted or continued with a description of the discovered type that only awaits the type's
+             * creation when its properties are queried. Any other registration is delegated to the actual implementation context.
+             */
+            protected class DiscoveringContext implements Implementation.Context {
+
+                /**
+                 * The executor to use for creating discovered auxiliary types.
+                 */
+                private final Executor executor;
+
+                /**
+                 * {@code true} if the discovery of a method is continued after registering an auxiliary type.
+                 */
+                private final boolean continued;
+
+                /**
+                 * Creates a new discovering context.
+                 *
+                 * @param executor  The executor to use for creating discovered auxiliary types.
+                 * @param continued {@code true} if the discovery of a method is continued after registering an auxiliary type.
+                 */
+                protected DiscoveringContext(Executor executor, boolean continued) {
+                    this.executor = executor;
+                    this.continued = continued;
+                }
+
+                @Override
+                public TypeDescription register(AuxiliaryType auxiliaryType) {
+                    AuxiliaryTypeCreation auxiliaryTypeCreation = preparedAuxiliaryTypes.get(auxiliaryType);
+                    if (auxiliaryTypeCreation == null) {
+                        auxiliaryTypeCreation = new AuxiliaryTypeCreation(auxiliaryType, auxiliaryTypeNamingStrategy.name(auxiliaryType, instrumentedType));
+                        preparedAuxiliaryTypes.put(auxiliaryType, auxiliaryTypeCreation);
+                        executor.execute(auxiliaryTypeCreation);
+                    }
+                    if (continued) {
+                        return new DiscoveredType(auxiliaryTypeCreation);
+                    } else {
+                        throw new IllegalStateException("Discovery is aborted after registering " + auxiliaryType);
+                    }
+                }
+
+                @Override
+                public FieldDescription cache(StackManipulation fieldValue, TypeDescription fieldType) {
+                    return Default.this.cache(fieldValue, fieldType);
+                }
+
+                /**
+                 * Returns the outer instance.
+                 *
+                 * @return The outer instance.
+                 */
+                private Default getDefault() {
+                    return Default.this;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && continued == ((DiscoveringContext) other).continued
+                            && Default.this.equals(((DiscoveringContext) other).getDefault())
+                            && executor.equals(((DiscoveringContext) other).executor);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * (31 * Default.this.hashCode() + executor.hashCode()) + (continued ? 1 : 0);
+                }
+
+                @Override
+                public String toString() {
+                    return "Implementation.Context.Default.DiscoveringContext{" +
+                            "implementationContext=" + Default.this +
+                            ", executor=" + executor +
+                            ", continued=" + continued +
+                            '}';
+                }
+            }
+
+            /**
+             * A description of a discovered auxiliary type that is returned while discovering auxiliary types. The type's name
+             * is precomputed such that the type does not need to be created for describing its name. Any other property is
+             * only resolved from the created type when it is queried which awaits the creation or creates the type on the
+             * calling thread if the creation was not yet started.
+             */
+            protected class DiscoveredType extends TypeDescription.AbstractTypeDescription.OfSimpleType {
+
+                /**
+                 * The creation of the discovered auxiliary type.
+                 */
+                private final AuxiliaryTypeCreation auxiliaryTypeCreation;
+
+                /**
+                 * Creates a new description of a discovered auxiliary type.
+                 *
+                 * @param auxiliaryTypeCreation The creation of the discovered auxiliary type.
+                 */
+                protected DiscoveredType(AuxiliaryTypeCreation auxiliaryTypeCreation) {
+                    this.auxiliaryTypeCreation = auxiliaryTypeCreation;
+                }
+
+                /**
+                 * Resolves a description of the created auxiliary type.
+                 *
+                 * @return A description of the created auxiliary type.
+                 */
+                private TypeDescription resolve() {
+                    return auxiliaryTypeCreation.resolve().getTypeDescription();
+                }
+
+                @Override
+                protected GenericTypeDescription getDeclaredSuperType() {
+                    return resolve().getSuperType();
+                }
+
+                @Override
+                protected GenericTypeList getDeclaredInterfaces() {
+                    return resolve().getInterfaces();
+                }
+
+                @Override
+                public MethodDescription getEnclosingMethod() {
+                    return resolve().getEnclosingMethod();
+                }
+
+                @Override
+                public TypeDescription getEnclosingType() {
+                    return resolve().getEnclosingType();
+                }
+
+                @Override
+                public String getCanonicalName() {
+                    return getName().replace('$', '.');
+                }
+
+                @Override
+                public boolean isAnonymousClass() {
+                    return resolve().isAnonymousClass();
+                }
+
+                @Override
+                public boolean isLocalClass() {
+                    return resolve().isLocalClass();
+                }
+
+                @Override
+                public boolean isMemberClass() {
+                    return resolve().isMemberClass();
+                }
+
+                @Override
+                public FieldList getDeclaredFields() {
+                    return resolve().getDeclaredFields();
+                }
+
+                @Override
+                public MethodList getDeclaredMethods() {
+                    return resolve().getDeclaredMethods();
+                }
+
+                @Override
+                public PackageDescription getPackage() {
+                    String name = getName();
+                    int index = name.lastIndexOf('.');
+                    return index == -1
+                            ? null
+                            : new PackageDescription.Simple(name.substring(0, index));
+                }
+
+                @Override
+                public AnnotationList getDeclaredAnnotations() {
+                    return resolve().getDeclaredAnnotations();
+                }
+
+                @Override
+                public TypeDescription getDeclaringType() {
+                    return resolve().getDeclaringType();
+                }
+
+                @Override
+                public int getModifiers() {
+                    return resolve().getModifiers();
+                }
+
+                @Override
+                public String getName() {
+                    return auxiliaryTypeCreation.getName();
+                }
+
+                @Override
+                public GenericTypeList getTypeVariables() {
+                    return resolve().getTypeVariables();
+                }
+            }
+
             /**
              * A description of a field that stores a cached value.
              */
@@ -980,11 +980,12 @@ public class MethodDelegation implements Implementation {
         public Size apply(MethodVisitor methodVisitor,
                           Context implementationContext,
                           MethodDescription instrumentedMethod) {
+            LocalVariableTracker localVariableTracker = new LocalVariableTracker(methodVisitor, instrumentedMethod.getStackSize());
             StackManipulation.Size stackSize = new StackManipulation.Compound(
                     preparingStackAssignment,
                     processor.process(implementationTarget, instrumentedMethod, targetMethods)
-            ).apply(methodVisitor, implementationContext);
-            return new Size(stackSize.getMaximalSize(), instrumentedMethod.getStackSize());
+            ).apply(localVariableTracker, implementationContext);
+            return new Size(stackSize.getMaximalSize(), localVariableTracker.getLocalVariableLength());
         }
 
         @Override
@@ -1016,5 +1017,60 @@ public class MethodDelegation implements Implementation {
                     ", processor=" + processor +
                     '}';
         }
+
+        /**
+         * A method visitor that records the length of the local variable array that is required by the visited
+         * instructions. A method binding might store values in local variables beyond the instrumented method's
+         * parameters.
+         */
+        protected static class LocalVariableTracker extends MethodVisitor {
+
+            /**
+             * The currently required length of the local variable array.
+             */
+            private int localVariableLength;
+
+            /**
+             * Creates a new local variable tracker.
+             *
+             * @param methodVisitor       The method visitor to which all instructions are forwarded.
+             * @param localVariableLength The initially required length of the local variable array.
+             */
+            protected LocalVariableTracker(MethodVisitor methodVisitor, int localVariableLength) {
+                super(Opcodes.ASM5, methodVisitor);
+                this.localVariableLength = localVariableLength;
+            }
+
+            /**
+             * Returns the length of the local variable array that is required by the visited instructions.
+             *
+             * @return The required length of the local variable array.
+             */
+            protected int getLocalVariableLength() {
+                return localVariableLength;
+            }
+
+            @Override
+            public void visitVarInsn(int opcode, int variable) {
+                switch (opcode) {
+                    case Opcodes.LLOAD:
+                    case Opcodes.LSTORE:
+                    case Opcodes.DLOAD:
+                    case Opcodes.DSTORE:
+                        localVariableLength = Math.max(localVariableLength, variable + 2);
+                        break;
+                    default:
+                        localVariableLength = Math.max(localVariableLength, variable + 1);
+                }
+                super.visitVarInsn(opcode, variable);
+            }
+
+            @Override
+            public String toString() {
+                return "MethodDelegation.Appender.LocalVariableTracker{" +
+                        "localVariableLength=" + localVariableLength +
+                        '}';
+            }
+        }
     }
 }
@@ -0,0 +1,561 @@
+package net.bytebuddy.implementation;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.utility.JavaInstance;
+import net.bytebuddy.utility.JavaMethod;
+import net.bytebuddy.utility.JavaType;
+import org.objectweb.asm.MethodVisitor;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * An implementation that links an instrumented method via a dynamic method invocation to a mutable call site that is
+ * owned by the {@link net.bytebuddy.implementation.SwitchableInvocation.Registry}. Initially, any such call site is
+ * bound to the instrumented method's original code, i.e. to its super method for a subclass or to its original
+ * implementation for a rebased type. At runtime, an
+ * {@link net.bytebuddy.implementation.SwitchableInvocation.Interceptor} can be enabled, swapped or disabled for all
+ * call sites that are registered for a given key without retransforming any class. When an interceptor is disabled,
+ * the call site is bound to the original code such that the just-in-time compiler can inline it directly.
+ * </p>
+ * <p>
+ * <b>Important</b>: Dynamic method invocations are only available for class files of at least version 7. Also,
+ * the instrumented type's class loader must be able to see this class as it serves as a bootstrap method.
+ * Constructors, abstract methods and methods without a super method cannot be implemented by this implementation.
+ * </p>
+ */
+public class SwitchableInvocation implements Implementation {
+
+    /**
+     * The key of the switch to which any call site of this implementation is registered.
+     */
+    private final String key;
+
+    /**
+     * Creates a new switchable invocation.
+     *
+     * @param key The key of the switch to which any call site of this implementation is registered.
+     */
+    protected SwitchableInvocation(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Implements the instrumented method by a dynamic method invocation that is registered with the given key. Any
+     * instrumented method is initially bound to its original code until an interceptor is enabled via
+     * {@link net.bytebuddy.implementation.SwitchableInvocation.Registry#enable(String, Interceptor)}.
+     *
+     * @param key The key of the switch to which any call site of this implementation is registered.
+     * @return An implementation that links the instrumented method via a switchable call site.
+     */
+    public static Implementation of(String key) {
+        return new SwitchableInvocation(nonNull(key));
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return new Appender(implementationTarget);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && key.equals(((SwitchableInvocation) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SwitchableInvocation{" +
+                "key='" + key + '\'' +
+                '}';
+    }
+
+    /**
+     * An interceptor that can be bound to the call sites of a switch. The method handles that are handed to and returned
+     * by an interceptor are represented as {@link java.lang.Object}s as method handles are not available in Java 6.
+     */
+    public interface Interceptor {
+
+        /**
+         * Creates the method handle to bind to a call site. The returned method handle is adapted to the type of the
+         * call site, i.e. it must accept the instrumented instance, if the instrumented method is not static, and the
+         * instrumented method's arguments.
+         *
+         * @param original A {@code java.lang.invoke.MethodHandle} that represents the instrumented method's original code.
+         * @return A {@code java.lang.invoke.MethodHandle} that is bound to the call site.
+         */
+        Object wrap(Object original);
+    }
+
+    /**
+     * The registry of all switches and their call sites. This type is used as a bootstrap method by any
+     * {@link net.bytebuddy.implementation.SwitchableInvocation} and is therefore required to be public.
+     */
+    public static class Registry {
+
+        /**
+         * The name of the bootstrap method.
+         */
+        private static final String BOOTSTRAP = "bootstrap";
+
+        /**
+         * The constructor of the {@code java.lang.invoke.MutableCallSite} type.
+         */
+        private static final JavaMethod MUTABLE_CALL_SITE;
+
+        /**
+         * The {@code java.lang.invoke.MutableCallSite#setTarget(MethodHandle)} method.
+         */
+        private static final JavaMethod SET_TARGET;
+
+        /**
+         * The {@code java.lang.invoke.MutableCallSite#syncAll(MutableCallSite[])} method.
+         */
+        private static final JavaMethod SYNC_ALL;
+
+        /**
+         * The {@code java.lang.invoke.MethodHandle#type()} method.
+         */
+        private static final JavaMethod TYPE;
+
+        /**
+         * The {@code java.lang.invoke.MethodHandle#asType(MethodType)} method.
+         */
+        private static final JavaMethod AS_TYPE;
+
+        /**
+         * The loaded {@code java.lang.invoke.MutableCallSite} type or {@code null} if this type is not available.
+         */
+        private static final Class<?> MUTABLE_CALL_SITE_TYPE;
+
+        /**
+         * All switches that are currently registered by their keys.
+         */
+        private static final ConcurrentMap<String, Switch> SWITCHES = new ConcurrentHashMap<String, Switch>();
+
+        /*
+         * Locates the Java methods for binding mutable call sites, if those are available.
+         */
+        static {
+            JavaMethod mutableCallSite, setTarget, syncAll, type, asType;
+            Class<?> mutableCallSiteType;
+            try {
+                Class<?> methodHandle = JavaType.METHOD_HANDLE.load();
+                mutableCallSiteType = Class.forName("java.lang.invoke.MutableCallSite");
+                mutableCallSite = new JavaMethod.ForLoadedConstructor(mutableCallSiteType.getDeclaredConstructor(methodHandle));
+                setTarget = new JavaMethod.ForLoadedMethod(mutableCallSiteType.getDeclaredMethod("setTarget", methodHandle));
+                syncAll = new JavaMethod.ForLoadedMethod(mutableCallSiteType.getDeclaredMethod("syncAll",
+                        Array.newInstance(mutableCallSiteType, 0).getClass()));
+                type = new JavaMethod.ForLoadedMethod(methodHandle.getDeclaredMethod("type"));
+                asType = new JavaMethod.ForLoadedMethod(methodHandle.getDeclaredMethod("asType", JavaType.METHOD_TYPE.load()));
+            } catch (Exception ignored) {
+                mutableCallSiteType = null;
+                mutableCallSite = JavaMethod.ForUnavailableMethod.INSTANCE;
+                setTarget = JavaMethod.ForUnavailableMethod.INSTANCE;
+                syncAll = JavaMethod.ForUnavailableMethod.INSTANCE;
+                type = JavaMethod.ForUnavailableMethod.INSTANCE;
+                asType = JavaMethod.ForUnavailableMethod.INSTANCE;
+            }
+            MUTABLE_CALL_SITE_TYPE = mutableCallSiteType;
+            MUTABLE_CALL_SITE = mutableCallSite;
+            SET_TARGET = setTarget;
+            SYNC_ALL = syncAll;
+            TYPE = type;
+            AS_TYPE = asType;
+        }
+
+        /**
+         * This type is not meant to be instantiated.
+         */
+        private Registry() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Bootstraps a call site of a {@link net.bytebuddy.implementation.SwitchableInvocation}. This method is not
+         * meant to be called directly. All arguments are represented as {@link java.lang.Object}s as the involved
+         * types are not available in Java 6.
+         *
+         * @param lookup     The caller's {@code java.lang.invoke.MethodHandles.Lookup}.
+         * @param methodName The name of the instrumented method.
+         * @param methodType The {@code java.lang.invoke.MethodType} of the call site.
+         * @param key        The key of the switch to which the call site is registered.
+         * @param original   A {@code java.lang.invoke.MethodHandle} that represents the instrumented method's original code.
+         * @return A {@code java.lang.invoke.MutableCallSite} that is bound to the current state of the switch.
+         */
+        public static Object bootstrap(Object lookup, String methodName, Object methodType, String key, Object original) {
+            Object adapted = AS_TYPE.invoke(original, methodType);
+            Object callSite = MUTABLE_CALL_SITE.invokeStatic(adapted);
+            switchFor(key).register(callSite, adapted);
+            return callSite;
+        }
+
+        /**
+         * Enables the given interceptor for all current and future call sites that are registered for the given key.
+         * Any previously enabled interceptor is replaced.
+         *
+         * @param key         The key of the switch.
+         * @param interceptor The interceptor to enable.
+         */
+        public static void enable(String key, Interceptor interceptor) {
+            switchFor(nonNull(key)).enable(nonNull(interceptor));
+        }
+
+        /**
+         * Disables any interceptor for the given key such that all call sites of the key are bound to their original code.
+         *
+         * @param key The key of the switch.
+         */
+        public static void disable(String key) {
+            Switch aSwitch = SWITCHES.get(nonNull(key));
+            if (aSwitch != null) {
+                aSwitch.disable();
+            }
+        }
+
+        /**
+         * Checks if an interceptor is currently enabled for the given key.
+         *
+         * @param key The key of the switch.
+         * @return {@code true} if an interceptor is enabled for the given key.
+         */
+        public static boolean isEnabled(String key) {
+            Switch aSwitch = SWITCHES.get(nonNull(key));
+            return aSwitch != null && aSwitch.isEnabled();
+        }
+
+        /**
+         * Returns the switch for the given key and creates it if it does not yet exist.
+         *
+         * @param key The key of the switch.
+         * @return The switch that is registered for the given key.
+         */
+        private static Switch switchFor(String key) {
+            Switch aSwitch = SWITCHES.get(key);
+            if (aSwitch == null) {
+                aSwitch = new Switch();
+                Switch previous = SWITCHES.putIfAbsent(key, aSwitch);
+                if (previous != null) {
+                    aSwitch = previous;
+                }
+            }
+            return aSwitch;
+        }
+
+        /**
+         * Returns a description of the bootstrap method.
+         *
+         * @return A description of the bootstrap method.
+         */
+        protected static MethodDescription bootstrapMethod() {
+            try {
+                return new MethodDescription.ForLoadedMethod(Registry.class.getDeclaredMethod(BOOTSTRAP,
+                        Object.class,
+                        String.class,
+                        Object.class,
+                        String.class,
+                        Object.class));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Could not locate bootstrap method", e);
+            }
+        }
+
+        /**
+         * A switch represents all call sites that are registered for a given key.
+         */
+        protected static class Switch {
+
+            /**
+             * The call sites that are registered for this switch.
+             */
+            private final Set<Site> sites;
+
+            /**
+             * A reference queue that is notified of any registered call site that was collected.
+             */
+            private final ReferenceQueue<Object> collected;
+
+            /**
+             * The currently enabled interceptor or {@code null} if no interceptor is enabled.
+             */
+            private Interceptor interceptor;
+
+            /**
+             * Creates a new switch without any registered call sites.
+             */
+            protected Switch() {
+                sites = new LinkedHashSet<Site>();
+                collected = new ReferenceQueue<Object>();
+            }
+
+            /**
+             * Registers a new call site and binds it to the currently enabled interceptor, if any.
+             *
+             * @param callSite The {@code java.lang.invoke.MutableCallSite} to register.
+             * @param original A {@code java.lang.invoke.MethodHandle} representing the call site's original code.
+             */
+            protected synchronized void register(Object callSite, Object original) {
+                prune();
+                Site site = new Site(callSite, original, collected);
+                sites.add(site);
+                if (interceptor != null) {
+                    site.bind(interceptor);
+                }
+            }
+
+            /**
+             * Binds all registered call sites to the given interceptor.
+             *
+             * @param interceptor The interceptor to enable.
+             */
+            protected synchronized void enable(Interceptor interceptor) {
+                prune();
+                this.interceptor = interceptor;
+                List<Object> callSites = new ArrayList<Object>(sites.size());
+                Iterator<Site> iterator = sites.iterator();
+                while (iterator.hasNext()) {
+                    Object callSite = iterator.next().bind(interceptor);
+                    if (callSite == null) {
+                        iterator.remove();
+                    } else {
+                        callSites.add(callSite);
+                    }
+                }
+                synchronize(callSites);
+            }
+
+            /**
+             * Binds all registered call sites to their original code.
+             */
+            protected synchronized void disable() {
+                prune();
+                interceptor = null;
+                List<Object> callSites = new ArrayList<Object>(sites.size());
+                Iterator<Site> iterator = sites.iterator();
+                while (iterator.hasNext()) {
+                    Object callSite = iterator.next().reset();
+                    if (callSite == null) {
+                        iterator.remove();
+                    } else {
+                        callSites.add(callSite);
+                    }
+                }
+                synchronize(callSites);
+            }
+
+            /**
+             * Checks if an interceptor is currently enabled.
+             *
+             * @return {@code true} if an interceptor is currently enabled.
+             */
+            protected synchronized boolean isEnabled() {
+                return interceptor != null;
+            }
+
+            /**
+             * Removes all call sites that were collected since this method was last called.
+             */
+            private void prune() {
+                Reference<?> reference;
+                while ((reference = collected.poll()) != null) {
+                    sites.remove(reference);
+                }
+            }
+
+            /**
+             * Publishes the targets of the given call sites to all threads.
+             *
+             * @param callSites The call sites to synchronize.
+             */
+            private static void synchronize(List<Object> callSites) {
+                Object array = Array.newInstance(MUTABLE_CALL_SITE_TYPE, callSites.size());
+                int index = 0;
+                for (Object callSite : callSites) {
+                    Array.set(array, index++, callSite);
+                }
+                SYNC_ALL.invokeStatic(array);
+            }
+
+            @Override
+            public String toString() {
+                return "SwitchableInvocation.Registry.Switch{" +
+                        "sites=" + sites +
+                        ", interceptor=" + interceptor +
+                        '}';
+            }
+        }
+
+        /**
+         * A registered call site. A call site is only referenced weakly such that the instrumented type can be unloaded.
+         * While an interceptor is enabled, the original code is referenced strongly as an interceptor is not required to
+         * retain it while it is required for disabling the interceptor later. A site is itself the weak reference to its
+         * call site such that it is enqueued for removal from its switch once the call site is collected.
+         */
+        protected static class Site extends WeakReference<Object> {
+
+            /**
+             * A weak reference to the {@code java.lang.invoke.MethodHandle} representing the original code.
+             */
+            private final WeakReference<Object> original;
+
+            /**
+             * A strong reference to the original code while an interceptor is enabled or {@code null}.
+             */
+            private Object retained;
+
+            /**
+             * Creates a new registered call site.
+             *
+             * @param callSite  The {@code java.lang.invoke.MutableCallSite} to register.
+             * @param original  A {@code java.lang.invoke.MethodHandle} representing the call site's original code.
+             * @param collected The reference queue that is notified when the call site is collected.
+             */
+            protected Site(Object callSite, Object original, ReferenceQueue<Object> collected) {
+                super(callSite, collected);
+                this.original = new WeakReference<Object>(original);
+            }
+
+            /**
+             * Binds this call site to the given interceptor.
+             *
+             * @param interceptor The interceptor to bind.
+             * @return The bound call site or {@code null} if the call site was already collected.
+             */
+            protected Object bind(Interceptor interceptor) {
+                Object callSite = get(), original = this.original.get();
+                if (callSite == null || original == null) {
+                    return null;
+                }
+                retained = original;
+                SET_TARGET.invoke(callSite, AS_TYPE.invoke(interceptor.wrap(original), TYPE.invoke(original)));
+                return callSite;
+            }
+
+            /**
+             * Binds this call site to its original code.
+             *
+             * @return The bound call site or {@code null} if the call site was already collected.
+             */
+            protected Object reset() {
+                Object callSite = get(), original = this.original.get();
+                retained = null;
+                if (callSite == null || original == null) {
+                    return null;
+                }
+                SET_TARGET.invoke(callSite, original);
+                return callSite;
+            }
+
+            @Override
+            public String toString() {
+                return "SwitchableInvocation.Registry.Site{" +
+                        "callSite=" + get() +
+                        ", retained=" + (retained != null) +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * An appender for implementing a {@link net.bytebuddy.implementation.SwitchableInvocation}.
+     */
+    protected class Appender implements ByteCodeAppender {
+
+        /**
+         * The target of the current implementation.
+         */
+        private final Target implementationTarget;
+
+        /**
+         * Creates a new appender.
+         *
+         * @param implementationTarget The target of the current implementation.
+         */
+        protected Appender(Target implementationTarget) {
+            this.implementationTarget = implementationTarget;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+            if (instrumentedMethod.isConstructor()) {
+                throw new IllegalStateException("Cannot implement a constructor by a switchable invocation: " + instrumentedMethod);
+            }
+            SpecialMethodInvocation specialMethodInvocation = implementationTarget.invokeSuper(instrumentedMethod, Target.MethodLookup.Default.EXACT);
+            if (!specialMethodInvocation.isValid()) {
+                throw new IllegalStateException("Cannot locate original code of " + instrumentedMethod);
+            }
+            MethodDescription originalMethod = specialMethodInvocation.getMethodDescription();
+            JavaInstance.MethodHandle original = originalMethod.isStatic()
+                    ? JavaInstance.MethodHandle.of(originalMethod)
+                    : JavaInstance.MethodHandle.ofSpecial(originalMethod, specialMethodInvocation.getTypeDescription());
+            List<TypeDescription> parameterTypes = new ArrayList<TypeDescription>(instrumentedMethod.getParameters().size() + 1);
+            if (!instrumentedMethod.isStatic()) {
+                parameterTypes.add(implementationTarget.getTypeDescription());
+            }
+            parameterTypes.addAll(instrumentedMethod.getParameters().asTypeList().asRawTypes());
+            StackManipulation.Size size = new StackManipulation.Compound(
+                    MethodVariableAccess.loadThisReferenceAndArguments(instrumentedMethod),
+                    MethodInvocation.invoke(Registry.bootstrapMethod()).dynamic(instrumentedMethod.getInternalName(),
+                            instrumentedMethod.getReturnType().asRawType(),
+                            parameterTypes,
+                            Arrays.asList(key, original.asConstantPoolValue())),
+                    MethodReturn.returning(instrumentedMethod.getReturnType().asRawType())
+            ).apply(methodVisitor, implementationContext);
+            return new Size(size.getMaximalSize(), instrumentedMethod.getStackSize());
+        }
+
+        /**
+         * Returns the outer instance.
+         *
+         * @return The outer instance.
+         */
+        private SwitchableInvocation getOuter() {
+            return SwitchableInvocation.this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && implementationTarget.equals(((Appender) other).implementationTarget)
+                    && SwitchableInvocation.this.equals(((Appender) other).getOuter());
+        }
+
+        @Override
+        public int hashCode() {
+            return implementationTarget.hashCode() + 31 * SwitchableInvocation.this.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "SwitchableInvocation.Appender{" +
+                    "switchableInvocation=" + SwitchableInvocation.this +
+                    ", implementationTarget=" + implementationTarget +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package net.bytebuddy.implementation.auxiliary;
+
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldList;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Duplication;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.TypeCreation;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.constant.NullConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * Implements an auxiliary type as a carrier that is reused per thread instead of being instantiated for every use.
+ * The carrier type holds its thread local in a separate static field such that it can implement any interface
+ * without clashing with the methods of {@link java.lang.ThreadLocal}. The thread local only references a thread's
+ * carrier weakly such that a thread never retains the carrier type and its class loader. The auxiliary type must
+ * define:
+ * </p>
+ * <ol>
+ * <li>A default constructor that is implemented by {@link ThreadLocalCarrier#CONSTRUCTOR}. This implementation
+ * additionally defines a static field that holds the thread local and a field that marks a carrier as being in use.</li>
+ * <li>A public static method named {@link ThreadLocalCarrier#ACQUIRE_METHOD_NAME} that returns the carrier type and
+ * that is implemented by {@link ThreadLocalCarrier#ACQUISITION}. This method returns the current thread's carrier
+ * and marks it as being in use. If the thread's carrier is already in use because of a re-entrant interception,
+ * a new carrier instance is returned instead. If the thread's carrier was collected, a new carrier is registered.</li>
+ * <li>A method named {@link ThreadLocalCarrier#BIND_METHOD_NAME} without a return value that is implemented by
+ * {@link ThreadLocalCarrier#FIELD_BINDING}. This method assigns its arguments to the carrier's bound fields in
+ * their declaration order. Bound fields are all non-static fields but the carrier's in use marker.</li>
+ * <li>A public static method named {@link ThreadLocalCarrier#RELEASE_METHOD_NAME} without a return value that takes
+ * the carrier type as its single argument and that is implemented by {@link ThreadLocalCarrier#RELEASE}. This method
+ * clears the given carrier's bound reference fields and makes the carrier available for being acquired again. A
+ * {@code null} argument is ignored.</li>
+ * </ol>
+ * <p>
+ * A carrier instance is only valid until it is released and must therefore never escape the method that is
+ * acquiring the carrier. This method must release the carrier once it is no longer used, both if it completes
+ * normally and if it completes exceptionally.
+ * </p>
+ */
+public enum ThreadLocalCarrier implements Implementation {
+
+    /**
+     * Implements the carrier's default constructor and defines the static field that holds the thread local as well
+     * as the field that marks a carrier as being in use.
+     */
+    CONSTRUCTOR {
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType
+                    .withField(new FieldDescription.Token(FIELD_NAME,
+                            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC,
+                            THREAD_LOCAL))
+                    .withField(new FieldDescription.Token(IN_USE_FIELD_NAME,
+                            Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC,
+                            new TypeDescription.ForLoadedType(boolean.class)))
+                    .withInitializer(Initializer.INSTANCE);
+        }
+
+        @Override
+        public ByteCodeAppender appender(Target implementationTarget) {
+            return new ByteCodeAppender.Simple(MethodVariableAccess.REFERENCE.loadOffset(0),
+                    MethodInvocation.invoke(TypeDescription.OBJECT.getDeclaredMethods().filter(isConstructor()).getOnly()),
+                    MethodReturn.VOID);
+        }
+    },
+
+    /**
+     * Implements the carrier's static acquisition method that returns the current thread's carrier or a new carrier
+     * if the current thread's carrier is already in use.
+     */
+    ACQUISITION {
+        @Override
+        public ByteCodeAppender appender(Target implementationTarget) {
+            return new Acquisition(implementationTarget.getTypeDescription());
+        }
+    },
+
+    /**
+     * Implements the carrier's binding method by assigning all of the method's arguments to the carrier's
+     * bound fields.
+     */
+    FIELD_BINDING {
+        @Override
+        public ByteCodeAppender appender(Target implementationTarget) {
+            TypeDescription instrumentedType = implementationTarget.getTypeDescription();
+            MethodDescription bindMethod = instrumentedType.getDeclaredMethods().filter(named(BIND_METHOD_NAME)).getOnly();
+            FieldList fieldList = boundFields(instrumentedType);
+            if (fieldList.size() != bindMethod.getParameters().size()) {
+                throw new IllegalStateException("Cannot bind " + bindMethod + " to the fields of " + instrumentedType);
+            }
+            List<StackManipulation> fieldAssignments = new ArrayList<StackManipulation>(fieldList.size() + 1);
+            int index = 0;
+            for (FieldDescription fieldDescription : fieldList) {
+                fieldAssignments.add(new StackManipulation.Compound(MethodVariableAccess.REFERENCE.loadOffset(0),
+                        MethodVariableAccess.forType(fieldDescription.getType().asRawType())
+                                .loadOffset(bindMethod.getParameters().get(index++).getOffset()),
+                        FieldAccess.forField(fieldDescription).putter()));
+            }
+            fieldAssignments.add(MethodReturn.VOID);
+            return new ByteCodeAppender.Simple(fieldAssignments.toArray(new StackManipulation[fieldAssignments.size()]));
+        }
+    },
+
+    /**
+     * Implements the carrier's static release method by clearing all bound reference fields of the given carrier and
+     * by resetting the carrier's in use marker.
+     */
+    RELEASE {
+        @Override
+        public ByteCodeAppender appender(Target implementationTarget) {
+            return new Release(implementationTarget.getTypeDescription());
+        }
+    };
+
+    /**
+     * The name of the static field that holds the thread local of a carrier type.
+     */
+    public static final String FIELD_NAME = "carrier";
+
+    /**
+     * The name of the method that binds values to a carrier instance.
+     */
+    public static final String BIND_METHOD_NAME = "bind";
+
+    /**
+     * The name of the static method that acquires a carrier instance.
+     */
+    public static final String ACQUIRE_METHOD_NAME = "acquire";
+
+    /**
+     * The name of the method that releases a carrier instance.
+     */
+    public static final String RELEASE_METHOD_NAME = "release";
+
+    /**
+     * The name of the field that marks a carrier instance as being in use.
+     */
+    public static final String IN_USE_FIELD_NAME = "inUse";
+
+    /**
+     * A description of the {@link java.lang.ThreadLocal} type.
+     */
+    private static final TypeDescription THREAD_LOCAL = new TypeDescription.ForLoadedType(ThreadLocal.class);
+
+    /**
+     * A description of the {@link java.lang.ref.Reference} type.
+     */
+    private static final TypeDescription REFERENCE = new TypeDescription.ForLoadedType(Reference.class);
+
+    /**
+     * A description of the {@link java.lang.ref.WeakReference} type.
+     */
+    private static final TypeDescription WEAK_REFERENCE = new TypeDescription.ForLoadedType(WeakReference.class);
+
+    /**
+     * Creates a stack manipulation that creates a new instance of a type by invoking its default constructor.
+     *
+     * @param typeDescription The type to instantiate.
+     * @return A stack manipulation that creates a new instance of the given type.
+     */
+    private static StackManipulation creation(TypeDescription typeDescription) {
+        return new StackManipulation.Compound(TypeCreation.forType(typeDescription),
+                Duplication.SINGLE,
+                MethodInvocation.invoke(typeDescription.getDeclaredMethods().filter(isConstructor().and(takesArguments(0))).getOnly()));
+    }
+
+    /**
+     * Creates a stack manipulation that wraps the value on top of the operand stack in a new weak reference.
+     *
+     * @param value A stack manipulation that loads the value to reference.
+     * @return A stack manipulation that creates a weak reference of the loaded value.
+     */
+    private static StackManipulation weakReference(StackManipulation value) {
+        return new StackManipulation.Compound(TypeCreation.forType(WEAK_REFERENCE),
+                Duplication.SINGLE,
+                value,
+                MethodInvocation.invoke(WEAK_REFERENCE.getDeclaredMethods().filter(isConstructor().and(takesArguments(1))).getOnly()));
+    }
+
+    /**
+     * Returns the bound fields of a carrier type, i.e. all non-static fields but the carrier's in use marker.
+     *
+     * @param carrierType The carrier type.
+     * @return The carrier type's bound fields in their declaration order.
+     */
+    public static FieldList boundFields(TypeDescription carrierType) {
+        return carrierType.getDeclaredFields().filter(not(isStatic()).and(not(named(IN_USE_FIELD_NAME))));
+    }
+
+    /**
+     * Creates a stack manipulation that acquires a carrier instance for the current thread and loads it onto the
+     * operand stack.
+     *
+     * @param carrierType The carrier type.
+     * @return A stack manipulation that loads an acquired carrier instance.
+     */
+    public static StackManipulation acquire(TypeDescription carrierType) {
+        return MethodInvocation.invoke(carrierType.getDeclaredMethods().filter(named(ACQUIRE_METHOD_NAME)).getOnly());
+    }
+
+    /**
+     * Creates a stack manipulation that binds the values on the operand stack to a carrier instance that is located
+     * below these values on the operand stack.
+     *
+     * @param carrierType The carrier type.
+     * @return A stack manipulation that invokes the carrier type's binding method.
+     */
+    public static StackManipulation bind(TypeDescription carrierType) {
+        return MethodInvocation.invoke(carrierType.getDeclaredMethods().filter(named(BIND_METHOD_NAME)).getOnly());
+    }
+
+    /**
+     * Creates a stack manipulation that releases the carrier instance on top of the operand stack. The carrier
+     * instance might also be {@code null}.
+     *
+     * @param carrierType The carrier type.
+     * @return A stack manipulation that releases the carrier instance.
+     */
+    public static StackManipulation release(TypeDescription carrierType) {
+        return MethodInvocation.invoke(carrierType.getDeclaredMethods().filter(named(RELEASE_METHOD_NAME)).getOnly());
+    }
+
+    /**
+     * Creates a stack manipulation that releases the carrier instance on top of the operand stack where the carrier
+     * type is an auxiliary type that is registered when the stack manipulation is applied. The carrier instance is
+     * not required to be typed as the carrier type on the operand stack and might also be {@code null}.
+     *
+     * @param auxiliaryType The auxiliary type that represents the carrier type.
+     * @return A stack manipulation that releases the carrier instance.
+     */
+    public static StackManipulation release(AuxiliaryType auxiliaryType) {
+        return new Releasing(auxiliaryType);
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadLocalCarrier." + name();
+    }
+
+    /**
+     * An initializer that assigns a new thread local to the static thread local field of a carrier type.
+     */
+    protected enum Initializer implements ByteCodeAppender {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+            TypeDescription instrumentedType = instrumentedMethod.getDeclaringType().asRawType();
+            return new Size(new StackManipulation.Compound(
+                    creation(THREAD_LOCAL),
+                    FieldAccess.forField(instrumentedType.getDeclaredFields().filter(named(FIELD_NAME)).getOnly()).putter()
+            ).apply(methodVisitor, implementationContext).getMaximalSize(), instrumentedMethod.getStackSize());
+        }
+
+        @Override
+        public String toString() {
+            return "ThreadLocalCarrier.Initializer." + name();
+        }
+    }
+
+    /**
+     * An appender for a carrier type's acquisition method. If the current thread does not yet hold a carrier or if
+     * its carrier was collected, a new carrier is created and stored weakly in the thread local. If the thread's carrier is currently in use, a new carrier
+     * is created without being stored. Either way, the returned carrier is marked as being in use.
+     */
+    protected static class Acquisition implements ByteCodeAppender {
+
+        /**
+         * The carrier type.
+         */
+        private final TypeDescription carrierType;
+
+        /**
+         * Creates a new appender for a carrier type's acquisition method.
+         *
+         * @param carrierType The carrier type.
+         */
+        protected Acquisition(TypeDescription carrierType) {
+            this.carrierType = carrierType;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+            StackManipulation carrier = MethodVariableAccess.REFERENCE.loadOffset(0);
+            StackManipulation threadLocal = FieldAccess.forField(carrierType.getDeclaredFields().filter(named(FIELD_NAME)).getOnly()).getter();
+            StackManipulation inUse = FieldAccess.forField(carrierType.getDeclaredFields().filter(named(IN_USE_FIELD_NAME)).getOnly()).getter();
+            StackManipulation markInUse = new StackManipulation.Compound(carrier,
+                    IntegerConstant.ONE,
+                    FieldAccess.forField(carrierType.getDeclaredFields().filter(named(IN_USE_FIELD_NAME)).getOnly()).putter());
+            Label creation = new Label(), allocation = new Label();
+            int maximalSize = new StackManipulation.Compound(threadLocal,
+                    MethodInvocation.invoke(THREAD_LOCAL.getDeclaredMethods().filter(named("get").and(takesArguments(0))).getOnly())
+            ).apply(methodVisitor, implementationContext).getMaximalSize();
+            methodVisitor.visitVarInsn(Opcodes.ASTORE, 0);
+            carrier.apply(methodVisitor, implementationContext);
+            methodVisitor.visitJumpInsn(Opcodes.IFNULL, creation);
+            maximalSize = Math.max(maximalSize, new StackManipulation.Compound(carrier,
+                    TypeCasting.to(REFERENCE),
+                    MethodInvocation.invoke(REFERENCE.getDeclaredMethods().filter(named("get").and(takesArguments(0))).getOnly()),
+                    TypeCasting.to(carrierType)).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitVarInsn(Opcodes.ASTORE, 0);
+            carrier.apply(methodVisitor, implementationContext);
+            methodVisitor.visitJumpInsn(Opcodes.IFNULL, creation);
+            maximalSize = Math.max(maximalSize, new StackManipulation.Compound(carrier, inUse).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitJumpInsn(Opcodes.IFNE, allocation);
+            maximalSize = Math.max(maximalSize, new StackManipulation.Compound(markInUse,
+                    carrier,
+                    MethodReturn.REFERENCE).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitLabel(creation);
+            methodVisitor.visitFrame(Opcodes.F_APPEND, 1, new Object[]{TypeDescription.OBJECT.getInternalName()}, 0, null);
+            maximalSize = Math.max(maximalSize, creation(carrierType).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitVarInsn(Opcodes.ASTORE, 0);
+            maximalSize = Math.max(maximalSize, new StackManipulation.Compound(threadLocal,
+                    weakReference(carrier),
+                    MethodInvocation.invoke(THREAD_LOCAL.getDeclaredMethods().filter(named("set").and(takesArguments(1))).getOnly()),
+                    markInUse,
+                    carrier,
+                    MethodReturn.REFERENCE).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitLabel(allocation);
+            methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            maximalSize = Math.max(maximalSize, creation(carrierType).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitVarInsn(Opcodes.ASTORE, 0);
+            maximalSize = Math.max(maximalSize, new StackManipulation.Compound(markInUse,
+                    carrier,
+                    MethodReturn.REFERENCE).apply(methodVisitor, implementationContext).getMaximalSize());
+            return new Size(maximalSize, 1);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && carrierType.equals(((Acquisition) other).carrierType);
+        }
+
+        @Override
+        public int hashCode() {
+            return carrierType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ThreadLocalCarrier.Acquisition{carrierType=" + carrierType + '}';
+        }
+    }
+
+    /**
+     * An appender for a carrier type's static release method. If the given carrier is not {@code null}, its bound
+     * reference fields are cleared and its in use marker is reset.
+     */
+    protected static class Release implements ByteCodeAppender {
+
+        /**
+         * The carrier type.
+         */
+        private final TypeDescription carrierType;
+
+        /**
+         * Creates a new appender for a carrier type's release method.
+         *
+         * @param carrierType The carrier type.
+         */
+        protected Release(TypeDescription carrierType) {
+            this.carrierType = carrierType;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+            StackManipulation carrier = MethodVariableAccess.REFERENCE.loadOffset(0);
+            List<StackManipulation> fieldResets = new ArrayList<StackManipulation>();
+            for (FieldDescription fieldDescription : boundFields(carrierType)) {
+                if (!fieldDescription.getType().asRawType().isPrimitive()) {
+                    fieldResets.add(new StackManipulation.Compound(carrier,
+                            NullConstant.INSTANCE,
+                            FieldAccess.forField(fieldDescription).putter()));
+                }
+            }
+            fieldResets.add(new StackManipulation.Compound(carrier,
+                    IntegerConstant.ZERO,
+                    FieldAccess.forField(carrierType.getDeclaredFields().filter(named(IN_USE_FIELD_NAME)).getOnly()).putter()));
+            Label released = new Label();
+            carrier.apply(methodVisitor, implementationContext);
+            methodVisitor.visitJumpInsn(Opcodes.IFNULL, released);
+            int maximalSize = Math.max(1, new StackManipulation.Compound(fieldResets.toArray(new StackManipulation[fieldResets.size()])).apply(methodVisitor, implementationContext).getMaximalSize());
+            methodVisitor.visitLabel(released);
+            methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            MethodReturn.VOID.apply(methodVisitor, implementationContext);
+            return new Size(maximalSize, instrumentedMethod.getStackSize());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && carrierType.equals(((Release) other).carrierType);
+        }
+
+        @Override
+        public int hashCode() {
+            return carrierType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ThreadLocalCarrier.Release{carrierType=" + carrierType + '}';
+        }
+    }
+
+    /**
+     * A stack manipulation that releases a carrier instance on top of the operand stack where the carrier type is an
+     * auxiliary type that is only registered when this stack manipulation is applied.
+     */
+    protected static class Releasing implements StackManipulation {
+
+        /**
+         * The auxiliary type that represents the carrier type.
+         */
+        private final AuxiliaryType auxiliaryType;
+
+        /**
+         * Creates a new stack manipulation for releasing a carrier instance.
+         *
+         * @param auxiliaryType The auxiliary type that represents the carrier type.
+         */
+        protected Releasing(AuxiliaryType auxiliaryType) {
+            this.auxiliaryType = auxiliaryType;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Context implementationContext) {
+            TypeDescription carrierType = implementationContext.register(auxiliaryType);
+            return new Compound(TypeCasting.to(carrierType), release(carrierType)).apply(methodVisitor, implementationContext);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && auxiliaryType.equals(((Releasing) other).auxiliaryType);
+        }
+
+        @Override
+        public int hashCode() {
+            return auxiliaryType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ThreadLocalCarrier.Releasing{auxiliaryType=" + auxiliaryType + '}';
+        }
+    }
+}
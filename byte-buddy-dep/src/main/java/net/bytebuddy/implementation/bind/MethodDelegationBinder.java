@@ -1,11 +1,17 @@
 package net.bytebuddy.implementation.bind;
 
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.Duplication;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.constant.NullConstant;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 import java.util.*;
 
@@ -222,6 +228,163 @@ public interface MethodDelegationBinder {
             }
         }
 
+        /**
+         * An anonymous binding of a target method parameter to a value that must be released by the source method
+         * once the target method completes, either normally or exceptionally. The bound value is stored in a local
+         * variable of the source method that follows the source method's parameters at the index of the target
+         * method's parameter.
+         */
+        class Scoped implements ParameterBinding<Object> {
+
+            /**
+             * A pseudo-token that is not exposed and therefore anonymous.
+             */
+            private final Object anonymousToken;
+
+            /**
+             * The stack manipulation that loads the bound value onto the operand stack.
+             */
+            private final StackManipulation delegate;
+
+            /**
+             * A stack manipulation that releases the bound value on top of the operand stack.
+             */
+            private final StackManipulation release;
+
+            /**
+             * The instrumented type that declares the source method.
+             */
+            private final TypeDescription instrumentedType;
+
+            /**
+             * The source method that is binding the value.
+             */
+            private final MethodDescription source;
+
+            /**
+             * The target method's parameter to which the value is bound.
+             */
+            private final ParameterDescription target;
+
+            /**
+             * Creates a new, scoped parameter binding.
+             *
+             * @param delegate         The stack manipulation that loads the bound value onto the operand stack.
+             * @param release          A stack manipulation that releases the bound value on top of the operand stack.
+             * @param instrumentedType The instrumented type that declares the source method.
+             * @param source           The source method that is binding the value.
+             * @param target           The target method's parameter to which the value is bound.
+             */
+            public Scoped(StackManipulation delegate,
+                          StackManipulation release,
+                          TypeDescription instrumentedType,
+                          MethodDescription source,
+                          ParameterDescription target) {
+                this.delegate = delegate;
+                this.release = release;
+                this.instrumentedType = instrumentedType;
+                this.source = source;
+                this.target = target;
+                anonymousToken = new Object();
+            }
+
+            @Override
+            public Object getIdentificationToken() {
+                return anonymousToken;
+            }
+
+            /**
+             * Returns the index of the local variable that stores the bound value.
+             *
+             * @return The index of the local variable that stores the bound value.
+             */
+            public int getOffset() {
+                return source.getStackSize() + target.getIndex();
+            }
+
+            /**
+             * Returns a stack manipulation that releases the bound value.
+             *
+             * @return A stack manipulation that releases the bound value.
+             */
+            public StackManipulation release() {
+                return new Compound(MethodVariableAccess.REFERENCE.loadOffset(getOffset()), release);
+            }
+
+            /**
+             * Returns the instrumented type that declares the source method.
+             *
+             * @return The instrumented type that declares the source method.
+             */
+            public TypeDescription getInstrumentedType() {
+                return instrumentedType;
+            }
+
+            /**
+             * Returns the source method that is binding the value.
+             *
+             * @return The source method that is binding the value.
+             */
+            public MethodDescription getSource() {
+                return source;
+            }
+
+            /**
+             * Returns the type of the bound value.
+             *
+             * @return The type of the bound value.
+             */
+            public TypeDescription getValueType() {
+                return target.getType().asRawType();
+            }
+
+            @Override
+            public boolean isValid() {
+                return delegate.isValid() && release.isValid();
+            }
+
+            @Override
+            public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+                Size size = new Compound(delegate, Duplication.SINGLE).apply(methodVisitor, implementationContext);
+                methodVisitor.visitVarInsn(Opcodes.ASTORE, getOffset());
+                return size.aggregate(new Size(-1, 0));
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Scoped scoped = (Scoped) other;
+                return delegate.equals(scoped.delegate)
+                        && release.equals(scoped.release)
+                        && instrumentedType.equals(scoped.instrumentedType)
+                        && source.equals(scoped.source)
+                        && target.equals(scoped.target);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = delegate.hashCode();
+                result = 31 * result + release.hashCode();
+                result = 31 * result + instrumentedType.hashCode();
+                result = 31 * result + source.hashCode();
+                result = 31 * result + target.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "MethodDelegationBinder.ParameterBinding.Scoped{" +
+                        "anonymousToken=" + anonymousToken +
+                        ", delegate=" + delegate +
+                        ", release=" + release +
+                        ", instrumentedType=" + instrumentedType +
+                        ", source=" + source +
+                        ", target=" + target +
+                        '}';
+            }
+        }
+
         /**
          * A uniquely identifiable parameter binding for a target method. Such bindings are usually later processed by
          * a {@link net.bytebuddy.implementation.bind.MethodDelegationBinder.AmbiguityResolver}
@@ -476,6 +639,11 @@ public interface MethodDelegationBinder {
              */
             protected static class Build implements MethodBinding {
 
+                /**
+                 * A description of the {@link java.lang.Throwable} type.
+                 */
+                private static final TypeDescription THROWABLE = new TypeDescription.ForLoadedType(Throwable.class);
+
                 /**
                  * The target method this binding representedBy.
                  */
@@ -524,6 +692,26 @@ public interface MethodDelegationBinder {
                     this.terminatingStackManipulation = terminatingStackManipulation;
                 }
 
+                /**
+                 * Translates a type into its representation within a stack map frame.
+                 *
+                 * @param typeDescription The type to translate.
+                 * @return The type's representation within a stack map frame.
+                 */
+                private static Object toFrameType(TypeDescription typeDescription) {
+                    if (typeDescription.represents(long.class)) {
+                        return Opcodes.LONG;
+                    } else if (typeDescription.represents(float.class)) {
+                        return Opcodes.FLOAT;
+                    } else if (typeDescription.represents(double.class)) {
+                        return Opcodes.DOUBLE;
+                    } else if (typeDescription.isPrimitive()) {
+                        return Opcodes.INTEGER;
+                    } else {
+                        return typeDescription.getInternalName();
+                    }
+                }
+
                 @Override
                 public boolean isValid() {
                     boolean result = methodInvocation.isValid() && terminatingStackManipulation.isValid();
@@ -546,12 +734,79 @@ public interface MethodDelegationBinder {
 
                 @Override
                 public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+                    List<ParameterBinding.Scoped> scopedBindings = new ArrayList<ParameterBinding.Scoped>();
+                    for (StackManipulation stackManipulation : parameterStackManipulations) {
+                        if (stackManipulation instanceof ParameterBinding.Scoped) {
+                            scopedBindings.add((ParameterBinding.Scoped) stackManipulation);
+                        }
+                    }
+                    if (scopedBindings.isEmpty()) {
+                        Size size = new Size(0, 0);
+                        for (StackManipulation stackManipulation : parameterStackManipulations) {
+                            size = size.aggregate(stackManipulation.apply(methodVisitor, implementationContext));
+                        }
+                        size = size.aggregate(methodInvocation.apply(methodVisitor, implementationContext));
+                        return size.aggregate(terminatingStackManipulation.apply(methodVisitor, implementationContext));
+                    }
+                    Label start = new Label(), end = new Label(), handler = new Label(), completion = new Label();
+                    methodVisitor.visitTryCatchBlock(start, end, handler, null);
                     Size size = new Size(0, 0);
+                    StackManipulation[] release = new StackManipulation[scopedBindings.size()];
+                    int index = 0;
+                    for (ParameterBinding.Scoped scopedBinding : scopedBindings) {
+                        size = size.aggregate(NullConstant.INSTANCE.apply(methodVisitor, implementationContext));
+                        methodVisitor.visitVarInsn(Opcodes.ASTORE, scopedBinding.getOffset());
+                        size = size.aggregate(new Size(-1, 0));
+                        release[index++] = scopedBinding.release();
+                    }
+                    methodVisitor.visitLabel(start);
                     for (StackManipulation stackManipulation : parameterStackManipulations) {
                         size = size.aggregate(stackManipulation.apply(methodVisitor, implementationContext));
                     }
                     size = size.aggregate(methodInvocation.apply(methodVisitor, implementationContext));
-                    return size.aggregate(terminatingStackManipulation.apply(methodVisitor, implementationContext));
+                    methodVisitor.visitLabel(end);
+                    size = size.aggregate(new Compound(release).apply(methodVisitor, implementationContext));
+                    TerminationTracker terminationTracker = new TerminationTracker(methodVisitor);
+                    size = size.aggregate(terminatingStackManipulation.apply(terminationTracker, implementationContext));
+                    if (!terminationTracker.isTerminated()) {
+                        methodVisitor.visitJumpInsn(Opcodes.GOTO, completion);
+                    }
+                    Object[] frame = toFrame(scopedBindings);
+                    methodVisitor.visitLabel(handler);
+                    methodVisitor.visitFrame(Opcodes.F_FULL, frame.length, frame, 1, new Object[]{THROWABLE.getInternalName()});
+                    int maximalSize = Math.max(size.getMaximalSize(), 1 + new Compound(release).apply(methodVisitor, implementationContext).getMaximalSize());
+                    methodVisitor.visitInsn(Opcodes.ATHROW);
+                    if (!terminationTracker.isTerminated()) {
+                        methodVisitor.visitLabel(completion);
+                        methodVisitor.visitFrame(Opcodes.F_FULL, frame.length, frame, 0, new Object[0]);
+                    }
+                    return new Size(size.getSizeImpact(), maximalSize);
+                }
+
+                /**
+                 * Creates the local variables of a stack map frame within the source method where all scoped values are
+                 * stored in their local variables.
+                 *
+                 * @param scopedBindings The scoped parameter bindings of this method binding in their parameter order.
+                 * @return The local variables of a stack map frame where all scoped values are stored.
+                 */
+                private static Object[] toFrame(List<ParameterBinding.Scoped> scopedBindings) {
+                    ParameterBinding.Scoped representative = scopedBindings.get(0);
+                    List<Object> frame = new ArrayList<Object>();
+                    if (!representative.getSource().isStatic()) {
+                        frame.add(representative.getInstrumentedType().getInternalName());
+                    }
+                    for (TypeDescription parameterType : representative.getSource().getParameters().asTypeList().asRawTypes()) {
+                        frame.add(toFrameType(parameterType));
+                    }
+                    int offset = representative.getSource().getStackSize();
+                    for (ParameterBinding.Scoped scopedBinding : scopedBindings) {
+                        while (offset++ < scopedBinding.getOffset()) {
+                            frame.add(Opcodes.TOP);
+                        }
+                        frame.add(toFrameType(scopedBinding.getValueType()));
+                    }
+                    return frame.toArray(new Object[frame.size()]);
                 }
 
                 @Override
@@ -586,6 +841,85 @@ public interface MethodDelegationBinder {
                             ", terminatingStackManipulation=" + terminatingStackManipulation +
                             '}';
                 }
+
+                /**
+                 * A method visitor that records if the last visited instruction terminates the method, i.e. if the
+                 * instruction returns from the method or throws an exception.
+                 */
+                protected static class TerminationTracker extends MethodVisitor {
+
+                    /**
+                     * {@code true} if the last visited instruction terminates the method.
+                     */
+                    private boolean terminated;
+
+                    /**
+                     * Creates a new termination tracker.
+                     *
+                     * @param methodVisitor The method visitor to which all instructions are forwarded.
+                     */
+                    protected TerminationTracker(MethodVisitor methodVisitor) {
+                        super(Opcodes.ASM5, methodVisitor);
+                    }
+
+                    /**
+                     * Returns {@code true} if the last visited instruction terminates the method.
+                     *
+                     * @return {@code true} if the last visited instruction terminates the method.
+                     */
+                    protected boolean isTerminated() {
+                        return terminated;
+                    }
+
+                    @Override
+                    public void visitInsn(int opcode) {
+                        terminated = (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) || opcode == Opcodes.ATHROW;
+                        super.visitInsn(opcode);
+                    }
+
+                    @Override
+                    public void visitIntInsn(int opcode, int operand) {
+                        terminated = false;
+                        super.visitIntInsn(opcode, operand);
+                    }
+
+                    @Override
+                    public void visitVarInsn(int opcode, int variable) {
+                        terminated = false;
+                        super.visitVarInsn(opcode, variable);
+                    }
+
+                    @Override
+                    public void visitTypeInsn(int opcode, String type) {
+                        terminated = false;
+                        super.visitTypeInsn(opcode, type);
+                    }
+
+                    @Override
+                    public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+                        terminated = false;
+                        super.visitFieldInsn(opcode, owner, name, descriptor);
+                    }
+
+                    @Override
+                    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                        terminated = false;
+                        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+                    }
+
+                    @Override
+                    public void visitLdcInsn(Object value) {
+                        terminated = false;
+                        super.visitLdcInsn(value);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "MethodDelegationBinder.MethodBinding.Builder.Build.TerminationTracker{" +
+                                "terminated=" + terminated +
+                                '}';
+                    }
+                }
             }
         }
     }
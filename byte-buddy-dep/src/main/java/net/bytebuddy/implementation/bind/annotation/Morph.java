@@ -7,13 +7,17 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.TargetType;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.dynamic.scaffold.MethodLookupEngine;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+import net.bytebuddy.implementation.auxiliary.ThreadLocalCarrier;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.implementation.bytecode.Duplication;
@@ -60,6 +64,19 @@ public @interface Morph {
      */
     boolean serializableProxy() default false;
 
+    /**
+     * Determines if the injected proxy for this parameter should be reused per thread instead of being instantiated
+     * for every intercepted method call. A reused proxy avoids allocating an object on each call. The proxy is
+     * released and cleared by the intercepted method once the intercepting method returns or throws an exception,
+     * regardless of the proxy's morphing method being invoked. Therefore, the proxy must not escape the intercepting
+     * method. If a proxy is still in use when the intercepted method is entered again on the same thread, for example
+     * by a recursive call, a new proxy is allocated for the nested call. A thread local proxy cannot be serializable.
+     * A thread local proxy is not reused if the intercepted method is a constructor.
+     *
+     * @return {@code true} if the proxy should be reused per thread.
+     */
+    boolean threadLocalProxy() default false;
+
     /**
      * Determines if the proxy should attempt to invoke a default method. If the default method is ambiguous,
      * use the {@link Morph#defaultTarget()} property instead which allows to determine an explicit interface
@@ -87,6 +104,11 @@ public @interface Morph {
          */
         private static final MethodDescription SERIALIZABLE_PROXY;
 
+        /**
+         * A reference to the thread local proxy method.
+         */
+        private static final MethodDescription THREAD_LOCAL_PROXY;
+
         /**
          * A reference to the default method method.
          */
@@ -103,6 +125,7 @@ public @interface Morph {
         static {
             MethodList methodList = new TypeDescription.ForLoadedType(Morph.class).getDeclaredMethods();
             SERIALIZABLE_PROXY = methodList.filter(named("serializableProxy")).getOnly();
+            THREAD_LOCAL_PROXY = methodList.filter(named("threadLocalProxy")).getOnly();
             DEFAULT_METHOD = methodList.filter(named("defaultMethod")).getOnly();
             DEFAULT_TARGET = methodList.filter(named("defaultTarget")).getOnly();
         }
@@ -190,6 +213,12 @@ public @interface Morph {
             if (!target.getType().asRawType().equals(forwardingMethod.getDeclaringType())) {
                 throw new IllegalStateException("Illegal use of @Morph for " + target + " which was installed for " + forwardingMethod.getDeclaringType());
             }
+            boolean serializableProxy = annotation.getValue(SERIALIZABLE_PROXY, Boolean.class);
+            boolean threadLocalProxy = annotation.getValue(THREAD_LOCAL_PROXY, Boolean.class);
+            if (serializableProxy && threadLocalProxy) {
+                throw new IllegalStateException("Illegal use of @Morph for " + target + " which requires a serializable and thread local proxy");
+            }
+            threadLocalProxy = threadLocalProxy && !source.isConstructor();
             Implementation.SpecialMethodInvocation specialMethodInvocation;
             TypeDescription typeDescription = annotation.getValue(DEFAULT_TARGET, TypeDescription.class);
             if (typeDescription.represents(void.class) && !annotation.getValue(DEFAULT_METHOD, Boolean.class)) {
@@ -199,14 +228,23 @@ public @interface Morph {
                         ? DefaultMethodLocator.Implicit.INSTANCE
                         : new DefaultMethodLocator.Explicit(typeDescription)).resolve(implementationTarget, source);
             }
-            return specialMethodInvocation.isValid()
-                    ? new MethodDelegationBinder.ParameterBinding.Anonymous(new RedirectionProxy(forwardingMethod.getDeclaringType().asRawType(),
+            if (!specialMethodInvocation.isValid()) {
+                return MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE;
+            }
+            RedirectionProxy redirectionProxy = new RedirectionProxy(forwardingMethod.getDeclaringType().asRawType(),
                     implementationTarget.getTypeDescription(),
                     specialMethodInvocation,
                     assigner,
-                    annotation.getValue(SERIALIZABLE_PROXY, Boolean.class),
-                    this))
-                    : MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE;
+                    serializableProxy,
+                    threadLocalProxy,
+                    this);
+            return threadLocalProxy
+                    ? new MethodDelegationBinder.ParameterBinding.Scoped(redirectionProxy,
+                    ThreadLocalCarrier.release(redirectionProxy),
+                    implementationTarget.getTypeDescription(),
+                    source,
+                    target)
+                    : new MethodDelegationBinder.ParameterBinding.Anonymous(redirectionProxy);
         }
 
         @Override
@@ -367,6 +405,11 @@ public @interface Morph {
              */
             private final boolean serializableProxy;
 
+            /**
+             * Determines if the generated proxy should be reused per thread.
+             */
+            private final boolean threadLocalProxy;
+
             /**
              * The method lookup engine factory to register.
              */
@@ -381,6 +424,7 @@ public @interface Morph {
              *                                  an accessor on the instrumented type.
              * @param assigner                  The assigner to use.
              * @param serializableProxy         {@code true} if the proxy should be serializable.
+             * @param threadLocalProxy          {@code true} if the proxy should be reused per thread.
              * @param methodLookupEngineFactory The method lookup engine factory to use.
              */
             protected RedirectionProxy(TypeDescription morphingType,
@@ -388,12 +432,14 @@ public @interface Morph {
                                        Implementation.SpecialMethodInvocation specialMethodInvocation,
                                        Assigner assigner,
                                        boolean serializableProxy,
+                                       boolean threadLocalProxy,
                                        Factory methodLookupEngineFactory) {
                 this.morphingType = morphingType;
                 this.instrumentedType = instrumentedType;
                 this.specialMethodInvocation = specialMethodInvocation;
                 this.assigner = assigner;
                 this.serializableProxy = serializableProxy;
+                this.threadLocalProxy = threadLocalProxy;
                 this.methodLookupEngineFactory = methodLookupEngineFactory;
             }
 
@@ -401,6 +447,41 @@ public @interface Morph {
             public DynamicType make(String auxiliaryTypeName,
                                     ClassFileVersion classFileVersion,
                                     MethodAccessorFactory methodAccessorFactory) {
+                if (threadLocalProxy) {
+                    boolean staticMethod = specialMethodInvocation.getMethodDescription().isStatic();
+                    DynamicType.Builder<?> builder = new ByteBuddy(classFileVersion)
+                            .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                            .name(auxiliaryTypeName)
+                            .modifiers(DEFAULT_TYPE_MODIFIER)
+                            .methodLookupEngine(methodLookupEngineFactory)
+                            .implement(morphingType)
+                            .defineConstructor(Collections.<TypeDescription>emptyList())
+                            .intercept(ThreadLocalCarrier.CONSTRUCTOR)
+                            .defineMethod(ThreadLocalCarrier.ACQUIRE_METHOD_NAME,
+                                    TargetType.DESCRIPTION,
+                                    Collections.<TypeDescription>emptyList(),
+                                    Visibility.PUBLIC,
+                                    Ownership.STATIC)
+                            .intercept(ThreadLocalCarrier.ACQUISITION)
+                            .defineMethod(ThreadLocalCarrier.BIND_METHOD_NAME,
+                                    TypeDescription.VOID,
+                                    staticMethod
+                                            ? Collections.<TypeDescription>emptyList()
+                                            : Collections.singletonList(instrumentedType),
+                                    Visibility.PUBLIC)
+                            .intercept(ThreadLocalCarrier.FIELD_BINDING)
+                            .defineMethod(ThreadLocalCarrier.RELEASE_METHOD_NAME,
+                                    TypeDescription.VOID,
+                                    Collections.singletonList(TargetType.DESCRIPTION),
+                                    Visibility.PUBLIC,
+                                    Ownership.STATIC)
+                            .intercept(ThreadLocalCarrier.RELEASE)
+                            .method(isDeclaredBy(morphingType))
+                            .intercept(new MethodCall(methodAccessorFactory.registerAccessorFor(specialMethodInvocation), assigner));
+                    return (staticMethod
+                            ? builder
+                            : builder.defineField(FIELD_NAME, instrumentedType, Visibility.PRIVATE)).make();
+                }
                 return new ByteBuddy(classFileVersion)
                         .subclass(morphingType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
                         .name(auxiliaryTypeName)
@@ -426,6 +507,16 @@ public @interface Morph {
             @Override
             public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
                 TypeDescription forwardingType = implementationContext.register(this);
+                if (threadLocalProxy) {
+                    return new Compound(
+                            ThreadLocalCarrier.acquire(forwardingType),
+                            Duplication.SINGLE,
+                            specialMethodInvocation.getMethodDescription().isStatic()
+                                    ? LegalTrivial.INSTANCE
+                                    : MethodVariableAccess.REFERENCE.loadOffset(0),
+                            ThreadLocalCarrier.bind(forwardingType)
+                    ).apply(methodVisitor, implementationContext);
+                }
                 return new Compound(
                         TypeCreation.forType(forwardingType),
                         Duplication.SINGLE,
@@ -442,6 +533,7 @@ public @interface Morph {
                 if (other == null || getClass() != other.getClass()) return false;
                 RedirectionProxy that = (RedirectionProxy) other;
                 return serializableProxy == that.serializableProxy
+                        && threadLocalProxy == that.threadLocalProxy
                         && assigner.equals(that.assigner)
                         && instrumentedType.equals(that.instrumentedType)
                         && morphingType.equals(that.morphingType)
@@ -457,6 +549,7 @@ public @interface Morph {
                 result = 31 * result + instrumentedType.hashCode();
                 result = 31 * result + methodLookupEngineFactory.hashCode();
                 result = 31 * result + (serializableProxy ? 1 : 0);
+                result = 31 * result + (threadLocalProxy ? 1 : 0);
                 return result;
             }
 
@@ -468,6 +561,7 @@ public @interface Morph {
                         ", assigner=" + assigner +
                         ", methodLookupEngineFactory=" + methodLookupEngineFactory +
                         ", serializableProxy=" + serializableProxy +
+                        ", threadLocalProxy=" + threadLocalProxy +
                         ", instrumentedType=" + instrumentedType +
                         '}';
             }
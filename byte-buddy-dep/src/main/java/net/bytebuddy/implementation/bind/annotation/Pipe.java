@@ -8,15 +8,18 @@ import net.bytebuddy.description.field.FieldList;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.TargetType;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.dynamic.scaffold.MethodLookupEngine;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+import net.bytebuddy.implementation.auxiliary.ThreadLocalCarrier;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.implementation.bytecode.Duplication;
@@ -92,6 +95,19 @@ public @interface Pipe {
      */
     boolean serializableProxy() default false;
 
+    /**
+     * Determines if the generated proxy should be reused per thread instead of being instantiated for every
+     * intercepted method call. A reused proxy avoids allocating an object on each call. The proxy is released and
+     * cleared by the intercepted method once the intercepting method returns or throws an exception, regardless of
+     * the proxy's forwarding method being invoked. Therefore, the proxy must not escape the intercepting method.
+     * If a proxy is still in use when the intercepted method is entered again on the same thread, for example by a
+     * recursive call, a new proxy is allocated for the nested call. A thread local proxy cannot be
+     * {@link java.io.Serializable}. A thread local proxy is not reused if the intercepted method is a constructor.
+     *
+     * @return {@code true} if the generated proxy should be reused per thread.
+     */
+    boolean threadLocalProxy() default false;
+
     /**
      * A {@link net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder.ParameterBinder}
      * for binding the {@link net.bytebuddy.implementation.bind.annotation.Pipe} annotation.
@@ -189,11 +205,24 @@ public @interface Pipe {
             } else if (source.isStatic()) {
                 return MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE;
             }
-            return new MethodDelegationBinder.ParameterBinding.Anonymous(new Redirection(forwardingMethod.getDeclaringType().asRawType(),
+            Pipe pipe = annotation.loadSilent();
+            if (pipe.serializableProxy() && pipe.threadLocalProxy()) {
+                throw new IllegalStateException("Illegal use of @Pipe for " + target + " which requires a serializable and thread local proxy");
+            }
+            boolean threadLocalProxy = pipe.threadLocalProxy() && !source.isConstructor();
+            Redirection redirection = new Redirection(forwardingMethod.getDeclaringType().asRawType(),
                     source,
                     assigner,
-                    annotation.loadSilent().serializableProxy(),
-                    this));
+                    pipe.serializableProxy(),
+                    threadLocalProxy,
+                    this);
+            return threadLocalProxy
+                    ? new MethodDelegationBinder.ParameterBinding.Scoped(redirection,
+                    ThreadLocalCarrier.release(redirection),
+                    implementationTarget.getTypeDescription(),
+                    source,
+                    target)
+                    : new MethodDelegationBinder.ParameterBinding.Anonymous(redirection);
         }
 
         @Override
@@ -253,6 +282,11 @@ public @interface Pipe {
              */
             private final boolean serializableProxy;
 
+            /**
+             * Determines if the generated proxy should be reused per thread.
+             */
+            private final boolean threadLocalProxy;
+
             /**
              * The method lookup engine factory to register.
              */
@@ -265,17 +299,20 @@ public @interface Pipe {
              * @param sourceMethod              The method that is to be forwarded.
              * @param assigner                  The assigner to use.
              * @param serializableProxy         Determines if the generated proxy should be {@link java.io.Serializable}.
+             * @param threadLocalProxy          Determines if the generated proxy should be reused per thread.
              * @param methodLookupEngineFactory The method lookup engine factory to register.
              */
             protected Redirection(TypeDescription forwardingType,
                                   MethodDescription sourceMethod,
                                   Assigner assigner,
                                   boolean serializableProxy,
+                                  boolean threadLocalProxy,
                                   Factory methodLookupEngineFactory) {
                 this.forwardingType = forwardingType;
                 this.sourceMethod = sourceMethod;
                 this.assigner = assigner;
                 this.serializableProxy = serializableProxy;
+                this.threadLocalProxy = threadLocalProxy;
                 this.methodLookupEngineFactory = methodLookupEngineFactory;
             }
 
@@ -311,16 +348,47 @@ public @interface Pipe {
                                     ClassFileVersion classFileVersion,
                                     MethodAccessorFactory methodAccessorFactory) {
                 LinkedHashMap<String, TypeDescription> parameterFields = extractFields(sourceMethod);
-                DynamicType.Builder<?> builder = new ByteBuddy(classFileVersion)
-                        .subclass(forwardingType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
-                        .name(auxiliaryTypeName)
-                        .modifiers(DEFAULT_TYPE_MODIFIER)
-                        .methodLookupEngine(methodLookupEngineFactory)
-                        .implement(serializableProxy ? new Class<?>[]{Serializable.class} : new Class<?>[0])
-                        .method(isDeclaredBy(forwardingType))
-                        .intercept(new MethodCall(sourceMethod, assigner))
-                        .defineConstructor(new ArrayList<TypeDescription>(parameterFields.values()))
-                        .intercept(ConstructorCall.INSTANCE);
+                DynamicType.Builder<?> builder;
+                if (threadLocalProxy) {
+                    builder = new ByteBuddy(classFileVersion)
+                            .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                            .name(auxiliaryTypeName)
+                            .modifiers(DEFAULT_TYPE_MODIFIER)
+                            .methodLookupEngine(methodLookupEngineFactory)
+                            .implement(forwardingType)
+                            .method(isDeclaredBy(forwardingType))
+                            .intercept(new MethodCall(sourceMethod, assigner, true))
+                            .defineConstructor(Collections.<TypeDescription>emptyList())
+                            .intercept(ThreadLocalCarrier.CONSTRUCTOR)
+                            .defineMethod(ThreadLocalCarrier.ACQUIRE_METHOD_NAME,
+                                    TargetType.DESCRIPTION,
+                                    Collections.<TypeDescription>emptyList(),
+                                    Visibility.PUBLIC,
+                                    Ownership.STATIC)
+                            .intercept(ThreadLocalCarrier.ACQUISITION)
+                            .defineMethod(ThreadLocalCarrier.BIND_METHOD_NAME,
+                                    TypeDescription.VOID,
+                                    new ArrayList<TypeDescription>(parameterFields.values()),
+                                    Visibility.PUBLIC)
+                            .intercept(ThreadLocalCarrier.FIELD_BINDING)
+                            .defineMethod(ThreadLocalCarrier.RELEASE_METHOD_NAME,
+                                    TypeDescription.VOID,
+                                    Collections.singletonList(TargetType.DESCRIPTION),
+                                    Visibility.PUBLIC,
+                                    Ownership.STATIC)
+                            .intercept(ThreadLocalCarrier.RELEASE);
+                } else {
+                    builder = new ByteBuddy(classFileVersion)
+                            .subclass(forwardingType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                            .name(auxiliaryTypeName)
+                            .modifiers(DEFAULT_TYPE_MODIFIER)
+                            .methodLookupEngine(methodLookupEngineFactory)
+                            .implement(serializableProxy ? new Class<?>[]{Serializable.class} : new Class<?>[0])
+                            .method(isDeclaredBy(forwardingType))
+                            .intercept(new MethodCall(sourceMethod, assigner, false))
+                            .defineConstructor(new ArrayList<TypeDescription>(parameterFields.values()))
+                            .intercept(ConstructorCall.INSTANCE);
+                }
                 for (Map.Entry<String, TypeDescription> field : parameterFields.entrySet()) {
                     builder = builder.defineField(field.getKey(), field.getValue(), Visibility.PRIVATE);
                 }
@@ -335,11 +403,17 @@ public @interface Pipe {
             @Override
             public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
                 TypeDescription forwardingType = implementationContext.register(this);
-                return new Compound(
+                return (threadLocalProxy
+                        ? new Compound(
+                        ThreadLocalCarrier.acquire(forwardingType),
+                        Duplication.SINGLE,
+                        MethodVariableAccess.loadArguments(sourceMethod),
+                        ThreadLocalCarrier.bind(forwardingType))
+                        : new Compound(
                         TypeCreation.forType(forwardingType),
                         Duplication.SINGLE,
                         MethodVariableAccess.loadArguments(sourceMethod),
-                        MethodInvocation.invoke(forwardingType.getDeclaredMethods().filter(isConstructor()).getOnly())
+                        MethodInvocation.invoke(forwardingType.getDeclaredMethods().filter(isConstructor()).getOnly()))
                 ).apply(methodVisitor, implementationContext);
             }
 
@@ -349,6 +423,7 @@ public @interface Pipe {
                 if (other == null || getClass() != other.getClass()) return false;
                 Redirection that = (Redirection) other;
                 return serializableProxy == that.serializableProxy
+                        && threadLocalProxy == that.threadLocalProxy
                         && assigner.equals(that.assigner)
                         && forwardingType.equals(that.forwardingType)
                         && methodLookupEngineFactory.equals(that.methodLookupEngineFactory)
@@ -362,6 +437,7 @@ public @interface Pipe {
                 result = 31 * result + assigner.hashCode();
                 result = 31 * result + methodLookupEngineFactory.hashCode();
                 result = 31 * result + (serializableProxy ? 1 : 0);
+                result = 31 * result + (threadLocalProxy ? 1 : 0);
                 return result;
             }
 
@@ -372,6 +448,7 @@ public @interface Pipe {
                         ", sourceMethod=" + sourceMethod +
                         ", assigner=" + assigner +
                         ", serializableProxy=" + serializableProxy +
+                        ", threadLocalProxy=" + threadLocalProxy +
                         ", methodLookupEngineFactory=" + methodLookupEngineFactory +
                         '}';
             }
@@ -496,15 +573,24 @@ public @interface Pipe {
                  */
                 private final Assigner assigner;
 
+                /**
+                 * {@code true} if the implemented type is a {@link ThreadLocalCarrier} such that only its bound fields
+                 * are forwarded.
+                 */
+                private final boolean threadLocalProxy;
+
                 /**
                  * Creates a new method call implementation.
                  *
                  * @param redirectedMethod The method that is invoked by the implemented method.
                  * @param assigner         The assigner to be used for invoking the forwarded method.
+                 * @param threadLocalProxy {@code true} if the implemented type is a {@link ThreadLocalCarrier} such
+                 *                         that only its bound fields are forwarded.
                  */
-                private MethodCall(MethodDescription redirectedMethod, Assigner assigner) {
+                private MethodCall(MethodDescription redirectedMethod, Assigner assigner, boolean threadLocalProxy) {
                     this.redirectedMethod = redirectedMethod;
                     this.assigner = assigner;
+                    this.threadLocalProxy = threadLocalProxy;
                 }
 
                 @Override
@@ -521,12 +607,13 @@ public @interface Pipe {
                 public boolean equals(Object other) {
                     return this == other || !(other == null || getClass() != other.getClass())
                             && redirectedMethod.equals(((MethodCall) other).redirectedMethod)
-                            && assigner.equals(((MethodCall) other).assigner);
+                            && assigner.equals(((MethodCall) other).assigner)
+                            && threadLocalProxy == ((MethodCall) other).threadLocalProxy;
                 }
 
                 @Override
                 public int hashCode() {
-                    return redirectedMethod.hashCode() + 31 * assigner.hashCode();
+                    return 31 * (redirectedMethod.hashCode() + 31 * assigner.hashCode()) + (threadLocalProxy ? 1 : 0);
                 }
 
                 @Override
@@ -534,6 +621,7 @@ public @interface Pipe {
                     return "Pipe.Binder.Redirection.MethodCall{" +
                             "redirectedMethod=" + redirectedMethod +
                             ", assigner=" + assigner +
+                            ", threadLocalProxy=" + threadLocalProxy +
                             '}';
                 }
 
@@ -562,7 +650,9 @@ public @interface Pipe {
                                       Context implementationContext,
                                       MethodDescription instrumentedMethod) {
                         StackManipulation thisReference = MethodVariableAccess.forType(instrumentedType).loadOffset(0);
-                        FieldList fieldList = instrumentedType.getDeclaredFields();
+                        FieldList fieldList = threadLocalProxy
+                                ? ThreadLocalCarrier.boundFields(instrumentedType)
+                                : instrumentedType.getDeclaredFields().filter(not(isStatic()));
                         StackManipulation[] fieldLoading = new StackManipulation[fieldList.size()];
                         int index = 0;
                         for (FieldDescription fieldDescription : fieldList) {
@@ -0,0 +1,311 @@
+package net.bytebuddy.matcher;
+
+import java.util.*;
+
+/**
+ * <p>
+ * A compiled matcher represents a flattened form of a tree of {@link net.bytebuddy.matcher.ElementMatcher.Junction}s.
+ * Nested conjunctions and disjunctions are represented by a single matcher that consults an array of matchers such
+ * that evaluating a long chain of junctions does not require a cascade of nested invocations. Matchers that are
+ * contained multiple times within a junction are only consulted once.
+ * </p>
+ * <p>
+ * Additionally, the matchers of a junction are reordered such that matchers that only query cheap properties of an
+ * element, such as its modifiers or its name, are consulted before more elaborate matchers that might require the
+ * resolution of a type hierarchy or of annotations. Only matchers that are known to be cheap and free of side effects
+ * are moved while all other matchers are consulted in their original order. Therefore, a matcher that is not
+ * known to this compiler is never consulted for an element for which the original matcher would not have consulted it.
+ * </p>
+ *
+ * @param <T> The type of the object that is being matched.
+ */
+public abstract class CompiledMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> {
+
+    /**
+     * The matchers of this compiled junction in the order in which they are consulted.
+     */
+    protected final ElementMatcher<? super T>[] matchers;
+
+    /**
+     * Creates a new compiled matcher.
+     *
+     * @param matchers The matchers of this compiled junction in the order in which they are consulted.
+     */
+    protected CompiledMatcher(List<? extends ElementMatcher<? super T>> matchers) {
+        this.matchers = toArray(matchers);
+    }
+
+    /**
+     * Compiles the given matcher. If the given matcher does not represent a junction, the matcher is returned as it is.
+     *
+     * @param matcher The matcher to compile.
+     * @param <S>     The type of the object that is being matched.
+     * @return A compiled version of the given matcher.
+     */
+    public static <S> ElementMatcher<S> compile(ElementMatcher<S> matcher) {
+        if (matcher instanceof ElementMatcher.Junction.Conjunction) {
+            List<ElementMatcher<? super S>> matchers = new ArrayList<ElementMatcher<? super S>>();
+            flattenConjunction(matcher, matchers);
+            return new ForConjunction<S>(optimize(matchers));
+        } else if (matcher instanceof ElementMatcher.Junction.Disjunction) {
+            List<ElementMatcher<? super S>> matchers = new ArrayList<ElementMatcher<? super S>>();
+            flattenDisjunction(matcher, matchers);
+            return new ForDisjunction<S>(optimize(matchers));
+        } else {
+            return matcher;
+        }
+    }
+
+    /**
+     * Adds the operands of a conjunction to the given list where nested conjunctions are flattened.
+     *
+     * @param matcher  The matcher to flatten.
+     * @param matchers The list of matchers to which the operands are added.
+     * @param <S>      The type of the object that is being matched.
+     */
+    private static <S> void flattenConjunction(ElementMatcher<? super S> matcher, List<ElementMatcher<? super S>> matchers) {
+        if (matcher instanceof ElementMatcher.Junction.Conjunction) {
+            @SuppressWarnings("unchecked")
+            ElementMatcher.Junction.Conjunction<? super S> conjunction = (ElementMatcher.Junction.Conjunction<? super S>) matcher;
+            flattenConjunction(conjunction.getLeft(), matchers);
+            flattenConjunction(conjunction.getRight(), matchers);
+        } else {
+            matchers.add(compile(matcher));
+        }
+    }
+
+    /**
+     * Adds the operands of a disjunction to the given list where nested disjunctions are flattened.
+     *
+     * @param matcher  The matcher to flatten.
+     * @param matchers The list of matchers to which the operands are added.
+     * @param <S>      The type of the object that is being matched.
+     */
+    private static <S> void flattenDisjunction(ElementMatcher<? super S> matcher, List<ElementMatcher<? super S>> matchers) {
+        if (matcher instanceof ElementMatcher.Junction.Disjunction) {
+            @SuppressWarnings("unchecked")
+            ElementMatcher.Junction.Disjunction<? super S> disjunction = (ElementMatcher.Junction.Disjunction<? super S>) matcher;
+            flattenDisjunction(disjunction.getLeft(), matchers);
+            flattenDisjunction(disjunction.getRight(), matchers);
+        } else {
+            matchers.add(compile(matcher));
+        }
+    }
+
+    /**
+     * Removes duplicate matchers from the given list and orders the remaining matchers by their cost. Matchers of
+     * an equal cost retain their original order.
+     *
+     * @param matchers The matchers to optimize.
+     * @param <S>      The type of the object that is being matched.
+     * @return A list of the optimized matchers.
+     */
+    private static <S> List<ElementMatcher<? super S>> optimize(List<ElementMatcher<? super S>> matchers) {
+        List<ElementMatcher<? super S>> optimized = new ArrayList<ElementMatcher<? super S>>(new LinkedHashSet<ElementMatcher<? super S>>(matchers));
+        Collections.sort(optimized, Cost.Comparator.INSTANCE);
+        return optimized;
+    }
+
+    /**
+     * Converts a list of matchers into an array.
+     *
+     * @param matchers The matchers to convert.
+     * @param <S>      The type of the object that is being matched.
+     * @return An array containing the given matchers.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S> ElementMatcher<? super S>[] toArray(List<? extends ElementMatcher<? super S>> matchers) {
+        return matchers.toArray(new ElementMatcher[matchers.size()]);
+    }
+
+    /**
+     * Returns the cost of evaluating this compiled matcher which is the highest cost of any of its matchers.
+     *
+     * @return The cost of evaluating this compiled matcher.
+     */
+    protected Cost getCost() {
+        Cost cost = Cost.CONSTANT;
+        for (ElementMatcher<?> matcher : matchers) {
+            Cost matcherCost = Cost.of(matcher);
+            if (matcherCost.compareTo(cost) > 0) {
+                cost = matcherCost;
+            }
+        }
+        return cost;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && Arrays.equals(matchers, ((CompiledMatcher<?>) other).matchers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(matchers);
+    }
+
+    /**
+     * Creates a string representation of the matchers of this compiled matcher.
+     *
+     * @param operator The operator that joins the matchers.
+     * @return A string representation of this matcher.
+     */
+    protected String toString(String operator) {
+        StringBuilder stringBuilder = new StringBuilder("(");
+        boolean first = true;
+        for (ElementMatcher<?> matcher : matchers) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(' ').append(operator).append(' ');
+            }
+            stringBuilder.append(matcher);
+        }
+        return stringBuilder.append(')').toString();
+    }
+
+    /**
+     * Describes the estimated cost of consulting a matcher. A matcher is considered to be of
+     * {@link net.bytebuddy.matcher.CompiledMatcher.Cost#ELABORATE} cost if it is not known to this compiler.
+     */
+    protected enum Cost {
+
+        /**
+         * Describes a matcher that does not query the matched element.
+         */
+        CONSTANT,
+
+        /**
+         * Describes a matcher that queries a simple property of a matched element.
+         */
+        PROPERTY,
+
+        /**
+         * Describes a matcher that queries a matched element's name or descriptor.
+         */
+        NAME,
+
+        /**
+         * Describes a matcher that might require the resolution of other elements or that is not known to this compiler.
+         */
+        ELABORATE;
+
+        /**
+         * Estimates the cost of consulting the given matcher.
+         *
+         * @param matcher The matcher for which to estimate the cost.
+         * @return The estimated cost of consulting the given matcher.
+         */
+        protected static Cost of(ElementMatcher<?> matcher) {
+            if (matcher instanceof BooleanMatcher) {
+                return CONSTANT;
+            } else if (matcher instanceof ModifierMatcher
+                    || matcher instanceof MethodSortMatcher
+                    || matcher instanceof NullMatcher
+                    || matcher instanceof EqualityMatcher) {
+                return PROPERTY;
+            } else if (matcher instanceof NameMatcher
+                    || matcher instanceof StringMatcher
+                    || matcher instanceof DescriptorMatcher) {
+                return NAME;
+            } else if (matcher instanceof NegatingMatcher) {
+                return of(((NegatingMatcher<?>) matcher).getNegatedMatcher());
+            } else if (matcher instanceof CompiledMatcher) {
+                return ((CompiledMatcher<?>) matcher).getCost();
+            } else {
+                return ELABORATE;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "CompiledMatcher.Cost." + name();
+        }
+
+        /**
+         * A comparator that orders matchers by their estimated cost.
+         */
+        protected enum Comparator implements java.util.Comparator<ElementMatcher<?>> {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public int compare(ElementMatcher<?> left, ElementMatcher<?> right) {
+                return of(left).compareTo(of(right));
+            }
+
+            @Override
+            public String toString() {
+                return "CompiledMatcher.Cost.Comparator." + name();
+            }
+        }
+    }
+
+    /**
+     * A compiled conjunction that matches an element if all of its matchers match the element.
+     *
+     * @param <S> The type of the object that is being matched.
+     */
+    public static class ForConjunction<S> extends CompiledMatcher<S> {
+
+        /**
+         * Creates a new compiled conjunction.
+         *
+         * @param matchers The matchers of this conjunction in the order in which they are consulted.
+         */
+        public ForConjunction(List<? extends ElementMatcher<? super S>> matchers) {
+            super(matchers);
+        }
+
+        @Override
+        public boolean matches(S target) {
+            for (ElementMatcher<? super S> matcher : matchers) {
+                if (!matcher.matches(target)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return toString("and");
+        }
+    }
+
+    /**
+     * A compiled disjunction that matches an element if any of its matchers matches the element.
+     *
+     * @param <S> The type of the object that is being matched.
+     */
+    public static class ForDisjunction<S> extends CompiledMatcher<S> {
+
+        /**
+         * Creates a new compiled disjunction.
+         *
+         * @param matchers The matchers of this disjunction in the order in which they are consulted.
+         */
+        public ForDisjunction(List<? extends ElementMatcher<? super S>> matchers) {
+            super(matchers);
+        }
+
+        @Override
+        public boolean matches(S target) {
+            for (ElementMatcher<? super S> matcher : matchers) {
+                if (matcher.matches(target)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return toString("or");
+        }
+    }
+}
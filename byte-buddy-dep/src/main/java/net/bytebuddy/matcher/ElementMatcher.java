@@ -93,6 +93,24 @@ public interface ElementMatcher<T> {
                 this.right = right;
             }
 
+            /**
+             * Returns the first matcher of this conjunction.
+             *
+             * @return The first matcher of this conjunction.
+             */
+            protected ElementMatcher<? super W> getLeft() {
+                return left;
+            }
+
+            /**
+             * Returns the second matcher of this conjunction.
+             *
+             * @return The second matcher of this conjunction.
+             */
+            protected ElementMatcher<? super W> getRight() {
+                return right;
+            }
+
             @Override
             public boolean matches(W target) {
                 return left.matches(target) && right.matches(target);
@@ -140,6 +158,24 @@ public interface ElementMatcher<T> {
                 this.right = right;
             }
 
+            /**
+             * Returns the first matcher of this disjunction.
+             *
+             * @return The first matcher of this disjunction.
+             */
+            protected ElementMatcher<? super W> getLeft() {
+                return left;
+            }
+
+            /**
+             * Returns the second matcher of this disjunction.
+             *
+             * @return The second matcher of this disjunction.
+             */
+            protected ElementMatcher<? super W> getRight() {
+                return right;
+            }
+
             @Override
             public boolean matches(W target) {
                 return left.matches(target) || right.matches(target);
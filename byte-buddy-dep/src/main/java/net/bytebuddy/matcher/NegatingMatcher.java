@@ -21,6 +21,15 @@ public class NegatingMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
         this.negatedMatcher = negatedMatcher;
     }
 
+    /**
+     * Returns the matcher that is negated by this matcher.
+     *
+     * @return The matcher that is negated by this matcher.
+     */
+    protected ElementMatcher<? super T> getNegatedMatcher() {
+        return negatedMatcher;
+    }
+
     @Override
     public boolean matches(T target) {
         return !negatedMatcher.matches(target);
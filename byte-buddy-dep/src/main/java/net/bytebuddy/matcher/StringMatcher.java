@@ -1,5 +1,7 @@
 package net.bytebuddy.matcher;
 
+import java.util.regex.Pattern;
+
 /**
  * An element matcher that compares two strings by a given pattern which is characterized by a
  * {@link net.bytebuddy.matcher.StringMatcher.Mode}.
@@ -16,6 +18,12 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
      */
     private final Mode mode;
 
+    /**
+     * The compiled regular expression of this matcher's value if this matcher applies the
+     * {@link net.bytebuddy.matcher.StringMatcher.Mode#MATCHES} mode and if the expression was already compiled.
+     */
+    private Pattern pattern;
+
     /**
      * Creates a new string matcher.
      *
@@ -29,6 +37,14 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
 
     @Override
     public boolean matches(String target) {
+        if (mode == Mode.MATCHES) {
+            Pattern pattern = this.pattern;
+            if (pattern == null) {
+                pattern = Pattern.compile(value);
+                this.pattern = pattern;
+            }
+            return pattern.matcher(target).matches();
+        }
         return mode.matches(value, target);
     }
 
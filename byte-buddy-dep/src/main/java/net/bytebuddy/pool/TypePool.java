@@ -26,9 +26,9 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericSignatureFormatError;
-import java.lang.reflect.Proxy;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
@@ -324,6 +324,11 @@ public interface TypePool {
          */
         protected final CacheProvider cacheProvider;
 
+        /**
+         * A map of descriptions that are currently computed by a thread by the names of the described types.
+         */
+        private final ConcurrentMap<String, InFlightDescription> inFlightDescriptions;
+
         /**
          * Creates a new instance.
          *
@@ -331,6 +336,7 @@ public interface TypePool {
          */
         protected AbstractBase(CacheProvider cacheProvider) {
             this.cacheProvider = cacheProvider;
+            inFlightDescriptions = new ConcurrentHashMap<String, InFlightDescription>();
         }
 
         @Override
@@ -352,11 +358,61 @@ public interface TypePool {
                     ? cacheProvider.find(name)
                     : new Resolution.Simple(typeDescription);
             if (resolution == null) {
-                resolution = cacheProvider.register(name, doDescribe(name));
+                resolution = describeOnce(name);
             }
             return ArrayTypeResolution.of(resolution, arity);
         }
 
+        /**
+         * Describes a non-primitive, non-array type that was not found in this pool's cache. If another thread is
+         * already describing the same type, the current thread waits for this description to complete and reuses
+         * its result instead of describing the type a second time. If the other thread fails to describe the type
+         * or if the current thread is interrupted while waiting, the type is described by the current thread. A thread
+         * that is itself describing any type never waits for another thread as two threads that describe two types
+         * which reference one another would otherwise wait for each other indefinitely. Instead, such a thread
+         * describes the type itself.
+         *
+         * @param name The name of the type to describe.
+         * @return A resolution to the type to describe.
+         */
+        private Resolution describeOnce(String name) {
+            InFlightDescription inFlightDescription = new InFlightDescription();
+            InFlightDescription previous = inFlightDescriptions.putIfAbsent(name, inFlightDescription);
+            if (previous == null) {
+                try {
+                    Resolution resolution = cacheProvider.find(name);
+                    if (resolution == null) {
+                        resolution = cacheProvider.register(name, doDescribe(name));
+                    }
+                    inFlightDescription.complete(resolution);
+                    return resolution;
+                } finally {
+                    inFlightDescriptions.remove(name, inFlightDescription);
+                    inFlightDescription.release();
+                }
+            } else if (!isDescribingOnCurrentThread()) {
+                Resolution resolution = previous.await();
+                if (resolution != null) {
+                    return resolution;
+                }
+            }
+            return cacheProvider.register(name, doDescribe(name));
+        }
+
+        /**
+         * Checks if the current thread is computing any description of this type pool.
+         *
+         * @return {@code true} if the current thread is computing any description of this type pool.
+         */
+        private boolean isDescribingOnCurrentThread() {
+            for (InFlightDescription inFlightDescription : inFlightDescriptions.values()) {
+                if (inFlightDescription.isDescribedByCurrentThread()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         @Override
         public void clear() {
             cacheProvider.clear();
@@ -381,6 +437,86 @@ public interface TypePool {
             return cacheProvider.hashCode();
         }
 
+        /**
+         * Represents the description of a type that is currently computed by a thread. Other threads that require
+         * a description of the same type can await the completion of this description.
+         */
+        protected static class InFlightDescription {
+
+            /**
+             * The thread that is computing the description.
+             */
+            private final Thread thread;
+
+            /**
+             * A latch that is released once the description is computed or failed.
+             */
+            private final CountDownLatch latch;
+
+            /**
+             * The computed resolution or {@code null} if no resolution was computed.
+             */
+            private volatile Resolution resolution;
+
+            /**
+             * Creates a new in-flight description that is computed by the current thread.
+             */
+            protected InFlightDescription() {
+                thread = Thread.currentThread();
+                latch = new CountDownLatch(1);
+            }
+
+            /**
+             * Checks if this description is computed by the current thread.
+             *
+             * @return {@code true} if this description is computed by the current thread.
+             */
+            protected boolean isDescribedByCurrentThread() {
+                return thread == Thread.currentThread();
+            }
+
+            /**
+             * Completes this description with the given resolution and releases any waiting thread.
+             *
+             * @param resolution The computed resolution.
+             */
+            protected void complete(Resolution resolution) {
+                this.resolution = resolution;
+                release();
+            }
+
+            /**
+             * Releases any thread that is waiting for this description without necessarily providing a resolution.
+             */
+            protected void release() {
+                latch.countDown();
+            }
+
+            /**
+             * Waits for this description to complete.
+             *
+             * @return The computed resolution or {@code null} if no resolution was computed or if the current thread
+             * was interrupted while waiting.
+             */
+            protected Resolution await() {
+                try {
+                    latch.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                return resolution;
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.AbstractBase.InFlightDescription{" +
+                        "thread=" + thread +
+                        ", resolution=" + resolution +
+                        '}';
+            }
+        }
+
         /**
          * A resolution for a type that, if resolved, representedBy an array type.
          */
@@ -494,11 +630,9 @@ public interface TypePool {
                         .substring(1, annotationToken.getDescriptor().length() - 1)
                         .replace('/', '.'));
                 if (type.isAnnotation()) {
-                    return new ForAnnotation.Loaded<Annotation>((Annotation) Proxy.newProxyInstance(classLoader,
-                            new Class<?>[]{type},
-                            AnnotationDescription.AnnotationInvocationHandler.of(classLoader,
-                                    (Class<? extends Annotation>) type,
-                                    annotationToken.getValues())));
+                    return new ForAnnotation.Loaded<Annotation>(AnnotationDescription.AnnotationImplementation.INSTANCE.make(classLoader,
+                            (Class<? extends Annotation>) type,
+                            annotationToken.getValues()));
                 } else {
                     return new ForAnnotation.IncompatibleRuntimeType(type);
                 }
@@ -975,12 +1109,13 @@ public interface TypePool {
         }
 
         /**
-         * Parses a binary representation and transforms it into a type description.
+         * Parses a binary representation and transforms it into a type description. The returned description
+         * is not registered in this pool's cache but resolves any referenced types by querying this pool.
          *
          * @param binaryRepresentation The binary data to be parsed.
          * @return A type description of the binary data.
          */
-        private TypeDescription parse(byte[] binaryRepresentation) {
+        public TypeDescription parse(byte[] binaryRepresentation) {
             ClassReader classReader = new ClassReader(binaryRepresentation);
             TypeExtractor typeExtractor = new TypeExtractor();
             classReader.accept(typeExtractor, ASM_MANUAL_FLAG);
@@ -1657,7 +1792,7 @@ public interface TypePool {
                     @Override
                     public LazyTypeDescription.GenericTypeToken toToken() {
                         return isParameterized()
-                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType(getName(), parameters)
+                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType(getName(), LazyTypeDescription.compact(parameters))
                                 : new LazyTypeDescription.GenericTypeToken.ForRawType(getName());
                     }
 
@@ -1724,7 +1859,9 @@ public interface TypePool {
                     @Override
                     public LazyTypeDescription.GenericTypeToken toToken() {
                         return isParameterized() || outerTypeToken.isParameterized()
-                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType.Nested(getName(), parameters, outerTypeToken.toToken())
+                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType.Nested(getName(),
+                                LazyTypeDescription.compact(parameters),
+                                outerTypeToken.toToken())
                                 : new LazyTypeDescription.GenericTypeToken.ForRawType(getName());
                     }
 
@@ -1832,7 +1969,8 @@ public interface TypePool {
                  */
                 protected void collectTypeParameter() {
                     if (currentTypeParameter != null) {
-                        typeVariableTokens.add(new LazyTypeDescription.GenericTypeToken.ForTypeVariable.Formal(currentTypeParameter, currentBounds));
+                        typeVariableTokens.add(new LazyTypeDescription.GenericTypeToken.ForTypeVariable.Formal(currentTypeParameter,
+                                LazyTypeDescription.compact(currentBounds)));
                     }
                 }
 
@@ -1894,7 +2032,9 @@ public interface TypePool {
 
                     @Override
                     public LazyTypeDescription.GenericTypeToken.Resolution.ForType resolve() {
-                        return new LazyTypeDescription.GenericTypeToken.Resolution.ForType.Tokenized(superTypeToken, interfaceTypeTokens, typeVariableTokens);
+                        return new LazyTypeDescription.GenericTypeToken.Resolution.ForType.Tokenized(superTypeToken,
+                                LazyTypeDescription.compact(interfaceTypeTokens),
+                                LazyTypeDescription.compact(typeVariableTokens));
                     }
 
                     @Override
@@ -2046,9 +2186,9 @@ public interface TypePool {
                     @Override
                     public LazyTypeDescription.GenericTypeToken.Resolution.ForMethod resolve() {
                         return new LazyTypeDescription.GenericTypeToken.Resolution.ForMethod.Tokenized(returnTypeToken,
-                                parameterTypeTokens,
-                                exceptionTypeTokens,
-                                typeVariableTokens);
+                                LazyTypeDescription.compact(parameterTypeTokens),
+                                LazyTypeDescription.compact(exceptionTypeTokens),
+                                LazyTypeDescription.compact(typeVariableTokens));
                     }
 
                     @Override
@@ -2431,7 +2571,7 @@ public interface TypePool {
 
                 @Override
                 public void onComplete() {
-                    annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                    annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, LazyTypeDescription.compact(values)));
                 }
 
                 @Override
@@ -2556,7 +2696,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationRegistrant.register(name, new RawNonPrimitiveArray(Default.this, componentTypeReference, values));
+                        annotationRegistrant.register(name, new RawNonPrimitiveArray(Default.this, componentTypeReference, LazyTypeDescription.compact(values)));
                     }
 
                     @Override
@@ -2611,7 +2751,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationRegistrant.register(name, new RawAnnotationValue(Default.this, new LazyTypeDescription.AnnotationToken(descriptor, values)));
+                        annotationRegistrant.register(name, new RawAnnotationValue(Default.this, new LazyTypeDescription.AnnotationToken(descriptor, LazyTypeDescription.compact(values))));
                     }
 
                     @Override
@@ -2736,7 +2876,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, LazyTypeDescription.compact(values)));
                     }
 
                     @Override
@@ -2957,7 +3097,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, LazyTypeDescription.compact(values)));
                     }
 
                     @Override
@@ -3009,7 +3149,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        parameterAnnotationTokens.get(index).add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        parameterAnnotationTokens.get(index).add(new LazyTypeDescription.AnnotationToken(descriptor, LazyTypeDescription.compact(values)));
                     }
 
                     @Override
@@ -3087,6 +3227,31 @@ public interface TypePool {
          */
         private final List<MethodDescription> declaredMethods;
 
+        /**
+         * The lazily resolved declared super type of this type or {@code null} if it was not yet resolved.
+         */
+        private GenericTypeDescription declaredSuperType;
+
+        /**
+         * The lazily resolved declared interfaces of this type or {@code null} if they were not yet resolved.
+         */
+        private GenericTypeList declaredInterfaces;
+
+        /**
+         * A lazily computed, sorted array of the names of all super classes of this type or {@code null} if this
+         * array was not yet computed. The field is volatile such that the array's content is safely published to any
+         * thread that reads the array.
+         */
+        private volatile String[] superClassNames;
+
+        /**
+         * A lazily computed, sorted array of the names of all interfaces that are implemented by this type, by any
+         * of its super classes or by any of these interfaces' super interfaces or {@code null} if this array was not
+         * yet computed. The field is volatile such that the array's content is safely published to any thread that
+         * reads the array.
+         */
+        private volatile String[] interfaceNames;
+
         /**
          * Creates a new lazy type description.
          *
@@ -3121,39 +3286,50 @@ public interface TypePool {
                     : Type.getObjectType(superTypeInternalName).getDescriptor();
             this.signatureResolution = signatureResolution;
             if (interfaceInternalName == null) {
-                interfaceTypeDescriptors = Collections.<String>emptyList();
+                interfaceTypeDescriptors = Collections.emptyList();
             } else {
-                interfaceTypeDescriptors = new ArrayList<String>(interfaceInternalName.length);
-                for (String internalName : interfaceInternalName) {
-                    interfaceTypeDescriptors.add(Type.getObjectType(internalName).getDescriptor());
+                String[] interfaceTypeDescriptor = new String[interfaceInternalName.length];
+                for (int index = 0; index < interfaceInternalName.length; index++) {
+                    interfaceTypeDescriptor[index] = Type.getObjectType(interfaceInternalName[index]).getDescriptor();
                 }
+                interfaceTypeDescriptors = compact(Arrays.asList(interfaceTypeDescriptor));
             }
             this.declarationContext = declarationContext;
             this.anonymousType = anonymousType;
-            declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-            for (AnnotationToken annotationToken : annotationTokens) {
-                declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-            }
-            declaredFields = new ArrayList<FieldDescription>(fieldTokens.size());
+            declaredAnnotations = toAnnotationDescriptions(typePool, annotationTokens);
+            List<FieldDescription> declaredFields = new ArrayList<FieldDescription>(fieldTokens.size());
             for (FieldToken fieldToken : fieldTokens) {
                 declaredFields.add(fieldToken.toFieldDescription(this));
             }
-            declaredMethods = new ArrayList<MethodDescription>(methodTokens.size());
+            this.declaredFields = compact(declaredFields);
+            List<MethodDescription> declaredMethods = new ArrayList<MethodDescription>(methodTokens.size());
             for (MethodToken methodToken : methodTokens) {
                 declaredMethods.add(methodToken.toMethodDescription(this));
             }
+            this.declaredMethods = compact(declaredMethods);
         }
 
         @Override
         protected GenericTypeDescription getDeclaredSuperType() {
-            return superTypeDescriptor == null || isInterface()
-                    ? null
-                    : signatureResolution.resolveSuperType(superTypeDescriptor, typePool, this);
+            if (superTypeDescriptor == null || isInterface()) {
+                return null;
+            }
+            GenericTypeDescription declaredSuperType = this.declaredSuperType;
+            if (declaredSuperType == null) {
+                declaredSuperType = signatureResolution.resolveSuperType(superTypeDescriptor, typePool, this);
+                this.declaredSuperType = declaredSuperType;
+            }
+            return declaredSuperType;
         }
 
         @Override
         protected GenericTypeList getDeclaredInterfaces() {
-            return signatureResolution.resolveInterfaceTypes(interfaceTypeDescriptors, typePool, this);
+            GenericTypeList declaredInterfaces = this.declaredInterfaces;
+            if (declaredInterfaces == null) {
+                declaredInterfaces = signatureResolution.resolveInterfaceTypes(interfaceTypeDescriptors, typePool, this);
+                this.declaredInterfaces = declaredInterfaces;
+            }
+            return declaredInterfaces;
         }
 
         @Override
@@ -3227,6 +3403,318 @@ public interface TypePool {
             return signatureResolution.resolveTypeVariables(typePool, this);
         }
 
+        @Override
+        public boolean isAssignableFrom(TypeDescription typeDescription) {
+            return typeDescription instanceof LazyTypeDescription
+                    ? typeDescription.isAssignableTo(this)
+                    : super.isAssignableFrom(typeDescription);
+        }
+
+        @Override
+        public boolean isAssignableTo(TypeDescription typeDescription) {
+            if (typeDescription.isPrimitive() || typeDescription.isArray()) {
+                return false;
+            } else if (typeDescription.represents(Object.class) || typeDescription.getName().equals(name)) {
+                return true;
+            }
+            return Arrays.binarySearch(typeDescription.isInterface()
+                    ? getInterfaceNames()
+                    : getSuperClassNames(), typeDescription.getName()) >= 0;
+        }
+
+        /**
+         * Returns a sorted array of the names of all super classes of this type. Once computed, this array is retained
+         * such that the super class hierarchy is only resolved once. As type descriptions are cached by a type pool,
+         * any lazy type description of a super class reuses its own array when computing this array.
+         *
+         * @return A sorted array of the names of all super classes of this type.
+         */
+        protected String[] getSuperClassNames() {
+            String[] superClassNames = this.superClassNames;
+            if (superClassNames == null) {
+                Set<String> names = new HashSet<String>();
+                GenericTypeDescription superType = getSuperType();
+                if (superType != null) {
+                    collectSuperClassNames(superType.asRawType(), names);
+                }
+                superClassNames = toSortedArray(names);
+                this.superClassNames = superClassNames;
+            }
+            return superClassNames;
+        }
+
+        /**
+         * Returns a sorted array of the names of all interfaces this type is assignable to. Once computed, this array
+         * is retained such that the type hierarchy is only resolved once. As type descriptions are cached by a type pool,
+         * any lazy type description of a super type reuses its own array when computing this array.
+         *
+         * @return A sorted array of the names of all interfaces this type is assignable to.
+         */
+        protected String[] getInterfaceNames() {
+            String[] interfaceNames = this.interfaceNames;
+            if (interfaceNames == null) {
+                Set<String> names = new HashSet<String>();
+                GenericTypeDescription superType = getSuperType();
+                if (superType != null) {
+                    collectInterfaceNames(superType.asRawType(), names);
+                }
+                for (TypeDescription interfaceType : getInterfaces().asRawTypes()) {
+                    names.add(interfaceType.getName());
+                    collectInterfaceNames(interfaceType, names);
+                }
+                interfaceNames = toSortedArray(names);
+                this.interfaceNames = interfaceNames;
+            }
+            return interfaceNames;
+        }
+
+        /**
+         * Adds the name of the given type and the names of all its super classes to the given set.
+         *
+         * @param typeDescription The type which is itself a super class.
+         * @param names           The set of names to add the names to.
+         */
+        private static void collectSuperClassNames(TypeDescription typeDescription, Set<String> names) {
+            do {
+                names.add(typeDescription.getName());
+                if (typeDescription instanceof LazyTypeDescription) {
+                    names.addAll(Arrays.asList(((LazyTypeDescription) typeDescription).getSuperClassNames()));
+                    return;
+                }
+                GenericTypeDescription superType = typeDescription.getSuperType();
+                typeDescription = superType == null
+                        ? null
+                        : superType.asRawType();
+            } while (typeDescription != null);
+        }
+
+        /**
+         * Adds the names of all interfaces that the given type is assignable to to the given set, excluding the
+         * name of the given type itself.
+         *
+         * @param typeDescription The type for which to collect the interface names.
+         * @param names           The set of names to add the names to.
+         */
+        private static void collectInterfaceNames(TypeDescription typeDescription, Set<String> names) {
+            if (typeDescription instanceof LazyTypeDescription) {
+                names.addAll(Arrays.asList(((LazyTypeDescription) typeDescription).getInterfaceNames()));
+                return;
+            }
+            GenericTypeDescription superType = typeDescription.getSuperType();
+            if (superType != null) {
+                collectInterfaceNames(superType.asRawType(), names);
+            }
+            for (TypeDescription interfaceType : typeDescription.getInterfaces().asRawTypes()) {
+                if (names.add(interfaceType.getName())) {
+                    collectInterfaceNames(interfaceType, names);
+                }
+            }
+        }
+
+        /**
+         * Converts a set of names into a sorted array.
+         *
+         * @param names The names to convert.
+         * @return A sorted array of the given names.
+         */
+        private static String[] toSortedArray(Set<String> names) {
+            String[] array = names.toArray(new String[names.size()]);
+            Arrays.sort(array);
+            return array;
+        }
+
+        /**
+         * Resolves a list of annotation tokens into a compact list of annotation descriptions.
+         *
+         * @param typePool         The type pool to be used for looking up linked types.
+         * @param annotationTokens The annotation tokens to resolve.
+         * @return A compact list of the described annotations.
+         */
+        private static List<AnnotationDescription> toAnnotationDescriptions(TypePool typePool, List<AnnotationToken> annotationTokens) {
+            if (annotationTokens.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<AnnotationDescription> annotationDescriptions = new ArrayList<AnnotationDescription>(annotationTokens.size());
+            for (AnnotationToken annotationToken : annotationTokens) {
+                annotationDescriptions.add(annotationToken.toAnnotationDescription(typePool));
+            }
+            return compact(annotationDescriptions);
+        }
+
+        /**
+         * Converts a list into a compact representation that is retained by a lazy type description. An empty list
+         * is represented by the shared empty list and a single element by a singleton list. Any other list is
+         * represented by a list that is backed by an array of exactly the list's size.
+         *
+         * @param list The list to compact.
+         * @param <T>  The type of the list's elements.
+         * @return A compact, read-only representation of the given list.
+         */
+        protected static <T> List<T> compact(List<T> list) {
+            switch (list.size()) {
+                case 0:
+                    return Collections.emptyList();
+                case 1:
+                    return Collections.singletonList(list.get(0));
+                default:
+                    @SuppressWarnings("unchecked")
+                    T[] array = (T[]) list.toArray();
+                    return Arrays.asList(array);
+            }
+        }
+
+        /**
+         * Converts a map into a compact representation that is retained by a lazy type description. An empty map
+         * is represented by the shared empty map and a single entry by a singleton map. Any other map is represented
+         * by a map that is backed by arrays of exactly the map's size.
+         *
+         * @param map The map to compact.
+         * @param <S> The type of the map's keys.
+         * @param <T> The type of the map's values.
+         * @return A compact, read-only representation of the given map.
+         */
+        protected static <S, T> Map<S, T> compact(Map<S, T> map) {
+            switch (map.size()) {
+                case 0:
+                    return Collections.emptyMap();
+                case 1:
+                    Map.Entry<S, T> entry = map.entrySet().iterator().next();
+                    return Collections.singletonMap(entry.getKey(), entry.getValue());
+                default:
+                    return new CompactMap<S, T>(map);
+            }
+        }
+
+        /**
+         * A read-only map that is backed by two arrays of exactly the size of the map's entries. As the maps that are
+         * retained by a lazy type description only contain few entries, any entry is looked up by a linear search.
+         *
+         * @param <S> The type of the map's keys.
+         * @param <T> The type of the map's values.
+         */
+        protected static class CompactMap<S, T> extends AbstractMap<S, T> {
+
+            /**
+             * The keys of this map.
+             */
+            private final Object[] keys;
+
+            /**
+             * The values of this map where each value is stored at the index of its key.
+             */
+            private final Object[] values;
+
+            /**
+             * Creates a new compact map.
+             *
+             * @param map The map of which this map represents a copy.
+             */
+            protected CompactMap(Map<S, T> map) {
+                keys = new Object[map.size()];
+                values = new Object[map.size()];
+                int index = 0;
+                for (Map.Entry<S, T> entry : map.entrySet()) {
+                    keys[index] = entry.getKey();
+                    values[index++] = entry.getValue();
+                }
+            }
+
+            /**
+             * Returns the index of the given key.
+             *
+             * @param key The key to locate.
+             * @return The index of the given key or {@code -1} if this map does not contain the key.
+             */
+            private int indexOf(Object key) {
+                for (int index = 0; index < keys.length; index++) {
+                    if (key == null ? keys[index] == null : key.equals(keys[index])) {
+                        return index;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T get(Object key) {
+                int index = indexOf(key);
+                return index == -1
+                        ? null
+                        : (T) values[index];
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return indexOf(key) != -1;
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Set<Map.Entry<S, T>> entrySet() {
+                return new EntrySet();
+            }
+
+            /**
+             * A view of the entries of a compact map.
+             */
+            protected class EntrySet extends AbstractSet<Map.Entry<S, T>> {
+
+                @Override
+                public Iterator<Map.Entry<S, T>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            }
+
+            /**
+             * An iterator over the entries of a compact map.
+             */
+            protected class EntryIterator implements Iterator<Map.Entry<S, T>> {
+
+                /**
+                 * The index of the next entry.
+                 */
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map.Entry<S, T> next() {
+                    if (index >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<S, T> entry = new SimpleImmutableEntry<S, T>((S) keys[index], (T) values[index]);
+                    index++;
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("remove");
+                }
+
+                @Override
+                public String toString() {
+                    return "TypePool.LazyTypeDescription.CompactMap.EntryIterator{" +
+                            "map=" + CompactMap.this +
+                            ", index=" + index +
+                            '}';
+                }
+            }
+        }
+
         /**
          * A declaration context encapsulates information about whether a type was declared within another type
          * or within a method of another type.
@@ -5240,11 +5728,8 @@ public interface TypePool {
                 }
 
                 @Override
-                @SuppressWarnings("unchecked")
                 public S load(ClassLoader classLoader) throws ClassNotFoundException {
-                    return (S) Proxy.newProxyInstance(classLoader,
-                            new Class<?>[]{annotationType},
-                            AnnotationInvocationHandler.of(classLoader, annotationType, values));
+                    return AnnotationImplementation.INSTANCE.make(classLoader, annotationType, values);
                 }
 
                 @Override
@@ -5424,6 +5909,11 @@ public interface TypePool {
              */
             private final TypeVariableSource typeVariableSource;
 
+            /**
+             * The lazily resolved raw type of this generic type or {@code null} if it was not yet resolved.
+             */
+            private TypeDescription rawType;
+
             /**
              * Creates a new tokenized generic type.
              *
@@ -5468,7 +5958,12 @@ public interface TypePool {
 
             @Override
             public TypeDescription asRawType() {
-                return toRawType(typePool, rawTypeDescriptor);
+                TypeDescription rawType = this.rawType;
+                if (rawType == null) {
+                    rawType = toRawType(typePool, rawTypeDescriptor);
+                    this.rawType = rawType;
+                }
+                return rawType;
             }
 
             /**
@@ -5685,6 +6180,11 @@ public interface TypePool {
              */
             private final List<AnnotationDescription> declaredAnnotations;
 
+            /**
+             * The lazily resolved type of this field or {@code null} if it was not yet resolved.
+             */
+            private GenericTypeDescription fieldType;
+
             /**
              * Creates a new lazy field description.
              *
@@ -5703,15 +6203,17 @@ public interface TypePool {
                 this.name = name;
                 fieldTypeDescriptor = descriptor;
                 this.signatureResolution = signatureResolution;
-                declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-                for (AnnotationToken annotationToken : annotationTokens) {
-                    declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-                }
+                declaredAnnotations = toAnnotationDescriptions(typePool, annotationTokens);
             }
 
             @Override
             public GenericTypeDescription getType() {
-                return signatureResolution.resolveFieldType(fieldTypeDescriptor, typePool, this);
+                GenericTypeDescription fieldType = this.fieldType;
+                if (fieldType == null) {
+                    fieldType = signatureResolution.resolveFieldType(fieldTypeDescriptor, typePool, this);
+                    this.fieldType = fieldType;
+                }
+                return fieldType;
             }
 
             @Override
@@ -5782,12 +6284,14 @@ public interface TypePool {
             private final List<List<AnnotationDescription>> declaredParameterAnnotations;
 
             /**
-             * An array of parameter names which may be {@code null} if no explicit name is known for a parameter.
+             * An array of parameter names which may be {@code null} if no explicit name is known for a parameter. The
+             * array itself is {@code null} if no explicit meta data is known for any parameter.
              */
             private final String[] parameterNames;
 
             /**
-             * An array of parameter modifiers which may be {@code null} if no modifiers is known.
+             * An array of parameter modifiers which may be {@code null} if no modifiers is known. The array itself
+             * is {@code null} if no explicit meta data is known for any parameter.
              */
             private final Integer[] parameterModifiers;
 
@@ -5796,6 +6300,11 @@ public interface TypePool {
              */
             private final AnnotationDescription.AnnotationValue<?, ?> defaultValue;
 
+            /**
+             * The lazily resolved return type of this method or {@code null} if it was not yet resolved.
+             */
+            private GenericTypeDescription returnType;
+
             /**
              * Creates a new lazy method description.
              *
@@ -5831,49 +6340,54 @@ public interface TypePool {
                 Type returnType = methodType.getReturnType();
                 Type[] parameterType = methodType.getArgumentTypes();
                 returnTypeDescriptor = returnType.getDescriptor();
-                parameterTypeDescriptors = new ArrayList<String>(parameterType.length);
-                for (Type type : parameterType) {
-                    parameterTypeDescriptors.add(type.getDescriptor());
+                String[] parameterTypeDescriptor = new String[parameterType.length];
+                for (int index = 0; index < parameterType.length; index++) {
+                    parameterTypeDescriptor[index] = parameterType[index].getDescriptor();
                 }
+                parameterTypeDescriptors = compact(Arrays.asList(parameterTypeDescriptor));
                 this.signatureResolution = signatureResolution;
                 if (exceptionTypeInternalName == null) {
                     exceptionTypeDescriptors = Collections.emptyList();
                 } else {
-                    exceptionTypeDescriptors = new ArrayList<String>(exceptionTypeInternalName.length);
-                    for (String anExceptionTypeInternalName : exceptionTypeInternalName) {
-                        exceptionTypeDescriptors.add(Type.getObjectType(anExceptionTypeInternalName).getDescriptor());
+                    String[] exceptionTypeDescriptor = new String[exceptionTypeInternalName.length];
+                    for (int index = 0; index < exceptionTypeInternalName.length; index++) {
+                        exceptionTypeDescriptor[index] = Type.getObjectType(exceptionTypeInternalName[index]).getDescriptor();
                     }
+                    exceptionTypeDescriptors = compact(Arrays.asList(exceptionTypeDescriptor));
                 }
-                declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-                for (AnnotationToken annotationToken : annotationTokens) {
-                    declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-                }
-                declaredParameterAnnotations = new ArrayList<List<AnnotationDescription>>(parameterType.length);
+                declaredAnnotations = toAnnotationDescriptions(typePool, annotationTokens);
+                List<List<AnnotationDescription>> declaredParameterAnnotations = new ArrayList<List<AnnotationDescription>>(parameterType.length);
                 for (int index = 0; index < parameterType.length; index++) {
                     List<AnnotationToken> tokens = parameterAnnotationTokens.get(index);
-                    List<AnnotationDescription> annotationDescriptions;
-                    annotationDescriptions = new ArrayList<AnnotationDescription>(tokens.size());
-                    for (AnnotationToken annotationToken : tokens) {
-                        annotationDescriptions.add(annotationToken.toAnnotationDescription(typePool));
-                    }
-                    declaredParameterAnnotations.add(annotationDescriptions);
-                }
-                parameterNames = new String[parameterType.length];
-                parameterModifiers = new Integer[parameterType.length];
-                if (parameterTokens.size() == parameterType.length) {
+                    declaredParameterAnnotations.add(tokens == null
+                            ? Collections.<AnnotationDescription>emptyList()
+                            : toAnnotationDescriptions(typePool, tokens));
+                }
+                this.declaredParameterAnnotations = compact(declaredParameterAnnotations);
+                if (parameterType.length > 0 && parameterTokens.size() == parameterType.length) {
+                    parameterNames = new String[parameterType.length];
+                    parameterModifiers = new Integer[parameterType.length];
                     int index = 0;
                     for (MethodToken.ParameterToken parameterToken : parameterTokens) {
                         parameterNames[index] = parameterToken.getName();
                         parameterModifiers[index] = parameterToken.getModifiers();
                         index++;
                     }
+                } else {
+                    parameterNames = null;
+                    parameterModifiers = null;
                 }
                 this.defaultValue = defaultValue;
             }
 
             @Override
             public GenericTypeDescription getReturnType() {
-                return signatureResolution.resolveReturnType(returnTypeDescriptor, typePool, this);
+                GenericTypeDescription returnType = this.returnType;
+                if (returnType == null) {
+                    returnType = signatureResolution.resolveReturnType(returnTypeDescriptor, typePool, this);
+                    this.returnType = returnType;
+                }
+                return returnType;
             }
 
             @Override
@@ -5930,6 +6444,9 @@ public interface TypePool {
 
                 @Override
                 public boolean hasExplicitMetaData() {
+                    if (parameterNames == null) {
+                        return size() == 0;
+                    }
                     for (int i = 0; i < size(); i++) {
                         if (parameterNames[i] == null || parameterModifiers[i] == null) {
                             return false;
@@ -5980,12 +6497,12 @@ public interface TypePool {
 
                 @Override
                 public boolean isNamed() {
-                    return parameterNames[index] != null;
+                    return parameterNames != null && parameterNames[index] != null;
                 }
 
                 @Override
                 public boolean hasModifiers() {
-                    return parameterModifiers[index] != null;
+                    return parameterModifiers != null && parameterModifiers[index] != null;
                 }
 
                 @Override
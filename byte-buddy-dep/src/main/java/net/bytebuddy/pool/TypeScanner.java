@@ -0,0 +1,626 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.utility.StreamDrainer;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * A type scanner reads all class files of a {@link net.bytebuddy.pool.TypeScanner.Source}, such as a <i>jar</i> file
+ * or a folder, and reports any type that is matched by a given {@link net.bytebuddy.matcher.ElementMatcher} to a
+ * {@link net.bytebuddy.pool.TypeScanner.Listener}. Scanned types are parsed by a {@link net.bytebuddy.pool.TypePool.Default}
+ * but are never registered in the pool's cache such that scanning a source does not retain any type that is not
+ * matched. Types that are referenced by a scanned type, for example when a matcher queries a type's hierarchy, are
+ * resolved and cached by the type pool as usual.
+ * </p>
+ * <p>
+ * Class files are read from the source by the scanning thread but are parsed and matched by the scanner's
+ * {@link java.util.concurrent.Executor}. The number of class files that are read but not yet processed is bounded
+ * such that the memory that is required for scanning does not depend on the size of the scanned source. When an
+ * executor is used that processes class files concurrently, the type pool's cache provider and the listener must
+ * be thread-safe.
+ * </p>
+ */
+public class TypeScanner {
+
+    /**
+     * The type pool that is used for parsing class files and for resolving any referenced types.
+     */
+    private final TypePool.Default typePool;
+
+    /**
+     * The matcher that identifies the types that are reported to a listener.
+     */
+    private final ElementMatcher<? super TypeDescription> matcher;
+
+    /**
+     * The executor that parses and matches class files.
+     */
+    private final Executor executor;
+
+    /**
+     * The maximum number of class files that are read but not yet processed.
+     */
+    private final int maximumPending;
+
+    /**
+     * Creates a type scanner that parses and matches any class file on the scanning thread.
+     *
+     * @param typePool The type pool that is used for parsing class files and for resolving any referenced types.
+     * @param matcher  The matcher that identifies the types that are reported to a listener.
+     */
+    public TypeScanner(TypePool.Default typePool, ElementMatcher<? super TypeDescription> matcher) {
+        this(typePool, matcher, DirectExecutor.INSTANCE, 1);
+    }
+
+    /**
+     * Creates a type scanner.
+     *
+     * @param typePool       The type pool that is used for parsing class files and for resolving any referenced types.
+     * @param matcher        The matcher that identifies the types that are reported to a listener.
+     * @param executor       The executor that parses and matches class files.
+     * @param maximumPending The maximum number of class files that are read but not yet processed.
+     */
+    public TypeScanner(TypePool.Default typePool,
+                       ElementMatcher<? super TypeDescription> matcher,
+                       Executor executor,
+                       int maximumPending) {
+        if (maximumPending < 1) {
+            throw new IllegalArgumentException("The maximum number of pending class files must be positive: " + maximumPending);
+        }
+        this.typePool = nonNull(typePool);
+        this.matcher = nonNull(matcher);
+        this.executor = nonNull(executor);
+        this.maximumPending = maximumPending;
+    }
+
+    /**
+     * Scans the given source and returns all matched types. If any class file cannot be parsed or matched, an
+     * exception is thrown once the entire source was scanned.
+     *
+     * @param source The source to scan.
+     * @return A list of all matched types in no particular order.
+     * @throws IOException If the source cannot be read.
+     */
+    public List<TypeDescription> scan(Source source) throws IOException {
+        Listener.Collecting listener = new Listener.Collecting();
+        scan(source, listener);
+        return listener.getMatches();
+    }
+
+    /**
+     * Scans the given source and reports all matched types to the given listener. This method returns after all
+     * class files of the source were processed.
+     *
+     * @param source   The source to scan.
+     * @param listener The listener to notify of any matched type.
+     * @throws IOException If the source cannot be read.
+     */
+    public void scan(Source source, Listener listener) throws IOException {
+        Semaphore semaphore = new Semaphore(maximumPending);
+        try {
+            source.apply(new Dispatcher(semaphore, nonNull(listener)));
+        } finally {
+            semaphore.acquireUninterruptibly(maximumPending);
+        }
+        listener.onComplete();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        TypeScanner typeScanner = (TypeScanner) other;
+        return maximumPending == typeScanner.maximumPending
+                && typePool.equals(typeScanner.typePool)
+                && matcher.equals(typeScanner.matcher)
+                && executor.equals(typeScanner.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = typePool.hashCode();
+        result = 31 * result + matcher.hashCode();
+        result = 31 * result + executor.hashCode();
+        result = 31 * result + maximumPending;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeScanner{" +
+                "typePool=" + typePool +
+                ", matcher=" + matcher +
+                ", executor=" + executor +
+                ", maximumPending=" + maximumPending +
+                '}';
+    }
+
+    /**
+     * A source of class files that can be scanned.
+     */
+    public interface Source {
+
+        /**
+         * Applies the given processor to all class files of this source.
+         *
+         * @param processor The processor to apply.
+         * @throws IOException If the source cannot be read.
+         */
+        void apply(Processor processor) throws IOException;
+
+        /**
+         * A processor for the class files of a source.
+         */
+        interface Processor {
+
+            /**
+             * Processes a class file.
+             *
+             * @param typeName             The binary name of the type that is represented by the class file.
+             * @param binaryRepresentation The class file.
+             * @throws IOException If an I/O exception occurs while processing the class file.
+             */
+            void process(String typeName, byte[] binaryRepresentation) throws IOException;
+        }
+
+        /**
+         * A source that represents all class files of a <i>jar</i> file.
+         */
+        class ForJarFile implements Source {
+
+            /**
+             * The <i>jar</i> file to scan.
+             */
+            private final File file;
+
+            /**
+             * Creates a new source for a <i>jar</i> file.
+             *
+             * @param file The <i>jar</i> file to scan.
+             */
+            public ForJarFile(File file) {
+                this.file = nonNull(file);
+            }
+
+            @Override
+            public void apply(Processor processor) throws IOException {
+                JarFile jarFile = new JarFile(file);
+                try {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        String typeName = toTypeName(entry.getName(), '/');
+                        if (!entry.isDirectory() && typeName != null) {
+                            InputStream inputStream = jarFile.getInputStream(entry);
+                            try {
+                                processor.process(typeName, new StreamDrainer().drain(inputStream));
+                            } finally {
+                                inputStream.close();
+                            }
+                        }
+                    }
+                } finally {
+                    jarFile.close();
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && file.equals(((ForJarFile) other).file);
+            }
+
+            @Override
+            public int hashCode() {
+                return file.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeScanner.Source.ForJarFile{" +
+                        "file=" + file +
+                        '}';
+            }
+        }
+
+        /**
+         * A source that represents all class files of a folder structure where folders denote packages.
+         */
+        class ForFolder implements Source {
+
+            /**
+             * The base folder of the package structure.
+             */
+            private final File folder;
+
+            /**
+             * Creates a new source for a folder.
+             *
+             * @param folder The base folder of the package structure.
+             */
+            public ForFolder(File folder) {
+                this.folder = nonNull(folder);
+            }
+
+            @Override
+            public void apply(Processor processor) throws IOException {
+                LinkedList<File> folders = new LinkedList<File>(Collections.singleton(folder));
+                String prefix = folder.getAbsolutePath() + File.separatorChar;
+                while (!folders.isEmpty()) {
+                    File[] files = folders.removeFirst().listFiles();
+                    if (files == null) {
+                        continue;
+                    }
+                    Arrays.sort(files);
+                    for (File file : files) {
+                        if (file.isDirectory()) {
+                            folders.add(file);
+                        } else {
+                            String typeName = toTypeName(file.getAbsolutePath().substring(prefix.length()), File.separatorChar);
+                            if (typeName != null) {
+                                InputStream inputStream = new BufferedInputStream(new FileInputStream(file));
+                                try {
+                                    processor.process(typeName, new StreamDrainer().drain(inputStream));
+                                } finally {
+                                    inputStream.close();
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && folder.equals(((ForFolder) other).folder);
+            }
+
+            @Override
+            public int hashCode() {
+                return folder.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeScanner.Source.ForFolder{" +
+                        "folder=" + folder +
+                        '}';
+            }
+        }
+
+        /**
+         * A compound source that represents the class files of several sources in their order.
+         */
+        class Compound implements Source {
+
+            /**
+             * The sources that are represented by this compound source.
+             */
+            private final List<? extends Source> sources;
+
+            /**
+             * Creates a new compound source.
+             *
+             * @param source The sources that are represented by this compound source.
+             */
+            public Compound(Source... source) {
+                this(Arrays.asList(source));
+            }
+
+            /**
+             * Creates a new compound source.
+             *
+             * @param sources The sources that are represented by this compound source.
+             */
+            public Compound(List<? extends Source> sources) {
+                this.sources = sources;
+            }
+
+            @Override
+            public void apply(Processor processor) throws IOException {
+                for (Source source : sources) {
+                    source.apply(processor);
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && sources.equals(((Compound) other).sources);
+            }
+
+            @Override
+            public int hashCode() {
+                return sources.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeScanner.Source.Compound{" +
+                        "sources=" + sources +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A listener that is notified of the types that are matched by a type scanner. If a type scanner uses an executor
+     * that processes class files concurrently, a listener is notified concurrently.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked when a type is matched.
+         *
+         * @param typeDescription The matched type.
+         */
+        void onMatch(TypeDescription typeDescription);
+
+        /**
+         * Invoked when a class file cannot be parsed or matched.
+         *
+         * @param typeName  The name of the type that is represented by the class file.
+         * @param exception The exception that was thrown.
+         */
+        void onError(String typeName, RuntimeException exception);
+
+        /**
+         * Invoked after all class files of a source were processed.
+         */
+        void onComplete();
+
+        /**
+         * A listener that collects all matched types and that throws an exception on completion if any class file
+         * could not be processed.
+         */
+        class Collecting implements Listener {
+
+            /**
+             * The matched types.
+             */
+            private final List<TypeDescription> matches;
+
+            /**
+             * The exceptions that were thrown when processing class files by the names of the represented types.
+             */
+            private final Map<String, RuntimeException> errors;
+
+            /**
+             * Creates a new collecting listener.
+             */
+            public Collecting() {
+                matches = new ArrayList<TypeDescription>();
+                errors = new LinkedHashMap<String, RuntimeException>();
+            }
+
+            @Override
+            public synchronized void onMatch(TypeDescription typeDescription) {
+                matches.add(typeDescription);
+            }
+
+            @Override
+            public synchronized void onError(String typeName, RuntimeException exception) {
+                errors.put(typeName, exception);
+            }
+
+            @Override
+            public synchronized void onComplete() {
+                if (!errors.isEmpty()) {
+                    Map.Entry<String, RuntimeException> error = errors.entrySet().iterator().next();
+                    throw new IllegalStateException("Cannot process " + error.getKey()
+                            + (errors.size() > 1 ? " and " + (errors.size() - 1) + " other types" : ""), error.getValue());
+                }
+            }
+
+            /**
+             * Returns the matched types.
+             *
+             * @return A list of all types that were matched.
+             */
+            public synchronized List<TypeDescription> getMatches() {
+                return new ArrayList<TypeDescription>(matches);
+            }
+
+            @Override
+            public synchronized String toString() {
+                return "TypeScanner.Listener.Collecting{" +
+                        "matches=" + matches +
+                        ", errors=" + errors +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * Converts the path of a class file into the binary name of the represented type.
+     *
+     * @param path      The path of the class file relative to its source's root.
+     * @param separator The separator of the path's elements.
+     * @return The binary name of the represented type or {@code null} if the path does not represent a class file
+     * of a type.
+     */
+    protected static String toTypeName(String path, char separator) {
+        if (!path.endsWith(ClassFileLocator.CLASS_FILE_EXTENSION)) {
+            return null;
+        }
+        String typeName = path.substring(0, path.length() - ClassFileLocator.CLASS_FILE_EXTENSION.length()).replace(separator, '.');
+        return typeName.equals("module-info") || typeName.endsWith(".package-info") || typeName.equals("package-info")
+                ? null
+                : typeName;
+    }
+
+    /**
+     * An executor that runs any command on the calling thread.
+     */
+    protected enum DirectExecutor implements Executor {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeScanner.DirectExecutor." + name();
+        }
+    }
+
+    /**
+     * A processor that dispatches class files to the scanner's executor.
+     */
+    protected class Dispatcher implements Source.Processor {
+
+        /**
+         * The semaphore that bounds the number of pending class files.
+         */
+        private final Semaphore semaphore;
+
+        /**
+         * The listener to notify.
+         */
+        private final Listener listener;
+
+        /**
+         * Creates a new dispatcher.
+         *
+         * @param semaphore The semaphore that bounds the number of pending class files.
+         * @param listener  The listener to notify.
+         */
+        protected Dispatcher(Semaphore semaphore, Listener listener) {
+            this.semaphore = semaphore;
+            this.listener = listener;
+        }
+
+        @Override
+        public void process(String typeName, byte[] binaryRepresentation) {
+            semaphore.acquireUninterruptibly();
+            try {
+                executor.execute(new Matching(typeName, binaryRepresentation));
+            } catch (RejectedExecutionException exception) {
+                semaphore.release();
+                throw exception;
+            }
+        }
+
+        /**
+         * Returns the outer instance.
+         *
+         * @return The outer instance.
+         */
+        private TypeScanner getTypeScanner() {
+            return TypeScanner.this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && semaphore.equals(((Dispatcher) other).semaphore)
+                    && listener.equals(((Dispatcher) other).listener)
+                    && TypeScanner.this.equals(((Dispatcher) other).getTypeScanner());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * semaphore.hashCode() + listener.hashCode()) + TypeScanner.this.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeScanner.Dispatcher{" +
+                    "typeScanner=" + TypeScanner.this +
+                    ", semaphore=" + semaphore +
+                    ", listener=" + listener +
+                    '}';
+        }
+
+        /**
+         * A command that parses and matches a single class file.
+         */
+        protected class Matching implements Runnable {
+
+            /**
+             * The binary name of the type that is represented by the class file.
+             */
+            private final String typeName;
+
+            /**
+             * The class file.
+             */
+            private final byte[] binaryRepresentation;
+
+            /**
+             * Creates a new matching command.
+             *
+             * @param typeName             The binary name of the type that is represented by the class file.
+             * @param binaryRepresentation The class file.
+             */
+            protected Matching(String typeName, byte[] binaryRepresentation) {
+                this.typeName = typeName;
+                this.binaryRepresentation = binaryRepresentation;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    TypeDescription typeDescription = typePool.parse(binaryRepresentation);
+                    if (matcher.matches(typeDescription)) {
+                        listener.onMatch(typeDescription);
+                    }
+                } catch (RuntimeException exception) {
+                    listener.onError(typeName, exception);
+                } finally {
+                    semaphore.release();
+                }
+            }
+
+            /**
+             * Returns the outer instance.
+             *
+             * @return The outer instance.
+             */
+            private Dispatcher getDispatcher() {
+                return Dispatcher.this;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && typeName.equals(((Matching) other).typeName)
+                        && Arrays.equals(binaryRepresentation, ((Matching) other).binaryRepresentation)
+                        && Dispatcher.this.equals(((Matching) other).getDispatcher());
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * (31 * typeName.hashCode() + Arrays.hashCode(binaryRepresentation)) + Dispatcher.this.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeScanner.Dispatcher.Matching{" +
+                        "dispatcher=" + Dispatcher.this +
+                        ", typeName='" + typeName + '\'' +
+                        ", binaryRepresentation=<" + binaryRepresentation.length + " bytes>" +
+                        '}';
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.mockito.Mock;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.Opcodes;
 
+import java.util.concurrent.Executor;
+
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -73,6 +75,9 @@ public class ByteBuddyTest {
     @Mock
     private Implementation implementation;
 
+    @Mock
+    private Executor executor;
+
     @Before
     public void setUp() throws Exception {
         when(modifierContributorForType.getMask()).thenReturn(MASK);
@@ -96,7 +101,8 @@ public class ByteBuddyTest {
                 .withMethodLookupEngine(methodLookupEngineFactory)
                 .withModifiers(modifierContributorForType)
                 .withNamingStrategy(namingStrategy)
-                .withNamingStrategy(auxiliaryTypeNamingStrategy));
+                .withNamingStrategy(auxiliaryTypeNamingStrategy)
+                .withExecutor(executor));
     }
 
     @Test
@@ -114,6 +120,7 @@ public class ByteBuddyTest {
                 .withModifiers(modifierContributorForType)
                 .withNamingStrategy(namingStrategy)
                 .withNamingStrategy(auxiliaryTypeNamingStrategy)
+                .withExecutor(executor)
                 .method(methodMatcher).intercept(implementation));
     }
 
@@ -132,6 +139,7 @@ public class ByteBuddyTest {
         assertThat(byteBuddy.getModifiers().resolve(0), is(MASK));
         assertThat(byteBuddy.getNamingStrategy(), is(namingStrategy));
         assertThat(byteBuddy.getAuxiliaryTypeNamingStrategy(), is(auxiliaryTypeNamingStrategy));
+        assertThat(byteBuddy.getExecutor(), is(executor));
         assertThat(byteBuddy.getClassVisitorWrapperChain(), instanceOf(ClassVisitorWrapper.Chain.class));
         ClassVisitor classVisitor = mock(ClassVisitor.class);
         byteBuddy.getClassVisitorWrapperChain().wrap(classVisitor);
@@ -144,6 +152,16 @@ public class ByteBuddyTest {
         assertThat(new ByteBuddy(ClassFileVersion.JAVA_V6).getClassFileVersion(), is(ClassFileVersion.JAVA_V6));
     }
 
+    @Test
+    public void testSequentialByDefault() throws Exception {
+        assertThat(new ByteBuddy().getExecutor(), nullValue(Executor.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testExecutorMustNotBeNull() throws Exception {
+        new ByteBuddy().withExecutor(null);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(ByteBuddy.class).apply();
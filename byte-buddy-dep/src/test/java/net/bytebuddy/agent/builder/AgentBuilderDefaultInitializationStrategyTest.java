@@ -1,6 +1,7 @@
 package net.bytebuddy.agent.builder;
 
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Rule;
@@ -10,6 +11,8 @@ import org.mockito.Mock;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class AgentBuilderDefaultInitializationStrategyTest {
 
@@ -25,10 +28,23 @@ public class AgentBuilderDefaultInitializationStrategyTest {
         assertThat(AgentBuilder.Default.InitializationStrategy.NoOp.INSTANCE.apply(builder), is((DynamicType.Builder) builder));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedNexusDelegatesToNexus() throws Exception {
+        LoadedTypeInitializer loadedTypeInitializer = mock(LoadedTypeInitializer.class);
+        AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), loadedTypeInitializer);
+        AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus.initialize(Foo.class);
+        verify(loadedTypeInitializer).onLoad(Foo.class);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(AgentBuilder.Default.InitializationStrategy.NoOp.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.Default.InitializationStrategy.SelfInjection.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus.Accessor.class).apply();
     }
-}
\ No newline at end of file
+
+    public static class Foo {
+        /* empty */
+    }
+}
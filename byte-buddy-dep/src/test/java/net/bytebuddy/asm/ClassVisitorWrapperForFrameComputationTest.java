@@ -0,0 +1,182 @@
+package net.bytebuddy.asm;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+import org.objectweb.asm.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClassVisitorWrapperForFrameComputationTest {
+
+    private static final String FOO = "foo", BAR = "bar", TO_STRING = "toString";
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testFrameComputationOfInstrumentedType() throws Exception {
+        Class<?> type = new ByteBuddy(ClassFileVersion.JAVA_V7)
+                .subclass(ArrayList.class)
+                .method(named(TO_STRING)).intercept(SuperMethodCall.INSTANCE)
+                .classVisitor(new ClassVisitorWrapper.ForFrameComputation(TypePool.Default.ofClassPath()))
+                .classVisitor(new BranchingWrapper(ArrayList.class))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Method method = type.getDeclaredMethod(FOO, boolean.class);
+        assertThat(method.invoke(null, true), instanceOf(type));
+        assertThat(method.invoke(null, false), instanceOf(ArrayList.class));
+        assertThat(type.newInstance().toString(), is("[]"));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testFrameComputationOfSuperClass() throws Exception {
+        Class<?> type = new ByteBuddy(ClassFileVersion.JAVA_V7)
+                .subclass(ArrayList.class)
+                .classVisitor(new ClassVisitorWrapper.ForFrameComputation(TypePool.Default.ofClassPath()))
+                .classVisitor(new BranchingWrapper(LinkedList.class))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Method method = type.getDeclaredMethod(FOO, boolean.class);
+        assertThat(method.invoke(null, true), instanceOf(type));
+        assertThat(method.invoke(null, false), instanceOf(LinkedList.class));
+    }
+
+    @Test
+    public void testFrameComputationOfRebasedType() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .rebase(Qux.class)
+                .method(named(BAR)).intercept(SuperMethodCall.INSTANCE)
+                .classVisitor(new ClassVisitorWrapper.ForFrameComputation(TypePool.Default.ofClassPath()))
+                .classVisitor(new BranchingWrapper(LinkedList.class))
+                .make()
+                .load(null, ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Method method = type.getDeclaredMethod(FOO, boolean.class);
+        assertThat(method.invoke(null, true), instanceOf(type));
+        assertThat(method.invoke(null, false), instanceOf(LinkedList.class));
+        assertThat(type.getDeclaredMethod(BAR).invoke(type.newInstance()), is((Object) BAR));
+    }
+
+    @Test(expected = VerifyError.class)
+    @JavaVersionRule.Enforce(7)
+    public void testMissingFrameComputation() throws Exception {
+        new ByteBuddy(ClassFileVersion.JAVA_V7)
+                .subclass(ArrayList.class)
+                .classVisitor(new BranchingWrapper(ArrayList.class))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .getDeclaredMethods();
+    }
+
+    @Test
+    public void testLegacyClassFileIsNotAltered() throws Exception {
+        ClassVisitor classVisitor = mock(ClassVisitor.class);
+        MethodVisitor methodVisitor = mock(MethodVisitor.class);
+        when(classVisitor.visitMethod(Opcodes.ACC_PUBLIC, FOO, "()V", null, null)).thenReturn(methodVisitor);
+        ClassVisitor wrapped = new ClassVisitorWrapper.ForFrameComputation(TypePool.Default.ofClassPath()).wrap(classVisitor);
+        wrapped.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC, FOO, null, "java/lang/Object", null);
+        assertThat(wrapped.visitMethod(Opcodes.ACC_PUBLIC, FOO, "()V", null, null), is(methodVisitor));
+    }
+
+    @Test
+    public void testCommonSuperClass() throws Exception {
+        ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor classVisitor = new ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor(new ClassWriter(0),
+                new TypePool.Default(new TypePool.CacheProvider.Simple(), ClassFileLocator.ForClassLoader.ofClassPath()));
+        classVisitor.visit(Opcodes.V1_7, Opcodes.ACC_PUBLIC, FOO, null, "java/util/ArrayList", null);
+        ClassVisitorWrapper.ForFrameComputation.FrameComputingClassVisitor.FrameComputingClassWriter classWriter = classVisitor.new FrameComputingClassWriter();
+        assertThat(classWriter.getCommonSuperClass("java/util/ArrayList", "java/util/LinkedList"), is("java/util/AbstractList"));
+        assertThat(classWriter.getCommonSuperClass("java/util/AbstractList", "java/util/ArrayList"), is("java/util/AbstractList"));
+        assertThat(classWriter.getCommonSuperClass("java/util/ArrayList", "java/util/AbstractList"), is("java/util/AbstractList"));
+        assertThat(classWriter.getCommonSuperClass("java/util/List", "java/lang/String"), is("java/lang/Object"));
+        assertThat(classWriter.getCommonSuperClass(FOO, "java/util/LinkedList"), is("java/util/AbstractList"));
+        assertThat(classWriter.getCommonSuperClass(FOO, "java/util/ArrayList"), is("java/util/ArrayList"));
+        assertThat(classWriter.getCommonSuperClass(Type.getInternalName(Qux.class), FOO), is("java/lang/Object"));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassVisitorWrapper.ForFrameComputation.class).apply();
+    }
+
+    public static class Qux {
+
+        public String bar() {
+            return BAR;
+        }
+    }
+
+    private static class BranchingWrapper implements ClassVisitorWrapper {
+
+        private final Class<?> alternative;
+
+        private BranchingWrapper(Class<?> alternative) {
+            this.alternative = alternative;
+        }
+
+        @Override
+        public ClassVisitor wrap(ClassVisitor classVisitor) {
+            return new BranchingClassVisitor(classVisitor);
+        }
+
+        private class BranchingClassVisitor extends ClassVisitor {
+
+            private String internalName;
+
+            private BranchingClassVisitor(ClassVisitor classVisitor) {
+                super(Opcodes.ASM5, classVisitor);
+            }
+
+            @Override
+            public void visit(int version, int modifiers, String name, String signature, String superName, String[] interfaces) {
+                internalName = name;
+                super.visit(version, modifiers, name, signature, superName, interfaces);
+            }
+
+            @Override
+            public void visitEnd() {
+                MethodVisitor methodVisitor = super.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, FOO, "(Z)Ljava/lang/Object;", null, null);
+                methodVisitor.visitCode();
+                Label alternative = new Label(), merge = new Label();
+                methodVisitor.visitVarInsn(Opcodes.ILOAD, 0);
+                methodVisitor.visitJumpInsn(Opcodes.IFEQ, alternative);
+                methodVisitor.visitTypeInsn(Opcodes.NEW, internalName);
+                methodVisitor.visitInsn(Opcodes.DUP);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, internalName, "<init>", "()V", false);
+                methodVisitor.visitJumpInsn(Opcodes.GOTO, merge);
+                methodVisitor.visitLabel(alternative);
+                String alternativeName = Type.getInternalName(BranchingWrapper.this.alternative);
+                methodVisitor.visitTypeInsn(Opcodes.NEW, alternativeName);
+                methodVisitor.visitInsn(Opcodes.DUP);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, alternativeName, "<init>", "()V", false);
+                methodVisitor.visitLabel(merge);
+                methodVisitor.visitInsn(Opcodes.ARETURN);
+                methodVisitor.visitMaxs(2, 1);
+                methodVisitor.visitEnd();
+                super.visitEnd();
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package net.bytebuddy.description.annotation;
+
+import net.bytebuddy.description.enumeration.EnumerationDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AnnotationDescriptionAnnotationImplementationTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final int QUX = 42;
+
+    @Test
+    public void testImplementationIsGenerated() throws Exception {
+        Sample original = Carrier.class.getAnnotation(Sample.class);
+        Sample sample = AnnotationDescription.Builder.forType(Sample.class)
+                .define("value", FOO)
+                .defineArray("values", QUX)
+                .define("number", QUX)
+                .make()
+                .prepare(Sample.class)
+                .load();
+        assertThat(Proxy.isProxyClass(sample.getClass()), is(false));
+        assertThat(sample.getClass().getName(), is(Sample.class.getName() + AnnotationDescription.AnnotationImplementation.SUFFIX));
+        assertThat(sample.getClass().getClassLoader(), instanceOf(AnnotationDescription.AnnotationImplementation.ImplementationClassLoader.class));
+        assertThat(sample.getClass().getClassLoader().getParent(), is(Sample.class.getClassLoader()));
+        assertThat(sample.value(), is(FOO));
+        assertThat(sample.number(), is(QUX));
+        assertThat(sample.values().length, is(1));
+        assertThat(sample.values()[0], is(QUX));
+        assertThat(sample.annotationType(), is((Object) Sample.class));
+        assertThat(sample, is(original));
+        assertThat(original, is(sample));
+        assertThat(sample.hashCode(), is(original.hashCode()));
+        assertThat(sample.toString().startsWith("@" + Sample.class.getName() + "("), is(true));
+        assertThat(sample.toString().contains("value=" + FOO), is(true));
+        assertThat(sample.toString().contains("number=" + QUX), is(true));
+    }
+
+    @Test
+    public void testImplementationClassIsReused() throws Exception {
+        Sample first = AnnotationDescription.Builder.forType(Sample.class).define("value", FOO).make().prepare(Sample.class).load();
+        Sample second = AnnotationDescription.Builder.forType(Sample.class).define("value", BAR).make().prepare(Sample.class).load();
+        assertThat(first.getClass(), is((Object) second.getClass()));
+        assertThat(first, not(is(second)));
+    }
+
+    @Test
+    public void testFactoryIsRetainedAfterGarbageCollection() throws Exception {
+        AnnotationDescription.AnnotationImplementation.Factory factory = AnnotationDescription.AnnotationImplementation.INSTANCE.factoryOf(Sample.class);
+        int hashCode = System.identityHashCode(factory);
+        factory = null;
+        System.gc();
+        assertThat(System.identityHashCode(AnnotationDescription.AnnotationImplementation.INSTANCE.factoryOf(Sample.class)), is(hashCode));
+    }
+
+    @Test
+    public void testNullClassLoaderIsResolvedForProxy() throws Exception {
+        HiddenProperty hiddenProperty = AnnotationDescription.AnnotationImplementation.INSTANCE.make(null,
+                HiddenProperty.class,
+                Collections.<String, AnnotationDescription.AnnotationValue<?, ?>>singletonMap("value",
+                        new AnnotationDescription.AnnotationValue.ForEnumeration(new EnumerationDescription.ForLoadedEnumeration(HiddenEnum.INSTANCE))));
+        assertThat(Proxy.isProxyClass(hiddenProperty.getClass()), is(true));
+        assertThat(hiddenProperty.getClass().getClassLoader(), is(ClassLoader.getSystemClassLoader()));
+    }
+
+    @Test
+    public void testFactoryKeyIdentity() throws Exception {
+        AnnotationDescription.AnnotationImplementation.FactoryKey key = new AnnotationDescription.AnnotationImplementation.FactoryKey(Sample.class);
+        assertThat(key.hashCode(), is(new AnnotationDescription.AnnotationImplementation.FactoryKey(Sample.class).hashCode()));
+        assertThat(key, is(new AnnotationDescription.AnnotationImplementation.FactoryKey(Sample.class)));
+        assertThat(key, not(is(new AnnotationDescription.AnnotationImplementation.FactoryKey(Retention.class))));
+        assertThat(key.toString(), is("AnnotationDescription.AnnotationImplementation.FactoryKey{annotationType=" + Sample.class + "}"));
+    }
+
+    @Test
+    public void testArrayIsCloned() throws Exception {
+        Sample sample = AnnotationDescription.Builder.forType(Sample.class)
+                .define("value", FOO)
+                .defineArray("values", QUX)
+                .make()
+                .prepare(Sample.class)
+                .load();
+        sample.values()[0] = QUX * 2;
+        assertThat(sample.values()[0], is(QUX));
+    }
+
+    @Test
+    public void testUnequalToIncompleteAnnotation() throws Exception {
+        Sample sample = AnnotationDescription.Builder.forType(Sample.class).define("value", FOO).make().prepare(Sample.class).load();
+        Sample incomplete = AnnotationDescription.AnnotationImplementation.INSTANCE.make(Sample.class.getClassLoader(),
+                Sample.class,
+                Collections.<String, AnnotationDescription.AnnotationValue<?, ?>>emptyMap());
+        assertThat(Proxy.isProxyClass(incomplete.getClass()), is(true));
+        assertThat(sample.equals(incomplete), is(false));
+    }
+
+    @Test
+    public void testBootstrapAnnotationIsProxied() throws Exception {
+        Retention retention = AnnotationDescription.Builder.forType(Retention.class)
+                .define("value", RetentionPolicy.RUNTIME)
+                .make()
+                .prepare(Retention.class)
+                .load();
+        assertThat(Proxy.isProxyClass(retention.getClass()), is(true));
+        assertThat(retention, is(Sample.class.getAnnotation(Retention.class)));
+    }
+
+    @Test
+    public void testNonPublicAnnotationIsProxied() throws Exception {
+        Hidden hidden = AnnotationDescription.Builder.forType(Hidden.class)
+                .define("value", FOO)
+                .make()
+                .prepare(Hidden.class)
+                .load();
+        assertThat(Proxy.isProxyClass(hidden.getClass()), is(true));
+        assertThat(hidden.value(), is(FOO));
+    }
+
+    @Test
+    public void testNonPublicPropertyTypeIsProxied() throws Exception {
+        HiddenProperty hiddenProperty = AnnotationDescription.Builder.forType(HiddenProperty.class)
+                .define("value", HiddenEnum.INSTANCE)
+                .make()
+                .prepare(HiddenProperty.class)
+                .load();
+        assertThat(Proxy.isProxyClass(hiddenProperty.getClass()), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AnnotationDescription.AnnotationImplementation.class).apply();
+        ObjectPropertyAssertion.of(AnnotationDescription.AnnotationImplementation.Factory.Unavailable.class).apply();
+        Constructor<?> constructor = Object.class.getConstructor();
+        Method[] properties = Sample.class.getDeclaredMethods();
+        AnnotationDescription.AnnotationImplementation.Factory factory = new AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass(Sample.class, constructor, properties);
+        assertThat(factory.hashCode(), is(new AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass(Sample.class, constructor, properties).hashCode()));
+        assertThat(factory, is((Object) new AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass(Sample.class, constructor, properties)));
+        assertThat(factory, not(is((Object) new AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass(Sample.class, constructor, new Method[0]))));
+        assertThat(factory, not(is((Object) new AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass(Retention.class, constructor, properties))));
+        assertThat(factory.toString(), is("AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass{" +
+                "annotationType=" + Sample.class + ", constructor=" + constructor + ", properties=" + Arrays.toString(properties) + "}"));
+        ObjectPropertyAssertion.of(AnnotationDescription.AnnotationImplementation.Factory.ForImplementationClass.PropertyComparator.class).apply();
+        ObjectPropertyAssertion.of(AnnotationDescription.AnnotationImplementation.ImplementationClass.class).apply();
+        ObjectPropertyAssertion.of(AnnotationDescription.AnnotationImplementation.PropertyComparison.class).apply();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Sample {
+
+        String value();
+
+        int[] values() default {};
+
+        int number() default 0;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Hidden {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface HiddenProperty {
+
+        HiddenEnum value();
+    }
+
+    enum HiddenEnum {
+        INSTANCE
+    }
+
+    @Sample(value = FOO, values = QUX, number = QUX)
+    private static class Carrier {
+        /* empty */
+    }
+}
@@ -72,6 +72,12 @@ public abstract class AbstractFieldDescriptionTest {
         assertThat(describe(second).getDeclaringType(), is((GenericTypeDescription) new TypeDescription.ForLoadedType(second.getDeclaringClass())));
     }
 
+    @Test
+    public void testSignatureKey() throws Exception {
+        assertThat(((FieldDescription.AbstractFieldDescription) describe(first)).getSignatureKey(),
+                is(Type.getInternalName(first.getDeclaringClass()) + "." + first.getName()));
+    }
+
     @Test
     public void testHashCode() throws Exception {
         assertThat(describe(first).hashCode(), is(new TypeDescription.ForLoadedType(FirstSample.class).hashCode() + 31 * first.getName().hashCode()));
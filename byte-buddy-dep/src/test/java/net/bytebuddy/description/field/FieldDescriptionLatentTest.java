@@ -4,7 +4,13 @@ import net.bytebuddy.description.annotation.AnnotationList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
 
+import org.junit.Test;
+
 import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class FieldDescriptionLatentTest extends AbstractFieldDescriptionTest {
 
@@ -18,4 +24,15 @@ public class FieldDescriptionLatentTest extends AbstractFieldDescriptionTest {
                 GenericTypeDescription.Sort.describe(field.getGenericType()),
                 new AnnotationList.ForLoadedAnnotation(field.getDeclaredAnnotations()));
     }
+
+    @Test
+    public void testFieldTypeIsAttachedOnce() throws Exception {
+        FieldDescription fieldDescription = describe(Sample.class.getDeclaredField(FOO));
+        assertThat(fieldDescription.getType(), sameInstance(fieldDescription.getType()));
+    }
+
+    private static class Sample {
+
+        private List<String> foo;
+    }
 }
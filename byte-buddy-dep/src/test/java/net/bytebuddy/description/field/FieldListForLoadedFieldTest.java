@@ -1,8 +1,14 @@
 package net.bytebuddy.description.field;
 
+import org.junit.Test;
+
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class FieldListForLoadedFieldTest extends AbstractFieldListTest<Field> {
 
     @Override
@@ -24,4 +30,10 @@ public class FieldListForLoadedFieldTest extends AbstractFieldListTest<Field> {
     protected FieldDescription asElement(Field element) {
         return new FieldDescription.ForLoadedField(element);
     }
+
+    @Test
+    public void testDescriptionIsRetained() throws Exception {
+        FieldList fieldList = asList(Collections.singletonList(getFirst()));
+        assertThat(fieldList.get(0), sameInstance(fieldList.get(0)));
+    }
 }
@@ -124,6 +124,14 @@ public abstract class AbstractMethodDescriptionTest {
         assertThat(describe(secondConstructor).getDescriptor(), is(Type.getConstructorDescriptor(secondConstructor)));
     }
 
+    @Test
+    public void testDescriptorIsCached() throws Exception {
+        MethodDescription methodDescription = describe(firstMethod);
+        assertThat(methodDescription.getDescriptor(), sameInstance(methodDescription.getDescriptor()));
+        MethodDescription constructorDescription = describe(firstConstructor);
+        assertThat(constructorDescription.getDescriptor(), sameInstance(constructorDescription.getDescriptor()));
+    }
+
     @Test
     public void testMethodModifiers() throws Exception {
         assertThat(describe(firstMethod).getModifiers(), is(firstMethod.getModifiers()));
@@ -142,6 +150,15 @@ public abstract class AbstractMethodDescriptionTest {
         assertThat(describe(secondConstructor).getDeclaringType(), is((GenericTypeDescription) new TypeDescription.ForLoadedType(secondConstructor.getDeclaringClass())));
     }
 
+    @Test
+    public void testSignatureKey() throws Exception {
+        assertThat(((MethodDescription.AbstractMethodDescription) describe(firstMethod)).getSignatureKey(),
+                is(Type.getInternalName(firstMethod.getDeclaringClass()) + "." + firstMethod.getName() + Type.getMethodDescriptor(firstMethod)));
+        assertThat(((MethodDescription.AbstractMethodDescription) describe(firstConstructor)).getSignatureKey(),
+                is(Type.getInternalName(firstConstructor.getDeclaringClass()) + "." + MethodDescription.CONSTRUCTOR_INTERNAL_NAME
+                        + Type.getConstructorDescriptor(firstConstructor)));
+    }
+
     @Test
     public void testHashCode() throws Exception {
         assertThat(describe(firstMethod).hashCode(), is(hashCode(firstMethod)));
@@ -11,6 +11,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -40,6 +41,12 @@ public class MethodDescriptionLatentTest extends AbstractMethodDescriptionTest {
         assertThat(typeInitializer.getModifiers(), is(MethodDescription.TYPE_INITIALIZER_MODIFIER));
     }
 
+    @Test
+    public void testReturnTypeIsAttachedOnce() throws Exception {
+        MethodDescription methodDescription = describe(Class.class.getDeclaredMethod("getSuperclass"));
+        assertThat(methodDescription.getReturnType(), sameInstance(methodDescription.getReturnType()));
+    }
+
     @Override
     protected boolean canReadDebugInformation() {
         return false;
@@ -1,9 +1,15 @@
 package net.bytebuddy.description.method;
 
+import org.junit.Test;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class MethodListForLoadedTypeTest extends AbstractMethodListTest<Method> {
 
     @Override
@@ -25,4 +31,10 @@ public class MethodListForLoadedTypeTest extends AbstractMethodListTest<Method>
     protected MethodDescription asElement(Method element) {
         return new MethodDescription.ForLoadedMethod(element);
     }
+
+    @Test
+    public void testDescriptionIsRetained() throws Exception {
+        MethodList methodList = asList(Collections.singletonList(getFirst()));
+        assertThat(methodList.get(0), sameInstance(methodList.get(0)));
+    }
 }
@@ -174,6 +174,15 @@ public abstract class AbstractTypeDescriptionTest extends AbstractGenericTypeDes
         }
     }
 
+    @Test
+    public void testNamesAreCached() throws Exception {
+        for (Class<?> type : TYPES) {
+            TypeDescription typeDescription = describe(type);
+            assertThat(typeDescription.getInternalName(), sameInstance(typeDescription.getInternalName()));
+            assertThat(typeDescription.getDescriptor(), sameInstance(typeDescription.getDescriptor()));
+        }
+    }
+
     @Test
     public void testModifier() throws Exception {
         assertThat(describe(SampleClass.class).getModifiers(), is(SampleClass.class.getModifiers()));
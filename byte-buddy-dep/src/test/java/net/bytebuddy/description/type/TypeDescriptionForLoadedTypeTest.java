@@ -2,10 +2,14 @@ package net.bytebuddy.description.type;
 
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTest {
 
     @Override
@@ -22,4 +26,13 @@ public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTes
     protected GenericTypeDescription describe(Method method) {
         return new MethodDescription.ForLoadedMethod(method).getReturnType();
     }
+
+    @Test
+    public void testDeclarationsAreCached() throws Exception {
+        TypeDescription typeDescription = describe(Object.class);
+        assertThat(typeDescription.getDeclaredMethods(), sameInstance(typeDescription.getDeclaredMethods()));
+        assertThat(typeDescription.getDeclaredFields(), sameInstance(typeDescription.getDeclaredFields()));
+        assertThat(typeDescription.getDeclaredAnnotations(), sameInstance(typeDescription.getDeclaredAnnotations()));
+        assertThat(typeDescription.getInheritedAnnotations(), sameInstance(typeDescription.getInheritedAnnotations()));
+    }
 }
@@ -5,8 +5,11 @@ import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Test;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -80,4 +83,46 @@ public class GenericTypeDescriptionTest {
         assertThat(GenericTypeDescription.Sort.VARIABLE_SYMBOLIC.isSymbolicTypeVariable(), is(true));
         assertThat(GenericTypeDescription.Sort.GENERIC_ARRAY.isGenericArray(), is(true));
     }
+
+    @Test
+    public void testLazyProjectionIsResolvedOnce() throws Exception {
+        GenericTypeDescription genericTypeDescription = mock(GenericTypeDescription.class);
+        when(genericTypeDescription.getSort()).thenReturn(GenericTypeDescription.Sort.PARAMETERIZED);
+        CountingLazyProjection lazyProjection = new CountingLazyProjection(genericTypeDescription);
+        assertThat(lazyProjection.getSort(), is(GenericTypeDescription.Sort.PARAMETERIZED));
+        assertThat(lazyProjection.getSort(), is(GenericTypeDescription.Sort.PARAMETERIZED));
+        lazyProjection.getParameters();
+        assertThat(lazyProjection.resolutions, is(1));
+    }
+
+    @Test
+    public void testTypeVariableBindingIsCreatedOnce() throws Exception {
+        GenericTypeDescription.ForParameterizedType parameterizedType = new GenericTypeDescription.ForParameterizedType.Latent(
+                new TypeDescription.ForLoadedType(List.class),
+                Collections.singletonList(TypeDescription.OBJECT),
+                null);
+        assertThat(parameterizedType.getTypeVariableBinding(), sameInstance(parameterizedType.getTypeVariableBinding()));
+    }
+
+    private static class CountingLazyProjection extends GenericTypeDescription.LazyProjection {
+
+        private final GenericTypeDescription genericTypeDescription;
+
+        private int resolutions;
+
+        private CountingLazyProjection(GenericTypeDescription genericTypeDescription) {
+            this.genericTypeDescription = genericTypeDescription;
+        }
+
+        @Override
+        protected GenericTypeDescription resolve() {
+            resolutions++;
+            return genericTypeDescription;
+        }
+
+        @Override
+        public TypeDescription asRawType() {
+            throw new AssertionError();
+        }
+    }
 }
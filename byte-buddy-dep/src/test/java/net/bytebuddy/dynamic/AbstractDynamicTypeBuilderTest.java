@@ -9,11 +9,15 @@ import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.implementation.bind.annotation.Super;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
 import net.bytebuddy.implementation.bytecode.constant.TextConstant;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.test.scope.GenericType;
 import net.bytebuddy.test.utility.ClassFileExtraction;
+import org.hamcrest.CoreMatchers;
 import org.hamcrest.core.Is;
 import org.junit.Test;
 import org.objectweb.asm.Opcodes;
@@ -24,6 +28,10 @@ import java.net.URLClassLoader;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.bytebuddy.matcher.ElementMatchers.any;
 import static net.bytebuddy.matcher.ElementMatchers.*;
@@ -38,7 +46,7 @@ import static org.mockito.Mockito.*;
 
 public abstract class AbstractDynamicTypeBuilderTest {
 
-    private static final String FOO = "foo", BAR = "bar", TO_STRING = "toString";
+    private static final String FOO = "foo", BAR = "bar", TO_STRING = "toString", HASH_CODE = "hashCode";
 
     private static final boolean BOOLEAN_VALUE = true;
 
@@ -225,6 +233,47 @@ public abstract class AbstractDynamicTypeBuilderTest {
         verify(modifierResolver).transform(toString, true);
     }
 
+    @Test
+    public void testConcurrentAuxiliaryTypeCreation() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            DynamicType.Unloaded<?> dynamicType = ((DynamicType.Builder.Concurrent<?>) createPlain()
+                    .method(named(TO_STRING)).intercept(MethodDelegation.to(Qux.class)))
+                    .make(executorService);
+            assertThat(dynamicType.getRawAuxiliaryTypes().size(), is(1));
+            Class<?> type = dynamicType.load(Qux.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST).getLoaded();
+            assertThat(type.newInstance().toString(), CoreMatchers.startsWith(FOO));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentSharedAuxiliaryTypeCreation() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        final AtomicInteger executions = new AtomicInteger();
+        try {
+            DynamicType.Unloaded<?> dynamicType = ((DynamicType.Builder.Concurrent<?>) createPlain()
+                    .method(named(TO_STRING)).intercept(MethodDelegation.to(Baz.class))
+                    .method(named(HASH_CODE)).intercept(MethodDelegation.to(Baz.class)))
+                    .make(new Executor() {
+                        @Override
+                        public void execute(Runnable command) {
+                            executions.incrementAndGet();
+                            executorService.execute(command);
+                        }
+                    });
+            assertThat(executions.get(), is(3));
+            assertThat(dynamicType.getRawAuxiliaryTypes().size(), is(3));
+            Class<?> type = dynamicType.load(Baz.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST).getLoaded();
+            Object instance = type.newInstance();
+            assertThat(instance.toString(), CoreMatchers.startsWith(FOO));
+            assertThat(instance.hashCode(), is(System.identityHashCode(instance)));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     public static class Foo {
         /* empty */
     }
@@ -237,4 +286,22 @@ public abstract class AbstractDynamicTypeBuilderTest {
             foo = FOO;
         }
     }
+
+    public static class Qux {
+
+        public static String intercept(@SuperCall Callable<String> zuper) throws Exception {
+            return FOO + zuper.call();
+        }
+    }
+
+    public static class Baz {
+
+        public static String intercept(@Super Object zuper, @SuperCall Callable<String> zuperCall) throws Exception {
+            return FOO + zuperCall.call();
+        }
+
+        public static int hash(@Super Object zuper, @SuperCall Callable<Integer> zuperCall) throws Exception {
+            return zuper.hashCode();
+        }
+    }
 }
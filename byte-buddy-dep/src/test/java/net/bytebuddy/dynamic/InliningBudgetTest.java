@@ -0,0 +1,118 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class InliningBudgetTest {
+
+    private static final String FOO = "foo", BAR = "bar", TO_STRING = "toString";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType dynamicType;
+
+    @Mock
+    private TypeDescription typeDescription;
+
+    @Test
+    public void testMethodSizes() throws Exception {
+        List<InliningBudget.MethodSize> methodSizes = new InliningBudget().analyze(Foo.class.getName(), ClassFileExtraction.extract(Foo.class));
+        assertThat(methodSizes.size(), is(3));
+        for (InliningBudget.MethodSize methodSize : methodSizes) {
+            assertThat(methodSize.getTypeName(), is(Foo.class.getName()));
+            if (methodSize.getInternalName().equals(FOO)) {
+                assertThat(methodSize.getDescriptor(), is("()I"));
+                assertThat(methodSize.getCodeSize(), is(2));
+                assertThat(methodSize.getMaximumStackSize(), is(1));
+                assertThat(methodSize.getMaximumLocalVariables(), is(1));
+                assertThat(methodSize.getClassification(), is(InliningBudget.Classification.INLINEABLE));
+            } else if (methodSize.getInternalName().equals(BAR)) {
+                assertThat(methodSize.getDescriptor(), is("(II)I"));
+                assertThat(methodSize.getMaximumLocalVariables(), is(5));
+                assertThat(methodSize.getClassification(), is(InliningBudget.Classification.INLINEABLE_IF_FREQUENT));
+            }
+        }
+    }
+
+    @Test
+    public void testCustomThresholds() throws Exception {
+        for (InliningBudget.MethodSize methodSize : new InliningBudget(0, 1).analyze(Foo.class.getName(), ClassFileExtraction.extract(Foo.class))) {
+            assertThat(methodSize.getClassification(), is(InliningBudget.Classification.NOT_INLINEABLE));
+        }
+    }
+
+    @Test
+    public void testDynamicType() throws Exception {
+        InliningBudget.Report report = new InliningBudget().analyze(new ByteBuddy()
+                .subclass(Object.class)
+                .method(named(TO_STRING)).intercept(FixedValue.value(FOO))
+                .make());
+        assertThat(report.getMethodSizes().size(), is(2));
+        assertThat(report.isWithin(InliningBudget.Classification.INLINEABLE), is(true));
+        assertThat(report.getMethodSizes(InliningBudget.Classification.INLINEABLE).size(), is(2));
+        assertThat(report.getMethodSizes(InliningBudget.Classification.NOT_INLINEABLE).size(), is(0));
+    }
+
+    @Test
+    public void testReportOfExceedingMethods() throws Exception {
+        when(typeDescription.getName()).thenReturn(Foo.class.getName());
+        when(dynamicType.getAllTypes()).thenReturn(Collections.singletonMap(typeDescription, ClassFileExtraction.extract(Foo.class)));
+        InliningBudget.Report report = new InliningBudget().analyze(dynamicType);
+        assertThat(report.isWithin(InliningBudget.Classification.INLINEABLE), is(false));
+        assertThat(report.isWithin(InliningBudget.Classification.INLINEABLE_IF_FREQUENT), is(true));
+        assertThat(report.getMethodSizes(InliningBudget.Classification.INLINEABLE_IF_FREQUENT).size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalThresholds() throws Exception {
+        new InliningBudget(2, 1);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        assertThat(new InliningBudget().hashCode(), is(new InliningBudget(InliningBudget.DEFAULT_MAX_INLINE_SIZE, InliningBudget.DEFAULT_FREQ_INLINE_SIZE).hashCode()));
+        assertThat(new InliningBudget(), is(new InliningBudget(InliningBudget.DEFAULT_MAX_INLINE_SIZE, InliningBudget.DEFAULT_FREQ_INLINE_SIZE)));
+        assertThat(new InliningBudget().equals(new InliningBudget(0, 1)), is(false));
+        assertThat(new InliningBudget().toString(), is("InliningBudget{maxInlineSize=35, freqInlineSize=325}"));
+        ObjectPropertyAssertion.of(InliningBudget.Classification.class).apply();
+        ObjectPropertyAssertion.of(InliningBudget.Report.class).apply();
+    }
+
+    @SuppressWarnings("unused")
+    public static class Foo {
+
+        public int foo() {
+            return 0;
+        }
+
+        public int bar(int a, int b) {
+            int c = a;
+            for (int i = 0; i < b; i++) {
+                c = c * 31 + i;
+                c ^= c >>> 7;
+                c += a * b - i;
+                c = c % 1024 + (c << 2) - (c >> 1);
+                c = c * 17 + (c ^ b) - (a | i) + (b & c);
+            }
+            return c;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.*;
+import java.util.jar.*;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class JarInjectorTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz", TEMP = "tmp", CLASS_FILE_EXTENSION = ".class";
+
+    private static final byte[] FIRST = new byte[]{1, 2, 3}, SECOND = new byte[]{4, 5, 6}, THIRD = new byte[]{7, 8, 9};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType firstType, secondType;
+
+    @Mock
+    private TypeDescription firstTypeDescription, secondTypeDescription, auxiliaryTypeDescription;
+
+    private File source, target;
+
+    private Manifest manifest;
+
+    private byte[] resource;
+
+    @Before
+    public void setUp() throws Exception {
+        when(firstType.getTypeDescription()).thenReturn(firstTypeDescription);
+        when(firstType.getBytes()).thenReturn(FIRST);
+        when(firstType.getRawAuxiliaryTypes()).thenReturn(Collections.singletonMap(auxiliaryTypeDescription, SECOND));
+        when(secondType.getTypeDescription()).thenReturn(secondTypeDescription);
+        when(secondType.getBytes()).thenReturn(THIRD);
+        when(secondType.getRawAuxiliaryTypes()).thenReturn(Collections.<TypeDescription, byte[]>emptyMap());
+        when(firstTypeDescription.getInternalName()).thenReturn(FOO + "/" + BAR);
+        when(auxiliaryTypeDescription.getInternalName()).thenReturn(FOO + "/" + QUX);
+        when(secondTypeDescription.getInternalName()).thenReturn(BAZ);
+        manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, BAR);
+        resource = new byte[1024];
+        Arrays.fill(resource, (byte) 42);
+        source = File.createTempFile(FOO, TEMP);
+        target = File.createTempFile(BAR, TEMP);
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(source), manifest);
+        try {
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + CLASS_FILE_EXTENSION));
+            jarOutputStream.write(THIRD);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(QUX + ".txt"));
+            jarOutputStream.write(resource);
+            jarOutputStream.closeEntry();
+            JarEntry storedEntry = new JarEntry(BAZ + ".txt");
+            storedEntry.setMethod(ZipEntry.STORED);
+            storedEntry.setSize(FIRST.length);
+            CRC32 crc32 = new CRC32();
+            crc32.update(FIRST);
+            storedEntry.setCrc(crc32.getValue());
+            jarOutputStream.putNextEntry(storedEntry);
+            jarOutputStream.write(FIRST);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(source.delete(), is(true));
+        assertThat(target.delete(), is(true));
+    }
+
+    private static byte[] read(ZipFile zipFile, String name) throws Exception {
+        ZipEntry zipEntry = zipFile.getEntry(name);
+        assertThat(zipEntry == null, is(false));
+        InputStream inputStream = zipFile.getInputStream(zipEntry);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private void assertInjected(File file) throws Exception {
+        JarFile jarFile = new JarFile(file);
+        try {
+            assertThat(jarFile.getManifest(), is(manifest));
+            assertThat(Arrays.equals(read(jarFile, FOO + "/" + BAR + CLASS_FILE_EXTENSION), FIRST), is(true));
+            assertThat(Arrays.equals(read(jarFile, FOO + "/" + QUX + CLASS_FILE_EXTENSION), SECOND), is(true));
+            assertThat(Arrays.equals(read(jarFile, BAZ + CLASS_FILE_EXTENSION), THIRD), is(true));
+            assertThat(Arrays.equals(read(jarFile, QUX + ".txt"), resource), is(true));
+            assertThat(Arrays.equals(read(jarFile, BAZ + ".txt"), FIRST), is(true));
+            assertThat(jarFile.getEntry(BAZ + ".txt").getMethod(), is(ZipEntry.STORED));
+            assertThat(jarFile.size(), is(6));
+        } finally {
+            jarFile.close();
+        }
+        JarInputStream jarInputStream = new JarInputStream(new java.io.FileInputStream(file));
+        try {
+            assertThat(jarInputStream.getManifest(), is(manifest));
+            Set<String> names = new HashSet<String>();
+            JarEntry jarEntry;
+            while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+                names.add(jarEntry.getName());
+            }
+            assertThat(names, is((Set<String>) new HashSet<String>(Arrays.asList(FOO + "/" + BAR + CLASS_FILE_EXTENSION,
+                    FOO + "/" + QUX + CLASS_FILE_EXTENSION,
+                    BAZ + CLASS_FILE_EXTENSION,
+                    QUX + ".txt",
+                    BAZ + ".txt"))));
+        } finally {
+            jarInputStream.close();
+        }
+    }
+
+    @Test
+    public void testTargetInjection() throws Exception {
+        assertThat(new JarInjector(firstType, secondType).inject(source, target), is(target));
+        assertInjected(target);
+    }
+
+    @Test
+    public void testSelfInjection() throws Exception {
+        assertThat(new JarInjector(firstType, secondType).inject(source), is(source));
+        assertInjected(source);
+    }
+
+    @Test
+    public void testSelfInjectionOfNonCanonicalFile() throws Exception {
+        File file = new File(new File(source.getParentFile(), FOO), ".." + File.separator + source.getName());
+        assertThat(new File(source.getParentFile(), FOO).mkdir(), is(true));
+        try {
+            assertThat(new JarInjector(firstType, secondType).inject(file), is(file));
+        } finally {
+            assertThat(new File(source.getParentFile(), FOO).delete(), is(true));
+        }
+        assertInjected(source);
+    }
+
+    @Test
+    public void testSelfInjectionFailureDeletesTemporaryFile() throws Exception {
+        when(secondType.getBytes()).thenThrow(new IllegalStateException());
+        try {
+            new JarInjector(firstType, secondType).inject(source);
+            throw new AssertionError("Expected injection to fail");
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        for (String name : source.getParentFile().list()) {
+            assertThat(name.startsWith(source.getName()) && !name.equals(source.getName()), is(false));
+        }
+    }
+
+    @Test
+    public void testUnchangedEntriesAreCopied() throws Exception {
+        new JarInjector(firstType, secondType).inject(source, target);
+        JarFile original = new JarFile(source), injected = new JarFile(target);
+        try {
+            ZipEntry originalEntry = original.getEntry(QUX + ".txt"), injectedEntry = injected.getEntry(QUX + ".txt");
+            assertThat(injectedEntry.getCompressedSize(), is(originalEntry.getCompressedSize()));
+            assertThat(injectedEntry.getCrc(), is(originalEntry.getCrc()));
+            assertThat(injectedEntry.getTime(), is(originalEntry.getTime()));
+        } finally {
+            original.close();
+            injected.close();
+        }
+    }
+
+    @Test
+    public void testStreamInjectionForUnreadableArchive() throws Exception {
+        RandomAccessFile archive = new RandomAccessFile(source, "rw");
+        try {
+            archive.setLength(archive.length() + 1);
+        } finally {
+            archive.close();
+        }
+        RandomAccessFile randomAccessFile = new RandomAccessFile(source, "r");
+        try {
+            assertThat(JarInjector.ArchiveEntry.of(randomAccessFile), nullValue(List.class));
+        } finally {
+            randomAccessFile.close();
+        }
+        assertThat(new JarInjector(firstType, secondType).inject(source, target), is(target));
+        JarInputStream jarInputStream = new JarInputStream(new java.io.FileInputStream(target));
+        try {
+            assertThat(jarInputStream.getManifest(), is(manifest));
+            Map<String, Integer> names = new HashMap<String, Integer>();
+            JarEntry jarEntry;
+            while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+                names.put(jarEntry.getName(), jarInputStream.read(new byte[2048]));
+            }
+            assertThat(names.get(FOO + "/" + BAR + CLASS_FILE_EXTENSION), is(FIRST.length));
+            assertThat(names.get(FOO + "/" + QUX + CLASS_FILE_EXTENSION), is(SECOND.length));
+            assertThat(names.get(BAZ + CLASS_FILE_EXTENSION), is(THIRD.length));
+            assertThat(names.size(), is(5));
+        } finally {
+            jarInputStream.close();
+        }
+    }
+
+    @Test
+    public void testModificationTime() throws Exception {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2015, Calendar.MARCH, 14, 15, 9, 26);
+        assertThat(JarInjector.ArchiveWriter.toModificationTime(calendar.getTimeInMillis()),
+                is((2015 - 1980) << 25 | 3 << 21 | 14 << 16 | 15 << 11 | 9 << 5 | 13));
+    }
+
+    @Test
+    public void testLittleEndian() throws Exception {
+        byte[] buffer = new byte[4];
+        JarInjector.ArchiveWriter.writeInt(buffer, 0, 0xCAFEBABEL);
+        assertThat(buffer[0], is((byte) 0xBE));
+        assertThat(JarInjector.ArchiveEntry.readShort(buffer, 0), is(0xBABE));
+        assertThat(JarInjector.ArchiveEntry.readUnsignedInt(buffer, 0), is(0xCAFEBABEL));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(JarInjector.class).apply();
+        JarInjector.ArchiveEntry archiveEntry = new JarInjector.ArchiveEntry(FIRST, FOO);
+        assertThat(archiveEntry.hashCode(), is(new JarInjector.ArchiveEntry(FIRST, FOO).hashCode()));
+        assertThat(archiveEntry, is(new JarInjector.ArchiveEntry(FIRST, FOO)));
+        assertThat(archiveEntry.equals(new JarInjector.ArchiveEntry(SECOND, FOO)), is(false));
+        assertThat(archiveEntry.toString(), is("JarInjector.ArchiveEntry{name='" + FOO + "', centralDirectoryEntry=<3 bytes>}"));
+    }
+}
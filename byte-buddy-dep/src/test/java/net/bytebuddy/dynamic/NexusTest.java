@@ -0,0 +1,134 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class NexusTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testRegistrationIsResolvedOnce() throws Exception {
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), FOO, BAR);
+        assertThat(Nexus.resolve(Foo.class, FOO), is((Object) BAR));
+        try {
+            Nexus.resolve(Foo.class, FOO);
+        } catch (IllegalStateException ignored) {
+            return;
+        }
+        throw new AssertionError("Expected registration to be removed");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRegistrationIsIdentified() throws Exception {
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), FOO, BAR);
+        try {
+            Nexus.resolve(Foo.class, BAR);
+        } finally {
+            Nexus.resolve(Foo.class, FOO);
+        }
+    }
+
+    @Test
+    public void testInitialization() throws Exception {
+        LoadedTypeInitializer loadedTypeInitializer = mock(LoadedTypeInitializer.class);
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), FOO, loadedTypeInitializer);
+        Nexus.initialize(Foo.class, FOO);
+        verify(loadedTypeInitializer).onLoad(Foo.class);
+        Nexus.initialize(Foo.class, FOO);
+        verify(loadedTypeInitializer).onLoad(Foo.class);
+    }
+
+    @Test
+    public void testInitializationWithoutRegistration() throws Exception {
+        LoadedTypeInitializer loadedTypeInitializer = mock(LoadedTypeInitializer.class);
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), FOO, loadedTypeInitializer);
+        Nexus.initialize(Foo.class, BAR);
+        verifyZeroInteractions(loadedTypeInitializer);
+        Nexus.resolve(Foo.class, FOO);
+    }
+
+    @Test
+    public void testInstrumentedTypeClassLoaderDefinesNexus() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(getClass().getClassLoader(),
+                Collections.<String, byte[]>emptyMap(),
+                null,
+                ByteArrayClassLoader.PersistenceHandler.LATENT);
+        Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER.register(FOO, classLoader, BAR, FOO);
+        Class<?> nexus = classLoader.loadClass(Nexus.class.getName());
+        assertThat(nexus.getClassLoader(), is(classLoader));
+        assertThat(nexus, not(is((Object) Nexus.class)));
+        assertThat(Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER.nexus(classLoader), is((Object) nexus));
+    }
+
+    @Test
+    public void testInstrumentedTypeClassLoaderNexusIsNotRetained() throws Exception {
+        WeakReference<ClassLoader> classLoader = registerWithNewClassLoader();
+        for (int attempt = 0; attempt < 100 && classLoader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(classLoader.get(), nullValue(ClassLoader.class));
+    }
+
+    private WeakReference<ClassLoader> registerWithNewClassLoader() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(getClass().getClassLoader(),
+                Collections.<String, byte[]>emptyMap(),
+                null,
+                ByteArrayClassLoader.PersistenceHandler.LATENT);
+        Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER.register(FOO, classLoader, BAR, FOO);
+        Class<?> nexus = Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER.nexus(classLoader);
+        assertThat(Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER.nexus(classLoader), sameInstance((Object) nexus));
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+    @Test
+    public void testSystemClassLoaderRegistration() throws Exception {
+        Nexus.Accessor.SYSTEM_CLASS_LOADER.register(Foo.class.getName(), Foo.class.getClassLoader(), FOO, BAR);
+        try {
+            assertThat(ClassLoader.getSystemClassLoader().loadClass(Nexus.class.getName())
+                    .getDeclaredMethod("resolve", Class.class, String.class)
+                    .invoke(null, Foo.class, FOO), is((Object) BAR));
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInstrumentedTypeClassLoaderCannotBeBootstrapClassLoader() throws Exception {
+        Nexus.Accessor.INSTRUMENTED_TYPE_CLASS_LOADER.register(FOO, null, BAR, FOO);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        final Iterator<Class<?>> iterator = Arrays.<Class<?>>asList(Object.class, NexusTest.class).iterator();
+        ObjectPropertyAssertion.of(Nexus.class).create(new ObjectPropertyAssertion.Creator<Class<?>>() {
+            @Override
+            public Class<?> create() {
+                return iterator.next();
+            }
+        }).apply();
+        ObjectPropertyAssertion.of(Nexus.Accessor.class).apply();
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+}
@@ -0,0 +1,355 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.pool.TypeScanner;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.StreamDrainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.*;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class TransformationEngineTest {
+
+    private static final String FOO = "foo", BAR = "bar", TEMP = "tmp";
+
+    private File folder, jar;
+
+    private TypePool.Default typePool;
+
+    private TransformationEngine transformationEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(FOO, TEMP);
+        assertThat(folder.delete(), is(true));
+        assertThat(folder.mkdir(), is(true));
+        jar = File.createTempFile(BAR, TEMP);
+        typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), ClassFileLocator.ForClassLoader.ofClassPath());
+        transformationEngine = new TransformationEngine(new ByteBuddy(), typePool)
+                .type(named(Foo.class.getName()), new FixedValueTransformer(FOO))
+                .type(named(Foo.class.getName()).or(named(Bar.class.getName())), new FixedValueTransformer(BAR));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delete(folder);
+        assertThat(!jar.exists() || jar.delete(), is(true));
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    private void writeFolder(Class<?>... type) throws Exception {
+        for (Class<?> aType : type) {
+            File file = new File(folder, aType.getName().replace('.', File.separatorChar) + ".class");
+            assertThat(file.getParentFile().isDirectory() || file.getParentFile().mkdirs(), is(true));
+            OutputStream outputStream = new FileOutputStream(file);
+            try {
+                outputStream.write(ClassFileExtraction.extract(aType));
+            } finally {
+                outputStream.close();
+            }
+        }
+    }
+
+    private static byte[] read(File file) throws Exception {
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            return new StreamDrainer().drain(inputStream);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private static Object invoke(Map<String, byte[]> typeDefinitions, Class<?> type) throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(TransformationEngineTest.class.getClassLoader(),
+                typeDefinitions,
+                null,
+                ByteArrayClassLoader.PersistenceHandler.MANIFEST);
+        Class<?> transformed = classLoader.loadClass(type.getName());
+        assertThat(transformed.getClassLoader(), is(classLoader));
+        return transformed.getDeclaredMethod(FOO).invoke(transformed.newInstance());
+    }
+
+    private Map<String, byte[]> readFolder() throws Exception {
+        Map<String, byte[]> typeDefinitions = new HashMap<String, byte[]>();
+        for (Class<?> type : Arrays.asList(Foo.class, Bar.class, Qux.class)) {
+            typeDefinitions.put(type.getName(), read(new File(folder, type.getName().replace('.', File.separatorChar) + ".class")));
+        }
+        return typeDefinitions;
+    }
+
+    @Test
+    public void testFolderInPlace() throws Exception {
+        writeFolder(Foo.class, Bar.class, Qux.class);
+        byte[] original = ClassFileExtraction.extract(Qux.class);
+        List<TypeDescription> transformed = transformationEngine.apply(new TypeScanner.Source.ForFolder(folder),
+                new TransformationEngine.Target.ForFolder(folder));
+        assertThat(transformed.size(), is(2));
+        assertThat(transformed.get(0).getName(), is(Bar.class.getName()));
+        assertThat(transformed.get(1).getName(), is(Foo.class.getName()));
+        Map<String, byte[]> typeDefinitions = readFolder();
+        assertThat(Arrays.equals(typeDefinitions.get(Qux.class.getName()), original), is(true));
+        assertThat(invoke(typeDefinitions, Foo.class), is((Object) FOO));
+        assertThat(invoke(typeDefinitions, Bar.class), is((Object) BAR));
+        assertThat(invoke(typeDefinitions, Qux.class), is((Object) null));
+    }
+
+    @Test
+    public void testParallelJarFile() throws Exception {
+        writeFolder(Foo.class, Bar.class, Qux.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<TypeDescription> transformed = transformationEngine.withExecutor(executorService, 2).apply(new TypeScanner.Source.ForFolder(folder),
+                    new TransformationEngine.Target.ForJarFile(jar, new Manifest()));
+            assertThat(transformed.size(), is(2));
+        } finally {
+            executorService.shutdown();
+        }
+        JarInputStream jarInputStream = new JarInputStream(new FileInputStream(jar));
+        try {
+            List<String> names = new ArrayList<String>();
+            JarEntry jarEntry;
+            while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+                names.add(jarEntry.getName());
+            }
+            assertThat(names, is(Arrays.asList(Bar.class.getName().replace('.', '/') + ".class",
+                    Foo.class.getName().replace('.', '/') + ".class")));
+        } finally {
+            jarInputStream.close();
+        }
+    }
+
+    @Test
+    public void testJarInjection() throws Exception {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, BAR);
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar), manifest);
+        try {
+            for (Class<?> type : Arrays.asList(Foo.class, Bar.class, Qux.class)) {
+                jarOutputStream.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+                jarOutputStream.write(ClassFileExtraction.extract(type));
+                jarOutputStream.closeEntry();
+            }
+        } finally {
+            jarOutputStream.close();
+        }
+        List<TypeDescription> transformed = transformationEngine.apply(new TypeScanner.Source.ForJarFile(jar),
+                new TransformationEngine.Target.ForInjection(jar, jar));
+        assertThat(transformed.size(), is(2));
+        JarFile jarFile = new JarFile(jar);
+        try {
+            assertThat(jarFile.getManifest(), is(manifest));
+            Map<String, byte[]> typeDefinitions = new HashMap<String, byte[]>();
+            for (Class<?> type : Arrays.asList(Foo.class, Bar.class, Qux.class)) {
+                InputStream inputStream = jarFile.getInputStream(jarFile.getEntry(type.getName().replace('.', '/') + ".class"));
+                try {
+                    typeDefinitions.put(type.getName(), new StreamDrainer().drain(inputStream));
+                } finally {
+                    inputStream.close();
+                }
+            }
+            assertThat(invoke(typeDefinitions, Foo.class), is((Object) FOO));
+            assertThat(invoke(typeDefinitions, Bar.class), is((Object) BAR));
+            assertThat(invoke(typeDefinitions, Qux.class), is((Object) null));
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testTransformationError() throws Exception {
+        writeFolder(Foo.class);
+        try {
+            new TransformationEngine(new ByteBuddy(), typePool).type(named(Foo.class.getName()), new AgentBuilder.Transformer() {
+                @Override
+                public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+                    throw new IllegalArgumentException();
+                }
+            }).apply(new TypeScanner.Source.ForFolder(folder), new TransformationEngine.Target.ForFolder(folder));
+            fail();
+        } catch (IllegalStateException exception) {
+            assertThat(exception.getMessage(), is("Cannot transform " + Foo.class.getName()));
+            assertThat(exception.getCause() instanceof IllegalArgumentException, is(true));
+        }
+    }
+
+    @Test
+    public void testSourceIsParsed() throws Exception {
+        writeFolder(Foo.class);
+        TypePool.Default typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), new ExcludingClassFileLocator(Foo.class));
+        List<TypeDescription> transformed = new TransformationEngine(new ByteBuddy(), typePool)
+                .type(named(Foo.class.getName()), new FixedValueTransformer(FOO))
+                .apply(new TypeScanner.Source.ForFolder(folder), new TransformationEngine.Target.ForJarFile(jar, new Manifest()));
+        assertThat(transformed.size(), is(1));
+        assertThat(transformed.get(0).getName(), is(Foo.class.getName()));
+        assertThat(typePool.describe(Foo.class.getName()).isResolved(), is(false));
+    }
+
+    @Test
+    public void testJarFileIsDeletedOnError() throws Exception {
+        writeFolder(Foo.class);
+        try {
+            new TransformationEngine(new ByteBuddy(), typePool)
+                    .type(named(Foo.class.getName()), new IllegalTransformer())
+                    .apply(new TypeScanner.Source.ForFolder(folder), new TransformationEngine.Target.ForJarFile(jar, new Manifest()));
+            fail();
+        } catch (IllegalStateException exception) {
+            assertThat(exception.getCause() instanceof IllegalArgumentException, is(true));
+        }
+        assertThat(jar.exists(), is(false));
+    }
+
+    @Test
+    public void testJarIsNotInjectedOnError() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar), new Manifest());
+        try {
+            for (Class<?> type : Arrays.asList(Foo.class, Qux.class)) {
+                jarOutputStream.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+                jarOutputStream.write(ClassFileExtraction.extract(type));
+                jarOutputStream.closeEntry();
+            }
+        } finally {
+            jarOutputStream.close();
+        }
+        byte[] original = read(jar);
+        try {
+            new TransformationEngine(new ByteBuddy(), typePool)
+                    .type(named(Foo.class.getName()), new FixedValueTransformer(FOO))
+                    .type(named(Qux.class.getName()), new IllegalTransformer())
+                    .apply(new TypeScanner.Source.ForJarFile(jar), new TransformationEngine.Target.ForInjection(jar, jar));
+            fail();
+        } catch (IllegalStateException exception) {
+            assertThat(exception.getCause() instanceof IllegalArgumentException, is(true));
+        }
+        assertThat(Arrays.equals(read(jar), original), is(true));
+    }
+
+    @Test
+    public void testLiveInitializerIsRejected() throws Exception {
+        writeFolder(Foo.class);
+        try {
+            new TransformationEngine(new ByteBuddy(), typePool).type(named(Foo.class.getName()), new AgentBuilder.Transformer() {
+                @Override
+                public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+                    return builder.method(named(FOO)).intercept(FixedValue.reference(FOO));
+                }
+            }).apply(new TypeScanner.Source.ForFolder(folder), new TransformationEngine.Target.ForJarFile(jar, new Manifest()));
+            fail();
+        } catch (IllegalStateException exception) {
+            assertThat(exception.getCause() instanceof IllegalStateException, is(true));
+        }
+        assertThat(jar.exists(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalPendingCount() throws Exception {
+        transformationEngine.withExecutor(TransformationEngine.DirectExecutor.INSTANCE, 0);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TransformationEngine.class).apply();
+        ObjectPropertyAssertion.of(TransformationEngine.Rule.class).apply();
+        ObjectPropertyAssertion.of(TransformationEngine.Target.ForFolder.class).apply();
+        ObjectPropertyAssertion.of(TransformationEngine.Target.ForJarFile.class).apply();
+        ObjectPropertyAssertion.of(TransformationEngine.Target.ForInjection.class).apply();
+        ObjectPropertyAssertion.of(TransformationEngine.NameComparator.class).apply();
+        ObjectPropertyAssertion.of(TransformationEngine.DirectExecutor.class).apply();
+        TransformationEngine.ForClassFile forClassFile = new TransformationEngine.ForClassFile(FOO, new byte[]{1});
+        assertThat(forClassFile.hashCode(), is(new TransformationEngine.ForClassFile(FOO, new byte[]{1}).hashCode()));
+        assertThat(forClassFile, is((Object) new TransformationEngine.ForClassFile(FOO, new byte[]{1})));
+        assertThat(forClassFile.equals(new TransformationEngine.ForClassFile(FOO, new byte[]{2})), is(false));
+        assertThat(forClassFile.locate(FOO).isResolved(), is(true));
+        assertThat(forClassFile.locate(BAR).isResolved(), is(false));
+    }
+
+    public static class Foo {
+
+        public String foo() {
+            return null;
+        }
+    }
+
+    public static class Bar extends Foo {
+
+        @Override
+        public String foo() {
+            return null;
+        }
+    }
+
+    public static class Qux {
+
+        public String foo() {
+            return null;
+        }
+    }
+
+    private static class ExcludingClassFileLocator implements ClassFileLocator {
+
+        private final Class<?> excluded;
+
+        private ExcludingClassFileLocator(Class<?> excluded) {
+            this.excluded = excluded;
+        }
+
+        @Override
+        public Resolution locate(String typeName) throws IOException {
+            return typeName.equals(excluded.getName())
+                    ? Resolution.Illegal.INSTANCE
+                    : ClassFileLocator.ForClassLoader.ofClassPath().locate(typeName);
+        }
+    }
+
+    private static class IllegalTransformer implements AgentBuilder.Transformer {
+
+        @Override
+        public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private static class FixedValueTransformer implements AgentBuilder.Transformer {
+
+        private final String value;
+
+        private FixedValueTransformer(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+            return builder.method(named(FOO)).intercept(FixedValue.value(value));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeTemplateTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static final String NAME = "net.bytebuddy.test.Template", OTHER_NAME = "net.bytebuddy.test.OtherTemplate";
+
+    private DynamicType.Unloaded<Foo> dynamicType;
+
+    @Before
+    public void setUp() throws Exception {
+        dynamicType = new ByteBuddy()
+                .subclass(Foo.class)
+                .name(NAME)
+                .method(named(FOO)).intercept(FixedValue.value(QUX))
+                .method(named(BAR)).intercept(MethodDelegation.to(Interceptor.class))
+                .make();
+    }
+
+    @Test
+    public void testTemplateName() throws Exception {
+        assertThat(new TypeTemplate<Foo>(dynamicType).getName(), is(NAME));
+    }
+
+    @Test
+    public void testRenamedType() throws Exception {
+        DynamicType.Unloaded<Foo> renamed = new TypeTemplate<Foo>(dynamicType).make(OTHER_NAME);
+        assertThat(renamed.getTypeDescription().getName(), is(OTHER_NAME));
+        assertThat(renamed.getRawAuxiliaryTypes().size(), is(dynamicType.getRawAuxiliaryTypes().size()));
+        Class<? extends Foo> type = renamed.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(type.getName(), is(OTHER_NAME));
+        Foo instance = type.newInstance();
+        assertThat(instance.foo(), is(QUX));
+        assertThat(instance.bar(), is(QUX + BAR));
+    }
+
+    @Test
+    public void testRenamedTypesInSameClassLoader() throws Exception {
+        TypeTemplate<Foo> typeTemplate = new TypeTemplate<Foo>(dynamicType);
+        ClassLoader classLoader = typeTemplate.make(NAME + FOO)
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .getClassLoader();
+        Class<? extends Foo> type = typeTemplate.make(NAME + BAR)
+                .load(classLoader, ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+        assertThat(type.getClassLoader(), is(classLoader));
+        assertThat(type.newInstance().foo(), is(QUX));
+        assertThat(type.newInstance().bar(), is(QUX + BAR));
+        assertThat(classLoader.loadClass(NAME + FOO), not(is((Object) type)));
+    }
+
+    @Test
+    public void testRenamedTypeDoesNotReferenceTemplate() throws Exception {
+        DynamicType.Unloaded<Foo> renamed = new TypeTemplate<Foo>(dynamicType).make(OTHER_NAME);
+        for (byte[] binaryRepresentation : renamed.getAllTypes().values()) {
+            assertThat(new String(binaryRepresentation, "ISO-8859-1").contains(NAME.replace('.', '/')), is(false));
+        }
+    }
+
+    @Test
+    public void testRenamedTypeDescription() throws Exception {
+        DynamicType.Unloaded<Foo> dynamicType = new ByteBuddy()
+                .subclass(Foo.class)
+                .name(NAME)
+                .defineField(QUX, Foo.class, Visibility.PUBLIC)
+                .make();
+        TypeDescription typeDescription = new TypeTemplate<Foo>(dynamicType).make(OTHER_NAME).getTypeDescription();
+        assertThat(typeDescription.getName(), is(OTHER_NAME));
+        assertThat(typeDescription.getSuperType().asRawType().represents(Foo.class), is(true));
+        assertThat(typeDescription.getDeclaredFields().size(), is(1));
+        assertThat(typeDescription.getDeclaredFields().getOnly().getName(), is(QUX));
+        assertThat(typeDescription.getDeclaredFields().getOnly().getDeclaringType(), is((GenericTypeDescription) typeDescription));
+        assertThat(typeDescription.getDeclaredMethods().size(), is(dynamicType.getTypeDescription().getDeclaredMethods().size()));
+        assertThat(typeDescription.getDeclaredMethods().filter(isConstructor()).getOnly().getDeclaringType(), is((GenericTypeDescription) typeDescription));
+    }
+
+    @Test
+    public void testLiveLoadedTypeInitializer() throws Exception {
+        Object value = new Object();
+        TypeTemplate<Foo> typeTemplate = new TypeTemplate<Foo>(new ByteBuddy()
+                .subclass(Foo.class)
+                .name(NAME)
+                .method(named(FOO)).intercept(MethodDelegation.to(new InstanceInterceptor(QUX)))
+                .method(named(BAR)).intercept(InvocationHandlerAdapter.of(new Handler(BAR)))
+                .defineMethod(QUX, Object.class, Collections.<Class<?>>emptyList(), Visibility.PUBLIC).intercept(FixedValue.value(value))
+                .make());
+        for (String name : Arrays.asList(NAME + FOO, NAME + BAR)) {
+            Class<? extends Foo> type = typeTemplate.make(name)
+                    .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded();
+            Foo instance = type.newInstance();
+            assertThat(instance.foo(), is(QUX));
+            assertThat(instance.bar(), is(BAR));
+            assertThat(type.getDeclaredMethod(QUX).invoke(instance), is(value));
+        }
+    }
+
+    @Test
+    public void testPerCopyLoadedTypeInitializer() throws Exception {
+        TypeTemplate<Foo> typeTemplate = new TypeTemplate<Foo>(new ByteBuddy()
+                .subclass(Foo.class)
+                .name(NAME)
+                .defineField(QUX, String.class, Visibility.PUBLIC, Ownership.STATIC)
+                .make());
+        Class<? extends Foo> first = typeTemplate.make(NAME + FOO, LoadedTypeInitializer.ForStaticField.accessible(QUX, FOO))
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Class<? extends Foo> second = typeTemplate.make(NAME + BAR, LoadedTypeInitializer.ForStaticField.accessible(QUX, BAR))
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(first.getDeclaredField(QUX).get(null), is((Object) FOO));
+        assertThat(second.getDeclaredField(QUX).get(null), is((Object) BAR));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalName() throws Exception {
+        new TypeTemplate<Foo>(dynamicType).make(FOO + "." + "#");
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeTemplate.class).create(new ObjectPropertyAssertion.Creator<DynamicType.Unloaded<?>>() {
+            @Override
+            public DynamicType.Unloaded<?> create() {
+                return new ByteBuddy().subclass(Object.class).make();
+            }
+        }).apply();
+        TypeTemplate.Blueprint blueprint = new TypeTemplate.Blueprint(dynamicType.getTypeDescription(), dynamicType.getBytes(), LoadedTypeInitializer.NoOp.INSTANCE);
+        assertThat(blueprint.hashCode(), is(new TypeTemplate.Blueprint(dynamicType.getTypeDescription(), dynamicType.getBytes(), LoadedTypeInitializer.NoOp.INSTANCE).hashCode()));
+        assertThat(blueprint, is(new TypeTemplate.Blueprint(dynamicType.getTypeDescription(), dynamicType.getBytes(), LoadedTypeInitializer.NoOp.INSTANCE)));
+        assertThat(blueprint, not(is(new TypeTemplate.Blueprint(dynamicType.getTypeDescription(), ClassFileExtraction.extract(Foo.class), LoadedTypeInitializer.NoOp.INSTANCE))));
+        assertThat(blueprint.toString(), is("TypeTemplate.Blueprint{typeDescription=" + dynamicType.getTypeDescription()
+                + ", binaryRepresentation=<" + dynamicType.getBytes().length + " bytes>"
+                + ", loadedTypeInitializer=" + LoadedTypeInitializer.NoOp.INSTANCE + "}"));
+    }
+
+    public static class Foo {
+
+        public String foo() {
+            return FOO;
+        }
+
+        public String bar() {
+            return BAR;
+        }
+    }
+
+    public static class InstanceInterceptor {
+
+        private final String value;
+
+        public InstanceInterceptor(String value) {
+            this.value = value;
+        }
+
+        public String intercept() {
+            return value;
+        }
+    }
+
+    public static class Handler implements InvocationHandler {
+
+        private final String value;
+
+        public Handler(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            return value;
+        }
+    }
+
+    public static class Interceptor {
+
+        public static String intercept(@SuperCall Callable<String> zuper) throws Exception {
+            return QUX + zuper.call();
+        }
+    }
+}
@@ -11,12 +11,14 @@ import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.StubMethod;
 import net.bytebuddy.implementation.SuperMethodCall;
 import net.bytebuddy.implementation.bytecode.constant.TextConstant;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.test.scope.GenericType;
 import net.bytebuddy.test.utility.*;
+import org.hamcrest.CoreMatchers;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -32,6 +34,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static junit.framework.TestCase.assertEquals;
 import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
@@ -45,7 +51,7 @@ import static org.junit.Assert.assertNotEquals;
 
 public class SubclassDynamicTypeBuilderTest extends AbstractDynamicTypeBuilderTest {
 
-    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", TO_STRING = "toString";
 
     private static final String DEFAULT_METHOD_INTERFACE = "net.bytebuddy.test.precompiled.SingleDefaultMethodInterface";
 
@@ -288,6 +294,31 @@ public class SubclassDynamicTypeBuilderTest extends AbstractDynamicTypeBuilderTe
         assertThat(type.getDeclaredMethods().length, is(0));
     }
 
+    @Test
+    public void testExecutorOfConfiguration() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        final AtomicInteger executions = new AtomicInteger();
+        try {
+            DynamicType.Unloaded<?> dynamicType = new ByteBuddy()
+                    .withExecutor(new Executor() {
+                        @Override
+                        public void execute(Runnable command) {
+                            executions.incrementAndGet();
+                            executorService.execute(command);
+                        }
+                    })
+                    .subclass(Object.class)
+                    .method(named(TO_STRING)).intercept(MethodDelegation.to(Baz.class))
+                    .make();
+            assertThat(executions.get(), is(2));
+            assertThat(dynamicType.getRawAuxiliaryTypes().size(), is(2));
+            Class<?> type = dynamicType.load(Baz.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST).getLoaded();
+            assertThat(type.newInstance().toString(), CoreMatchers.startsWith(FOO));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void testDoesNotOverrideMethodWithPackagePrivateArgumentType() throws Exception {
         Map<String, byte[]> types = new HashMap<String, byte[]>();
@@ -62,6 +62,7 @@ public abstract class AbstractImplementationTest {
                 MethodLookupEngine.Default.Factory.INSTANCE,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
+                null,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
                 .invokable(targetMethods).intercept(implementation)
                 .make()
@@ -39,9 +39,19 @@ public class FixedValueObjectPropertiesTest {
         assertThat(FixedValue.reference(FOO, QUX), not(is(FixedValue.reference(BAR, QUX))));
     }
 
+    @Test
+    public void testFinalReferenceValue() throws Exception {
+        assertThat(FixedValue.finalReference(FOO).hashCode(), is(FixedValue.finalReference(FOO).hashCode()));
+        assertThat(FixedValue.finalReference(FOO), is(FixedValue.finalReference(FOO)));
+        assertThat(FixedValue.finalReference(FOO), not(is(FixedValue.reference(FOO))));
+        assertThat(FixedValue.finalReference(FOO, QUX), is(FixedValue.finalReference(FOO, QUX)));
+        assertThat(FixedValue.finalReference(FOO, QUX), not(is(FixedValue.finalReference(BAR, QUX))));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(FixedValue.ForPoolValue.class).skipSynthetic().apply();
         ObjectPropertyAssertion.of(FixedValue.ForStaticField.class).apply();
+        ObjectPropertyAssertion.of(FixedValue.ForStaticFinalField.Registration.class).apply();
     }
 }
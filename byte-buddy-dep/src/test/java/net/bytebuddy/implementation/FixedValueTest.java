@@ -1,7 +1,9 @@
 package net.bytebuddy.implementation;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.test.utility.CallTraceable;
 import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.utility.JavaInstance;
@@ -11,6 +13,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
 
+import java.lang.reflect.Modifier;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -19,7 +24,7 @@ import static org.junit.Assert.assertNotEquals;
 
 public class FixedValueTest extends AbstractImplementationTest {
 
-    private static final String BAR = "bar";
+    private static final String BAR = "bar", QUX = "qux";
 
     @Rule
     public MethodRule javaVersionRule = new JavaVersionRule();
@@ -97,6 +102,30 @@ public class FixedValueTest extends AbstractImplementationTest {
         assertType(implement(Foo.class, FixedValue.value(bar)));
     }
 
+    @Test
+    public void testFinalReferenceCall() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, FixedValue.finalReference(bar));
+        assertType(loaded);
+        assertThat(Modifier.isFinal(loaded.getLoaded().getDeclaredFields()[0].getModifiers()), is(true));
+        assertThat(Modifier.isStatic(loaded.getLoaded().getDeclaredFields()[0].getModifiers()), is(true));
+    }
+
+    @Test
+    public void testFinalReferenceCallWithMultipleFields() throws Exception {
+        Bar other = new Bar();
+        Class<? extends Baz> type = new ByteBuddy()
+                .subclass(Baz.class)
+                .method(named(BAR)).intercept(FixedValue.finalReference(other, BAR))
+                .method(named(QUX)).intercept(FixedValue.finalReference(bar, QUX))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(type.getDeclaredFields().length, is(2));
+        Baz instance = type.newInstance();
+        assertThat(instance.bar(), is(other));
+        assertThat(instance.qux(), is(bar));
+    }
+
     private void assertType(DynamicType.Loaded<Foo> loaded) throws Exception {
         assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
         assertThat(loaded.getLoaded().getDeclaredMethods().length, is(1));
@@ -116,6 +145,17 @@ public class FixedValueTest extends AbstractImplementationTest {
         }
     }
 
+    public static class Baz {
+
+        public Bar bar() {
+            return null;
+        }
+
+        public Bar qux() {
+            return null;
+        }
+    }
+
     public static class Bar {
         /* empty */
     }
@@ -24,12 +24,16 @@ import org.junit.rules.TestRule;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
@@ -41,6 +45,8 @@ public class ImplementationContextDefaultTest {
 
     private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz";
 
+    private static final int MODIFIERS = 42;
+
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
 
@@ -95,6 +101,9 @@ public class ImplementationContextDefaultTest {
     @Mock
     private AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy;
 
+    @Mock
+    private Executor executor;
+
     @Mock
     private TypeDescription firstSpecialType, secondSpecialType, firstSpecialReturnType, secondSpecialReturnType,
             firstSpecialParameterType, secondSpecialParameterType, firstSpecialExceptionType, secondSpecialExceptionType,
@@ -616,6 +625,121 @@ public class ImplementationContextDefaultTest {
         verify(methodVisitor).visitEnd();
     }
 
+    @Test
+    public void testPreparedAuxiliaryTypeIsCreatedOnce() throws Exception {
+        Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                classFileVersion);
+        when(entry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.IMPLEMENT);
+        doAnswer(new Registration(auxiliaryType)).when(entry)
+                .apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        implementationContext.prepare(Arrays.asList(firstSpecialMethod, secondSpecialMethod), methodPool, executor);
+        assertThat(implementationContext.getRegisteredAuxiliaryTypes().size(), is(0));
+        assertThat(implementationContext.register(auxiliaryType), is(firstDescription));
+        assertThat(implementationContext.getRegisteredAuxiliaryTypes().size(), is(1));
+        assertThat(implementationContext.getRegisteredAuxiliaryTypes().contains(firstDynamicType), is(true));
+        verify(auxiliaryType).make(any(String.class), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class));
+        verifyNoMoreInteractions(auxiliaryType);
+        verify(entry, times(4)).apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        verify(executor).execute(any(Runnable.class));
+        verifyNoMoreInteractions(executor);
+    }
+
+    @Test
+    public void testPreparationDiscoversAllAuxiliaryTypesOfMethod() throws Exception {
+        Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                classFileVersion);
+        when(entry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.IMPLEMENT);
+        doAnswer(new Registration(auxiliaryType, otherAuxiliaryType)).when(entry)
+                .apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        implementationContext.prepare(Collections.singletonList(firstSpecialMethod), methodPool, executor);
+        verify(entry, times(2)).apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        verify(executor, times(2)).execute(any(Runnable.class));
+        verifyNoMoreInteractions(executor);
+        verifyZeroInteractions(auxiliaryType);
+        verifyZeroInteractions(otherAuxiliaryType);
+        assertThat(implementationContext.register(auxiliaryType), is(firstDescription));
+        assertThat(implementationContext.register(otherAuxiliaryType), is(secondDescription));
+        assertThat(implementationContext.getRegisteredAuxiliaryTypes(), is(Arrays.asList(firstDynamicType, secondDynamicType)));
+    }
+
+    @Test
+    public void testDiscoveredTypeIsResolvedLazily() throws Exception {
+        Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                classFileVersion);
+        when(auxiliaryTypeNamingStrategy.name(auxiliaryType, instrumentedType)).thenReturn(FOO);
+        when(firstDescription.getModifiers()).thenReturn(MODIFIERS);
+        when(entry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.IMPLEMENT);
+        Registration registration = new Registration(auxiliaryType);
+        doAnswer(registration).when(entry).apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        implementationContext.prepare(Collections.singletonList(firstSpecialMethod), methodPool, executor);
+        TypeDescription discoveredType = registration.getRegistered();
+        assertThat(discoveredType.getName(), is(FOO));
+        verifyZeroInteractions(auxiliaryType);
+        assertThat(discoveredType.getModifiers(), is(MODIFIERS));
+        verify(auxiliaryType).make(FOO, classFileVersion, implementationContext);
+        assertThat(implementationContext.register(auxiliaryType), is(firstDescription));
+        verifyNoMoreInteractions(auxiliaryType);
+    }
+
+    @Test
+    public void testPreparedAuxiliaryTypesRetainRegistrationOrder() throws Exception {
+        Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                classFileVersion);
+        when(otherAuxiliaryType.make(any(String.class), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class)))
+                .thenReturn(secondDynamicType);
+        when(secondDynamicType.getTypeDescription()).thenReturn(secondDescription);
+        when(methodPool.target(firstSpecialMethod)).thenReturn(entry);
+        when(methodPool.target(secondSpecialMethod)).thenReturn(otherEntry);
+        when(entry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.IMPLEMENT);
+        when(otherEntry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.IMPLEMENT);
+        doAnswer(new Registration(otherAuxiliaryType)).when(entry)
+                .apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        doAnswer(new Registration(auxiliaryType)).when(otherEntry)
+                .apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        implementationContext.prepare(Arrays.asList(firstSpecialMethod, secondSpecialMethod), methodPool, executor);
+        assertThat(implementationContext.register(auxiliaryType), is(firstDescription));
+        assertThat(implementationContext.register(otherAuxiliaryType), is(secondDescription));
+        assertThat(implementationContext.getRegisteredAuxiliaryTypes(), is(Arrays.asList(firstDynamicType, secondDynamicType)));
+        verify(auxiliaryType).make(any(String.class), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class));
+        verify(otherAuxiliaryType).make(any(String.class), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class));
+    }
+
+    @Test
+    public void testPreparationSkipsUnimplementedMethods() throws Exception {
+        Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                classFileVersion);
+        when(entry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.SKIP);
+        implementationContext.prepare(Collections.singletonList(firstSpecialMethod), methodPool, executor);
+        verify(entry).getSort();
+        verifyNoMoreInteractions(entry);
+        verifyZeroInteractions(executor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPreparationExceptionIsRethrownOnRegistration() throws Exception {
+        Implementation.Context.Default implementationContext = new Implementation.Context.Default(instrumentedType,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                classFileVersion);
+        when(auxiliaryType.make(any(String.class), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class)))
+                .thenThrow(new IllegalArgumentException());
+        when(entry.getSort()).thenReturn(TypeWriter.MethodPool.Entry.Sort.IMPLEMENT);
+        doAnswer(new Registration(auxiliaryType)).when(entry)
+                .apply(any(ClassVisitor.class), any(Implementation.Context.class), any(MethodDescription.class));
+        implementationContext.prepare(Collections.singletonList(firstSpecialMethod), methodPool, executor);
+        implementationContext.register(auxiliaryType);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(Implementation.Context.Default.class).applyBasic();
@@ -624,4 +748,27 @@ public class ImplementationContextDefaultTest {
         ObjectPropertyAssertion.of(Implementation.Context.Default.FieldSetterDelegation.class).apply();
         ObjectPropertyAssertion.of(Implementation.Context.Default.FieldGetterDelegation.class).apply();
     }
+
+    private static class Registration implements Answer<Void> {
+
+        private final AuxiliaryType[] auxiliaryType;
+
+        private TypeDescription registered;
+
+        private Registration(AuxiliaryType... auxiliaryType) {
+            this.auxiliaryType = auxiliaryType;
+        }
+
+        @Override
+        public Void answer(InvocationOnMock invocation) throws Throwable {
+            for (AuxiliaryType auxiliaryType : this.auxiliaryType) {
+                registered = ((Implementation.Context) invocation.getArguments()[1]).register(auxiliaryType);
+            }
+            return null;
+        }
+
+        private TypeDescription getRegistered() {
+            return registered;
+        }
+    }
 }
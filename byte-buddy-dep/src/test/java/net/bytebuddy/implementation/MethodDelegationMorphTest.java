@@ -16,7 +16,9 @@ import java.io.Serializable;
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 public class MethodDelegationMorphTest extends AbstractImplementationTest {
 
@@ -75,6 +77,70 @@ public class MethodDelegationMorphTest extends AbstractImplementationTest {
         assertThat(instance.foo(FOO), is(QUX + BAR));
     }
 
+    @Test
+    public void testMorphThreadLocal() throws Exception {
+        ThreadLocalMorph threadLocalMorph = new ThreadLocalMorph(QUX);
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(threadLocalMorph)
+                .appendParameterBinder(Morph.Binder.install(Morphing.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(FOO), is(QUX + BAR));
+        Object morphing = threadLocalMorph.morphing;
+        assertThat(loaded.getLoaded().newInstance().foo(FOO), is(QUX + BAR));
+        assertThat(threadLocalMorph.morphing, sameInstance(morphing));
+    }
+
+    @Test
+    public void testMorphThreadLocalStaticInterceptor() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(ThreadLocalStaticMorph.class)
+                .appendParameterBinder(Morph.Binder.install(Morphing.class)));
+        assertThat(loaded.getLoaded().newInstance().foo(FOO), is(QUX + BAR));
+    }
+
+    @Test
+    public void testMorphThreadLocalIsReleasedWithoutMorphing() throws Exception {
+        NonMorphingThreadLocalMorph threadLocalMorph = new NonMorphingThreadLocalMorph();
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(threadLocalMorph)
+                .appendParameterBinder(Morph.Binder.install(Morphing.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(FOO), is(QUX));
+        Object morphing = threadLocalMorph.morphing;
+        assertThat(instance.foo(FOO), is(QUX));
+        assertThat(threadLocalMorph.morphing, sameInstance(morphing));
+    }
+
+    @Test
+    public void testMorphThreadLocalIsReleasedOnException() throws Exception {
+        ThrowingThreadLocalMorph threadLocalMorph = new ThrowingThreadLocalMorph();
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(threadLocalMorph)
+                .appendParameterBinder(Morph.Binder.install(Morphing.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        try {
+            instance.foo(FOO);
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        Object morphing = threadLocalMorph.morphing;
+        assertThat(instance.foo(FOO), is(QUX + BAR));
+        assertThat(threadLocalMorph.morphing, sameInstance(morphing));
+    }
+
+    @Test
+    public void testMorphThreadLocalReentrant() throws Exception {
+        ReentrantThreadLocalMorph threadLocalMorph = new ReentrantThreadLocalMorph();
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(threadLocalMorph)
+                .appendParameterBinder(Morph.Binder.install(Morphing.class)));
+        threadLocalMorph.instance = loaded.getLoaded().newInstance();
+        assertThat(threadLocalMorph.instance.foo(FOO), is(BAR + BAR + QUX + BAR));
+        assertThat(threadLocalMorph.nestedMorphing, CoreMatchers.not(sameInstance(threadLocalMorph.morphing)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMorphThreadLocalSerializableThrowsException() throws Exception {
+        implement(Foo.class, MethodDelegation.to(SimpleMorphThreadLocalSerializable.class)
+                .appendParameterBinder(Morph.Binder.install(Morphing.class)));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testMorphIllegal() throws Exception {
         implement(Foo.class, MethodDelegation.to(SimpleMorphIllegal.class)
@@ -225,4 +291,75 @@ public class MethodDelegationMorphTest extends AbstractImplementationTest {
             return null;
         }
     }
+
+    public static class ThreadLocalMorph {
+
+        private final Object[] arguments;
+
+        private Object morphing;
+
+        public ThreadLocalMorph(Object... arguments) {
+            this.arguments = arguments;
+        }
+
+        public String intercept(@Morph(threadLocalProxy = true) Morphing<String> morphing) {
+            this.morphing = morphing;
+            return morphing.morph(arguments);
+        }
+    }
+
+    public static class NonMorphingThreadLocalMorph {
+
+        private Object morphing;
+
+        public String intercept(@Morph(threadLocalProxy = true) Morphing<String> morphing) {
+            this.morphing = morphing;
+            return QUX;
+        }
+    }
+
+    public static class ThrowingThreadLocalMorph {
+
+        private Object morphing;
+
+        public String intercept(@Morph(threadLocalProxy = true) Morphing<String> morphing) {
+            if (this.morphing == null) {
+                this.morphing = morphing;
+                throw new IllegalStateException();
+            }
+            this.morphing = morphing;
+            return morphing.morph(QUX);
+        }
+    }
+
+    public static class ReentrantThreadLocalMorph {
+
+        private Foo instance;
+
+        private Object morphing, nestedMorphing;
+
+        public String intercept(@Morph(threadLocalProxy = true) Morphing<String> morphing) {
+            if (this.morphing != null) {
+                nestedMorphing = morphing;
+                return morphing.morph(BAR);
+            }
+            this.morphing = morphing;
+            String nested = instance.foo(FOO);
+            return nested + morphing.morph(QUX);
+        }
+    }
+
+    public static class ThreadLocalStaticMorph {
+
+        public static String intercept(@Morph(threadLocalProxy = true) Morphing<String> morphing) {
+            return morphing.morph(QUX);
+        }
+    }
+
+    public static class SimpleMorphThreadLocalSerializable {
+
+        public static String intercept(@Morph(serializableProxy = true, threadLocalProxy = true) Morphing<String> morphing) {
+            return null;
+        }
+    }
 }
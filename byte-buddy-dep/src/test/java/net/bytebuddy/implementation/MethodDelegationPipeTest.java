@@ -3,14 +3,20 @@ package net.bytebuddy.implementation;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.bind.annotation.Pipe;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.test.utility.CallTraceable;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.concurrent.Callable;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 public class MethodDelegationPipeTest extends AbstractImplementationTest {
 
@@ -60,6 +66,151 @@ public class MethodDelegationPipeTest extends AbstractImplementationTest {
         assertThat(instance.foo(QUX), is(FOO + QUX));
     }
 
+    @Test
+    public void testPipeThreadLocal() throws Exception {
+        ThreadLocalForwardingInterceptor interceptor = new ThreadLocalForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+        Object pipe = interceptor.pipe;
+        assertThat(instance.foo(BAR), is(FOO + BAR));
+        assertThat(interceptor.pipe, sameInstance(pipe));
+    }
+
+    @Test
+    public void testPipeThreadLocalIsThreadConfined() throws Exception {
+        final ThreadLocalForwardingInterceptor interceptor = new ThreadLocalForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        final Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+        Object pipe = interceptor.pipe;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                instance.foo(BAR);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertThat(interceptor.pipe, not(sameInstance(pipe)));
+    }
+
+    @Test
+    public void testPipeThreadLocalIsReleased() throws Exception {
+        ThreadLocalForwardingInterceptor interceptor = new ThreadLocalForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+        for (Field field : interceptor.pipe.getClass().getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                assertThat(field.get(interceptor.pipe), anyOf(nullValue(), is((Object) false)));
+            }
+        }
+    }
+
+    @Test
+    public void testPipeThreadLocalIsReleasedWithoutForwarding() throws Exception {
+        NonForwardingThreadLocalInterceptor interceptor = new NonForwardingThreadLocalInterceptor();
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(BAR));
+        Object pipe = interceptor.pipe;
+        assertThat(instance.foo(QUX), is(BAR));
+        assertThat(interceptor.pipe, sameInstance(pipe));
+        assertReleased(pipe);
+    }
+
+    @Test
+    public void testPipeThreadLocalIsReleasedOnException() throws Exception {
+        ThrowingThreadLocalForwardingInterceptor interceptor = new ThrowingThreadLocalForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        try {
+            instance.foo(QUX);
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        Object pipe = interceptor.pipe;
+        assertReleased(pipe);
+        assertThat(instance.foo(BAR), is(FOO + BAR));
+        assertThat(interceptor.pipe, sameInstance(pipe));
+    }
+
+    @Test
+    public void testPipeThreadLocalChained() throws Exception {
+        ThreadLocalForwardingInterceptor interceptor = new ThreadLocalForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class))
+                .andThen(new Implementation.Simple(new TextConstant(BAR), MethodReturn.REFERENCE)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(BAR));
+        Object pipe = interceptor.pipe;
+        assertReleased(pipe);
+        assertThat(instance.foo(QUX), is(BAR));
+        assertThat(interceptor.pipe, sameInstance(pipe));
+    }
+
+    @Test
+    public void testPipeThreadLocalDoesNotRetainClassLoader() throws Exception {
+        WeakReference<ClassLoader> classLoader = implementAndInvokeThreadLocalPipe();
+        for (int attempt = 0; attempt < 100 && classLoader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(classLoader.get(), nullValue(ClassLoader.class));
+    }
+
+    private WeakReference<ClassLoader> implementAndInvokeThreadLocalPipe() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(StaticThreadLocalForwardingInterceptor.class)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        assertThat(loaded.getLoaded().newInstance().foo(QUX), is(FOO + QUX));
+        return new WeakReference<ClassLoader>(loaded.getLoaded().getClassLoader());
+    }
+
+    private static void assertReleased(Object pipe) throws Exception {
+        for (Field field : pipe.getClass().getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                assertThat(field.get(pipe), anyOf(nullValue(), is((Object) false)));
+            }
+        }
+    }
+
+    @Test
+    public void testPipeThreadLocalReentrant() throws Exception {
+        ReentrantThreadLocalForwardingInterceptor interceptor = new ReentrantThreadLocalForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        interceptor.instance = loaded.getLoaded().newInstance();
+        assertThat(interceptor.instance.foo(QUX), is(FOO + BAR + FOO + QUX));
+        assertThat(interceptor.nestedPipe, not(sameInstance(interceptor.pipe)));
+    }
+
+    @Test
+    public void testPipeThreadLocalMethodNamedGet() throws Exception {
+        GetForwardingInterceptor interceptor = new GetForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(GetForwardingType.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+        Object pipe = interceptor.pipe;
+        assertThat(instance.foo(BAR), is(FOO + BAR));
+        assertThat(interceptor.pipe, sameInstance(pipe));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPipeThreadLocalSerializableThrowsException() throws Exception {
+        implement(Foo.class, MethodDelegation.to(SerializableThreadLocalForwardingInterceptor.class)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+    }
+
     @Test(expected = ClassCastException.class)
     public void testPipeToIncompatibleTypeThrowsException() throws Exception {
         DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(new ForwardingInterceptor(new Object()))
@@ -109,6 +260,11 @@ public class MethodDelegationPipeTest extends AbstractImplementationTest {
         S doPipe(T target);
     }
 
+    public interface GetForwardingType<T, S> {
+
+        S get(T target);
+    }
+
     public interface InheritingForwardingType extends ForwardingType<Object, Object> {
         /* empty */
     }
@@ -211,4 +367,103 @@ public class MethodDelegationPipeTest extends AbstractImplementationTest {
             return pipe.doPipe(target);
         }
     }
+
+    public static class ThreadLocalForwardingInterceptor {
+
+        private final Object target;
+
+        private volatile Object pipe;
+
+        public ThreadLocalForwardingInterceptor(Object target) {
+            this.target = target;
+        }
+
+        public String intercept(@Pipe(threadLocalProxy = true) ForwardingType<Object, String> pipe) {
+            this.pipe = pipe;
+            return pipe.doPipe(target);
+        }
+    }
+
+    public static class NonForwardingThreadLocalInterceptor {
+
+        private Object pipe;
+
+        public String intercept(@Pipe(threadLocalProxy = true) ForwardingType<Object, String> pipe) {
+            this.pipe = pipe;
+            return BAR;
+        }
+    }
+
+    public static class ThrowingThreadLocalForwardingInterceptor {
+
+        private final Object target;
+
+        private Object pipe;
+
+        public ThrowingThreadLocalForwardingInterceptor(Object target) {
+            this.target = target;
+        }
+
+        public String intercept(@Pipe(threadLocalProxy = true) ForwardingType<Object, String> pipe) {
+            if (this.pipe == null) {
+                this.pipe = pipe;
+                throw new IllegalStateException();
+            }
+            this.pipe = pipe;
+            return pipe.doPipe(target);
+        }
+    }
+
+    public static class StaticThreadLocalForwardingInterceptor {
+
+        public static String intercept(@Pipe(threadLocalProxy = true) ForwardingType<Object, String> pipe) {
+            return pipe.doPipe(new Foo(FOO));
+        }
+    }
+
+    public static class ReentrantThreadLocalForwardingInterceptor {
+
+        private final Object target;
+
+        private Foo instance;
+
+        private Object pipe, nestedPipe;
+
+        public ReentrantThreadLocalForwardingInterceptor(Object target) {
+            this.target = target;
+        }
+
+        public String intercept(@Pipe(threadLocalProxy = true) ForwardingType<Object, String> pipe) {
+            if (this.pipe != null) {
+                nestedPipe = pipe;
+                return pipe.doPipe(target);
+            }
+            this.pipe = pipe;
+            String nested = instance.foo(BAR);
+            return nested + pipe.doPipe(target);
+        }
+    }
+
+    public static class GetForwardingInterceptor {
+
+        private final Object target;
+
+        private Object pipe;
+
+        public GetForwardingInterceptor(Object target) {
+            this.target = target;
+        }
+
+        public String intercept(@Pipe(threadLocalProxy = true) GetForwardingType<Object, String> pipe) {
+            this.pipe = pipe;
+            return pipe.get(target);
+        }
+    }
+
+    public static class SerializableThreadLocalForwardingInterceptor {
+
+        public static String intercept(@Pipe(serializableProxy = true, threadLocalProxy = true) ForwardingType<Object, String> pipe) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package net.bytebuddy.implementation;
+
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.JavaType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SwitchableInvocationTest extends AbstractImplementationTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
+    private static Object makeMethodHandle(String name) throws Exception {
+        Object lookup = Class.forName("java.lang.invoke.MethodHandles").getDeclaredMethod("publicLookup").invoke(null);
+        Object methodType = JavaType.METHOD_TYPE.load().getDeclaredMethod("methodType", Class.class, Class[].class)
+                .invoke(null, String.class, new Class<?>[]{Object.class, String.class});
+        return JavaType.METHOD_HANDLES_LOOKUP.load().getDeclaredMethod("findStatic", Class.class, String.class, JavaType.METHOD_TYPE.load())
+                .invoke(lookup, Interception.class, name, methodType);
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testOriginalCodeByDefault() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, SwitchableInvocation.of(FOO + System.identityHashCode(this)));
+        assertThat(loaded.getLoaded().newInstance().foo(QUX), is(FOO + QUX));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testEnableSwapAndDisable() throws Exception {
+        String key = BAR + System.identityHashCode(this);
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, SwitchableInvocation.of(key), Foo.class.getClassLoader(), isDeclaredBy(Foo.class));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(SwitchableInvocation.Registry.isEnabled(key), is(false));
+        SwitchableInvocation.Registry.enable(key, new Fixed(makeMethodHandle(FOO)));
+        assertThat(SwitchableInvocation.Registry.isEnabled(key), is(true));
+        assertThat(instance.foo(QUX), is(BAR + QUX));
+        SwitchableInvocation.Registry.enable(key, new Fixed(makeMethodHandle(BAR)));
+        assertThat(instance.foo(QUX), is(QUX + QUX));
+        SwitchableInvocation.Registry.disable(key);
+        assertThat(SwitchableInvocation.Registry.isEnabled(key), is(false));
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testEnabledBeforeLinkage() throws Exception {
+        String key = QUX + System.identityHashCode(this);
+        SwitchableInvocation.Registry.enable(key, new Fixed(makeMethodHandle(FOO)));
+        try {
+            DynamicType.Loaded<Foo> loaded = implement(Foo.class, SwitchableInvocation.of(key));
+            assertThat(loaded.getLoaded().newInstance().foo(QUX), is(BAR + QUX));
+        } finally {
+            SwitchableInvocation.Registry.disable(key);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConstructorThrowsException() throws Exception {
+        new SwitchableInvocation(FOO).new Appender(null).apply(null, null, new net.bytebuddy.description.method.MethodDescription
+                .ForLoadedConstructor(Object.class.getDeclaredConstructor()));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(SwitchableInvocation.class).apply();
+        ObjectPropertyAssertion.of(SwitchableInvocation.Appender.class).apply();
+    }
+
+    public static class Foo {
+
+        public String foo(String value) {
+            return FOO + value;
+        }
+    }
+
+    public static class Interception {
+
+        public static String foo(Object self, String value) {
+            return BAR + value;
+        }
+
+        public static String bar(Object self, String value) {
+            return value + value;
+        }
+    }
+
+    private static class Fixed implements SwitchableInvocation.Interceptor {
+
+        private final Object methodHandle;
+
+        private Fixed(Object methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object wrap(Object original) {
+            return methodHandle;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.bytebuddy.implementation.auxiliary;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+public class ThreadLocalCarrierTest {
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ThreadLocalCarrier.class).apply();
+        ObjectPropertyAssertion.of(ThreadLocalCarrier.Initializer.class).apply();
+        ObjectPropertyAssertion.of(ThreadLocalCarrier.Acquisition.class).apply();
+        ObjectPropertyAssertion.of(ThreadLocalCarrier.Release.class).apply();
+        ObjectPropertyAssertion.of(ThreadLocalCarrier.Releasing.class).apply();
+    }
+}
@@ -1,5 +1,8 @@
 package net.bytebuddy.implementation.bind;
 
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.test.utility.MockitoRule;
@@ -9,6 +12,7 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -32,6 +36,18 @@ public class MethodDelegationBindingParameterBindingTest {
     @Mock
     private StackManipulation.Size size;
 
+    @Mock
+    private StackManipulation release;
+
+    @Mock
+    private TypeDescription instrumentedType;
+
+    @Mock
+    private MethodDescription source;
+
+    @Mock
+    private ParameterDescription target;
+
     @Before
     public void setUp() throws Exception {
         when(stackManipulation.apply(methodVisitor, implementationContext)).thenReturn(size);
@@ -79,4 +95,30 @@ public class MethodDelegationBindingParameterBindingTest {
         verifyZeroInteractions(methodVisitor);
         verifyZeroInteractions(implementationContext);
     }
+
+    @Test
+    public void testScopedToken() throws Exception {
+        when(stackManipulation.apply(methodVisitor, implementationContext)).thenReturn(new StackManipulation.Size(1, 1));
+        when(release.isValid()).thenReturn(true);
+        when(source.getStackSize()).thenReturn(2);
+        when(target.getIndex()).thenReturn(1);
+        MethodDelegationBinder.ParameterBinding.Scoped parameterBinding = new MethodDelegationBinder.ParameterBinding.Scoped(stackManipulation,
+                release,
+                instrumentedType,
+                source,
+                target);
+        assertThat(parameterBinding.isValid(), is(true));
+        assertThat(parameterBinding.getIdentificationToken(), notNullValue());
+        assertThat(parameterBinding.getOffset(), is(3));
+        StackManipulation.Size size = parameterBinding.apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(2));
+        verify(stackManipulation).isValid();
+        verify(stackManipulation).apply(methodVisitor, implementationContext);
+        verifyNoMoreInteractions(stackManipulation);
+        verify(methodVisitor).visitInsn(Opcodes.DUP);
+        verify(methodVisitor).visitVarInsn(Opcodes.ASTORE, 3);
+        verifyNoMoreInteractions(methodVisitor);
+        verifyZeroInteractions(implementationContext);
+    }
 }
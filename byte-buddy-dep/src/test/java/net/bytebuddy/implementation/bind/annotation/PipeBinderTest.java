@@ -97,26 +97,37 @@ public class PipeBinderTest extends AbstractAnnotationBinderTest<Pipe> {
                 sourceMethod,
                 assigner,
                 false,
+                false,
                 factory);
         assertThat(redirection.hashCode(), is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 false,
+                false,
                 factory).hashCode()));
         assertThat(redirection, is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 false,
+                false,
                 factory)));
         assertThat(redirection.hashCode(), not(is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 true,
+                false,
                 factory).hashCode())));
         assertThat(redirection, not(is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 true,
+                false,
+                factory))));
+        assertThat(redirection, not(is(new Pipe.Binder.Redirection(targetMethodType,
+                sourceMethod,
+                assigner,
+                false,
+                true,
                 factory))));
     }
 }
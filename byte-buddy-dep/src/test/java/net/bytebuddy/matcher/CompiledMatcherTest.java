@@ -0,0 +1,139 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class CompiledMatcherTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ElementMatcher<Object> first, second, third;
+
+    @Mock
+    private TypeDescription typeDescription;
+
+    @Test
+    public void testNonJunctionIsRetained() throws Exception {
+        assertThat(CompiledMatcher.compile(first), sameInstance(first));
+    }
+
+    @Test
+    public void testConjunctionIsFlattened() throws Exception {
+        Object target = new Object();
+        when(first.matches(target)).thenReturn(true);
+        when(second.matches(target)).thenReturn(true);
+        when(third.matches(target)).thenReturn(false);
+        ElementMatcher<Object> compiled = CompiledMatcher.compile(new ElementMatcher.Junction.Conjunction<Object>(first,
+                new ElementMatcher.Junction.Conjunction<Object>(second, third)));
+        assertThat(compiled, instanceOf(CompiledMatcher.ForConjunction.class));
+        assertThat(compiled.matches(target), is(false));
+        InOrder inOrder = inOrder(first, second, third);
+        inOrder.verify(first).matches(target);
+        inOrder.verify(second).matches(target);
+        inOrder.verify(third).matches(target);
+        verifyNoMoreInteractions(first, second, third);
+        assertThat(compiled.toString(), is("(" + first + " and " + second + " and " + third + ")"));
+    }
+
+    @Test
+    public void testDisjunctionIsFlattened() throws Exception {
+        Object target = new Object();
+        when(second.matches(target)).thenReturn(true);
+        ElementMatcher<Object> compiled = CompiledMatcher.compile(new ElementMatcher.Junction.Disjunction<Object>(
+                new ElementMatcher.Junction.Disjunction<Object>(first, second), third));
+        assertThat(compiled, instanceOf(CompiledMatcher.ForDisjunction.class));
+        assertThat(compiled.matches(target), is(true));
+        verify(first).matches(target);
+        verify(second).matches(target);
+        verifyZeroInteractions(third);
+        assertThat(compiled.toString(), is("(" + first + " or " + second + " or " + third + ")"));
+    }
+
+    @Test
+    public void testNestedJunctionsAreCompiled() throws Exception {
+        ElementMatcher<Object> compiled = CompiledMatcher.compile(new ElementMatcher.Junction.Disjunction<Object>(first,
+                new ElementMatcher.Junction.Conjunction<Object>(second, new ElementMatcher.Junction.Conjunction<Object>(third, first))));
+        assertThat(compiled, is((ElementMatcher<Object>) new CompiledMatcher.ForDisjunction<Object>(Arrays.asList(first,
+                new CompiledMatcher.ForConjunction<Object>(Arrays.asList(second, third, first))))));
+    }
+
+    @Test
+    public void testDuplicatesAreRemoved() throws Exception {
+        Object target = new Object();
+        ElementMatcher<Object> compiled = CompiledMatcher.compile(new ElementMatcher.Junction.Disjunction<Object>(first,
+                new ElementMatcher.Junction.Disjunction<Object>(second, first)));
+        assertThat(compiled.matches(target), is(false));
+        verify(first).matches(target);
+        verify(second).matches(target);
+        verifyNoMoreInteractions(first, second);
+    }
+
+    @Test
+    public void testCheapMatchersAreConsultedFirst() throws Exception {
+        when(typeDescription.getSourceCodeName()).thenReturn(BAR);
+        ElementMatcher<TypeDescription> compiled = CompiledMatcher.compile(isSubTypeOf(Object.class)
+                .<TypeDescription>and(first)
+                .and(not(isFinal()))
+                .and(named(FOO)));
+        assertThat(compiled, is((ElementMatcher<TypeDescription>) new CompiledMatcher.ForConjunction<TypeDescription>(Arrays.<ElementMatcher<? super TypeDescription>>asList(
+                not(isFinal()),
+                named(FOO),
+                isSubTypeOf(Object.class),
+                first))));
+        assertThat(compiled.matches(typeDescription), is(false));
+        verifyZeroInteractions(first);
+        verify(typeDescription, never()).isAssignableTo(org.mockito.Matchers.any(TypeDescription.class));
+    }
+
+    @Test
+    public void testCost() throws Exception {
+        assertThat(CompiledMatcher.Cost.of(ElementMatchers.any()), is(CompiledMatcher.Cost.CONSTANT));
+        assertThat(CompiledMatcher.Cost.of(isStatic()), is(CompiledMatcher.Cost.PROPERTY));
+        assertThat(CompiledMatcher.Cost.of(isConstructor()), is(CompiledMatcher.Cost.PROPERTY));
+        assertThat(CompiledMatcher.Cost.of(ElementMatchers.is(FOO)), is(CompiledMatcher.Cost.PROPERTY));
+        assertThat(CompiledMatcher.Cost.of(new NullMatcher<Object>()), is(CompiledMatcher.Cost.PROPERTY));
+        assertThat(CompiledMatcher.Cost.of(named(FOO)), is(CompiledMatcher.Cost.NAME));
+        assertThat(CompiledMatcher.Cost.of(hasDescriptor(FOO)), is(CompiledMatcher.Cost.NAME));
+        assertThat(CompiledMatcher.Cost.of(not(isStatic())), is(CompiledMatcher.Cost.PROPERTY));
+        assertThat(CompiledMatcher.Cost.of(isSubTypeOf(Object.class)), is(CompiledMatcher.Cost.ELABORATE));
+        assertThat(CompiledMatcher.Cost.of(first), is(CompiledMatcher.Cost.ELABORATE));
+        assertThat(CompiledMatcher.Cost.of(CompiledMatcher.compile(isStatic().and(named(FOO)))), is(CompiledMatcher.Cost.NAME));
+        assertThat(CompiledMatcher.Cost.of(new CompiledMatcher.ForConjunction<Object>(Collections.<ElementMatcher<Object>>emptyList())),
+                is(CompiledMatcher.Cost.CONSTANT));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        CompiledMatcher<Object> conjunction = new CompiledMatcher.ForConjunction<Object>(Arrays.asList(first, second));
+        assertThat(conjunction.hashCode(), is(new CompiledMatcher.ForConjunction<Object>(Arrays.asList(first, second)).hashCode()));
+        assertThat(conjunction.equals(new CompiledMatcher.ForConjunction<Object>(Arrays.asList(first, second))), is(true));
+        assertThat(conjunction.equals(new CompiledMatcher.ForConjunction<Object>(Arrays.asList(second, first))), is(false));
+        assertThat(conjunction.equals(new CompiledMatcher.ForDisjunction<Object>(Arrays.asList(first, second))), is(false));
+        CompiledMatcher<Object> disjunction = new CompiledMatcher.ForDisjunction<Object>(Arrays.asList(first, second));
+        assertThat(disjunction.hashCode(), is(new CompiledMatcher.ForDisjunction<Object>(Arrays.asList(first, second)).hashCode()));
+        assertThat(disjunction.equals(new CompiledMatcher.ForDisjunction<Object>(Arrays.asList(first, second))), is(true));
+        assertThat(disjunction.equals(new CompiledMatcher.ForDisjunction<Object>(Arrays.asList(first, third))), is(false));
+        ObjectPropertyAssertion.of(CompiledMatcher.Cost.class).apply();
+        ObjectPropertyAssertion.of(CompiledMatcher.Cost.Comparator.class).apply();
+    }
+}
@@ -0,0 +1,185 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolAbstractBaseTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testConcurrentDescriptionIsComputedOnce() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1), proceed = new CountDownLatch(1);
+        final BlockingTypePool typePool = new BlockingTypePool(started, proceed);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Callable<TypePool.Resolution> describe = new Callable<TypePool.Resolution>() {
+                @Override
+                public TypePool.Resolution call() throws Exception {
+                    return typePool.describe(FOO);
+                }
+            };
+            Future<TypePool.Resolution> first = executorService.submit(describe);
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            Future<TypePool.Resolution> second = executorService.submit(describe);
+            Thread.sleep(100L);
+            proceed.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS), sameInstance(second.get(10, TimeUnit.SECONDS)));
+            assertThat(typePool.invocations.get(), is(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedDescriptionIsRetried() throws Exception {
+        FailingTypePool typePool = new FailingTypePool();
+        try {
+            typePool.describe(FOO);
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        assertThat(typePool.describe(FOO).isResolved(), is(false));
+        assertThat(typePool.invocations.get(), is(2));
+    }
+
+    @Test
+    public void testReentrantDescriptionDoesNotBlock() throws Exception {
+        TypePool typePool = new ReentrantTypePool();
+        assertThat(typePool.describe(FOO).isResolved(), is(false));
+    }
+
+    @Test
+    public void testCrosswiseDescriptionDoesNotBlock() throws Exception {
+        final CrosswiseTypePool typePool = new CrosswiseTypePool();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<TypePool.Resolution> first = executorService.submit(new Callable<TypePool.Resolution>() {
+                @Override
+                public TypePool.Resolution call() throws Exception {
+                    return typePool.describe(FOO);
+                }
+            });
+            Future<TypePool.Resolution> second = executorService.submit(new Callable<TypePool.Resolution>() {
+                @Override
+                public TypePool.Resolution call() throws Exception {
+                    return typePool.describe(BAR);
+                }
+            });
+            assertThat(first.get(10, TimeUnit.SECONDS).isResolved(), is(true));
+            assertThat(second.get(10, TimeUnit.SECONDS).isResolved(), is(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInFlightDescription() throws Exception {
+        TypePool.AbstractBase.InFlightDescription inFlightDescription = new TypePool.AbstractBase.InFlightDescription();
+        assertThat(inFlightDescription.isDescribedByCurrentThread(), is(true));
+        TypePool.Resolution resolution = new TypePool.Resolution.Illegal(FOO);
+        inFlightDescription.complete(resolution);
+        assertThat(inFlightDescription.await(), sameInstance(resolution));
+        TypePool.AbstractBase.InFlightDescription released = new TypePool.AbstractBase.InFlightDescription();
+        released.release();
+        assertThat(released.await(), is((TypePool.Resolution) null));
+        assertThat(inFlightDescription.toString(), is("TypePool.AbstractBase.InFlightDescription{thread=" + Thread.currentThread()
+                + ", resolution=" + resolution + "}"));
+    }
+
+    private static class BlockingTypePool extends TypePool.AbstractBase {
+
+        private final CountDownLatch started, proceed;
+
+        private final AtomicInteger invocations;
+
+        private BlockingTypePool(CountDownLatch started, CountDownLatch proceed) {
+            super(new CacheProvider.Simple());
+            this.started = started;
+            this.proceed = proceed;
+            invocations = new AtomicInteger();
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            invocations.incrementAndGet();
+            started.countDown();
+            try {
+                proceed.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                throw new AssertionError(exception);
+            }
+            return new Resolution.Simple(TypeDescription.OBJECT);
+        }
+    }
+
+    private static class FailingTypePool extends TypePool.AbstractBase {
+
+        private final AtomicInteger invocations;
+
+        private FailingTypePool() {
+            super(new CacheProvider.Simple());
+            invocations = new AtomicInteger();
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            if (invocations.getAndIncrement() == 0) {
+                throw new IllegalStateException();
+            }
+            return new Resolution.Illegal(name);
+        }
+    }
+
+    private static class ReentrantTypePool extends TypePool.AbstractBase {
+
+        private final AtomicInteger invocations;
+
+        private ReentrantTypePool() {
+            super(CacheProvider.NoOp.INSTANCE);
+            invocations = new AtomicInteger();
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            return invocations.getAndIncrement() == 0
+                    ? describe(name)
+                    : new Resolution.Illegal(name);
+        }
+    }
+
+    private static class CrosswiseTypePool extends TypePool.AbstractBase {
+
+        private final CyclicBarrier barrier;
+
+        private final ConcurrentMap<String, AtomicInteger> invocations;
+
+        private CrosswiseTypePool() {
+            super(CacheProvider.NoOp.INSTANCE);
+            barrier = new CyclicBarrier(2);
+            invocations = new ConcurrentHashMap<String, AtomicInteger>();
+            invocations.put(FOO, new AtomicInteger());
+            invocations.put(BAR, new AtomicInteger());
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            if (invocations.get(name).getAndIncrement() == 0) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception exception) {
+                    throw new AssertionError(exception);
+                }
+                describe(name.equals(FOO) ? BAR : FOO);
+            }
+            return new Resolution.Simple(TypeDescription.OBJECT);
+        }
+    }
+}
@@ -1,16 +1,37 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 
 public class TypePoolDefaultTest {
 
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
     private TypePool typePool;
 
     @Before
@@ -36,6 +57,92 @@ public class TypePoolDefaultTest {
         fail();
     }
 
+    @Test
+    public void testAssignabilityOfPooledTypes() throws Exception {
+        TypeDescription arrayList = typePool.describe(ArrayList.class.getName()).resolve();
+        assertThat(arrayList.isAssignableTo(typePool.describe(AbstractList.class.getName()).resolve()), is(true));
+        assertThat(arrayList.isAssignableTo(typePool.describe(Collection.class.getName()).resolve()), is(true));
+        assertThat(arrayList.isAssignableTo(typePool.describe(RandomAccess.class.getName()).resolve()), is(true));
+        assertThat(arrayList.isAssignableTo(Serializable.class), is(true));
+        assertThat(arrayList.isAssignableTo(Object.class), is(true));
+        assertThat(arrayList.isAssignableTo(ArrayList.class), is(true));
+        assertThat(arrayList.isAssignableTo(String.class), is(false));
+        assertThat(arrayList.isAssignableTo(Runnable.class), is(false));
+        assertThat(arrayList.isAssignableTo(Object[].class), is(false));
+        assertThat(arrayList.isAssignableTo(int.class), is(false));
+        assertThat(typePool.describe(Collection.class.getName()).resolve().isAssignableTo(Iterable.class), is(true));
+        assertThat(typePool.describe(Collection.class.getName()).resolve().isAssignableTo(Object.class), is(true));
+        assertThat(typePool.describe(Collection.class.getName()).resolve().isAssignableTo(AbstractList.class), is(false));
+        assertThat(typePool.describe(List.class.getName()).resolve().isAssignableFrom(arrayList), is(true));
+        assertThat(arrayList.isAssignableFrom(typePool.describe(List.class.getName()).resolve()), is(false));
+        assertThat(typePool.describe(Iterable.class.getName()).resolve().isAssignableFrom(ArrayList.class), is(true));
+    }
+
+    @Test
+    public void testHierarchyIsResolvedOnce() throws Exception {
+        TypePool.LazyTypeDescription arrayList = (TypePool.LazyTypeDescription) typePool.describe(ArrayList.class.getName()).resolve();
+        assertThat(arrayList.getSuperClassNames(), sameInstance(arrayList.getSuperClassNames()));
+        assertThat(arrayList.getInterfaceNames(), sameInstance(arrayList.getInterfaceNames()));
+        assertThat(arrayList.getSuperClassNames(), is(new String[]{Object.class.getName(),
+                "java.util.AbstractCollection",
+                AbstractList.class.getName()}));
+    }
+
+    @Test
+    public void testLazyMembersAreResolvedOnce() throws Exception {
+        TypePool.LazyTypeDescription arrayList = (TypePool.LazyTypeDescription) typePool.describe(ArrayList.class.getName()).resolve();
+        assertThat(arrayList.getDeclaredSuperType(), sameInstance(arrayList.getDeclaredSuperType()));
+        assertThat(arrayList.getDeclaredInterfaces(), sameInstance(arrayList.getDeclaredInterfaces()));
+        MethodDescription methodDescription = arrayList.getDeclaredMethods().filter(named("size")).getOnly();
+        assertThat(methodDescription.getReturnType(), sameInstance(methodDescription.getReturnType()));
+        FieldDescription fieldDescription = arrayList.getDeclaredFields().filter(named("elementData")).getOnly();
+        assertThat(fieldDescription.getType(), sameInstance(fieldDescription.getType()));
+        assertThat(fieldDescription.getType().asRawType(), sameInstance(fieldDescription.getType().asRawType()));
+    }
+
+    @Test
+    public void testCompactList() throws Exception {
+        assertThat(TypePool.LazyTypeDescription.compact(new ArrayList<Object>()), sameInstance(Collections.emptyList()));
+        assertThat(TypePool.LazyTypeDescription.compact(new LinkedList<String>(Collections.singleton(FOO))), is(Collections.singletonList(FOO)));
+        List<String> list = TypePool.LazyTypeDescription.compact(new LinkedList<String>(Arrays.asList(FOO, BAR)));
+        assertThat(list, is(Arrays.asList(FOO, BAR)));
+        assertThat(list instanceof RandomAccess, is(true));
+    }
+
+    @Test
+    public void testCompactMap() throws Exception {
+        assertThat(TypePool.LazyTypeDescription.compact(new HashMap<Object, Object>()), sameInstance(Collections.emptyMap()));
+        assertThat(TypePool.LazyTypeDescription.compact(new HashMap<String, String>(Collections.singletonMap(FOO, BAR))),
+                is(Collections.singletonMap(FOO, BAR)));
+        Map<String, String> original = new HashMap<String, String>();
+        original.put(FOO, BAR);
+        original.put(BAR, FOO);
+        Map<String, String> map = TypePool.LazyTypeDescription.compact(original);
+        assertThat(map instanceof TypePool.LazyTypeDescription.CompactMap, is(true));
+        assertThat(map, is(original));
+        assertThat(map.get(FOO), is(BAR));
+        assertThat(map.get(BAR), is(FOO));
+        assertThat(map.get(null), nullValue(String.class));
+        assertThat(map.containsKey(FOO), is(true));
+        assertThat(map.containsKey(QUX), is(false));
+        assertThat(map.hashCode(), is(original.hashCode()));
+    }
+
+    @Test
+    public void testPooledMembersAreCompact() throws Exception {
+        TypeDescription typeDescription = typePool.describe(Object.class.getName()).resolve();
+        assertThat(typeDescription.getInterfaces().size(), is(0));
+        assertThat(typeDescription.getDeclaredAnnotations().size(), is(0));
+        for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+            assertThat(methodDescription.getParameters().hasExplicitMetaData(), is(methodDescription.getParameters().isEmpty()));
+            for (ParameterDescription parameterDescription : methodDescription.getParameters()) {
+                assertThat(parameterDescription.isNamed(), is(false));
+                assertThat(parameterDescription.hasModifiers(), is(false));
+                assertThat(parameterDescription.getDeclaredAnnotations().size(), is(0));
+            }
+        }
+    }
+
     @Test
     public void testGenericsObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.Default.GenericTypeExtractor.class).applyBasic();
@@ -0,0 +1,212 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static net.bytebuddy.matcher.ElementMatchers.isSubTypeOf;
+import static net.bytebuddy.matcher.ElementMatchers.none;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class TypeScannerTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private File folder, jar;
+
+    private TypePool.Default typePool;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), is(true));
+        assertThat(folder.mkdir(), is(true));
+        jar = File.createTempFile(FOO, BAR);
+        typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), ClassFileLocator.ForClassLoader.ofClassPath());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delete(folder);
+        assertThat(jar.delete(), is(true));
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    private void writeFolder(Class<?>... type) throws Exception {
+        for (Class<?> aType : type) {
+            File file = new File(folder, aType.getName().replace('.', File.separatorChar) + ".class");
+            assertThat(file.getParentFile().isDirectory() || file.getParentFile().mkdirs(), is(true));
+            OutputStream outputStream = new FileOutputStream(file);
+            try {
+                outputStream.write(ClassFileExtraction.extract(aType));
+            } finally {
+                outputStream.close();
+            }
+        }
+    }
+
+    private void writeJar(Class<?>... type) throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar));
+        try {
+            for (Class<?> aType : type) {
+                jarOutputStream.putNextEntry(new JarEntry(aType.getName().replace('.', '/') + ".class"));
+                jarOutputStream.write(ClassFileExtraction.extract(aType));
+                jarOutputStream.closeEntry();
+            }
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/"));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + ".txt"));
+            jarOutputStream.write(new byte[]{1, 2, 3});
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+    }
+
+    private static Set<String> names(List<TypeDescription> typeDescriptions) {
+        Set<String> names = new HashSet<String>();
+        for (TypeDescription typeDescription : typeDescriptions) {
+            names.add(typeDescription.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testFolder() throws Exception {
+        writeFolder(Foo.class, Bar.class, Qux.class);
+        List<TypeDescription> matches = new TypeScanner(typePool, isSubTypeOf(Foo.class)).scan(new TypeScanner.Source.ForFolder(folder));
+        assertThat(names(matches), is((Set<String>) new HashSet<String>(Arrays.asList(Foo.class.getName(), Bar.class.getName()))));
+    }
+
+    @Test
+    public void testJarFile() throws Exception {
+        writeJar(Foo.class, Bar.class, Qux.class);
+        List<TypeDescription> matches = new TypeScanner(typePool, isSubTypeOf(Foo.class)).scan(new TypeScanner.Source.ForJarFile(jar));
+        assertThat(names(matches), is((Set<String>) new HashSet<String>(Arrays.asList(Foo.class.getName(), Bar.class.getName()))));
+    }
+
+    @Test
+    public void testCompound() throws Exception {
+        writeFolder(Foo.class);
+        writeJar(Bar.class, Qux.class);
+        List<TypeDescription> matches = new TypeScanner(typePool, isSubTypeOf(Foo.class)).scan(new TypeScanner.Source.Compound(
+                new TypeScanner.Source.ForFolder(folder),
+                new TypeScanner.Source.ForJarFile(jar)));
+        assertThat(names(matches), is((Set<String>) new HashSet<String>(Arrays.asList(Foo.class.getName(), Bar.class.getName()))));
+    }
+
+    @Test
+    public void testParallelScan() throws Exception {
+        writeJar(Foo.class, Bar.class, Qux.class, Baz.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<TypeDescription> matches = new TypeScanner(typePool, isSubTypeOf(Foo.class), executorService, 2)
+                    .scan(new TypeScanner.Source.ForJarFile(jar));
+            assertThat(names(matches), is((Set<String>) new HashSet<String>(Arrays.asList(Foo.class.getName(), Bar.class.getName(), Baz.class.getName()))));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testScannedTypesAreNotCached() throws Exception {
+        TypePool.CacheProvider cacheProvider = new TypePool.CacheProvider.Simple();
+        writeFolder(Qux.class);
+        new TypeScanner(new TypePool.Default(cacheProvider, ClassFileLocator.ForClassLoader.ofClassPath()), none())
+                .scan(new TypeScanner.Source.ForFolder(folder));
+        assertThat(cacheProvider.find(Qux.class.getName()), nullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testIllegalClassFile() throws Exception {
+        File file = new File(folder, FOO + ".class");
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(new byte[]{1, 2, 3});
+        } finally {
+            outputStream.close();
+        }
+        try {
+            new TypeScanner(typePool, isSubTypeOf(Foo.class)).scan(new TypeScanner.Source.ForFolder(folder));
+            fail();
+        } catch (IllegalStateException exception) {
+            assertThat(exception.getMessage(), is("Cannot process " + FOO));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalPendingCount() throws Exception {
+        new TypeScanner(typePool, none(), TypeScanner.DirectExecutor.INSTANCE, 0);
+    }
+
+    @Test
+    public void testTypeName() throws Exception {
+        assertThat(TypeScanner.toTypeName(FOO + "/" + BAR + ".class", '/'), is(FOO + "." + BAR));
+        assertThat(TypeScanner.toTypeName(FOO + "/" + BAR + ".txt", '/'), nullValue(String.class));
+        assertThat(TypeScanner.toTypeName(FOO + "/package-info.class", '/'), nullValue(String.class));
+        assertThat(TypeScanner.toTypeName("module-info.class", '/'), nullValue(String.class));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeScanner.class).apply();
+        ObjectPropertyAssertion.of(TypeScanner.Source.ForJarFile.class).apply();
+        ObjectPropertyAssertion.of(TypeScanner.Source.ForFolder.class).apply();
+        ObjectPropertyAssertion.of(TypeScanner.Source.Compound.class).apply();
+        ObjectPropertyAssertion.of(TypeScanner.DirectExecutor.class).apply();
+        ObjectPropertyAssertion.of(TypeScanner.Dispatcher.class).create(new ObjectPropertyAssertion.Creator<Semaphore>() {
+            @Override
+            public Semaphore create() {
+                return new Semaphore(1);
+            }
+        }).apply();
+        ObjectPropertyAssertion.of(TypeScanner.Dispatcher.Matching.class).create(new ObjectPropertyAssertion.Creator<Semaphore>() {
+            @Override
+            public Semaphore create() {
+                return new Semaphore(1);
+            }
+        }).apply();
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+
+    public static class Bar extends Foo {
+        /* empty */
+    }
+
+    public static class Baz extends Bar {
+        /* empty */
+    }
+
+    public static class Qux {
+        /* empty */
+    }
+}